@@ -0,0 +1,65 @@
+package com.acnh.api.auth.jwt;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 인증 필터 경로 검증 비용 비교
+ * - legacyFourParses: 기존 필터 (validateToken, isAccessToken, getUserId, getEmail 각각 파싱 = 4회)
+ * - parseOnce: JwtTokenProvider.verify() 1회
+ * - cachedVerify: VerifiedTokenCache 적중 (토큰 해시 + 캐시 조회)
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "benchmark-only-secret-key-at-least-32-bytes-long";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private VerifiedTokenCache verifiedTokenCache;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(SECRET, 3_600_000L, 2_592_000_000L);
+        verifiedTokenCache = new VerifiedTokenCache(jwtTokenProvider, new SimpleMeterRegistry(),
+                10_000L, Duration.ofSeconds(60));
+        accessToken = jwtTokenProvider.createAccessToken(UUID.randomUUID().toString(), "user@example.com");
+
+        // 캐시 적중 상태로 시작
+        verifiedTokenCache.verifyAccessToken(accessToken);
+    }
+
+    @Benchmark
+    public void legacyFourParses(Blackhole blackhole) {
+        // 기존 필터와 동일하게 토큰당 4회 검증/파싱
+        blackhole.consume(jwtTokenProvider.verify(accessToken).isPresent());
+        blackhole.consume(jwtTokenProvider.verify(accessToken).map(JwtClaims::isAccessToken).orElse(false));
+        blackhole.consume(jwtTokenProvider.verify(accessToken).map(JwtClaims::getUserId).orElse(null));
+        blackhole.consume(jwtTokenProvider.verify(accessToken).map(JwtClaims::getEmail).orElse(null));
+    }
+
+    @Benchmark
+    public JwtClaims parseOnce() {
+        return jwtTokenProvider.verify(accessToken).orElseThrow();
+    }
+
+    @Benchmark
+    public JwtClaims cachedVerify() {
+        return verifiedTokenCache.verifyAccessToken(accessToken).orElseThrow();
+    }
+}
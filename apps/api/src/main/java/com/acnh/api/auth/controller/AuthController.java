@@ -6,6 +6,7 @@ import com.acnh.api.auth.dto.ErrorResponse;
 import com.acnh.api.auth.dto.SocialLoginRequest;
 import com.acnh.api.auth.dto.SocialUserInfo;
 import com.acnh.api.auth.dto.TokenResponse;
+import com.acnh.api.auth.jwt.JwtClaims;
 import com.acnh.api.auth.jwt.JwtTokenProvider;
 import com.acnh.api.auth.service.CognitoAuthService;
 import com.acnh.api.auth.service.SocialAuthService;
@@ -351,8 +352,9 @@ public class AuthController {
                     ));
         }
 
-        // Refresh Token 유효성 검증
-        if (!jwtTokenProvider.validateToken(refreshToken)) {
+        // Refresh Token 유효성 검증 (서명 검증 + 파싱 1회)
+        JwtClaims refreshClaims = jwtTokenProvider.verify(refreshToken).orElse(null);
+        if (refreshClaims == null) {
             log.warn("유효하지 않은 Refresh Token입니다.");
             // 무효한 토큰이면 쿠키 삭제
             ResponseCookie deleteCookie = cookieUtil.deleteRefreshTokenCookie();
@@ -368,7 +370,7 @@ public class AuthController {
         }
 
         // Refresh Token 타입 확인
-        if (!jwtTokenProvider.isRefreshToken(refreshToken)) {
+        if (!refreshClaims.isRefreshToken()) {
             log.warn("Refresh Token 타입이 아닙니다.");
             return ResponseEntity
                     .status(HttpStatus.UNAUTHORIZED)
@@ -380,7 +382,7 @@ public class AuthController {
         }
 
         // 사용자 정보 추출
-        String userId = jwtTokenProvider.getUserId(refreshToken);
+        String userId = refreshClaims.getUserId();
 
         // Before: email이 null이어도 토큰 생성 진행
         // After: 삭제된 사용자(email null)인 경우 401 반환하여 보안 강화
@@ -1,6 +1,7 @@
 package com.acnh.api.auth.filter;
 
-import com.acnh.api.auth.jwt.JwtTokenProvider;
+import com.acnh.api.auth.jwt.JwtClaims;
+import com.acnh.api.auth.jwt.VerifiedTokenCache;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -16,6 +17,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.Optional;
 
 /**
  * JWT 토큰 검증 필터
@@ -30,7 +32,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
 
-    private final JwtTokenProvider jwtTokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -40,12 +42,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // 토큰 추출
         String token = resolveToken(request);
 
-        // 토큰 유효성 검증 및 인증 정보 설정
-        if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
-            // Access Token인지 확인
-            if (jwtTokenProvider.isAccessToken(token)) {
-                String userId = jwtTokenProvider.getUserId(token);
-                String email = jwtTokenProvider.getEmail(token);
+        // 토큰 유효성 검증 및 인증 정보 설정 (Access Token만, 검증 결과는 토큰 해시 기준 캐시)
+        if (StringUtils.hasText(token)) {
+            Optional<JwtClaims> claims = verifiedTokenCache.verifyAccessToken(token);
+            if (claims.isPresent()) {
+                String userId = claims.get().getUserId();
 
                 // 인증 객체 생성
                 UsernamePasswordAuthenticationToken authentication =
@@ -57,7 +58,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
                 // SecurityContext에 인증 정보 설정
                 SecurityContextHolder.getContext().setAuthentication(authentication);
-                log.debug("인증 성공 - userId: {}, email: {}", userId, email);
+                log.debug("인증 성공 - userId: {}, email: {}", userId, claims.get().getEmail());
             }
         }
 
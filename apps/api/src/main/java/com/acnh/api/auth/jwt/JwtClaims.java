@@ -0,0 +1,56 @@
+package com.acnh.api.auth.jwt;
+
+import io.jsonwebtoken.Claims;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증이 끝난 JWT Claims (불변)
+ * - JwtTokenProvider.verify()에서 토큰당 1회 파싱하여 생성
+ * - 필터/STOMP 핸들러/토큰 갱신에서 필요한 값만 보관
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class JwtClaims {
+
+    private static final String TYPE_ACCESS = "access";
+    private static final String TYPE_REFRESH = "refresh";
+
+    private final String userId;
+    private final String email;
+    private final String type;
+    private final Instant expiresAt;  // exp 클레임이 없으면 null
+
+    static JwtClaims from(Claims claims) {
+        return new JwtClaims(
+                claims.getSubject(),
+                claims.get("email", String.class),
+                claims.get("type", String.class),
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null
+        );
+    }
+
+    /**
+     * Access Token인지 확인
+     */
+    public boolean isAccessToken() {
+        return TYPE_ACCESS.equals(type);
+    }
+
+    /**
+     * Refresh Token인지 확인
+     */
+    public boolean isRefreshToken() {
+        return TYPE_REFRESH.equals(type);
+    }
+
+    /**
+     * 주어진 시각 기준 만료 여부 (exp 클레임이 없으면 만료되지 않음)
+     */
+    public boolean isExpiredAt(Instant now) {
+        return expiresAt != null && !expiresAt.isAfter(now);
+    }
+}
@@ -2,7 +2,7 @@ package com.acnh.api.auth.jwt;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
-import jakarta.annotation.PostConstruct;
+import io.jsonwebtoken.security.SecurityException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -10,6 +10,7 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.Optional;
 
 /**
  * JWT 토큰 생성 및 검증 유틸리티
@@ -20,21 +21,22 @@ import java.util.Date;
 @Component
 public class JwtTokenProvider {
 
-    @Value("${jwt.secret}")
-    private String secretKeyString;
+    private final SecretKey secretKey;
+    private final JwtParser jwtParser;
+    private final long accessTokenValidity;   // 기본 1시간 (밀리초)
+    private final long refreshTokenValidity;  // 기본 30일 (밀리초)
 
-    @Value("${jwt.access-token-validity:3600000}") // 1시간 (밀리초)
-    private long accessTokenValidity;
-
-    @Value("${jwt.refresh-token-validity:2592000000}") // 30일 (밀리초)
-    private long refreshTokenValidity;
-
-    private SecretKey secretKey;
-
-    @PostConstruct
-    public void init() {
+    public JwtTokenProvider(@Value("${jwt.secret}") String secretKeyString,
+                            @Value("${jwt.access-token-validity:3600000}") long accessTokenValidity,
+                            @Value("${jwt.refresh-token-validity:2592000000}") long refreshTokenValidity) {
         // 최소 256비트(32바이트) 키 필요
         this.secretKey = Keys.hmacShaKeyFor(secretKeyString.getBytes(StandardCharsets.UTF_8));
+        // 파서는 스레드 안전하므로 1회 생성하여 재사용
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+        this.accessTokenValidity = accessTokenValidity;
+        this.refreshTokenValidity = refreshTokenValidity;
     }
 
     /**
@@ -71,26 +73,16 @@ public class JwtTokenProvider {
     }
 
     /**
-     * 토큰에서 사용자 ID 추출
+     * 토큰 검증 및 Claims 추출 (서명 검증 + 파싱 1회)
+     * - 유효하지 않은 토큰(만료, 형식 오류, 서명 불일치, 빈 값)이면 empty
+     *
+     * [성능 개선]
+     * Before: validateToken, isAccessToken, getUserId, getEmail이 각각 parseClaims 호출 (요청당 HMAC 검증 + JSON 파싱 4회)
+     * After: verify() 1회 호출 결과(JwtClaims)를 재사용
      */
-    public String getUserId(String token) {
-        return parseClaims(token).getSubject();
-    }
-
-    /**
-     * 토큰에서 이메일 추출
-     */
-    public String getEmail(String token) {
-        return parseClaims(token).get("email", String.class);
-    }
-
-    /**
-     * 토큰 유효성 검증
-     */
-    public boolean validateToken(String token) {
+    public Optional<JwtClaims> verify(String token) {
         try {
-            parseClaims(token);
-            return true;
+            return Optional.of(JwtClaims.from(parseClaims(token)));
         } catch (ExpiredJwtException e) {
             log.warn("만료된 JWT 토큰입니다.");
         } catch (UnsupportedJwtException e) {
@@ -102,31 +94,7 @@ public class JwtTokenProvider {
         } catch (IllegalArgumentException e) {
             log.warn("JWT 토큰이 비어있습니다.");
         }
-        return false;
-    }
-
-    /**
-     * Access Token인지 확인
-     */
-    public boolean isAccessToken(String token) {
-        try {
-            String type = parseClaims(token).get("type", String.class);
-            return "access".equals(type);
-        } catch (Exception e) {
-            return false;
-        }
-    }
-
-    /**
-     * Refresh Token인지 확인
-     */
-    public boolean isRefreshToken(String token) {
-        try {
-            String type = parseClaims(token).get("type", String.class);
-            return "refresh".equals(type);
-        } catch (Exception e) {
-            return false;
-        }
+        return Optional.empty();
     }
 
     /**
@@ -144,10 +112,6 @@ public class JwtTokenProvider {
      * 토큰 파싱하여 Claims 반환
      */
     private Claims parseClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return jwtParser.parseSignedClaims(token).getPayload();
     }
 }
@@ -0,0 +1,113 @@
+package com.acnh.api.auth.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * 검증된 Access Token Claims 캐시
+ * - 같은 Access Token으로 반복 요청 시 서명 검증(HMAC) + JSON 파싱 생략
+ * - 키: 토큰 SHA-256 해시 (원본 토큰은 메모리에 보관하지 않음)
+ * - 만료: min(최대 보관 시간, 토큰 exp까지 남은 시간) - 만료된 토큰은 캐시에서도 즉시 무효
+ * - 검증 실패 토큰은 캐시하지 않음
+ * - HTTP 필터(JwtAuthenticationFilter)와 STOMP CONNECT(StompHandler)에서 사용
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private static final String CACHE_NAME = "verifiedAccessToken";
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final Cache<String, JwtClaims> cache;
+
+    public VerifiedTokenCache(JwtTokenProvider jwtTokenProvider,
+                              MeterRegistry meterRegistry,
+                              @Value("${jwt.claims-cache.max-size:10000}") long maxSize,
+                              @Value("${jwt.claims-cache.max-ttl:60s}") Duration maxTtl) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new ClaimsExpiry(maxTtl))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Access Token 검증 (캐시 적중 시 서명 검증 생략)
+     * - 유효하지 않거나 Access Token 타입이 아니면 empty
+     */
+    public Optional<JwtClaims> verifyAccessToken(String token) {
+        if (!StringUtils.hasText(token)) {
+            return Optional.empty();
+        }
+
+        String key = hash(token);
+        JwtClaims cached = cache.getIfPresent(key);
+        if (cached != null && !cached.isExpiredAt(Instant.now())) {
+            return Optional.of(cached);
+        }
+
+        Optional<JwtClaims> verified = jwtTokenProvider.verify(token)
+                .filter(JwtClaims::isAccessToken);
+        verified.ifPresent(claims -> cache.put(key, claims));
+        return verified;
+    }
+
+    /**
+     * 토큰 SHA-256 해시 (Base64)
+     */
+    private String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다", e);
+        }
+    }
+
+    /**
+     * 항목별 만료 정책: 토큰 exp와 최대 보관 시간 중 이른 시점
+     */
+    private static final class ClaimsExpiry implements Expiry<String, JwtClaims> {
+
+        private final long maxTtlNanos;
+
+        private ClaimsExpiry(Duration maxTtl) {
+            this.maxTtlNanos = maxTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(String key, JwtClaims claims, long currentTime) {
+            if (claims.getExpiresAt() == null) {
+                return maxTtlNanos;
+            }
+            long untilExpiry = Duration.between(Instant.now(), claims.getExpiresAt()).toNanos();
+            return Math.max(0, Math.min(maxTtlNanos, untilExpiry));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, JwtClaims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, JwtClaims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -2,8 +2,10 @@ package com.acnh.api.category.controller;
 
 import com.acnh.api.category.dto.CategoryListResponse;
 import com.acnh.api.category.service.CategoryService;
+import com.acnh.api.category.service.CategorySnapshot;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -24,12 +26,17 @@ public class CategoryController {
      * 카테고리 목록 조회
      * GET /api/categories
      * - 인증 불필요
+     * - ETag 지원: If-None-Match가 현재 ETag와 같으면 본문 없이 304 응답
+     *   (ResponseEntity에 ETag를 지정하면 Spring이 조건부 요청을 처리)
+     * - Cache-Control: no-cache (매번 재검증하되 변경 없으면 304)
      */
     @GetMapping
     public ResponseEntity<CategoryListResponse> getAllCategories() {
-        log.info("카테고리 목록 조회 요청");
+        CategorySnapshot snapshot = categoryService.getCategorySnapshot();
 
-        CategoryListResponse response = categoryService.getAllCategories();
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+                .eTag(snapshot.getEtag())
+                .cacheControl(CacheControl.noCache())
+                .body(snapshot.getResponse());
     }
 }
@@ -0,0 +1,103 @@
+package com.acnh.api.category.service;
+
+import com.acnh.api.category.dto.CategoryResponse;
+import com.acnh.api.category.repository.CategoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 카테고리 인메모리 캐시
+ * - 카테고리는 거의 변경되지 않으므로 전체를 불변 스냅샷으로 보관, 조회 시 DB 접근 없음
+ * - 서버 시작 시 적재, 이후 주기적으로 재적재하여 내용이 바뀐 경우에만 스냅샷 교체
+ *   (카테고리는 DB에서 직접 관리하므로 변경 감지를 주기 재적재로 처리, 다중 인스턴스에서도 동일하게 수렴)
+ * - 스냅샷에 없는 ID는 DB 재확인 후 존재하면 즉시 재적재 (새 카테고리 추가 직후 작성 실패 방지)
+ *
+ * [성능 개선]
+ * Before: 카테고리 목록 조회, 게시글 작성/수정 시 카테고리 검증, 게시글 응답 변환마다 DB 조회
+ * After: volatile 스냅샷 참조 1회로 처리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryCache {
+
+    private final CategoryRepository categoryRepository;
+
+    private volatile CategorySnapshot snapshot;
+
+    /**
+     * 현재 스냅샷 조회 (적재 전이면 즉시 적재)
+     */
+    public CategorySnapshot snapshot() {
+        CategorySnapshot current = snapshot;
+        return current != null ? current : reload();
+    }
+
+    /**
+     * 삭제되지 않은 카테고리 존재 여부
+     * - 스냅샷에 없으면 DB 재확인 (주기 재적재 전에 추가된 카테고리 대응)
+     */
+    public boolean exists(Long categoryId) {
+        if (categoryId == null) {
+            return false;
+        }
+        if (snapshot().contains(categoryId)) {
+            return true;
+        }
+        if (categoryRepository.findByIdAndDeletedAtIsNull(categoryId).isEmpty()) {
+            return false;
+        }
+        return reload().contains(categoryId);
+    }
+
+    /**
+     * 카테고리명 조회 (없으면 null)
+     */
+    public String getName(Long categoryId) {
+        return snapshot().getName(categoryId);
+    }
+
+    /**
+     * 서버 시작 시 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reload();
+    }
+
+    /**
+     * 주기적 재적재 (기본 1분)
+     */
+    @Scheduled(fixedDelayString = "${category.cache.refresh-interval-ms:60000}",
+            initialDelayString = "${category.cache.refresh-interval-ms:60000}")
+    public void refresh() {
+        reload();
+    }
+
+    /**
+     * DB에서 전체 카테고리를 읽어 스냅샷 교체 (내용이 같으면 기존 스냅샷 유지)
+     */
+    private synchronized CategorySnapshot reload() {
+        List<CategoryResponse> categories = categoryRepository
+                .findByDeletedAtIsNullOrderBySortOrderAsc()
+                .stream()
+                .map(CategoryResponse::from)
+                .toList();
+        CategorySnapshot loaded = new CategorySnapshot(categories);
+
+        CategorySnapshot current = snapshot;
+        if (current != null && current.getEtag().equals(loaded.getEtag())) {
+            return current;
+        }
+
+        snapshot = loaded;
+        log.info("카테고리 캐시 갱신 - count: {}, etag: {}", categories.size(), loaded.getEtag());
+        return loaded;
+    }
+}
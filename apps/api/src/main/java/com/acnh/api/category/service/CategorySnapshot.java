@@ -0,0 +1,69 @@
+package com.acnh.api.category.service;
+
+import com.acnh.api.category.dto.CategoryListResponse;
+import com.acnh.api.category.dto.CategoryResponse;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 카테고리 불변 스냅샷
+ * - 정렬된 목록 응답, ID별 조회 Map, ETag를 한 번에 생성하여 함께 교체
+ * - ETag는 내용(id, name, sortOrder) 해시이므로 내용이 같으면 재적재해도 동일
+ */
+@Getter
+public class CategorySnapshot {
+
+    private final CategoryListResponse response;
+    private final Map<Long, CategoryResponse> categoryMap;
+    private final String etag;
+
+    public CategorySnapshot(List<CategoryResponse> categories) {
+        List<CategoryResponse> sorted = List.copyOf(categories);
+        this.response = CategoryListResponse.from(sorted);
+        this.categoryMap = sorted.stream()
+                .collect(Collectors.toUnmodifiableMap(CategoryResponse::getId, Function.identity()));
+        this.etag = computeEtag(sorted);
+    }
+
+    /**
+     * 삭제되지 않은 카테고리 존재 여부
+     */
+    public boolean contains(Long categoryId) {
+        return categoryId != null && categoryMap.containsKey(categoryId);
+    }
+
+    /**
+     * 카테고리명 조회 (없으면 null)
+     */
+    public String getName(Long categoryId) {
+        CategoryResponse category = categoryId != null ? categoryMap.get(categoryId) : null;
+        return category != null ? category.getName() : null;
+    }
+
+    /**
+     * 목록 내용 기반 ETag 생성 (SHA-256 앞 16자리)
+     */
+    private static String computeEtag(List<CategoryResponse> categories) {
+        StringBuilder content = new StringBuilder();
+        for (CategoryResponse category : categories) {
+            content.append(category.getId()).append(':')
+                    .append(category.getName()).append(':')
+                    .append(category.getSortOrder()).append('\n');
+        }
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest(content.toString().getBytes(StandardCharsets.UTF_8));
+            return "\"" + HexFormat.of().formatHex(hash, 0, 8) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다", e);
+        }
+    }
+}
@@ -29,6 +29,7 @@ public class ChatController {
     private final ChatService chatService;
 
     private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_MESSAGE_PAGE_SIZE = 100;
 
     /**
      * 채팅방 생성 또는 기존 채팅방 반환
@@ -132,15 +133,24 @@ public class ChatController {
     }
 
     /**
-     * 채팅 메시지 목록 조회 (이전 메시지)
+     * 채팅 메시지 목록 조회 (커서 페이징)
      * GET /api/chat/rooms/{roomId}/messages
+     * - 커서 없음: 최신 메시지 size건
+     * - before: 해당 메시지 ID 이전 size건 (위로 스크롤 시 과거 내역 로딩)
+     * - after: 해당 메시지 ID 이후 size건 (재연결 시 누락분 조회)
+     * - 응답은 ID 오름차순, size보다 적으면 더 이상 없음
+     * - size: 기본 50, 최대 100
      */
     @GetMapping("/{roomId}/messages")
     public ResponseEntity<?> getMessages(
             @AuthenticationPrincipal String visitorId,
-            @PathVariable Long roomId) {
+            @PathVariable Long roomId,
+            @RequestParam(required = false) Long before,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "50") int size) {
 
-        log.info("메시지 목록 조회 요청 - roomId: {}, visitorId: {}", roomId, visitorId);
+        log.info("메시지 목록 조회 요청 - roomId: {}, visitorId: {}, before: {}, after: {}, size: {}",
+                roomId, visitorId, before, after, size);
 
         if (visitorId == null) {
             return ResponseEntity.status(401).body(Map.of(
@@ -150,7 +160,8 @@ public class ChatController {
         }
 
         try {
-            List<ChatMessageResponse> response = chatService.getMessages(roomId, visitorId);
+            int pageSize = Math.max(1, Math.min(size, MAX_MESSAGE_PAGE_SIZE));
+            List<ChatMessageResponse> response = chatService.getMessages(roomId, before, after, pageSize, visitorId);
             return ResponseEntity.ok(response);
         } catch (IllegalArgumentException e) {
             if (e.getMessage().contains("존재하지 않는") || e.getMessage().contains("접근 권한")) {
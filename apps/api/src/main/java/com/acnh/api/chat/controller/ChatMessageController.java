@@ -3,8 +3,13 @@ package com.acnh.api.chat.controller;
 import com.acnh.api.chat.dto.ChatMessageRequest;
 import com.acnh.api.chat.dto.ChatMessageResponse;
 import com.acnh.api.chat.dto.ChatReadRequest;
+import com.acnh.api.chat.dto.ChatTypingRequest;
+import com.acnh.api.chat.service.ChatMessageWriteBehind;
+import com.acnh.api.chat.service.ChatRoomAuthorizationCache;
+import com.acnh.api.chat.service.ChatRoomParticipants;
 import com.acnh.api.chat.service.ChatService;
-import com.acnh.api.member.entity.Member;
+import com.acnh.api.chat.service.TypingIndicatorService;
+import com.acnh.api.member.service.MemberIdentityResolver;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.handler.annotation.MessageMapping;
@@ -14,11 +19,13 @@ import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Controller;
 
 import java.security.Principal;
+import java.util.Optional;
 
 /**
  * 채팅 STOMP 메시지 컨트롤러
  * - 실시간 메시지 전송/수신
  * - 읽음 처리
+ * - 입력 중 상태
  */
 @Slf4j
 @Controller
@@ -26,12 +33,19 @@ import java.security.Principal;
 public class ChatMessageController {
 
     private final ChatService chatService;
+    private final MemberIdentityResolver memberIdentityResolver;
+    private final ChatRoomAuthorizationCache chatRoomAuthorizationCache;
+    private final TypingIndicatorService typingIndicatorService;
     private final SimpMessagingTemplate messagingTemplate;
 
+    // chat.write-behind.enabled=true일 때만 존재
+    private final Optional<ChatMessageWriteBehind> writeBehind;
+
     /**
      * 메시지 전송
      * Client -> /app/chat.send
      * Server -> /topic/chat.{roomId}
+     * - write-behind 모드: 검증 후 선할당 ID로 즉시 브로드캐스트, 저장 결과는 /user/queue/chat.ack로 전달
      */
     @MessageMapping("/chat.send")
     public void sendMessage(@Payload ChatMessageRequest request,
@@ -46,10 +60,23 @@ public class ChatMessageController {
         try {
             // principal.getName()은 JWT에서 추출한 UUID
             String visitorId = principal.getName();
-            Member member = chatService.getMemberByUuid(visitorId);
-
-            // 메시지 저장
-            ChatMessageResponse response = chatService.saveMessage(request, member.getId());
+            Long senderId = memberIdentityResolver.resolveId(visitorId);
+
+            // 채팅방 권한 확인 (구독 시 적재된 세션 캐시 사용)
+            ChatRoomParticipants room = chatRoomAuthorizationCache.authorize(
+                    headerAccessor.getSessionId(), request.getChatRoomId(), senderId);
+
+            // 메시지 저장 (write-behind 모드면 대기열 적재, 거절 시 브로드캐스트 생략)
+            ChatMessageResponse response;
+            if (writeBehind.isPresent()) {
+                Optional<ChatMessageResponse> accepted = writeBehind.get().submit(request, senderId, visitorId, room);
+                if (accepted.isEmpty()) {
+                    return;
+                }
+                response = accepted.get();
+            } else {
+                response = chatService.saveMessage(request, senderId, room);
+            }
 
             // 해당 채팅방 구독자들에게 브로드캐스트
             messagingTemplate.convertAndSend(
@@ -57,8 +84,11 @@ public class ChatMessageController {
                     response
             );
 
+            // 메시지를 보냈으면 입력 중 상태 해제
+            typingIndicatorService.update(room.getRoomId(), senderId, false);
+
             log.info("메시지 브로드캐스트 완료 - roomId: {}, senderId: {}",
-                    request.getChatRoomId(), member.getId());
+                    request.getChatRoomId(), senderId);
 
         } catch (Exception e) {
             log.error("메시지 전송 실패 - error: {}", e.getMessage());
@@ -82,22 +112,62 @@ public class ChatMessageController {
 
         try {
             String visitorId = principal.getName();
-            Member member = chatService.getMemberByUuid(visitorId);
+            Long userId = memberIdentityResolver.resolveId(visitorId);
 
-            // 읽음 처리
-            chatService.markMessagesAsRead(request.getChatRoomId(), member.getId());
+            // 채팅방 권한 확인 (구독 시 적재된 세션 캐시 사용)
+            ChatRoomParticipants room = chatRoomAuthorizationCache.authorize(
+                    headerAccessor.getSessionId(), request.getChatRoomId(), userId);
+
+            // 읽음 처리 (새로 읽은 메시지가 없으면 브로드캐스트 생략)
+            int markedCount = chatService.markMessagesAsRead(room, userId);
+            if (markedCount == 0) {
+                return;
+            }
 
             // 상대방에게 읽음 알림 전송
             messagingTemplate.convertAndSend(
                     "/topic/chat." + request.getChatRoomId() + ".read",
-                    member.getId()
+                    userId
             );
 
             log.info("읽음 처리 브로드캐스트 완료 - roomId: {}, userId: {}",
-                    request.getChatRoomId(), member.getId());
+                    request.getChatRoomId(), userId);
 
         } catch (Exception e) {
             log.error("읽음 처리 실패 - error: {}", e.getMessage());
         }
     }
+
+    /**
+     * 입력 중 상태 전송
+     * Client -> /app/chat.typing
+     * Server -> /topic/chat.{roomId}.typing (변경된 경우에만, 주기적으로 합쳐서 전송)
+     */
+    @MessageMapping("/chat.typing")
+    public void typing(@Payload ChatTypingRequest request,
+                       SimpMessageHeaderAccessor headerAccessor) {
+
+        Principal principal = headerAccessor.getUser();
+        if (principal == null) {
+            return;
+        }
+
+        // 사용자별 속도 제한 (키 입력마다 오는 신호를 조회 전에 걸러냄)
+        if (!typingIndicatorService.tryAcquire(principal.getName())) {
+            return;
+        }
+
+        try {
+            Long userId = memberIdentityResolver.resolveId(principal.getName());
+
+            // 채팅방 권한 확인 (구독 시 적재된 세션 캐시 사용)
+            ChatRoomParticipants room = chatRoomAuthorizationCache.authorize(
+                    headerAccessor.getSessionId(), request.getChatRoomId(), userId);
+
+            typingIndicatorService.update(room.getRoomId(), userId, request.isTyping());
+
+        } catch (Exception e) {
+            log.warn("입력 중 상태 처리 실패 - error: {}", e.getMessage());
+        }
+    }
 }
@@ -0,0 +1,24 @@
+package com.acnh.api.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 채팅 메시지 저장 확인 DTO (write-behind 모드, STOMP용)
+ * - Server -> /user/queue/chat.ack (발신자에게만 전송)
+ * - status: PERSISTED(저장 완료), FAILED(재시도 후 저장 실패), REJECTED(대기열 초과로 미처리)
+ * - 같은 메시지에 대해 중복 수신될 수 있음 (at-least-once), messageId 기준으로 처리
+ */
+@Getter
+@AllArgsConstructor
+public class ChatMessageAck {
+
+    public static final String PERSISTED = "PERSISTED";
+    public static final String FAILED = "FAILED";
+    public static final String REJECTED = "REJECTED";
+
+    private Long messageId;
+    private Long chatRoomId;
+    private String clientMessageId;
+    private String status;
+}
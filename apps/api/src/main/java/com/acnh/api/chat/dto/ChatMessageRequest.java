@@ -23,4 +23,8 @@ public class ChatMessageRequest {
 
     // 이미지 메시지일 경우 이미지 URL
     private String imageUrl;
+
+    // 클라이언트 임시 메시지 ID (write-behind 모드의 저장 확인(ack) 매칭용, 선택)
+    @Size(max = 64, message = "클라이언트 메시지 ID는 64자 이내로 입력해주세요")
+    private String clientMessageId;
 }
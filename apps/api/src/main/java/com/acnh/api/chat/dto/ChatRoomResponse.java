@@ -23,6 +23,8 @@ public class ChatRoomResponse {
     private Long otherUserId;
     private String otherUserNickname;
     private String otherUserIslandName;
+    private Boolean otherUserOnline;
+    private LocalDateTime otherUserLastSeenAt;
 
     private String lastMessage;
     private LocalDateTime lastMessageAt;
@@ -38,6 +40,7 @@ public class ChatRoomResponse {
     public static ChatRoomResponse from(ChatRoom chatRoom, Long currentUserId,
                                          String postItemName, String postImageUrl, Integer postPrice, String postStatus,
                                          String otherUserNickname, String otherUserIslandName,
+                                         Boolean otherUserOnline, LocalDateTime otherUserLastSeenAt,
                                          String lastMessage, LocalDateTime lastMessageAt,
                                          Integer unreadCount) {
         // 상대방 ID 결정 (내가 postOwner면 상대방은 applicant, 반대면 postOwner)
@@ -55,6 +58,8 @@ public class ChatRoomResponse {
                 .otherUserId(otherUserId)
                 .otherUserNickname(otherUserNickname)
                 .otherUserIslandName(otherUserIslandName)
+                .otherUserOnline(otherUserOnline)
+                .otherUserLastSeenAt(otherUserLastSeenAt)
                 .lastMessage(lastMessage)
                 .lastMessageAt(lastMessageAt)
                 .unreadCount(unreadCount)
@@ -0,0 +1,20 @@
+package com.acnh.api.chat.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 채팅 입력 중 상태 요청 DTO (STOMP용)
+ * - typing: true(입력 시작/계속), false(입력 중단)
+ * - 입력 중에는 TTL보다 짧은 간격으로 반복 전송해야 상태가 유지됨
+ */
+@Getter
+@NoArgsConstructor
+public class ChatTypingRequest {
+
+    @NotNull(message = "채팅방 ID는 필수입니다")
+    private Long chatRoomId;
+
+    private boolean typing;
+}
@@ -0,0 +1,19 @@
+package com.acnh.api.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 채팅방 입력 중 사용자 목록 응답 DTO (STOMP용)
+ * - Server -> /topic/chat.{roomId}.typing
+ * - 목록이 바뀔 때만 전송 (빈 목록 = 입력 중인 사용자 없음)
+ */
+@Getter
+@AllArgsConstructor
+public class ChatTypingResponse {
+
+    private Long chatRoomId;
+    private List<Long> typingUserIds;
+}
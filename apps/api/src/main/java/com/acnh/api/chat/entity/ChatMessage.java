@@ -17,6 +17,11 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ChatMessage extends BaseEntity {
 
+    /**
+     * 채팅방 목록 미리보기 최대 길이
+     */
+    public static final int PREVIEW_MAX_LENGTH = 100;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -56,4 +61,24 @@ public class ChatMessage extends BaseEntity {
     public void markAsRead() {
         this.isRead = true;
     }
+
+    /**
+     * 채팅방 목록용 미리보기 텍스트
+     */
+    public String toPreview() {
+        return toPreview(messageType, content);
+    }
+
+    /**
+     * 미리보기 텍스트 생성 (이미지는 "[이미지]", 텍스트는 최대 PREVIEW_MAX_LENGTH자)
+     */
+    public static String toPreview(String messageType, String content) {
+        if ("IMAGE".equals(messageType)) {
+            return "[이미지]";
+        }
+        if (content == null) {
+            return null;
+        }
+        return content.length() > PREVIEW_MAX_LENGTH ? content.substring(0, PREVIEW_MAX_LENGTH) : content;
+    }
 }
@@ -41,6 +41,38 @@ public class ChatRoom extends BaseEntity {
     @Column(name = "scheduled_trade_at")
     private LocalDateTime scheduledTradeAt;
 
+    /*
+     * 채팅방 목록용 비정규화 컬럼 (마지막 메시지, 참여자별 안 읽은 수, 읽음 high-water mark)
+     * - 값 갱신은 ChatRoomRepository의 원자적 UPDATE로만 수행
+     * - insertable/updatable = false: 엔티티 flush(상태 변경, 예약 등)가 동시 갱신된 값을 덮어쓰지 않도록 함
+     * - 드리프트는 ChatRoomSummaryReconciler가 주기적으로 보정
+     */
+
+    @Column(name = "last_message_id", insertable = false, updatable = false)
+    private Long lastMessageId;
+
+    @Column(name = "last_message_preview", length = ChatMessage.PREVIEW_MAX_LENGTH, insertable = false, updatable = false)
+    private String lastMessagePreview;
+
+    @Column(name = "last_message_at", insertable = false, updatable = false)
+    private LocalDateTime lastMessageAt;
+
+    @Column(name = "post_owner_unread_count", insertable = false, updatable = false)
+    private Integer postOwnerUnreadCount;
+
+    @Column(name = "applicant_unread_count", insertable = false, updatable = false)
+    private Integer applicantUnreadCount;
+
+    /**
+     * 참여자별 마지막으로 읽은 메시지 ID (읽음 high-water mark)
+     * - 이 ID 이하의 상대방 메시지는 모두 읽은 것으로 간주
+     */
+    @Column(name = "post_owner_last_read_message_id", insertable = false, updatable = false)
+    private Long postOwnerLastReadMessageId;
+
+    @Column(name = "applicant_last_read_message_id", insertable = false, updatable = false)
+    private Long applicantLastReadMessageId;
+
     @Builder
     public ChatRoom(Long postId, Long postOwnerId, Long applicantId,
                     Long reservedUserId, String status, LocalDateTime scheduledTradeAt) {
@@ -81,4 +113,12 @@ public class ChatRoom extends BaseEntity {
     public void updateScheduledTradeAt(LocalDateTime scheduledTradeAt) {
         this.scheduledTradeAt = scheduledTradeAt;
     }
+
+    /**
+     * 사용자의 안 읽은 메시지 수 조회
+     */
+    public int getUnreadCountOf(Long userId) {
+        Integer unreadCount = postOwnerId.equals(userId) ? postOwnerUnreadCount : applicantUnreadCount;
+        return unreadCount != null ? unreadCount : 0;
+    }
 }
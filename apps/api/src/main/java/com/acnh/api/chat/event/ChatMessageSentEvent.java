@@ -0,0 +1,21 @@
+package com.acnh.api.chat.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 채팅 메시지 저장 이벤트
+ * - 메시지가 DB에 저장된 후 발행 (동기 저장: 트랜잭션 커밋 후, write-behind: 배치 저장 후)
+ * - 오프라인 수신자 푸시 알림 등 후속 처리에 사용
+ */
+@Getter
+@RequiredArgsConstructor
+public class ChatMessageSentEvent {
+
+    private final Long roomId;
+    private final Long messageId;
+    private final Long senderId;
+    private final Long recipientId;
+    private final String senderNickname;
+    private final String preview;
+}
@@ -0,0 +1,16 @@
+package com.acnh.api.chat.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 채팅방 종료 이벤트
+ * - 참여자가 채팅방을 나가 채팅방이 삭제(soft delete)될 때 발행
+ * - 트랜잭션 커밋 후 STOMP 세션별 채팅방 권한 캐시 무효화에 사용
+ */
+@Getter
+@RequiredArgsConstructor
+public class ChatRoomClosedEvent {
+
+    private final Long roomId;
+}
@@ -1,30 +1,49 @@
 package com.acnh.api.chat.handler;
 
-import com.acnh.api.auth.jwt.JwtTokenProvider;
+import com.acnh.api.auth.jwt.JwtClaims;
+import com.acnh.api.auth.jwt.VerifiedTokenCache;
+import com.acnh.api.chat.service.ChatRoomAuthorizationCache;
+import com.acnh.api.chat.service.PresenceService;
+import com.acnh.api.member.service.MemberIdentityResolver;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageType;
 import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
 import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.stereotype.Component;
 
+import java.security.Principal;
 import java.util.Collections;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * STOMP 메시지 인터셉터
  * - CONNECT 시 JWT 토큰 검증
  * - 인증된 사용자 정보를 accessor.setUser()로 설정
+ * - SUBSCRIBE: 브로커 목적지(/topic) 구독은 인증 필요, 채팅방 목적지(/topic/chat.{roomId}...)는 참여자만 허용
+ *   (확인 결과는 ChatRoomAuthorizationCache에 세션별로 보관되어 SEND/읽음 처리에서 재사용)
+ * - SEND: 클라이언트는 /app 목적지로만 전송 가능 (브로커 목적지 직접 전송으로 채팅방 메시지 위조 방지)
+ * - 접속 상태: CONNECT/DISCONNECT/heartbeat 등 인바운드 프레임으로 PresenceService 갱신
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class StompHandler implements ChannelInterceptor {
 
-    private final JwtTokenProvider jwtTokenProvider;
+    private static final Pattern CHAT_ROOM_DESTINATION = Pattern.compile("^/topic/chat\\.(\\d+)(\\..+)?$");
+
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final MemberIdentityResolver memberIdentityResolver;
+    private final ChatRoomAuthorizationCache chatRoomAuthorizationCache;
+    private final PresenceService presenceService;
 
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
@@ -34,12 +53,26 @@ public class StompHandler implements ChannelInterceptor {
             return message;
         }
 
+        // heartbeat 포함 모든 인바운드 프레임으로 접속 상태 갱신
+        // (ttl 초과로 정리됐지만 연결이 살아 있던 세션은 다시 등록, 사용자 조회는 이 경우에만 수행)
+        if (!presenceService.touch(accessor.getSessionId()) && accessor.getUser() != null
+                && !StompCommand.DISCONNECT.equals(accessor.getCommand())) {
+            Long memberId = memberIdentityResolver.resolveIdOrNull(accessor.getUser().getName());
+            if (memberId != null) {
+                presenceService.connected(accessor.getSessionId(), memberId);
+            }
+        }
+        if (SimpMessageType.HEARTBEAT.equals(accessor.getMessageType())) {
+            return message;
+        }
+
         // CONNECT 명령일 때만 인증 처리
         if (StompCommand.CONNECT.equals(accessor.getCommand())) {
             String token = extractToken(accessor);
+            Optional<JwtClaims> claims = verifiedTokenCache.verifyAccessToken(token);
 
-            if (token != null && jwtTokenProvider.validateToken(token)) {
-                String userId = jwtTokenProvider.getUserId(token);
+            if (claims.isPresent()) {
+                String userId = claims.get().getUserId();
 
                 /*
                  * [PR Review 수정]
@@ -51,17 +84,67 @@ public class StompHandler implements ChannelInterceptor {
                         new UsernamePasswordAuthenticationToken(userId, null, Collections.emptyList());
 
                 accessor.setUser(authentication);
+                chatRoomAuthorizationCache.connected(accessor.getSessionId());
+
+                Long memberId = memberIdentityResolver.resolveIdOrNull(userId);
+                if (memberId != null) {
+                    presenceService.connected(accessor.getSessionId(), memberId);
+                }
 
                 log.info("WebSocket 연결 인증 성공 - userId: {}", userId);
             } else {
                 log.warn("WebSocket 연결 인증 실패 - 유효하지 않은 토큰");
                 // STOMP 네이티브 헤더("token")에서도 토큰 추출 시도 (SockJS fallback용)
             }
+        } else if (StompCommand.DISCONNECT.equals(accessor.getCommand())) {
+            presenceService.disconnected(accessor.getSessionId());
+        } else if (StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
+            authorizeSubscribe(accessor);
+        } else if (StompCommand.SEND.equals(accessor.getCommand())) {
+            authorizeSend(accessor);
         }
 
         return message;
     }
 
+    /**
+     * 구독 권한 확인
+     * - 브로커 목적지는 인증된 사용자만, 채팅방 목적지는 참여자만 구독 가능
+     */
+    private void authorizeSubscribe(StompHeaderAccessor accessor) {
+        String destination = accessor.getDestination();
+        if (destination == null || !destination.startsWith("/topic/")) {
+            return;
+        }
+
+        Principal user = accessor.getUser();
+        if (user == null) {
+            throw new AccessDeniedException("로그인이 필요합니다");
+        }
+
+        Matcher matcher = CHAT_ROOM_DESTINATION.matcher(destination);
+        if (matcher.matches()) {
+            Long roomId = Long.valueOf(matcher.group(1));
+            try {
+                Long userId = memberIdentityResolver.resolveId(user.getName());
+                chatRoomAuthorizationCache.authorize(accessor.getSessionId(), roomId, userId);
+            } catch (IllegalArgumentException e) {
+                log.warn("채팅방 구독 거부 - roomId: {}, visitorId: {}, reason: {}", roomId, user.getName(), e.getMessage());
+                throw new AccessDeniedException(e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 전송 목적지 확인 (브로커 목적지 직접 전송 차단)
+     */
+    private void authorizeSend(StompHeaderAccessor accessor) {
+        String destination = accessor.getDestination();
+        if (destination != null && (destination.startsWith("/topic/") || destination.startsWith("/queue/"))) {
+            throw new AccessDeniedException("브로커 목적지로 직접 전송할 수 없습니다");
+        }
+    }
+
     /**
      * Authorization 헤더에서 토큰 추출
      * - "Bearer {token}" 형식
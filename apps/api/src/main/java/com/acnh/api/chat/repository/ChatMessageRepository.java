@@ -1,13 +1,14 @@
 package com.acnh.api.chat.repository;
 
 import com.acnh.api.chat.entity.ChatMessage;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,56 +23,60 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
     Optional<ChatMessage> findByIdAndDeletedAtIsNull(Long id);
 
     /**
-     * 채팅방 ID로 삭제되지 않은 메시지 목록 조회 (생성일 오름차순)
+     * 채팅방 최신 메시지 조회 (ID 내림차순, limit 건)
+     * - idx_chat_messages_room_id (chat_room_id, id) 사용
      */
-    List<ChatMessage> findByChatRoomIdAndDeletedAtIsNullOrderByCreatedAtAsc(Long chatRoomId);
+    List<ChatMessage> findByChatRoomIdAndDeletedAtIsNullOrderByIdDesc(Long chatRoomId, Limit limit);
 
     /**
-     * 채팅방 ID로 삭제되지 않은 메시지 페이징 조회
+     * 커서(before) 이전 메시지 조회 (ID 내림차순, limit 건) - 과거 내역 지연 로딩
      */
-    Page<ChatMessage> findByChatRoomIdAndDeletedAtIsNull(Long chatRoomId, Pageable pageable);
+    List<ChatMessage> findByChatRoomIdAndIdLessThanAndDeletedAtIsNullOrderByIdDesc(Long chatRoomId, Long beforeId, Limit limit);
 
     /**
-     * 채팅방 ID로 읽지 않은 메시지 목록 조회
+     * 커서(after) 이후 메시지 조회 (ID 오름차순, limit 건) - 재연결 시 누락분 조회
      */
-    List<ChatMessage> findByChatRoomIdAndIsReadFalseAndDeletedAtIsNull(Long chatRoomId);
+    List<ChatMessage> findByChatRoomIdAndIdGreaterThanAndDeletedAtIsNullOrderByIdAsc(Long chatRoomId, Long afterId, Limit limit);
+
+    /**
+     * 채팅방 ID로 삭제되지 않은 메시지 페이징 조회
+     */
+    Page<ChatMessage> findByChatRoomIdAndDeletedAtIsNull(Long chatRoomId, Pageable pageable);
 
     /**
-     * 채팅방 ID와 발신자 ID가 아닌 읽지 않은 메시지 수 조회
+     * 채팅방의 삭제되지 않은 최신 메시지 ID 조회 (읽음 처리 기준점)
+     * - idx_chat_messages_room_id (chat_room_id, id) 역방향 1건 조회
      */
-    long countByChatRoomIdAndSenderIdNotAndIsReadFalseAndDeletedAtIsNull(Long chatRoomId, Long senderId);
+    @Query("SELECT MAX(m.id) FROM ChatMessage m WHERE m.chatRoomId = :chatRoomId AND m.deletedAt IS NULL")
+    Optional<Long> findLastMessageId(@Param("chatRoomId") Long chatRoomId);
 
     /**
-     * 채팅방의 최신 메시지 1건 조회 (단일 채팅방용)
-     * - 전체 목록 조회 대신 효율적으로 마지막 메시지만 조회
+     * 상대방이 보낸 메시지 중 upToId 이하를 일괄 읽음 처리
+     * - upToId로 상한을 두어 처리 도중 도착한 메시지는 읽음 처리하지 않음
+     * - 반환: 읽음 처리된 메시지 수
      */
-    Optional<ChatMessage> findFirstByChatRoomIdAndDeletedAtIsNullOrderByCreatedAtDesc(Long chatRoomId);
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ChatMessage m SET m.isRead = true " +
+            "WHERE m.chatRoomId = :chatRoomId AND m.senderId <> :readerId " +
+            "AND m.isRead = false AND m.deletedAt IS NULL AND m.id <= :upToId")
+    int markAsReadUpTo(@Param("chatRoomId") Long chatRoomId,
+                       @Param("readerId") Long readerId,
+                       @Param("upToId") Long upToId);
 
     /**
-     * 채팅방별 마지막 메시지 일괄 조회
-     * - chatRoomId 목록에 해당하는 각 채팅방의 최신 메시지 반환
-     *
-     * [PR Review 수정]
-     * Before: MAX(createdAt) 사용 - 타임스탬프 중복 시 여러 행 반환 가능
-     * After: MAX(id) 사용 - 채팅방당 정확히 1행만 반환 보장
-     * 이유: 동시에 생성된 메시지의 중복 반환 방지
+     * 이미지 메시지 수 (고아 이미지 정리 시 블룸 필터 크기 산정)
+     * - idx_chat_messages_image_url 부분 인덱스 사용
      */
-    @Query("SELECT m FROM ChatMessage m WHERE m.deletedAt IS NULL " +
-            "AND m.chatRoomId IN :chatRoomIds " +
-            "AND m.id IN (SELECT MAX(m2.id) FROM ChatMessage m2 " +
-            "WHERE m2.deletedAt IS NULL AND m2.chatRoomId IN :chatRoomIds " +
-            "GROUP BY m2.chatRoomId)")
-    List<ChatMessage> findLastMessagesByChatRoomIds(@Param("chatRoomIds") Collection<Long> chatRoomIds);
+    @Query(value = "SELECT COUNT(*) FROM chat_messages " +
+            "WHERE image_url IS NOT NULL AND deleted_at IS NULL", nativeQuery = true)
+    long countImageMessages();
 
     /**
-     * 채팅방별 읽지 않은 메시지 수 일괄 조회
-     * - Object[]: [chatRoomId, count]
+     * 커서(afterId) 이후 이미지 메시지의 (id, image_url) 조회 (ID 오름차순, limit 건)
+     * - idx_chat_messages_image_url 부분 인덱스 범위 스캔
      */
-    @Query("SELECT m.chatRoomId, COUNT(m) FROM ChatMessage m " +
-            "WHERE m.deletedAt IS NULL AND m.chatRoomId IN :chatRoomIds " +
-            "AND m.senderId <> :excludeSenderId AND m.isRead = false " +
-            "GROUP BY m.chatRoomId")
-    List<Object[]> countUnreadMessagesByChatRoomIds(
-            @Param("chatRoomIds") Collection<Long> chatRoomIds,
-            @Param("excludeSenderId") Long excludeSenderId);
+    @Query(value = "SELECT id, image_url FROM chat_messages " +
+            "WHERE image_url IS NOT NULL AND deleted_at IS NULL AND id > :afterId " +
+            "ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<Object[]> findImageUrlsAfter(@Param("afterId") Long afterId, @Param("limit") int limit);
 }
@@ -1,12 +1,15 @@
 package com.acnh.api.chat.repository;
 
+import com.acnh.api.chat.entity.ChatMessage;
 import com.acnh.api.chat.entity.ChatRoom;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -53,4 +56,92 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
             "AND (c.postOwnerId = :userId OR c.applicantId = :userId) " +
             "ORDER BY c.updatedAt DESC")
     Page<ChatRoom> findByParticipantId(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 새 메시지 반영 (DB 레벨에서 원자적 처리)
+     * - 마지막 메시지 정보는 더 큰 메시지 ID일 때만 갱신 (동시 전송 시 역행 방지)
+     * - 참여자별 안 읽은 수에 delta 가산 (발신자 쪽은 0), updatedAt 갱신 (목록 정렬용)
+     * - 단건 저장은 delta 1, write-behind 배치는 채팅방별로 묶어 1회 호출
+     */
+    @Modifying
+    @Query("UPDATE ChatRoom c SET " +
+            "c.postOwnerUnreadCount = c.postOwnerUnreadCount + :postOwnerUnreadDelta, " +
+            "c.applicantUnreadCount = c.applicantUnreadCount + :applicantUnreadDelta, " +
+            "c.lastMessageId = CASE WHEN c.lastMessageId IS NULL OR c.lastMessageId < :messageId " +
+            "THEN :messageId ELSE c.lastMessageId END, " +
+            "c.lastMessagePreview = CASE WHEN c.lastMessageId IS NULL OR c.lastMessageId < :messageId " +
+            "THEN :preview ELSE c.lastMessagePreview END, " +
+            "c.lastMessageAt = CASE WHEN c.lastMessageId IS NULL OR c.lastMessageId < :messageId " +
+            "THEN :sentAt ELSE c.lastMessageAt END, " +
+            "c.updatedAt = :sentAt " +
+            "WHERE c.id = :roomId")
+    int recordMessages(@Param("roomId") Long roomId,
+                       @Param("messageId") Long messageId,
+                       @Param("preview") String preview,
+                       @Param("sentAt") LocalDateTime sentAt,
+                       @Param("postOwnerUnreadDelta") int postOwnerUnreadDelta,
+                       @Param("applicantUnreadDelta") int applicantUnreadDelta);
+
+    /**
+     * 게시글 주인 읽음 반영 (DB 레벨에서 원자적 처리)
+     * - 안 읽은 수는 실제 읽음 처리된 수만큼 차감 (0 미만 방지)
+     * - 마지막 읽은 메시지 ID는 증가 방향으로만 갱신
+     */
+    @Modifying
+    @Query("UPDATE ChatRoom c SET " +
+            "c.postOwnerUnreadCount = CASE WHEN c.postOwnerUnreadCount > :readCount " +
+            "THEN c.postOwnerUnreadCount - :readCount ELSE 0 END, " +
+            "c.postOwnerLastReadMessageId = CASE WHEN c.postOwnerLastReadMessageId IS NULL " +
+            "OR c.postOwnerLastReadMessageId < :messageId THEN :messageId ELSE c.postOwnerLastReadMessageId END " +
+            "WHERE c.id = :roomId")
+    int markReadByPostOwner(@Param("roomId") Long roomId,
+                            @Param("messageId") Long messageId,
+                            @Param("readCount") int readCount);
+
+    /**
+     * 신청자 읽음 반영 (DB 레벨에서 원자적 처리)
+     * - 안 읽은 수는 실제 읽음 처리된 수만큼 차감 (0 미만 방지)
+     * - 마지막 읽은 메시지 ID는 증가 방향으로만 갱신
+     */
+    @Modifying
+    @Query("UPDATE ChatRoom c SET " +
+            "c.applicantUnreadCount = CASE WHEN c.applicantUnreadCount > :readCount " +
+            "THEN c.applicantUnreadCount - :readCount ELSE 0 END, " +
+            "c.applicantLastReadMessageId = CASE WHEN c.applicantLastReadMessageId IS NULL " +
+            "OR c.applicantLastReadMessageId < :messageId THEN :messageId ELSE c.applicantLastReadMessageId END " +
+            "WHERE c.id = :roomId")
+    int markReadByApplicant(@Param("roomId") Long roomId,
+                            @Param("messageId") Long messageId,
+                            @Param("readCount") int readCount);
+
+    /**
+     * 비정규화 컬럼 재계산 (드리프트 보정, PostgreSQL 네이티브 쿼리)
+     * - 대상: since 이후 갱신되었고 quietBefore 이전부터 조용한 채팅방 (진행 중인 대화와 경합 방지)
+     * - 실제 값이 다른 행만 갱신
+     * - 반환: 보정된 채팅방 수
+     */
+    @Modifying
+    @Query(value = "WITH stats AS (" +
+            "SELECT c.id AS room_id, " +
+            "(SELECT COUNT(*) FROM chat_messages m WHERE m.chat_room_id = c.id AND m.deleted_at IS NULL " +
+            "AND m.is_read = false AND m.sender_id <> c.post_owner_id) AS owner_unread, " +
+            "(SELECT COUNT(*) FROM chat_messages m WHERE m.chat_room_id = c.id AND m.deleted_at IS NULL " +
+            "AND m.is_read = false AND m.sender_id <> c.applicant_id) AS applicant_unread, " +
+            "(SELECT MAX(m.id) FROM chat_messages m WHERE m.chat_room_id = c.id AND m.deleted_at IS NULL) AS last_id " +
+            "FROM chat_rooms c " +
+            "WHERE c.deleted_at IS NULL AND c.updated_at >= :since AND c.updated_at < :quietBefore) " +
+            "UPDATE chat_rooms c SET " +
+            "post_owner_unread_count = s.owner_unread, " +
+            "applicant_unread_count = s.applicant_unread, " +
+            "last_message_id = s.last_id, " +
+            "last_message_preview = CASE WHEN m.message_type = 'IMAGE' THEN '[이미지]' " +
+            "ELSE LEFT(m.content, " + ChatMessage.PREVIEW_MAX_LENGTH + ") END, " +
+            "last_message_at = m.created_at " +
+            "FROM stats s LEFT JOIN chat_messages m ON m.id = s.last_id " +
+            "WHERE c.id = s.room_id " +
+            "AND (c.post_owner_unread_count <> s.owner_unread " +
+            "OR c.applicant_unread_count <> s.applicant_unread " +
+            "OR c.last_message_id IS DISTINCT FROM s.last_id)",
+            nativeQuery = true)
+    int reconcileSummaries(@Param("since") LocalDateTime since, @Param("quietBefore") LocalDateTime quietBefore);
 }
@@ -0,0 +1,32 @@
+package com.acnh.api.chat.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 메시지 ID 선할당기 (write-behind 모드 전용)
+ * - 저장 전에 브로드캐스트할 ID가 필요하므로 chat_messages ID 시퀀스에서 메시지마다 1개씩 미리 발급
+ * - 메시지당 시퀀스 조회 1회 (트랜잭션 없음, 저장 트랜잭션보다 가벼움)
+ * - 인스턴스별 블록 선점은 사용하지 않음: ID 순서가 접수 순서와 같아야
+ *   재접속 커서(after), 이력 정렬, 채팅방 마지막 메시지, 읽음 처리 기준(ID 비교)이 모두 맞음
+ */
+@Component
+@ConditionalOnProperty(name = "chat.write-behind.enabled", havingValue = "true")
+public class ChatMessageIdAllocator {
+
+    private static final String NEXT_ID_SQL = "SELECT nextval(pg_get_serial_sequence('chat_messages', 'id'))";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ChatMessageIdAllocator(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 다음 메시지 ID 발급
+     */
+    public long next() {
+        return jdbcTemplate.queryForObject(NEXT_ID_SQL, Long.class);
+    }
+}
@@ -0,0 +1,281 @@
+package com.acnh.api.chat.service;
+
+import com.acnh.api.chat.dto.ChatMessageAck;
+import com.acnh.api.chat.dto.ChatMessageRequest;
+import com.acnh.api.chat.dto.ChatMessageResponse;
+import com.acnh.api.chat.entity.ChatMessage;
+import com.acnh.api.chat.event.ChatMessageSentEvent;
+import com.acnh.api.chat.repository.ChatRoomRepository;
+import com.acnh.api.common.batch.MicroBatchWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 채팅 메시지 write-behind 저장 파이프라인 (chat.write-behind.enabled=true일 때만 활성화)
+ * - 전송 요청은 검증 후 선할당 ID로 즉시 응답(브로드캐스트), 저장은 MicroBatchWriter 전용 스레드가 처리
+ * - 배치 저장: JDBC batch INSERT 1회 + 채팅방별 요약 갱신(recordMessages) 1회, 하나의 트랜잭션
+ * - 대기열은 크기 제한, 가득 차면 offer-timeout 동안 인바운드 스레드를 대기시키고(backpressure) 이후 거절
+ * - 재시도/오류 행 분할은 MicroBatchWriter, ID가 선할당되어 있으므로 재시도 INSERT는 ON CONFLICT로 멱등 처리
+ * - 배치 메시지는 이미 브로드캐스트되었으므로 오류 행 하나 때문에 나머지를 FAILED 처리하지 않음 (오류 행만 FAILED)
+ * - 저장 결과는 발신자에게 /user/queue/chat.ack로 전달 (at-least-once)
+ * - 저장 완료된 메시지마다 ChatMessageSentEvent 발행 (오프라인 수신자 푸시 알림)
+ * - 종료 시 대기열을 모두 저장한 뒤 종료 (shutdown-timeout 초과로 저장하지 못한 메시지는 FAILED ack)
+ *
+ * [성능 개선]
+ * Before: 메시지마다 인바운드 채널 스레드에서 트랜잭션 1회 (INSERT + 채팅방 UPDATE + 커밋)
+ * After: 배치 크기만큼 묶어 INSERT 1회 + 채팅방 수만큼 UPDATE + 커밋 1회
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "chat.write-behind.enabled", havingValue = "true")
+public class ChatMessageWriteBehind implements SmartLifecycle {
+
+    private static final String INSERT_SQL = "INSERT INTO chat_messages " +
+            "(id, chat_room_id, sender_id, message_type, content, image_url, is_read, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, false, ?, ?) ON CONFLICT (id) DO NOTHING";
+
+    private static final String ACK_DESTINATION = "/queue/chat.ack";
+
+    private final ChatService chatService;
+    private final ChatMessageIdAllocator idAllocator;
+    private final ChatRoomRepository chatRoomRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final MicroBatchWriter<PendingMessage> writer;
+    private final int batchSize;
+    private final Duration maxDelay;
+    private final Duration offerTimeout;
+    private final Counter rejectedCounter;
+
+    public ChatMessageWriteBehind(ChatService chatService,
+                                  ChatMessageIdAllocator idAllocator,
+                                  ChatRoomRepository chatRoomRepository,
+                                  JdbcTemplate jdbcTemplate,
+                                  TransactionTemplate transactionTemplate,
+                                  SimpMessagingTemplate messagingTemplate,
+                                  ApplicationEventPublisher eventPublisher,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${chat.write-behind.queue-capacity:10000}") int queueCapacity,
+                                  @Value("${chat.write-behind.batch-size:200}") int batchSize,
+                                  @Value("${chat.write-behind.max-delay:50ms}") Duration maxDelay,
+                                  @Value("${chat.write-behind.offer-timeout:100ms}") Duration offerTimeout,
+                                  @Value("${chat.write-behind.max-attempts:5}") int maxAttempts,
+                                  @Value("${chat.write-behind.retry-backoff:200ms}") Duration retryBackoff,
+                                  @Value("${chat.write-behind.shutdown-timeout:20s}") Duration shutdownTimeout) {
+        this.chatService = chatService;
+        this.idAllocator = idAllocator;
+        this.chatRoomRepository = chatRoomRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.messagingTemplate = messagingTemplate;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+        this.maxDelay = maxDelay;
+        this.offerTimeout = offerTimeout;
+
+        this.writer = new MicroBatchWriter<>("chat-write-behind", new PendingMessageHandler(), meterRegistry,
+                "chat.write_behind", queueCapacity, batchSize, maxDelay, maxAttempts, retryBackoff, shutdownTimeout);
+        this.rejectedCounter = meterRegistry.counter("chat.write_behind.rejected");
+    }
+
+    /**
+     * 메시지 접수 (ID 선할당 + 대기열 적재, 채팅방 권한은 호출 측에서 확인)
+     * - 반환: 브로드캐스트할 응답, 대기열 초과로 거절되면 empty (발신자에게 REJECTED ack 전송)
+     */
+    public Optional<ChatMessageResponse> submit(ChatMessageRequest request, Long senderId, String visitorId,
+                                                ChatRoomParticipants room) {
+        ChatMessage message = chatService.newMessage(request, senderId);
+
+        PendingMessage pending = PendingMessage.builder()
+                .id(idAllocator.next())
+                .chatRoomId(room.getRoomId())
+                .senderId(senderId)
+                .senderNickname(chatService.getNickname(senderId))
+                .recipientId(room.getOtherParticipant(senderId))
+                .fromPostOwner(room.isPostOwner(senderId))
+                .messageType(message.getMessageType())
+                .content(message.getContent())
+                .imageUrl(message.getImageUrl())
+                .createdAt(LocalDateTime.now())
+                .visitorId(visitorId)
+                .clientMessageId(request.getClientMessageId())
+                .build();
+
+        if (!writer.offer(pending, offerTimeout)) {
+            rejectedCounter.increment();
+            log.warn("메시지 대기열 초과로 거절 - roomId: {}, senderId: {}", room.getRoomId(), senderId);
+            sendAck(pending, ChatMessageAck.REJECTED);
+            return Optional.empty();
+        }
+
+        return Optional.of(ChatMessageResponse.builder()
+                .id(pending.getId())
+                .chatRoomId(pending.getChatRoomId())
+                .senderId(senderId)
+                .senderNickname(pending.getSenderNickname())
+                .messageType(pending.getMessageType())
+                .content(pending.getContent())
+                .imageUrl(pending.getImageUrl())
+                .isRead(false)
+                .createdAt(pending.getCreatedAt())
+                .build());
+    }
+
+    /**
+     * 배치 INSERT + 채팅방별 요약 갱신 (단일 트랜잭션)
+     */
+    private void persist(List<PendingMessage> batch) {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, pending) -> {
+                Timestamp createdAt = Timestamp.valueOf(pending.getCreatedAt());
+                ps.setLong(1, pending.getId());
+                ps.setLong(2, pending.getChatRoomId());
+                ps.setLong(3, pending.getSenderId());
+                ps.setString(4, pending.getMessageType());
+                ps.setString(5, pending.getContent());
+                ps.setString(6, pending.getImageUrl());
+                ps.setTimestamp(7, createdAt);
+                ps.setTimestamp(8, createdAt);
+            });
+
+            // 채팅방별로 묶어서 요약 갱신 1회 (마지막 메시지 = 배치 내 최대 ID)
+            Map<Long, RoomDelta> deltas = new LinkedHashMap<>();
+            for (PendingMessage pending : batch) {
+                deltas.computeIfAbsent(pending.getChatRoomId(), id -> new RoomDelta()).add(pending);
+            }
+            deltas.forEach((roomId, delta) -> chatRoomRepository.recordMessages(roomId,
+                    delta.last.getId(),
+                    ChatMessage.toPreview(delta.last.getMessageType(), delta.last.getContent()),
+                    delta.last.getCreatedAt(),
+                    delta.postOwnerUnread, delta.applicantUnread));
+        });
+    }
+
+    private void sendAck(PendingMessage pending, String status) {
+        try {
+            messagingTemplate.convertAndSendToUser(pending.getVisitorId(), ACK_DESTINATION,
+                    new ChatMessageAck(pending.getId(), pending.getChatRoomId(), pending.getClientMessageId(), status));
+        } catch (Exception e) {
+            log.warn("메시지 ack 전송 실패 - messageId: {}, error: {}", pending.getId(), e.getMessage());
+        }
+    }
+
+    private void publishSent(PendingMessage pending) {
+        try {
+            eventPublisher.publishEvent(new ChatMessageSentEvent(pending.getChatRoomId(), pending.getId(),
+                    pending.getSenderId(), pending.getRecipientId(), pending.getSenderNickname(),
+                    ChatMessage.toPreview(pending.getMessageType(), pending.getContent())));
+        } catch (Exception e) {
+            log.warn("메시지 저장 이벤트 발행 실패 - messageId: {}, error: {}", pending.getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 저장 결과 처리: 저장 완료 -> PERSISTED ack + 푸시 이벤트, 최종 실패 -> FAILED ack
+     */
+    private class PendingMessageHandler implements MicroBatchWriter.Handler<PendingMessage> {
+
+        @Override
+        public void flush(List<PendingMessage> batch) {
+            persist(batch);
+        }
+
+        @Override
+        public void onPersisted(List<PendingMessage> batch) {
+            batch.forEach(pending -> {
+                sendAck(pending, ChatMessageAck.PERSISTED);
+                publishSent(pending);
+            });
+        }
+
+        @Override
+        public void onFailed(List<PendingMessage> items) {
+            log.error("메시지 저장 최종 실패 - size: {}, ids: {}..{}",
+                    items.size(), items.get(0).getId(), items.get(items.size() - 1).getId());
+            items.forEach(pending -> sendAck(pending, ChatMessageAck.FAILED));
+        }
+    }
+
+    @Override
+    public void start() {
+        writer.start();
+        log.info("채팅 메시지 write-behind 시작 - batchSize: {}, maxDelay: {}", batchSize, maxDelay);
+    }
+
+    /**
+     * 종료: 대기열 저장 완료까지 대기, shutdown-timeout 초과로 저장하지 못한 메시지는 FAILED ack
+     * (이미 브로드캐스트되었으므로 발신자가 재전송 판단)
+     */
+    @Override
+    public void stop() {
+        writer.stop();
+        log.info("채팅 메시지 write-behind 종료");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return writer.isRunning();
+    }
+
+    /**
+     * 저장 대기 메시지
+     */
+    @Getter
+    @Builder
+    private static class PendingMessage {
+        private final Long id;
+        private final Long chatRoomId;
+        private final Long senderId;
+        private final String senderNickname;
+        private final Long recipientId;
+        private final boolean fromPostOwner;
+        private final String messageType;
+        private final String content;
+        private final String imageUrl;
+        private final LocalDateTime createdAt;
+        private final String visitorId;
+        private final String clientMessageId;
+    }
+
+    /**
+     * 배치 내 채팅방별 집계 (안 읽은 수 증가분, 마지막 메시지)
+     */
+    private static class RoomDelta {
+        private int postOwnerUnread;
+        private int applicantUnread;
+        private PendingMessage last;
+
+        void add(PendingMessage pending) {
+            if (pending.isFromPostOwner()) {
+                applicantUnread++;
+            } else {
+                postOwnerUnread++;
+            }
+            if (last == null || last.getId() < pending.getId()) {
+                last = pending;
+            }
+        }
+    }
+}
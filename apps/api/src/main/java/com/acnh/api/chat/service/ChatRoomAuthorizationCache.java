@@ -0,0 +1,142 @@
+package com.acnh.api.chat.service;
+
+import com.acnh.api.chat.event.ChatRoomClosedEvent;
+import com.acnh.api.chat.repository.ChatRoomRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * STOMP 세션별 채팅방 권한 캐시 (sessionId -> roomId -> ChatRoomParticipants)
+ * - CONNECT 인증 성공 시 세션 등록, SUBSCRIBE(/topic/chat.{roomId}) 시 참여자 확인 후 적재, SEND/읽음 처리 시 재사용
+ * - 캐시에 없으면(구독 전 전송 등) DB에서 확인 후 적재
+ *   (등록되지 않았거나 이미 종료된 세션은 확인만 하고 적재하지 않음 -> 종료 후 늦게 처리된 프레임이 항목을 되살리지 않음)
+ * - 무효화
+ *   - 채팅방 나가기 커밋 후 해당 채팅방 항목을 모든 세션에서 제거 (ChatRoomClosedEvent)
+ *   - 연결 종료 시 세션 항목 제거 (SessionDisconnectEvent)
+ *   - 다른 인스턴스에서 나간 경우는 ttl 만료 후 재확인으로 수렴
+ *
+ * [성능 개선]
+ * Before: 메시지 전송/읽음 처리마다 chatRoomRepository.findByIdAndDeletedAtIsNull + 참여자 검증
+ * After: 세션당 채팅방별 1회 조회
+ */
+@Slf4j
+@Component
+public class ChatRoomAuthorizationCache {
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final long ttlNanos;
+
+    private final Map<String, Map<Long, Authorization>> sessions = new ConcurrentHashMap<>();
+    private final Map<Long, Set<String>> sessionsByRoom = new ConcurrentHashMap<>();
+
+    public ChatRoomAuthorizationCache(ChatRoomRepository chatRoomRepository,
+                                      @Value("${chat.room-authorization.ttl:5m}") Duration ttl) {
+        this.chatRoomRepository = chatRoomRepository;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    /**
+     * 세션 등록 (CONNECT 인증 성공)
+     */
+    public void connected(String sessionId) {
+        sessions.putIfAbsent(sessionId, new ConcurrentHashMap<>());
+    }
+
+    /**
+     * 세션 사용자의 채팅방 권한 확인 (캐시 미스 시 DB 확인 후 적재)
+     * - 존재하지 않거나 참여자가 아니면 IllegalArgumentException
+     */
+    public ChatRoomParticipants authorize(String sessionId, Long roomId, Long userId) {
+        Map<Long, Authorization> rooms = sessions.get(sessionId);
+        Authorization cached = rooms != null ? rooms.get(roomId) : null;
+        if (cached != null && cached.isValidFor(userId)) {
+            return cached.participants;
+        }
+
+        ChatRoomParticipants participants = chatRoomRepository.findByIdAndDeletedAtIsNull(roomId)
+                .map(ChatRoomParticipants::from)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 채팅방입니다"));
+        if (!participants.contains(userId)) {
+            throw new IllegalArgumentException("채팅방에 접근 권한이 없습니다");
+        }
+
+        if (rooms != null) {
+            rooms.put(roomId, new Authorization(participants, userId, System.nanoTime() + ttlNanos));
+            sessionsByRoom.computeIfAbsent(roomId, id -> ConcurrentHashMap.newKeySet()).add(sessionId);
+            // 적재 도중 연결이 종료된 경우 역색인에 남은 세션 제거
+            if (sessions.get(sessionId) != rooms) {
+                removeSessionFromRoom(roomId, sessionId);
+            }
+        }
+        return participants;
+    }
+
+    /**
+     * 채팅방 종료 커밋 후 모든 세션에서 해당 채팅방 권한 제거
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onChatRoomClosed(ChatRoomClosedEvent event) {
+        Set<String> sessionIds = sessionsByRoom.remove(event.getRoomId());
+        if (sessionIds == null) {
+            return;
+        }
+        for (String sessionId : sessionIds) {
+            Map<Long, Authorization> rooms = sessions.get(sessionId);
+            if (rooms != null) {
+                rooms.remove(event.getRoomId());
+            }
+        }
+        log.debug("채팅방 권한 캐시 무효화 - roomId: {}, sessions: {}", event.getRoomId(), sessionIds.size());
+    }
+
+    /**
+     * 연결 종료 시 세션 권한 제거
+     */
+    @EventListener
+    public void onSessionDisconnect(SessionDisconnectEvent event) {
+        Map<Long, Authorization> rooms = sessions.remove(event.getSessionId());
+        if (rooms == null) {
+            return;
+        }
+        for (Long roomId : rooms.keySet()) {
+            removeSessionFromRoom(roomId, event.getSessionId());
+        }
+    }
+
+    private void removeSessionFromRoom(Long roomId, String sessionId) {
+        sessionsByRoom.computeIfPresent(roomId, (id, sessionIds) -> {
+            sessionIds.remove(sessionId);
+            return sessionIds.isEmpty() ? null : sessionIds;
+        });
+    }
+
+    /**
+     * 캐시 항목 (권한을 확인한 사용자, 만료 시각)
+     */
+    private static class Authorization {
+
+        private final ChatRoomParticipants participants;
+        private final Long userId;
+        private final long expiresAtNanos;
+
+        Authorization(ChatRoomParticipants participants, Long userId, long expiresAtNanos) {
+            this.participants = participants;
+            this.userId = userId;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        boolean isValidFor(Long userId) {
+            return this.userId.equals(userId) && System.nanoTime() - expiresAtNanos < 0;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.acnh.api.chat.service;
+
+import com.acnh.api.chat.entity.ChatRoom;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 채팅방 참여자 정보 (권한 확인, 메시지 저장에 필요한 최소 정보)
+ * - ChatRoomAuthorizationCache에 세션별로 보관되어 메시지마다 채팅방을 재조회하지 않도록 함
+ * - 참여자별 마지막 읽은 메시지 ID: 조회 시점 DB 값에서 시작해 이 세션의 읽음 처리마다 증가
+ *   (이 값 이하의 상대방 메시지는 모두 읽음 상태 -> 이미 읽은 범위의 읽음 요청은 UPDATE 없이 건너뜀)
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ChatRoomParticipants {
+
+    private final Long roomId;
+    private final Long postOwnerId;
+    private final Long applicantId;
+
+    @Getter(AccessLevel.NONE)
+    private final AtomicLong postOwnerLastReadMessageId;
+
+    @Getter(AccessLevel.NONE)
+    private final AtomicLong applicantLastReadMessageId;
+
+    public static ChatRoomParticipants from(ChatRoom chatRoom) {
+        return new ChatRoomParticipants(chatRoom.getId(), chatRoom.getPostOwnerId(), chatRoom.getApplicantId(),
+                new AtomicLong(orZero(chatRoom.getPostOwnerLastReadMessageId())),
+                new AtomicLong(orZero(chatRoom.getApplicantLastReadMessageId())));
+    }
+
+    /**
+     * 참여자 여부 (게시글 주인 또는 신청자)
+     */
+    public boolean contains(Long userId) {
+        return postOwnerId.equals(userId) || applicantId.equals(userId);
+    }
+
+    /**
+     * 게시글 주인 여부
+     */
+    public boolean isPostOwner(Long userId) {
+        return postOwnerId.equals(userId);
+    }
+
+    /**
+     * 상대방 ID (userId가 게시글 주인이면 신청자, 아니면 게시글 주인)
+     */
+    public Long getOtherParticipant(Long userId) {
+        return postOwnerId.equals(userId) ? applicantId : postOwnerId;
+    }
+
+    /**
+     * 사용자가 마지막으로 읽은 메시지 ID (읽은 메시지가 없으면 0)
+     */
+    public long getLastReadMessageIdOf(Long userId) {
+        return lastReadOf(userId).get();
+    }
+
+    /**
+     * 읽음 처리 반영 (증가 방향으로만 갱신)
+     */
+    public void advanceLastRead(Long userId, long messageId) {
+        lastReadOf(userId).accumulateAndGet(messageId, Math::max);
+    }
+
+    private AtomicLong lastReadOf(Long userId) {
+        return postOwnerId.equals(userId) ? postOwnerLastReadMessageId : applicantLastReadMessageId;
+    }
+
+    private static long orZero(Long value) {
+        return value != null ? value : 0L;
+    }
+}
@@ -0,0 +1,50 @@
+package com.acnh.api.chat.service;
+
+import com.acnh.api.chat.repository.ChatRoomRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 채팅방 비정규화 컬럼 보정 작업
+ * - 마지막 메시지/참여자별 안 읽은 수를 chat_messages 기준으로 재계산하여 드리프트 보정
+ * - 대상: 최근 window 내에 갱신되었고 quiet-period 동안 새 메시지가 없는 채팅방
+ *   (진행 중인 대화의 원자적 갱신과 경합하지 않도록 함)
+ * - 값이 일치하는 행은 갱신하지 않으므로 다중 인스턴스에서 중복 실행되어도 안전
+ */
+@Slf4j
+@Component
+public class ChatRoomSummaryReconciler {
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final Duration window;
+    private final Duration quietPeriod;
+
+    public ChatRoomSummaryReconciler(
+            ChatRoomRepository chatRoomRepository,
+            @Value("${chat.room-summary.reconcile-window:24h}") Duration window,
+            @Value("${chat.room-summary.quiet-period:1m}") Duration quietPeriod) {
+        this.chatRoomRepository = chatRoomRepository;
+        this.window = window;
+        this.quietPeriod = quietPeriod;
+    }
+
+    /**
+     * 주기적 보정 (기본 10분)
+     */
+    @Scheduled(fixedDelayString = "${chat.room-summary.reconcile-interval-ms:600000}",
+            initialDelayString = "${chat.room-summary.reconcile-interval-ms:600000}")
+    @Transactional
+    public void reconcile() {
+        LocalDateTime now = LocalDateTime.now();
+        int repaired = chatRoomRepository.reconcileSummaries(now.minus(window), now.minus(quietPeriod));
+        if (repaired > 0) {
+            log.warn("채팅방 요약 드리프트 보정 - count: {}", repaired);
+        }
+    }
+}
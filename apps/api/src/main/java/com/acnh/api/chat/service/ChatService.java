@@ -3,24 +3,37 @@ package com.acnh.api.chat.service;
 import com.acnh.api.chat.dto.*;
 import com.acnh.api.chat.entity.ChatMessage;
 import com.acnh.api.chat.entity.ChatRoom;
+import com.acnh.api.chat.event.ChatMessageSentEvent;
+import com.acnh.api.chat.event.ChatRoomClosedEvent;
 import com.acnh.api.chat.repository.ChatMessageRepository;
 import com.acnh.api.chat.repository.ChatRoomRepository;
 import com.acnh.api.filter.ProfanityFilter;
+import com.acnh.api.image.service.ImageService;
+import com.acnh.api.member.dto.MemberSummary;
 import com.acnh.api.member.entity.Member;
 import com.acnh.api.member.repository.MemberRepository;
+import com.acnh.api.member.service.MemberIdentityResolver;
+import com.acnh.api.member.service.MemberSummaryCache;
+import com.acnh.api.notification.enums.NotificationType;
+import com.acnh.api.notification.event.NotificationRequestedEvent;
 import com.acnh.api.post.entity.Post;
 import com.acnh.api.post.repository.PostRepository;
+import com.acnh.api.post.service.PostLikeNotifier;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -36,44 +49,51 @@ public class ChatService {
     private final ChatRoomRepository chatRoomRepository;
     private final ChatMessageRepository chatMessageRepository;
     private final MemberRepository memberRepository;
+    private final MemberIdentityResolver memberIdentityResolver;
+    private final MemberSummaryCache memberSummaryCache;
     private final PostRepository postRepository;
     private final ProfanityFilter profanityFilter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PresenceService presenceService;
+    private final SimpUserRegistry simpUserRegistry;
+    private final PostLikeNotifier postLikeNotifier;
+    private final ImageService imageService;
 
     /**
      * 채팅방 생성 또는 기존 채팅방 반환
      */
     @Transactional
     public ChatRoomResponse createOrGetChatRoom(ChatRoomCreateRequest request, String visitorId) {
-        Member member = findMemberByUuid(visitorId);
+        Long userId = memberIdentityResolver.resolveId(visitorId);
         Post post = findPostById(request.getPostId());
 
         // 자기 게시글에는 채팅방 생성 불가
-        if (post.getUserId().equals(member.getId())) {
+        if (post.getUserId().equals(userId)) {
             throw new IllegalArgumentException("본인 게시글에는 채팅을 시작할 수 없습니다");
         }
 
         // 기존 채팅방이 있으면 반환
         ChatRoom existingRoom = chatRoomRepository
-                .findByPostIdAndApplicantIdAndDeletedAtIsNull(request.getPostId(), member.getId())
+                .findByPostIdAndApplicantIdAndDeletedAtIsNull(request.getPostId(), userId)
                 .orElse(null);
 
         if (existingRoom != null) {
-            return toChatRoomResponse(existingRoom, member.getId());
+            return toChatRoomResponse(existingRoom, userId);
         }
 
         // 새 채팅방 생성
         ChatRoom chatRoom = ChatRoom.builder()
                 .postId(request.getPostId())
                 .postOwnerId(post.getUserId())
-                .applicantId(member.getId())
+                .applicantId(userId)
                 .status("ACTIVE")
                 .build();
 
         ChatRoom savedRoom = chatRoomRepository.save(chatRoom);
         log.info("채팅방 생성 - roomId: {}, postId: {}, applicantId: {}",
-                savedRoom.getId(), request.getPostId(), member.getId());
+                savedRoom.getId(), request.getPostId(), userId);
 
-        return toChatRoomResponse(savedRoom, member.getId());
+        return toChatRoomResponse(savedRoom, userId);
     }
 
     /**
@@ -86,8 +106,7 @@ public class ChatService {
      * 이유: 채팅방 수가 많아질 경우 메모리 부족 및 성능 저하 방지
      */
     public ChatRoomListResponse getMyChatRooms(String visitorId, Pageable pageable) {
-        Member member = findMemberByUuid(visitorId);
-        Long currentUserId = member.getId();
+        Long currentUserId = memberIdentityResolver.resolveId(visitorId);
 
         // DB 레벨에서 페이징 처리 (postOwner 또는 applicant로 참여한 채팅방)
         Page<ChatRoom> chatRoomPage = chatRoomRepository.findByParticipantId(currentUserId, pageable);
@@ -111,30 +130,20 @@ public class ChatService {
          * Before: toChatRoomResponse()에서 채팅방마다 개별 쿼리 실행 (N+1 문제)
          * After: 필요한 데이터를 미리 일괄 조회 후 Map으로 변환하여 O(1) lookup
          * 이유: 채팅방 N개 조회 시 4*N개 쿼리 -> 고정 6개 쿼리로 성능 개선
+         *
+         * [성능 개선]
+         * Before: 마지막 메시지/안 읽은 수를 chat_messages 집계 쿼리 2개로 매번 계산
+         * After: ChatRoom의 비정규화 컬럼(lastMessage*, *UnreadCount) 사용, chat_messages 조회 없음
          */
         Map<Long, Post> postMap = postRepository.findByIdInAndDeletedAtIsNull(postIds)
                 .stream()
                 .collect(Collectors.toMap(Post::getId, Function.identity()));
 
-        Map<Long, Member> memberMap = memberRepository.findByIdInAndDeletedAtIsNull(otherUserIds)
-                .stream()
-                .collect(Collectors.toMap(Member::getId, Function.identity()));
-
-        Map<Long, ChatMessage> lastMessageMap = chatMessageRepository.findLastMessagesByChatRoomIds(chatRoomIds)
-                .stream()
-                .collect(Collectors.toMap(ChatMessage::getChatRoomId, Function.identity()));
-
-        Map<Long, Long> unreadCountMap = chatMessageRepository
-                .countUnreadMessagesByChatRoomIds(chatRoomIds, currentUserId)
-                .stream()
-                .collect(Collectors.toMap(
-                        arr -> (Long) arr[0],
-                        arr -> (Long) arr[1]
-                ));
+        Map<Long, MemberSummary> memberMap = memberSummaryCache.getAll(otherUserIds);
 
         // 응답 생성 (Map에서 조회하여 N+1 방지)
         Page<ChatRoomResponse> responsePage = chatRoomPage.map(room ->
-                toChatRoomResponseFromMaps(room, currentUserId, postMap, memberMap, lastMessageMap, unreadCountMap));
+                toChatRoomResponseFromMaps(room, currentUserId, postMap, memberMap));
 
         return ChatRoomListResponse.from(responsePage);
     }
@@ -143,33 +152,54 @@ public class ChatService {
      * 채팅방 상세 조회
      */
     public ChatRoomResponse getChatRoom(Long roomId, String visitorId) {
-        Member member = findMemberByUuid(visitorId);
+        Long userId = memberIdentityResolver.resolveId(visitorId);
         ChatRoom chatRoom = findChatRoomById(roomId);
 
         // 참여자만 조회 가능
-        validateParticipant(chatRoom, member.getId());
+        validateParticipant(chatRoom, userId);
 
-        return toChatRoomResponse(chatRoom, member.getId());
+        return toChatRoomResponse(chatRoom, userId);
     }
 
     /**
-     * 채팅 메시지 목록 조회 (이전 메시지)
+     * 채팅 메시지 목록 조회 (커서 페이징)
+     * - 커서 없음: 최신 size건
+     * - before: 해당 메시지 ID보다 이전 size건 (과거 내역 지연 로딩)
+     * - after: 해당 메시지 ID보다 이후 size건 (재연결 시 누락분 조회)
+     * - 응답은 항상 ID 오름차순 (size보다 적게 반환되면 더 이상 없음)
      * - N+1 문제 방지를 위해 sender 정보를 일괄 조회
      *
      * [PR Review 수정]
      * Before: 빈 메시지 목록에도 memberRepository 쿼리 실행
      * After: messages.isEmpty() 시 빈 리스트 즉시 반환
      * 이유: 불필요한 IN 쿼리 방지
+     *
+     * [성능 개선]
+     * Before: 채팅방 전체 메시지를 한 번에 조회 (긴 대화방에서 응답 크기/힙 사용량 급증)
+     * After: (chat_room_id, id) 인덱스 기반 커서 조회, 최대 size건
      */
-    public List<ChatMessageResponse> getMessages(Long roomId, String visitorId) {
-        Member member = findMemberByUuid(visitorId);
+    public List<ChatMessageResponse> getMessages(Long roomId, Long beforeId, Long afterId, int size, String visitorId) {
+        Long userId = memberIdentityResolver.resolveId(visitorId);
         ChatRoom chatRoom = findChatRoomById(roomId);
 
         // 참여자만 조회 가능
-        validateParticipant(chatRoom, member.getId());
+        validateParticipant(chatRoom, userId);
 
-        List<ChatMessage> messages = chatMessageRepository
-                .findByChatRoomIdAndDeletedAtIsNullOrderByCreatedAtAsc(roomId);
+        if (beforeId != null && afterId != null) {
+            throw new IllegalArgumentException("before와 after는 함께 사용할 수 없습니다");
+        }
+
+        List<ChatMessage> messages;
+        if (afterId != null) {
+            messages = chatMessageRepository
+                    .findByChatRoomIdAndIdGreaterThanAndDeletedAtIsNullOrderByIdAsc(roomId, afterId, Limit.of(size));
+        } else {
+            List<ChatMessage> descending = beforeId != null
+                    ? chatMessageRepository.findByChatRoomIdAndIdLessThanAndDeletedAtIsNullOrderByIdDesc(roomId, beforeId, Limit.of(size))
+                    : chatMessageRepository.findByChatRoomIdAndDeletedAtIsNullOrderByIdDesc(roomId, Limit.of(size));
+            messages = new ArrayList<>(descending);
+            Collections.reverse(messages);
+        }
 
         // 메시지가 없으면 빈 리스트 반환 (불필요한 쿼리 방지)
         if (messages.isEmpty()) {
@@ -182,13 +212,11 @@ public class ChatService {
                 .distinct()
                 .toList();
 
-        Map<Long, Member> senderMap = memberRepository.findByIdInAndDeletedAtIsNull(senderIds)
-                .stream()
-                .collect(Collectors.toMap(Member::getId, Function.identity()));
+        Map<Long, MemberSummary> senderMap = memberSummaryCache.getAll(senderIds);
 
         return messages.stream()
                 .map(msg -> {
-                    Member sender = senderMap.get(msg.getSenderId());
+                    MemberSummary sender = senderMap.get(msg.getSenderId());
                     String nickname = sender != null ? sender.getNickname() : "알 수 없음";
                     return ChatMessageResponse.from(msg, nickname);
                 })
@@ -203,14 +231,36 @@ public class ChatService {
      * Before: 메시지만 저장, 채팅방 updatedAt 미갱신
      * After: 메시지 저장 후 채팅방 updatedAt 갱신
      * 이유: getMyChatRooms 정렬이 최신 메시지 기준으로 동작하도록
+     *
+     * [성능 개선]
+     * Before: 메시지마다 채팅방 조회 후 참여자 검증
+     * After: 호출 측에서 ChatRoomAuthorizationCache로 확인한 참여자 정보 사용 (채팅방 재조회 없음)
      */
     @Transactional
-    public ChatMessageResponse saveMessage(ChatMessageRequest request, Long senderId) {
-        ChatRoom chatRoom = findChatRoomById(request.getChatRoomId());
+    public ChatMessageResponse saveMessage(ChatMessageRequest request, Long senderId, ChatRoomParticipants room) {
+        ChatMessage savedMessage = chatMessageRepository.save(newMessage(request, senderId));
+
+        // 채팅방 마지막 메시지/상대방 안 읽은 수/updatedAt 원자적 갱신 (목록 정렬 및 표시용)
+        boolean fromPostOwner = room.isPostOwner(senderId);
+        chatRoomRepository.recordMessages(room.getRoomId(), savedMessage.getId(),
+                savedMessage.toPreview(), savedMessage.getCreatedAt(),
+                fromPostOwner ? 0 : 1, fromPostOwner ? 1 : 0);
+
+        log.info("메시지 저장 - roomId: {}, senderId: {}, type: {}",
+                room.getRoomId(), senderId, savedMessage.getMessageType());
+
+        // 오프라인 수신자 푸시 알림 (커밋 후 대기열 적재만, 발송은 별도 스레드)
+        String senderNickname = getNickname(senderId);
+        eventPublisher.publishEvent(new ChatMessageSentEvent(room.getRoomId(), savedMessage.getId(), senderId,
+                room.getOtherParticipant(senderId), senderNickname, savedMessage.toPreview()));
 
-        // 참여자만 메시지 전송 가능
-        validateParticipant(chatRoom, senderId);
+        return ChatMessageResponse.from(savedMessage, senderNickname);
+    }
 
+    /**
+     * 전송 요청 -> 저장 전 메시지 생성 (타입 기본값, 금칙어 마스킹)
+     */
+    public ChatMessage newMessage(ChatMessageRequest request, Long senderId) {
         // 메시지 타입 기본값 설정
         String messageType = request.getMessageType();
         if (messageType == null || messageType.isBlank()) {
@@ -224,58 +274,66 @@ public class ChatService {
             content = profanityFilter.maskProfanity(content);
         }
 
-        ChatMessage message = ChatMessage.builder()
+        // 이미지는 서버 업로드/직접 업로드 완료 처리로 확정된 본인 채팅 이미지만 허용
+        // (완료 전 임시 객체, 외부 URL 첨부 방지)
+        String imageUrl = request.getImageUrl();
+        if (imageUrl != null && !imageService.isFinalizedImage(imageUrl, "chat", senderId)) {
+            throw new IllegalArgumentException("유효하지 않은 이미지입니다.");
+        }
+
+        return ChatMessage.builder()
                 .chatRoomId(request.getChatRoomId())
                 .senderId(senderId)
                 .messageType(messageType)
                 .content(content)
-                .imageUrl(request.getImageUrl())
+                .imageUrl(imageUrl)
                 .build();
+    }
 
-        ChatMessage savedMessage = chatMessageRepository.save(message);
-
-        // 채팅방 updatedAt 갱신 (목록 정렬용)
-        chatRoom.touch();
-
-        Member sender = memberRepository.findByIdAndDeletedAtIsNull(senderId).orElse(null);
-        String nickname = sender != null ? sender.getNickname() : "알 수 없음";
-
-        log.info("메시지 저장 - roomId: {}, senderId: {}, type: {}",
-                request.getChatRoomId(), senderId, messageType);
-
-        return ChatMessageResponse.from(savedMessage, nickname);
+    /**
+     * 발신자 닉네임 조회 (탈퇴 등으로 없으면 "알 수 없음")
+     */
+    public String getNickname(Long memberId) {
+        return memberSummaryCache.get(memberId)
+                .map(MemberSummary::getNickname)
+                .orElse("알 수 없음");
     }
 
     /**
      * 메시지 읽음 처리 (STOMP에서 호출)
+     * - 채팅방 권한은 호출 측에서 ChatRoomAuthorizationCache로 확인
+     * - 최신 메시지가 이미 읽은 범위면 UPDATE 없이 종료 (캐시된 참여자별 마지막 읽은 메시지 ID 기준)
+     * - 반환: 읽음 처리된 메시지 수 (0이면 변경 없음)
      *
-     * [PR Review 수정]
-     * Before: unreadMessages.size()로 로그 출력 (실제 처리 수와 다름)
-     * After: 실제 읽음 처리된 메시지 수만 카운트하여 로그 출력
-     * 이유: 로그의 정확성 향상
+     * [성능 개선]
+     * Before: 읽지 않은 메시지 전체를 엔티티로 로드 후 건별 markAsRead() (N건 = N개 UPDATE)
+     * After: 최신 메시지 ID까지 단일 벌크 UPDATE + 참여자별 마지막 읽은 메시지 ID/안 읽은 수 갱신
      */
     @Transactional
-    public void markMessagesAsRead(Long roomId, Long userId) {
-        ChatRoom chatRoom = findChatRoomById(roomId);
-
-        // 참여자만 읽음 처리 가능
-        validateParticipant(chatRoom, userId);
-
-        // 상대방이 보낸 읽지 않은 메시지들 읽음 처리
-        List<ChatMessage> unreadMessages = chatMessageRepository
-                .findByChatRoomIdAndIsReadFalseAndDeletedAtIsNull(roomId);
+    public int markMessagesAsRead(ChatRoomParticipants room, Long userId) {
+        Long roomId = room.getRoomId();
+        Long lastMessageId = chatMessageRepository.findLastMessageId(roomId).orElse(null);
+        // 캐시 값 이하의 상대방 메시지는 모두 읽음 상태이므로 건너뛰어도 읽지 않은 메시지가 남지 않음
+        if (lastMessageId == null || lastMessageId <= room.getLastReadMessageIdOf(userId)) {
+            return 0;
+        }
 
-        int markedCount = 0;
-        for (ChatMessage message : unreadMessages) {
-            // 내가 보낸 메시지가 아닌 것만 읽음 처리
-            if (!message.getSenderId().equals(userId)) {
-                message.markAsRead();
-                markedCount++;
+        // 상대방이 보낸 메시지 일괄 읽음 처리 (lastMessageId 이후 도착분 제외)
+        int markedCount = chatMessageRepository.markAsReadUpTo(roomId, userId, lastMessageId);
+        if (markedCount > 0) {
+            // 안 읽은 수는 실제 읽음 처리된 수만큼 차감 (동시에 도착한 메시지의 카운트 유실 방지)
+            if (room.isPostOwner(userId)) {
+                chatRoomRepository.markReadByPostOwner(roomId, lastMessageId, markedCount);
+            } else {
+                chatRoomRepository.markReadByApplicant(roomId, lastMessageId, markedCount);
             }
+            log.info("메시지 읽음 처리 - roomId: {}, userId: {}, lastReadMessageId: {}, count: {}",
+                    roomId, userId, lastMessageId, markedCount);
         }
 
-        log.info("메시지 읽음 처리 - roomId: {}, userId: {}, count: {}",
-                roomId, userId, markedCount);
+        // lastMessageId까지 상대방 메시지는 모두 읽음 상태 (0건이어도 다음 요청부터 건너뜀)
+        room.advanceLastRead(userId, lastMessageId);
+        return markedCount;
     }
 
     /**
@@ -286,13 +344,6 @@ public class ChatService {
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다"));
     }
 
-    /**
-     * UUID로 회원 조회 (STOMP 컨트롤러에서 사용)
-     */
-    public Member getMemberByUuid(String visitorId) {
-        return findMemberByUuid(visitorId);
-    }
-
     /**
      * 예약자 지정
      * - 게시글 작성자만 예약자 지정 가능
@@ -300,11 +351,11 @@ public class ChatService {
      */
     @Transactional
     public ChatRoomResponse reserveChatRoom(Long roomId, String visitorId, LocalDateTime scheduledTradeAt) {
-        Member member = findMemberByUuid(visitorId);
+        Long userId = memberIdentityResolver.resolveId(visitorId);
         ChatRoom chatRoom = findChatRoomById(roomId);
 
         // 게시글 작성자만 예약 가능
-        if (!chatRoom.getPostOwnerId().equals(member.getId())) {
+        if (!chatRoom.getPostOwnerId().equals(userId)) {
             throw new IllegalArgumentException("게시글 작성자만 예약자를 지정할 수 있습니다");
         }
 
@@ -319,7 +370,18 @@ public class ChatService {
 
         log.info("예약자 지정 - roomId: {}, reservedUserId: {}", roomId, chatRoom.getApplicantId());
 
-        return toChatRoomResponse(chatRoom, member.getId());
+        // 예약자에게 알림 (커밋 후 비동기 저장/전송)
+        eventPublisher.publishEvent(NotificationRequestedEvent.builder()
+                .userId(chatRoom.getApplicantId())
+                .type(NotificationType.TRADE_RESERVED.name())
+                .title("거래가 예약되었어요")
+                .content(String.format("%s님이 거래를 예약했어요", getNickname(userId)))
+                .referenceId(roomId)
+                .referenceType("CHAT_ROOM")
+                .requesterId(userId)
+                .build());
+
+        return toChatRoomResponse(chatRoom, userId);
     }
 
     /**
@@ -328,11 +390,11 @@ public class ChatService {
      */
     @Transactional
     public ChatRoomResponse unreserveChatRoom(Long roomId, String visitorId) {
-        Member member = findMemberByUuid(visitorId);
+        Long userId = memberIdentityResolver.resolveId(visitorId);
         ChatRoom chatRoom = findChatRoomById(roomId);
 
         // 게시글 작성자만 예약 해제 가능
-        if (!chatRoom.getPostOwnerId().equals(member.getId())) {
+        if (!chatRoom.getPostOwnerId().equals(userId)) {
             throw new IllegalArgumentException("게시글 작성자만 예약을 해제할 수 있습니다");
         }
 
@@ -346,7 +408,7 @@ public class ChatService {
 
         log.info("예약 해제 - roomId: {}", roomId);
 
-        return toChatRoomResponse(chatRoom, member.getId());
+        return toChatRoomResponse(chatRoom, userId);
     }
 
     /**
@@ -356,11 +418,11 @@ public class ChatService {
      */
     @Transactional
     public ChatRoomResponse completeTrade(Long roomId, String visitorId) {
-        Member member = findMemberByUuid(visitorId);
+        Long userId = memberIdentityResolver.resolveId(visitorId);
         ChatRoom chatRoom = findChatRoomById(roomId);
 
         // 게시글 작성자만 거래 완료 가능
-        if (!chatRoom.getPostOwnerId().equals(member.getId())) {
+        if (!chatRoom.getPostOwnerId().equals(userId)) {
             throw new IllegalArgumentException("게시글 작성자만 거래 완료 처리할 수 있습니다");
         }
 
@@ -373,11 +435,26 @@ public class ChatService {
 
         // 게시글 상태도 거래완료로 변경
         Post post = findPostById(chatRoom.getPostId());
+        boolean postStatusChanged = !"COMPLETED".equals(post.getStatus());
         post.updateStatus("COMPLETED");
 
         log.info("거래 완료 - roomId: {}, postId: {}", roomId, chatRoom.getPostId());
 
-        return toChatRoomResponse(chatRoom, member.getId());
+        // 예약자에게 거래 완료 알림, 찜한 사용자에게 상태 변경 알림 (커밋 후 비동기 저장/전송)
+        eventPublisher.publishEvent(NotificationRequestedEvent.builder()
+                .userId(chatRoom.getReservedUserId())
+                .type(NotificationType.TRADE_COMPLETED.name())
+                .title("거래가 완료되었어요")
+                .content(String.format("%s 거래가 완료되었어요", post.getItemName()))
+                .referenceId(roomId)
+                .referenceType("CHAT_ROOM")
+                .requesterId(userId)
+                .build());
+        if (postStatusChanged) {
+            postLikeNotifier.notifyStatusChanged(post);
+        }
+
+        return toChatRoomResponse(chatRoom, userId);
     }
 
     /**
@@ -386,16 +463,19 @@ public class ChatService {
      */
     @Transactional
     public void leaveChatRoom(Long roomId, String visitorId) {
-        Member member = findMemberByUuid(visitorId);
+        Long userId = memberIdentityResolver.resolveId(visitorId);
         ChatRoom chatRoom = findChatRoomById(roomId);
 
         // 참여자만 나가기 가능
-        validateParticipant(chatRoom, member.getId());
+        validateParticipant(chatRoom, userId);
 
         // soft delete
         chatRoom.delete();
 
-        log.info("채팅방 나가기 - roomId: {}, userId: {}", roomId, member.getId());
+        // 커밋 후 STOMP 세션별 채팅방 권한 캐시에서 제거
+        eventPublisher.publishEvent(new ChatRoomClosedEvent(roomId));
+
+        log.info("채팅방 나가기 - roomId: {}, userId: {}", roomId, userId);
     }
 
     /**
@@ -403,36 +483,23 @@ public class ChatService {
      * - 게시글 작성자만 조회 가능
      */
     public List<ChatRoomResponse> getChatRoomsByPostId(Long postId, String visitorId) {
-        Member member = findMemberByUuid(visitorId);
+        Long userId = memberIdentityResolver.resolveId(visitorId);
         Post post = findPostById(postId);
 
         // 게시글 작성자만 조회 가능
-        if (!post.getUserId().equals(member.getId())) {
+        if (!post.getUserId().equals(userId)) {
             throw new IllegalArgumentException("게시글 작성자만 조회할 수 있습니다");
         }
 
         List<ChatRoom> chatRooms = chatRoomRepository.findByPostIdAndDeletedAtIsNull(postId);
 
         return chatRooms.stream()
-                .map(room -> toChatRoomResponse(room, member.getId()))
+                .map(room -> toChatRoomResponse(room, userId))
                 .toList();
     }
 
     // ========== Private Helper Methods ==========
 
-    /**
-     * UUID로 회원 조회
-     * Before: visitorId == null 만 체크하여 "anonymousUser"가 UUID 파싱 시도됨
-     * After: "anonymousUser" 문자열도 비인증 상태로 처리
-     */
-    private Member findMemberByUuid(String visitorId) {
-        if (visitorId == null || "anonymousUser".equals(visitorId)) {
-            throw new IllegalArgumentException("로그인이 필요합니다");
-        }
-        return memberRepository.findByUuidAndDeletedAtIsNull(UUID.fromString(visitorId))
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다"));
-    }
-
     /**
      * 게시글 ID로 조회
      */
@@ -458,13 +525,17 @@ public class ChatService {
         }
     }
 
+    /**
+     * 접속 중 여부 (SimpUserRegistry 기준, relay 모드는 다른 인스턴스에 연결된 세션 포함)
+     * - PresenceService는 이 인스턴스의 세션만 집계하므로 온라인 판단에 사용하지 않음
+     */
+    private boolean isOnline(MemberSummary member) {
+        return member != null && simpUserRegistry.getUser(member.getUuid().toString()) != null;
+    }
+
     /**
      * ChatRoom -> ChatRoomResponse 변환 (단일 채팅방용, 개별 쿼리 사용)
-     *
-     * [PR Review 수정]
-     * Before: 전체 메시지 목록 조회 후 마지막 메시지 추출 (비효율)
-     * After: findFirstByChatRoomIdAndDeletedAtIsNullOrderByCreatedAtDesc로 1건만 조회
-     * 이유: 불필요한 전체 데이터 로드 방지
+     * - 마지막 메시지/안 읽은 수는 ChatRoom 비정규화 컬럼 사용 (chat_messages 조회 없음)
      */
     private ChatRoomResponse toChatRoomResponse(ChatRoom chatRoom, Long currentUserId) {
         // 게시글 정보
@@ -479,27 +550,19 @@ public class ChatService {
         Long otherUserId = chatRoom.getPostOwnerId().equals(currentUserId)
                 ? chatRoom.getApplicantId()
                 : chatRoom.getPostOwnerId();
-        Member otherUser = memberRepository.findByIdAndDeletedAtIsNull(otherUserId).orElse(null);
+        MemberSummary otherUser = memberSummaryCache.get(otherUserId).orElse(null);
         String otherNickname = otherUser != null ? otherUser.getNickname() : "알 수 없음";
         String otherIslandName = otherUser != null ? otherUser.getIslandName() : null;
 
-        // 마지막 메시지 (1건만 조회)
-        String lastMessage = null;
-        LocalDateTime lastMessageAt = null;
-        var lastMsgOpt = chatMessageRepository
-                .findFirstByChatRoomIdAndDeletedAtIsNullOrderByCreatedAtDesc(chatRoom.getId());
-        if (lastMsgOpt.isPresent()) {
-            ChatMessage lastMsg = lastMsgOpt.get();
-            lastMessage = lastMsg.getMessageType().equals("IMAGE") ? "[이미지]" : lastMsg.getContent();
-            lastMessageAt = lastMsg.getCreatedAt();
-        }
-
-        // 읽지 않은 메시지 수
-        int unreadCount = (int) chatMessageRepository
-                .countByChatRoomIdAndSenderIdNotAndIsReadFalseAndDeletedAtIsNull(chatRoom.getId(), currentUserId);
+        // 마지막 메시지, 읽지 않은 메시지 수 (ChatRoom 비정규화 컬럼)
+        int unreadCount = chatRoom.getUnreadCountOf(currentUserId);
+        // 상대방 접속 상태 (전체 인스턴스 기준), 마지막 접속 시각은 이 인스턴스의 기록
+        boolean online = isOnline(otherUser);
 
         return ChatRoomResponse.from(chatRoom, currentUserId, postItemName, postImageUrl, postPrice, postStatus,
-                otherNickname, otherIslandName, lastMessage, lastMessageAt, unreadCount);
+                otherNickname, otherIslandName,
+                online, online ? null : presenceService.getLastSeenAt(otherUserId),
+                chatRoom.getLastMessagePreview(), chatRoom.getLastMessageAt(), unreadCount);
     }
 
     /**
@@ -509,9 +572,7 @@ public class ChatService {
             ChatRoom chatRoom,
             Long currentUserId,
             Map<Long, Post> postMap,
-            Map<Long, Member> memberMap,
-            Map<Long, ChatMessage> lastMessageMap,
-            Map<Long, Long> unreadCountMap) {
+            Map<Long, MemberSummary> memberMap) {
 
         // 게시글 정보
         Post post = postMap.get(chatRoom.getPostId());
@@ -525,23 +586,18 @@ public class ChatService {
         Long otherUserId = chatRoom.getPostOwnerId().equals(currentUserId)
                 ? chatRoom.getApplicantId()
                 : chatRoom.getPostOwnerId();
-        Member otherUser = memberMap.get(otherUserId);
+        MemberSummary otherUser = memberMap.get(otherUserId);
         String otherNickname = otherUser != null ? otherUser.getNickname() : "알 수 없음";
         String otherIslandName = otherUser != null ? otherUser.getIslandName() : null;
 
-        // 마지막 메시지
-        ChatMessage lastMsg = lastMessageMap.get(chatRoom.getId());
-        String lastMessage = null;
-        LocalDateTime lastMessageAt = null;
-        if (lastMsg != null) {
-            lastMessage = lastMsg.getMessageType().equals("IMAGE") ? "[이미지]" : lastMsg.getContent();
-            lastMessageAt = lastMsg.getCreatedAt();
-        }
-
-        // 읽지 않은 메시지 수
-        int unreadCount = unreadCountMap.getOrDefault(chatRoom.getId(), 0L).intValue();
+        // 마지막 메시지, 읽지 않은 메시지 수 (ChatRoom 비정규화 컬럼)
+        int unreadCount = chatRoom.getUnreadCountOf(currentUserId);
+        // 상대방 접속 상태 (전체 인스턴스 기준), 마지막 접속 시각은 이 인스턴스의 기록
+        boolean online = isOnline(otherUser);
 
         return ChatRoomResponse.from(chatRoom, currentUserId, postItemName, postImageUrl, postPrice, postStatus,
-                otherNickname, otherIslandName, lastMessage, lastMessageAt, unreadCount);
+                otherNickname, otherIslandName,
+                online, online ? null : presenceService.getLastSeenAt(otherUserId),
+                chatRoom.getLastMessagePreview(), chatRoom.getLastMessageAt(), unreadCount);
     }
 }
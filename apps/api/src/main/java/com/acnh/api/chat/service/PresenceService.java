@@ -0,0 +1,128 @@
+package com.acnh.api.chat.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 채팅 참여자 접속 상태(online / last seen) 관리 (인메모리, DB 쓰기 없음)
+ * - StompHandler의 CONNECT/DISCONNECT/heartbeat 등 인바운드 프레임으로 갱신
+ * - 세션이 하나라도 살아 있으면 online, 마지막 세션 종료 시각이 last seen
+ * - ttl 동안 프레임(heartbeat 포함)이 없는 세션은 끊긴 것으로 보고 주기적으로 정리
+ *   (연결이 살아 있던 세션이면 다음 프레임에서 StompHandler가 다시 등록 -> touch 반환값 참고)
+ * - last seen은 최대 크기/보존 기간이 있는 캐시에 보관 (서버 재시작 시 초기화)
+ * - 인스턴스 로컬 상태: 같은 인스턴스에 연결된 세션만 집계됨
+ */
+@Slf4j
+@Component
+public class PresenceService {
+
+    private final long ttlNanos;
+
+    private final Map<String, SessionPresence> sessions = new ConcurrentHashMap<>();
+    private final Map<Long, Set<String>> sessionsByUser = new ConcurrentHashMap<>();
+    private final Cache<Long, LocalDateTime> lastSeen;
+
+    public PresenceService(@Value("${chat.presence.ttl:30s}") Duration ttl,
+                           @Value("${chat.presence.last-seen-max-size:100000}") long lastSeenMaxSize,
+                           @Value("${chat.presence.last-seen-retention:7d}") Duration lastSeenRetention) {
+        this.ttlNanos = ttl.toNanos();
+        this.lastSeen = Caffeine.newBuilder()
+                .maximumSize(lastSeenMaxSize)
+                .expireAfterWrite(lastSeenRetention)
+                .build();
+    }
+
+    /**
+     * 세션 연결 (CONNECT 인증 성공)
+     */
+    public void connected(String sessionId, Long userId) {
+        sessions.put(sessionId, new SessionPresence(userId, System.nanoTime()));
+        sessionsByUser.compute(userId, (id, sessionIds) -> {
+            Set<String> current = sessionIds != null ? sessionIds : ConcurrentHashMap.newKeySet();
+            current.add(sessionId);
+            return current;
+        });
+    }
+
+    /**
+     * 세션 활동 갱신 (heartbeat 및 모든 인바운드 프레임)
+     * - 반환: 등록된 세션이면 true, 정리되었거나 인증 전 세션이면 false (호출 측에서 connected로 재등록)
+     */
+    public boolean touch(String sessionId) {
+        SessionPresence presence = sessions.get(sessionId);
+        if (presence == null) {
+            return false;
+        }
+        presence.lastActiveAtNanos = System.nanoTime();
+        return true;
+    }
+
+    /**
+     * 세션 종료 (DISCONNECT, 중복 호출 가능)
+     */
+    public void disconnected(String sessionId) {
+        SessionPresence presence = sessions.remove(sessionId);
+        if (presence == null) {
+            return;
+        }
+        sessionsByUser.computeIfPresent(presence.userId, (id, sessionIds) -> {
+            sessionIds.remove(sessionId);
+            return sessionIds.isEmpty() ? null : sessionIds;
+        });
+        lastSeen.put(presence.userId, LocalDateTime.now());
+    }
+
+    /**
+     * 접속 중 여부
+     */
+    public boolean isOnline(Long userId) {
+        return userId != null && sessionsByUser.containsKey(userId);
+    }
+
+    /**
+     * 마지막 접속 시각 (접속 중이거나 기록이 없으면 null)
+     */
+    public LocalDateTime getLastSeenAt(Long userId) {
+        if (userId == null || isOnline(userId)) {
+            return null;
+        }
+        return lastSeen.getIfPresent(userId);
+    }
+
+    /**
+     * ttl 동안 활동이 없는 세션 정리 (기본 30초 주기)
+     */
+    @Scheduled(fixedDelayString = "${chat.presence.sweep-interval-ms:30000}")
+    public void sweep() {
+        long now = System.nanoTime();
+        sessions.forEach((sessionId, presence) -> {
+            if (now - presence.lastActiveAtNanos > ttlNanos) {
+                disconnected(sessionId);
+            }
+        });
+    }
+
+    /**
+     * 세션별 접속 정보
+     */
+    private static class SessionPresence {
+
+        private final Long userId;
+        private volatile long lastActiveAtNanos;
+
+        SessionPresence(Long userId, long lastActiveAtNanos) {
+            this.userId = userId;
+            this.lastActiveAtNanos = lastActiveAtNanos;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.acnh.api.chat.service;
+
+import com.acnh.api.chat.dto.ChatTypingResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 채팅방 입력 중(typing) 상태 관리 (인메모리, DB 쓰기 없음)
+ * - roomId -> userId -> 만료 시각, 입력 신호가 ttl 동안 없으면 자동 해제
+ * - 목록이 바뀐 채팅방만 flush-interval마다 모아서 /topic/chat.{roomId}.typing으로 전송
+ *   (키 입력마다 들어오는 신호를 합쳐 채팅방당 전송 횟수를 주기당 최대 1회로 제한)
+ * - 인스턴스 로컬 상태: 같은 인스턴스로 신호를 보낸 사용자만 집계됨
+ * - 사용자별 속도 제한: min-interval 안에 다시 들어온 신호는 버림 (권한 확인/DB 조회 전에 차단)
+ */
+@Slf4j
+@Component
+public class TypingIndicatorService {
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final long ttlNanos;
+
+    private final Map<Long, Map<Long, Long>> typingByRoom = new ConcurrentHashMap<>();
+    private final Set<Long> changedRooms = ConcurrentHashMap.newKeySet();
+
+    // 사용자 -> 마지막으로 받아들인 신호 시각 (min-interval 후 만료)
+    private final Cache<String, Long> recentSignals;
+
+    public TypingIndicatorService(SimpMessagingTemplate messagingTemplate,
+                                  @Value("${chat.typing.ttl:5s}") Duration ttl,
+                                  @Value("${chat.typing.min-interval:250ms}") Duration minInterval,
+                                  @Value("${chat.typing.rate-limit-max-size:100000}") long rateLimitMaxSize) {
+        this.messagingTemplate = messagingTemplate;
+        this.ttlNanos = ttl.toNanos();
+        this.recentSignals = Caffeine.newBuilder()
+                .maximumSize(rateLimitMaxSize)
+                .expireAfterWrite(minInterval)
+                .build();
+    }
+
+    /**
+     * 사용자별 신호 허용 여부 (min-interval 안의 반복 신호는 false)
+     * - 버린 신호는 다음 신호 또는 ttl 만료로 수렴 (입력 중 표시는 정확한 타이밍이 필요하지 않음)
+     */
+    public boolean tryAcquire(String user) {
+        return recentSignals.asMap().putIfAbsent(user, System.nanoTime()) == null;
+    }
+
+    /**
+     * 입력 중 상태 갱신
+     * - 이미 입력 중이면 만료 시각만 연장 (전송 없음)
+     */
+    public void update(Long roomId, Long userId, boolean typing) {
+        if (typing) {
+            long expiresAt = System.nanoTime() + ttlNanos;
+            typingByRoom.compute(roomId, (id, typers) -> {
+                Map<Long, Long> current = typers != null ? typers : new ConcurrentHashMap<>();
+                if (current.put(userId, expiresAt) == null) {
+                    changedRooms.add(roomId);
+                }
+                return current;
+            });
+        } else {
+            typingByRoom.computeIfPresent(roomId, (id, typers) -> {
+                if (typers.remove(userId) != null) {
+                    changedRooms.add(roomId);
+                }
+                return typers.isEmpty() ? null : typers;
+            });
+        }
+    }
+
+    /**
+     * 만료 처리 후 변경된 채팅방 목록 전송 (기본 0.5초 주기)
+     */
+    @Scheduled(fixedDelayString = "${chat.typing.flush-interval-ms:500}")
+    public void flush() {
+        long now = System.nanoTime();
+        for (Long roomId : typingByRoom.keySet()) {
+            typingByRoom.computeIfPresent(roomId, (id, typers) -> {
+                if (typers.values().removeIf(expiresAt -> expiresAt - now < 0)) {
+                    changedRooms.add(roomId);
+                }
+                return typers.isEmpty() ? null : typers;
+            });
+        }
+
+        Iterator<Long> iterator = changedRooms.iterator();
+        while (iterator.hasNext()) {
+            Long roomId = iterator.next();
+            iterator.remove();
+
+            Map<Long, Long> typers = typingByRoom.get(roomId);
+            List<Long> typingUserIds = typers != null ? List.copyOf(typers.keySet()) : List.of();
+            try {
+                messagingTemplate.convertAndSend("/topic/chat." + roomId + ".typing",
+                        new ChatTypingResponse(roomId, typingUserIds));
+            } catch (Exception e) {
+                log.warn("입력 중 상태 전송 실패 - roomId: {}, error: {}", roomId, e.getMessage());
+            }
+        }
+    }
+}
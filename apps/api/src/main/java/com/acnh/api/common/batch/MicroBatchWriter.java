@@ -0,0 +1,263 @@
+package com.acnh.api.common.batch;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 마이크로 배치 저장기 (크기 제한 대기열 + 전용 저장 스레드)
+ * - 첫 항목 도착 후 max-delay 동안 batch-size까지 모아 Handler.flush 1회로 저장
+ * - 저장 실패 시 retry-backoff 간격으로 max-attempts회까지 재시도
+ * - 행 데이터 오류(DataIntegrityViolationException)는 재시도해도 같으므로 바로 배치를 반씩 나눠 저장
+ *   -> 오류 행이 k개면 약 2k * log2(batch-size)회 저장 시도로 오류 행만 골라냄
+ * - 종료 시 대기열을 모두 저장한 뒤 종료 (shutdown-timeout까지만 대기)
+ *   - 접수와 종료는 같은 락으로 구분: 종료 요청 이후에는 대기열 적재가 불가능 (저장 스레드 종료 후 유실 방지)
+ *   - 시간 초과 시 저장 스레드를 인터럽트해 재시도를 중단하고, 저장하지 못한 항목은 Handler.onFailed
+ * - 메트릭: {metricPrefix}.queue.size, .batch.size, .flush, .failed
+ *
+ * 사용처: ChatMessageWriteBehind(채팅 메시지), NotificationBatchWriter(알림)
+ */
+@Slf4j
+public class MicroBatchWriter<T> {
+
+    /**
+     * 배치 저장/결과 처리 콜백 (모두 저장 스레드에서 호출, stop()의 잔여 항목 처리만 종료 스레드)
+     */
+    public interface Handler<T> {
+
+        /**
+         * 배치 저장 (예외 발생 시 재시도 또는 분할 저장)
+         */
+        void flush(List<T> batch);
+
+        /**
+         * 저장 완료된 배치
+         */
+        void onPersisted(List<T> batch);
+
+        /**
+         * 최종 저장 실패한 항목 (재시도 소진, 오류 행, 종료 시간 초과)
+         */
+        void onFailed(List<T> items);
+    }
+
+    private final String name;
+    private final Handler<T> handler;
+    private final BlockingQueue<T> queue;
+    private final int batchSize;
+    private final Duration maxDelay;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final Duration shutdownTimeout;
+
+    private final DistributionSummary batchSizeSummary;
+    private final Timer flushTimer;
+    private final Counter failedCounter;
+
+    // 읽기: 접수(running 확인 + 적재), 쓰기: 종료 요청
+    private final ReadWriteLock lifecycleLock = new ReentrantReadWriteLock();
+
+    private volatile boolean running;
+    private Thread writer;
+
+    /**
+     * - name: 저장 스레드 이름 및 로그 표시용
+     */
+    public MicroBatchWriter(String name, Handler<T> handler, MeterRegistry meterRegistry, String metricPrefix,
+                            int queueCapacity, int batchSize, Duration maxDelay,
+                            int maxAttempts, Duration retryBackoff, Duration shutdownTimeout) {
+        this.name = name;
+        this.handler = handler;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.maxDelay = maxDelay;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+        this.shutdownTimeout = shutdownTimeout;
+
+        meterRegistry.gauge(metricPrefix + ".queue.size", queue, BlockingQueue::size);
+        this.batchSizeSummary = meterRegistry.summary(metricPrefix + ".batch.size");
+        this.flushTimer = meterRegistry.timer(metricPrefix + ".flush");
+        this.failedCounter = meterRegistry.counter(metricPrefix + ".failed");
+    }
+
+    /**
+     * 대기열 적재 (가득 차면 timeout 동안 대기, 종료 요청 이후나 시간 초과 시 false)
+     * - running 확인과 적재를 읽기 락 안에서 수행 (종료 요청과 겹치면 종료 쪽이 적재 완료를 기다림)
+     */
+    public boolean offer(T item, Duration timeout) {
+        lifecycleLock.readLock().lock();
+        try {
+            return running && queue.offer(item, timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            lifecycleLock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        return queue.size();
+    }
+
+    /**
+     * 저장 스레드 루프: 배치를 모아서 저장, 종료 요청 후에도 대기열이 빌 때까지 계속 저장
+     * - 종료 시간 초과로 인터럽트되면 즉시 종료 (남은 항목은 stop()에서 실패 처리)
+     */
+    private void runWriteLoop() {
+        List<T> batch = new ArrayList<>(batchSize);
+        while ((running || !queue.isEmpty()) && !Thread.currentThread().isInterrupted()) {
+            collectBatch(batch);
+            if (!batch.isEmpty()) {
+                flushWithRetry(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 첫 항목 도착 후 max-delay 동안 batch-size까지 수집
+     */
+    private void collectBatch(List<T> batch) {
+        try {
+            T first = queue.poll(maxDelay.toMillis(), TimeUnit.MILLISECONDS);
+            if (first == null) {
+                return;
+            }
+            batch.add(first);
+
+            long deadline = System.nanoTime() + maxDelay.toNanos();
+            while (batch.size() < batchSize) {
+                long remaining = deadline - System.nanoTime();
+                T next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                if (next == null) {
+                    return;
+                }
+                batch.add(next);
+            }
+        } catch (InterruptedException e) {
+            // 종료 시간 초과: 수집한 항목은 flushWithRetry에서 실패 처리
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 배치 저장 (재시도 -> 행 데이터 오류면 반으로 나눠 저장 -> 최종 실패 처리)
+     * - 종료 시간 초과로 인터럽트되면 재시도/분할 없이 실패 처리
+     */
+    private void flushWithRetry(List<T> batch) {
+        RuntimeException lastError = null;
+        for (int attempt = 1; attempt <= maxAttempts && !Thread.currentThread().isInterrupted(); attempt++) {
+            try {
+                flushTimer.record(() -> handler.flush(batch));
+                batchSizeSummary.record(batch.size());
+                handler.onPersisted(batch);
+                return;
+            } catch (RuntimeException e) {
+                lastError = e;
+                log.warn("{} 배치 저장 실패 - size: {}, attempt: {}/{}, error: {}",
+                        name, batch.size(), attempt, maxAttempts, e.getMessage());
+                if (isRowError(e)) {
+                    break;
+                }
+                if (attempt < maxAttempts && !sleep(retryBackoff.multipliedBy(attempt))) {
+                    break;
+                }
+            }
+        }
+
+        if (isRowError(lastError) && batch.size() > 1 && !Thread.currentThread().isInterrupted()) {
+            int middle = batch.size() / 2;
+            flushWithRetry(batch.subList(0, middle));
+            flushWithRetry(batch.subList(middle, batch.size()));
+            return;
+        }
+
+        fail(batch);
+    }
+
+    /**
+     * 특정 행 때문에 발생한 오류 여부 (FK/NOT NULL/CHECK/길이 초과 등)
+     */
+    private static boolean isRowError(RuntimeException e) {
+        return e instanceof DataIntegrityViolationException;
+    }
+
+    /**
+     * 재시도 대기 (인터럽트되면 플래그를 복구하고 false)
+     */
+    private boolean sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void fail(List<T> items) {
+        failedCounter.increment(items.size());
+        log.error("{} 저장 최종 실패 - size: {}", name, items.size());
+        try {
+            handler.onFailed(items);
+        } catch (RuntimeException e) {
+            log.warn("{} 실패 처리 중 오류 - error: {}", name, e.getMessage());
+        }
+    }
+
+    public void start() {
+        running = true;
+        writer = new Thread(this::runWriteLoop, name);
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * 종료: 신규 접수 차단 -> 대기열 저장 완료 대기(shutdown-timeout) -> 초과 시 저장 스레드 중단
+     * - 저장하지 못하고 남은 항목은 Handler.onFailed
+     */
+    public void stop() {
+        lifecycleLock.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            lifecycleLock.writeLock().unlock();
+        }
+
+        try {
+            writer.join(shutdownTimeout.toMillis());
+            if (writer.isAlive()) {
+                log.error("{} 종료 대기 시간 초과 - 미저장 항목: {}", name, queue.size());
+                writer.interrupt();
+                // 진행 중인 저장 1회(JDBC 호출은 인터럽트되지 않음)와 실패 처리까지 대기
+                writer.join(shutdownTimeout.toMillis());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        List<T> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            fail(remaining);
+        }
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+}
@@ -0,0 +1,82 @@
+package com.acnh.api.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.support.ExecutorServiceAdapter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 이미지 업로드 실행기 (업로드 본문인 multipart 입력 스트림을 읽어 S3AsyncClient로 전달)
+ * - image.upload.executor.type
+ *   - platform(기본): 크기/대기열 제한 ThreadPoolTaskExecutor (executor.* 지표, name=image.upload)
+ *   - virtual: 작업마다 가상 스레드, 동시 실행 수는 max-concurrency로 제한 (JDK 21 이상 런타임 필요)
+ * - 모든 요청이 공유하므로 max-concurrency가 인스턴스 전체의 동시 업로드 수 상한
+ */
+@Slf4j
+@Getter
+@Component
+public class ImageUploadExecutor implements DisposableBean {
+
+    private final AsyncTaskExecutor executor;
+
+    // S3 SDK(AsyncRequestBody.fromInputStream)용 ExecutorService 뷰 (종료는 destroy에서 처리)
+    private final ExecutorService executorService;
+
+    public ImageUploadExecutor(MeterRegistry meterRegistry,
+                               @Value("${image.upload.executor.type:platform}") String type,
+                               @Value("${image.upload.executor.max-concurrency:16}") int maxConcurrency,
+                               @Value("${image.upload.executor.queue-capacity:200}") int queueCapacity) {
+        switch (type.toLowerCase()) {
+            case "platform" -> this.executor = threadPool(meterRegistry, maxConcurrency, queueCapacity);
+            case "virtual" -> {
+                if (Runtime.version().feature() < 21) {
+                    throw new IllegalStateException("가상 스레드 실행기는 JDK 21 이상에서만 사용할 수 있습니다");
+                }
+                SimpleAsyncTaskExecutor virtual = new SimpleAsyncTaskExecutor("image-upload-");
+                virtual.setVirtualThreads(true);
+                virtual.setConcurrencyLimit(maxConcurrency);
+                this.executor = virtual;
+            }
+            default -> throw new IllegalArgumentException("지원하지 않는 실행기 타입입니다: " + type);
+        }
+
+        this.executorService = new ExecutorServiceAdapter(executor);
+
+        log.info("이미지 업로드 실행기 설정 - type: {}, maxConcurrency: {}", type, maxConcurrency);
+    }
+
+    private AsyncTaskExecutor threadPool(MeterRegistry meterRegistry, int maxConcurrency, int queueCapacity) {
+        ThreadPoolTaskExecutor threadPool = new ThreadPoolTaskExecutor();
+        threadPool.setThreadNamePrefix("image-upload-");
+        threadPool.setCorePoolSize(maxConcurrency);
+        threadPool.setMaxPoolSize(maxConcurrency);
+        threadPool.setQueueCapacity(queueCapacity);
+        threadPool.setAllowCoreThreadTimeOut(true);
+        // 대기열 초과 시 거절 (호출 측에서 업로드 실패로 처리)
+        threadPool.setRejectedExecutionHandler((task, pool) -> {
+            throw new RejectedExecutionException("이미지 업로드 대기열이 가득 찼습니다");
+        });
+        threadPool.initialize();
+        ExecutorServiceMetrics.monitor(meterRegistry, threadPool.getThreadPoolExecutor(), "image.upload");
+        return threadPool;
+    }
+
+    @Override
+    public void destroy() {
+        if (executor instanceof ThreadPoolTaskExecutor threadPool) {
+            threadPool.shutdown();
+        } else if (executor instanceof SimpleAsyncTaskExecutor simple) {
+            simple.close();
+        }
+    }
+}
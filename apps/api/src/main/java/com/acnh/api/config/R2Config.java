@@ -5,14 +5,26 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.multipart.MultipartConfiguration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import org.springframework.util.unit.DataSize;
 
 import java.net.URI;
+import java.time.Duration;
 
 /**
  * Cloudflare R2 설정
  * R2는 S3 호환 API를 사용하므로 AWS S3 SDK로 연동
+ * - S3Client: 삭제 등 짧은 동기 호출
+ * - S3AsyncClient: 이미지 업로드 (Netty 비동기 HTTP, 커넥션 풀/타임아웃 설정,
+ *   multipart.threshold 초과 객체는 자동 멀티파트 업로드)
+ * - S3Presigner: 클라이언트 직접 업로드용 PUT URL 서명 (네트워크 호출 없음)
  */
 @Configuration
 public class R2Config {
@@ -29,6 +41,30 @@ public class R2Config {
     @Value("${r2.region:auto}")
     private String region;
 
+    @Value("${r2.async.max-connections:64}")
+    private int maxConnections;
+
+    @Value("${r2.async.connection-acquire-timeout:10s}")
+    private Duration connectionAcquireTimeout;
+
+    @Value("${r2.async.connection-timeout:5s}")
+    private Duration connectionTimeout;
+
+    @Value("${r2.async.read-timeout:30s}")
+    private Duration readTimeout;
+
+    @Value("${r2.async.write-timeout:30s}")
+    private Duration writeTimeout;
+
+    @Value("${r2.async.api-call-timeout:60s}")
+    private Duration apiCallTimeout;
+
+    @Value("${r2.multipart.threshold:8MB}")
+    private DataSize multipartThreshold;
+
+    @Value("${r2.multipart.part-size:5MB}")
+    private DataSize multipartPartSize;
+
     @Bean
     public S3Client s3Client() {
         AwsBasicCredentials credentials = AwsBasicCredentials.create(accessKey, secretKey);
@@ -40,4 +76,47 @@ public class R2Config {
                 .forcePathStyle(true)
                 .build();
     }
+
+    @Bean
+    public S3AsyncClient s3AsyncClient() {
+        AwsBasicCredentials credentials = AwsBasicCredentials.create(accessKey, secretKey);
+
+        NettyNioAsyncHttpClient.Builder httpClient = NettyNioAsyncHttpClient.builder()
+                .maxConcurrency(maxConnections)
+                .connectionAcquisitionTimeout(connectionAcquireTimeout)
+                .connectionTimeout(connectionTimeout)
+                .readTimeout(readTimeout)
+                .writeTimeout(writeTimeout);
+
+        return S3AsyncClient.builder()
+                .endpointOverride(URI.create(endpoint))
+                .credentialsProvider(StaticCredentialsProvider.create(credentials))
+                .region(Region.of(region))
+                .forcePathStyle(true)
+                .httpClientBuilder(httpClient)
+                .overrideConfiguration(ClientOverrideConfiguration.builder()
+                        .apiCallTimeout(apiCallTimeout)
+                        .build())
+                // 멀티파트 파트 크기는 S3 최소값(5MB) 이상이어야 함
+                .multipartEnabled(true)
+                .multipartConfiguration(MultipartConfiguration.builder()
+                        .thresholdInBytes(multipartThreshold.toBytes())
+                        .minimumPartSizeInBytes(multipartPartSize.toBytes())
+                        .build())
+                .build();
+    }
+
+    @Bean
+    public S3Presigner s3Presigner() {
+        AwsBasicCredentials credentials = AwsBasicCredentials.create(accessKey, secretKey);
+
+        return S3Presigner.builder()
+                .endpointOverride(URI.create(endpoint))
+                .credentialsProvider(StaticCredentialsProvider.create(credentials))
+                .region(Region.of(region))
+                .serviceConfiguration(S3Configuration.builder()
+                        .pathStyleAccessEnabled(true)
+                        .build())
+                .build();
+    }
 }
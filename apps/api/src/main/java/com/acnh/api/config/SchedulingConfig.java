@@ -0,0 +1,13 @@
+package com.acnh.api.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정
+ * - 인메모리 캐시 주기 갱신 등 @Scheduled 작업 활성화
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
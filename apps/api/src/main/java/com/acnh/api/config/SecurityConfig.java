@@ -1,6 +1,7 @@
 package com.acnh.api.config;
 
 import com.acnh.api.auth.filter.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -56,12 +57,16 @@ public class SecurityConfig {
 
             // 요청별 권한 설정
             .authorizeHttpRequests(auth -> auth
+                // 비동기 응답 재디스패치 (최초 요청에서 이미 인가됨, JWT 필터는 재실행되지 않음)
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                 // 인증 없이 접근 가능한 경로
                 .requestMatchers(
                     "/api/auth/**",       // 인증 관련 API
                     "/api/categories",    // 카테고리 목록 조회
                     "/api/posts",         // 게시글 목록 조회 (피드)
                     "/api/posts/search",  // 게시글 검색
+                    "/api/posts/suggest", // 아이템명 자동완성
                     "/ws/**",             // WebSocket 연결 (STOMP 인증은 별도 처리)
                     "/health",            // 헬스체크
                     "/",                  // 루트
@@ -0,0 +1,173 @@
+package com.acnh.api.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * STOMP 채널(clientInboundChannel, clientOutboundChannel) 실행기
+ * - websocket.executor.type
+ *   - platform(기본): 채널별 ThreadPoolTaskExecutor (크기/대기열 제한 설정 가능)
+ *   - virtual: 작업마다 가상 스레드 (JDK 21 이상 런타임 필요)
+ * - 채널별 지표 (tag channel=inbound|outbound)
+ *   - websocket.channel.tasks.pending: 제출 후 완료되지 않은 작업 수 (대기열 깊이 + 실행 중)
+ *   - websocket.channel.task.wait: 제출부터 실행 시작까지 대기 시간
+ *   - websocket.channel.task.execution: 실행 시간
+ *   - websocket.channel.tasks.rejected: 대기열 초과로 거절된 작업 수 (platform 모드)
+ * - SimpleBroker heartbeat 전송/수신 확인용 스케줄러 (접속 상태 추적에 사용)
+ *   - platform 모드는 executor.* 지표(executor.queued, executor.active 등, name=websocket.{channel})도 노출
+ */
+@Slf4j
+@Getter
+@Component
+public class WebSocketChannelExecutors implements DisposableBean {
+
+    private final Executor inbound;
+    private final Executor outbound;
+    private final ThreadPoolTaskScheduler heartbeatScheduler;
+
+    public WebSocketChannelExecutors(
+            MeterRegistry meterRegistry,
+            @Value("${websocket.executor.type:platform}") String type,
+            @Value("${websocket.executor.inbound.core-pool-size:16}") int inboundCorePoolSize,
+            @Value("${websocket.executor.inbound.max-pool-size:64}") int inboundMaxPoolSize,
+            @Value("${websocket.executor.inbound.queue-capacity:10000}") int inboundQueueCapacity,
+            @Value("${websocket.executor.outbound.core-pool-size:16}") int outboundCorePoolSize,
+            @Value("${websocket.executor.outbound.max-pool-size:64}") int outboundMaxPoolSize,
+            @Value("${websocket.executor.outbound.queue-capacity:10000}") int outboundQueueCapacity) {
+        switch (type.toLowerCase()) {
+            case "platform" -> {
+                this.inbound = threadPool(meterRegistry, "inbound",
+                        inboundCorePoolSize, inboundMaxPoolSize, inboundQueueCapacity);
+                this.outbound = threadPool(meterRegistry, "outbound",
+                        outboundCorePoolSize, outboundMaxPoolSize, outboundQueueCapacity);
+            }
+            case "virtual" -> {
+                if (Runtime.version().feature() < 21) {
+                    throw new IllegalStateException("가상 스레드 실행기는 JDK 21 이상에서만 사용할 수 있습니다");
+                }
+                this.inbound = virtualThreads(meterRegistry, "inbound");
+                this.outbound = virtualThreads(meterRegistry, "outbound");
+            }
+            default -> throw new IllegalArgumentException("지원하지 않는 실행기 타입입니다: " + type);
+        }
+
+        this.heartbeatScheduler = new ThreadPoolTaskScheduler();
+        heartbeatScheduler.setThreadNamePrefix("ws-heartbeat-");
+        heartbeatScheduler.setPoolSize(1);
+        heartbeatScheduler.initialize();
+
+        log.info("WebSocket 채널 실행기 설정 - type: {}", type);
+    }
+
+    private Executor threadPool(MeterRegistry meterRegistry, String channel,
+                                int corePoolSize, int maxPoolSize, int queueCapacity) {
+        Counter rejected = meterRegistry.counter("websocket.channel.tasks.rejected", "channel", channel);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("ws-" + channel + "-");
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setTaskDecorator(instrument(meterRegistry, channel));
+        // 대기열 초과 시 거절 (호출 측에서 예외 처리, 미완료 작업 수에서 제외)
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            rejected.increment();
+            if (task instanceof InstrumentedTask instrumented) {
+                instrumented.discard();
+            }
+            throw new RejectedExecutionException("WebSocket " + channel + " 채널 대기열이 가득 찼습니다");
+        });
+        executor.initialize();
+        ExecutorServiceMetrics.monitor(meterRegistry, executor.getThreadPoolExecutor(), "websocket." + channel);
+        return executor;
+    }
+
+    private Executor virtualThreads(MeterRegistry meterRegistry, String channel) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("ws-" + channel + "-");
+        executor.setVirtualThreads(true);
+        executor.setTaskDecorator(instrument(meterRegistry, channel));
+        return executor;
+    }
+
+    /**
+     * 대기/실행 시간, 미완료 작업 수 측정
+     */
+    private TaskDecorator instrument(MeterRegistry meterRegistry, String channel) {
+        Tags tags = Tags.of("channel", channel);
+        Timer waitTimer = meterRegistry.timer("websocket.channel.task.wait", tags);
+        Timer executionTimer = meterRegistry.timer("websocket.channel.task.execution", tags);
+        AtomicInteger pending = meterRegistry.gauge("websocket.channel.tasks.pending", tags, new AtomicInteger());
+
+        return task -> new InstrumentedTask(task, pending, waitTimer, executionTimer);
+    }
+
+    /**
+     * 측정 래퍼 (생성 = 제출 시점)
+     */
+    private static class InstrumentedTask implements Runnable {
+
+        private final Runnable task;
+        private final AtomicInteger pending;
+        private final Timer waitTimer;
+        private final Timer executionTimer;
+        private final long submittedAt;
+
+        InstrumentedTask(Runnable task, AtomicInteger pending, Timer waitTimer, Timer executionTimer) {
+            this.task = task;
+            this.pending = pending;
+            this.waitTimer = waitTimer;
+            this.executionTimer = executionTimer;
+            this.submittedAt = System.nanoTime();
+            pending.incrementAndGet();
+        }
+
+        @Override
+        public void run() {
+            long startedAt = System.nanoTime();
+            waitTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+            try {
+                task.run();
+            } finally {
+                executionTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                pending.decrementAndGet();
+            }
+        }
+
+        void discard() {
+            pending.decrementAndGet();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        shutdown(inbound);
+        shutdown(outbound);
+        heartbeatScheduler.shutdown();
+    }
+
+    private void shutdown(Executor executor) {
+        if (executor instanceof ThreadPoolTaskExecutor threadPool) {
+            threadPool.shutdown();
+        } else if (executor instanceof SimpleAsyncTaskExecutor simple) {
+            simple.close();
+        }
+    }
+}
@@ -6,6 +6,8 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.config.StompBrokerRelayRegistration;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
@@ -14,6 +16,13 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
  * WebSocket + STOMP 설정
  * - /ws 엔드포인트로 WebSocket 연결
  * - /topic/* 구독, /app/* 메시지 전송
+ * - 브로커 모드 (chat.broker.mode)
+ *   - simple(기본): 인메모리 SimpleBroker, 같은 JVM에 연결된 세션에만 전달 (단일 인스턴스)
+ *   - relay: 외부 STOMP 브로커(RabbitMQ, ActiveMQ 등)로 중계, 여러 인스턴스에 연결된 세션 모두에 전달
+ * - 인바운드/아웃바운드 채널 실행기는 WebSocketChannelExecutors에서 구성 (크기 제한, 지표)
+ * - 느린 클라이언트 격리
+ *   - 세션별 전송 순서 보장(preserve publish order): 한 세션의 전송은 한 번에 한 스레드만 점유
+ *   - 전송 시간/버퍼 한도 초과 시 해당 세션만 종료 (인기 채팅방 브로드캐스트 지연 방지)
  */
 @Configuration
 @EnableWebSocketMessageBroker
@@ -21,6 +30,7 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final StompHandler stompHandler;
+    private final WebSocketChannelExecutors channelExecutors;
 
     /*
      * [PR Review 수정]
@@ -31,6 +41,48 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     @Value("${app.cors.allowed-origins}")
     private String allowedOriginsString;
 
+    @Value("${chat.broker.mode:simple}")
+    private String brokerMode;
+
+    @Value("${chat.broker.relay.host:localhost}")
+    private String relayHost;
+
+    @Value("${chat.broker.relay.port:61613}")
+    private int relayPort;
+
+    @Value("${chat.broker.relay.virtual-host:}")
+    private String relayVirtualHost;
+
+    @Value("${chat.broker.relay.client-login:guest}")
+    private String relayClientLogin;
+
+    @Value("${chat.broker.relay.client-passcode:guest}")
+    private String relayClientPasscode;
+
+    @Value("${chat.broker.relay.system-login:guest}")
+    private String relaySystemLogin;
+
+    @Value("${chat.broker.relay.system-passcode:guest}")
+    private String relaySystemPasscode;
+
+    @Value("${chat.broker.relay.system-heartbeat-ms:10000}")
+    private long relaySystemHeartbeatMs;
+
+    @Value("${websocket.heartbeat-ms:10000}")
+    private long heartbeatMs;
+
+    @Value("${websocket.transport.message-size-limit:65536}")
+    private int messageSizeLimit;
+
+    @Value("${websocket.transport.send-time-limit-ms:5000}")
+    private int sendTimeLimitMs;
+
+    @Value("${websocket.transport.send-buffer-size-limit:262144}")
+    private int sendBufferSizeLimit;
+
+    @Value("${websocket.transport.time-to-first-message-ms:30000}")
+    private int timeToFirstMessageMs;
+
     /**
      * 환경 변수에서 읽은 Origin 문자열을 배열로 변환
      */
@@ -41,13 +93,46 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
         // 클라이언트가 구독할 prefix (서버 -> 클라이언트)
-        registry.enableSimpleBroker("/topic", "/queue");
+        switch (brokerMode.toLowerCase()) {
+            case "simple" -> registry.enableSimpleBroker("/topic", "/queue")
+                    // heartbeat 협상 (클라이언트 heartbeat로 접속 상태 갱신, 끊긴 세션 감지)
+                    .setHeartbeatValue(new long[]{heartbeatMs, heartbeatMs})
+                    .setTaskScheduler(channelExecutors.getHeartbeatScheduler());
+            case "relay" -> enableBrokerRelay(registry);
+            default -> throw new IllegalArgumentException("지원하지 않는 브로커 모드입니다: " + brokerMode);
+        }
 
         // 클라이언트가 메시지 보낼 때 prefix (클라이언트 -> 서버)
         registry.setApplicationDestinationPrefixes("/app");
 
         // 특정 사용자에게 메시지 보낼 때 prefix
         registry.setUserDestinationPrefix("/user");
+
+        // 세션별 전송 순서 보장 (느린 세션이 아웃바운드 스레드를 여러 개 점유하지 않도록 함)
+        registry.setPreservePublishOrder(true);
+    }
+
+    /**
+     * 외부 STOMP 브로커 중계 설정
+     * - 클라이언트 세션마다 브로커 연결 1개 + 서버 발신용 시스템 연결 1개
+     * - /user 목적지는 세션이 연결된 인스턴스를 알 수 없으므로 사용자 레지스트리/미해결 목적지를 브로커로 공유
+     */
+    private void enableBrokerRelay(MessageBrokerRegistry registry) {
+        StompBrokerRelayRegistration relay = registry.enableStompBrokerRelay("/topic", "/queue")
+                .setRelayHost(relayHost)
+                .setRelayPort(relayPort)
+                .setClientLogin(relayClientLogin)
+                .setClientPasscode(relayClientPasscode)
+                .setSystemLogin(relaySystemLogin)
+                .setSystemPasscode(relaySystemPasscode)
+                .setSystemHeartbeatSendInterval(relaySystemHeartbeatMs)
+                .setSystemHeartbeatReceiveInterval(relaySystemHeartbeatMs)
+                .setUserDestinationBroadcast("/topic/unresolved-user-destination")
+                .setUserRegistryBroadcast("/topic/simp-user-registry");
+
+        if (!relayVirtualHost.isBlank()) {
+            relay.setVirtualHost(relayVirtualHost);
+        }
     }
 
     @Override
@@ -56,11 +141,29 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         registry.addEndpoint("/ws")
                 .setAllowedOriginPatterns(getAllowedOrigins())
                 .withSockJS();  // SockJS fallback (Vercel 등 WebSocket 미지원 환경 대응)
+
+        // 세션별 수신 순서 보장 (같은 클라이언트가 보낸 메시지의 처리 순서 유지)
+        registry.setPreserveReceiveOrder(true);
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        // 전송 시간/버퍼 한도를 넘긴 느린 세션은 종료 (다른 세션의 전송에 영향 없음)
+        registration.setMessageSizeLimit(messageSizeLimit)
+                .setSendTimeLimit(sendTimeLimitMs)
+                .setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setTimeToFirstMessage(timeToFirstMessageMs);
     }
 
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
         // STOMP 메시지 인터셉터 (JWT 인증)
         registration.interceptors(stompHandler);
+        registration.executor(channelExecutors.getInbound());
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.executor(channelExecutors.getOutbound());
     }
 }
@@ -1,7 +1,11 @@
 package com.acnh.api.image.controller;
 
+import com.acnh.api.image.dto.ImageFinalizeRequest;
+import com.acnh.api.image.dto.ImagePresignRequest;
+import com.acnh.api.image.dto.ImagePresignResponse;
 import com.acnh.api.image.dto.ImageUploadResponse;
 import com.acnh.api.image.service.ImageService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -9,10 +13,13 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 이미지 업로드 API
  * 게시글, 채팅, 프로필 이미지 업로드 엔드포인트 제공
+ * - 업로드는 CompletableFuture 반환 (Spring MVC 비동기 처리, R2 업로드 동안 서블릿 스레드 반환)
+ * - 직접 업로드: 서명된 PUT URL 발급 -> 클라이언트가 R2로 업로드 -> 완료 요청으로 형식 검증
  */
 @RestController
 @RequestMapping("/api/images")
@@ -26,11 +33,11 @@ public class ImageController {
      * POST /api/images/posts
      */
     @PostMapping("/posts")
-    public ResponseEntity<ImageUploadResponse> uploadPostImages(
+    public CompletableFuture<ResponseEntity<ImageUploadResponse>> uploadPostImages(
             @AuthenticationPrincipal String visitorId,
             @RequestParam("files") List<MultipartFile> files) {
-        List<String> urls = imageService.uploadPostImages(files, visitorId);
-        return ResponseEntity.ok(ImageUploadResponse.of(urls));
+        return imageService.uploadPostImages(files, visitorId)
+                .thenApply(images -> ResponseEntity.ok(ImageUploadResponse.of(images)));
     }
 
     /**
@@ -38,11 +45,11 @@ public class ImageController {
      * POST /api/images/chat
      */
     @PostMapping("/chat")
-    public ResponseEntity<ImageUploadResponse> uploadChatImages(
+    public CompletableFuture<ResponseEntity<ImageUploadResponse>> uploadChatImages(
             @AuthenticationPrincipal String visitorId,
             @RequestParam("files") List<MultipartFile> files) {
-        List<String> urls = imageService.uploadChatImages(files, visitorId);
-        return ResponseEntity.ok(ImageUploadResponse.of(urls));
+        return imageService.uploadChatImages(files, visitorId)
+                .thenApply(images -> ResponseEntity.ok(ImageUploadResponse.of(images)));
     }
 
     /**
@@ -50,11 +57,34 @@ public class ImageController {
      * POST /api/images/profile
      */
     @PostMapping("/profile")
-    public ResponseEntity<ImageUploadResponse> uploadProfileImage(
+    public CompletableFuture<ResponseEntity<ImageUploadResponse>> uploadProfileImage(
             @AuthenticationPrincipal String visitorId,
             @RequestParam("file") MultipartFile file) {
-        String url = imageService.uploadProfileImage(file, visitorId);
-        return ResponseEntity.ok(ImageUploadResponse.of(List.of(url)));
+        return imageService.uploadProfileImage(file, visitorId)
+                .thenApply(image -> ResponseEntity.ok(ImageUploadResponse.of(List.of(image))));
+    }
+
+    /**
+     * 직접 업로드 URL 발급
+     * POST /api/images/presigned
+     */
+    @PostMapping("/presigned")
+    public ResponseEntity<ImagePresignResponse> createPresignedUploads(
+            @AuthenticationPrincipal String visitorId,
+            @Valid @RequestBody ImagePresignRequest request) {
+        return ResponseEntity.ok(imageService.createPresignedUploads(request, visitorId));
+    }
+
+    /**
+     * 직접 업로드 완료 (형식 검증 후 이미지 URL 확정)
+     * POST /api/images/presigned/complete
+     */
+    @PostMapping("/presigned/complete")
+    public CompletableFuture<ResponseEntity<ImageUploadResponse>> finalizeUploads(
+            @AuthenticationPrincipal String visitorId,
+            @Valid @RequestBody ImageFinalizeRequest request) {
+        return imageService.finalizeUploads(request.getUrls(), visitorId)
+                .thenApply(images -> ResponseEntity.ok(ImageUploadResponse.of(images)));
     }
 
     /**
@@ -0,0 +1,19 @@
+package com.acnh.api.image.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 직접 업로드 완료 요청 DTO
+ * - urls: 업로드 URL 발급 응답의 imageUrl 목록
+ */
+@Getter
+@NoArgsConstructor
+public class ImageFinalizeRequest {
+
+    @NotEmpty(message = "완료할 이미지 URL은 필수입니다")
+    private List<String> urls;
+}
@@ -0,0 +1,40 @@
+package com.acnh.api.image.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 업로드 URL 발급 요청 DTO
+ * - type: posts, chat, profiles
+ * - files: 업로드할 파일별 Content-Type, 크기 (서명에 포함되므로 실제 업로드 시 동일해야 함)
+ */
+@Getter
+@NoArgsConstructor
+public class ImagePresignRequest {
+
+    @NotBlank(message = "업로드 유형은 필수입니다")
+    private String type;
+
+    @Valid
+    @NotEmpty(message = "업로드할 파일 정보는 필수입니다")
+    private List<FileInfo> files;
+
+    @Getter
+    @NoArgsConstructor
+    public static class FileInfo {
+
+        @NotBlank(message = "Content-Type은 필수입니다")
+        private String contentType;
+
+        @NotNull(message = "파일 크기는 필수입니다")
+        @Positive(message = "파일 크기는 0보다 커야 합니다")
+        private Long contentLength;
+    }
+}
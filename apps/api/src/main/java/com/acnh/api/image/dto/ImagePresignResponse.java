@@ -0,0 +1,34 @@
+package com.acnh.api.image.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 업로드 URL 발급 응답 DTO
+ * - 클라이언트는 uploadUrl로 headers를 포함해 PUT 업로드 후 imageUrl로 완료 요청
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImagePresignResponse {
+
+    private List<PresignedUpload> uploads;
+    private LocalDateTime expiresAt;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PresignedUpload {
+        private String uploadUrl;
+        private String imageUrl;
+        private Map<String, String> headers;
+    }
+}
@@ -9,6 +9,8 @@ import java.util.List;
 
 /**
  * 이미지 업로드 응답 DTO
+ * - urls: 표시용 URL (기존 클라이언트 호환)
+ * - images: 표시용/썸네일 URL과 크기
  */
 @Getter
 @Builder
@@ -17,12 +19,14 @@ import java.util.List;
 public class ImageUploadResponse {
 
     private List<String> urls;
+    private List<UploadedImageResponse> images;
     private int uploadedCount;
 
-    public static ImageUploadResponse of(List<String> urls) {
+    public static ImageUploadResponse of(List<UploadedImageResponse> images) {
         return ImageUploadResponse.builder()
-                .urls(urls)
-                .uploadedCount(urls.size())
+                .urls(images.stream().map(UploadedImageResponse::getUrl).toList())
+                .images(images)
+                .uploadedCount(images.size())
                 .build();
     }
 }
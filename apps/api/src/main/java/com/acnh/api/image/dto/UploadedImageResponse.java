@@ -0,0 +1,31 @@
+package com.acnh.api.image.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 업로드된 이미지 변형 URL
+ * - url: 표시용 (메타데이터 제거, 긴 변 제한)
+ * - thumbnailUrl: 피드 카드/채팅 말풍선용 썸네일
+ * - GIF/WebP 등 변환하지 않는 형식은 url, thumbnailUrl 모두 원본이며 width/height는 null
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadedImageResponse {
+
+    private String url;
+    private String thumbnailUrl;
+    private Integer width;
+    private Integer height;
+
+    public static UploadedImageResponse original(String url) {
+        return UploadedImageResponse.builder()
+                .url(url)
+                .thumbnailUrl(url)
+                .build();
+    }
+}
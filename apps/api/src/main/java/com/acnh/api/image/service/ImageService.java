@@ -1,53 +1,124 @@
 package com.acnh.api.image.service;
 
-import com.acnh.api.member.entity.Member;
-import com.acnh.api.member.repository.MemberRepository;
+import com.acnh.api.config.ImageUploadExecutor;
+import com.acnh.api.image.dto.ImagePresignRequest;
+import com.acnh.api.image.dto.ImagePresignResponse;
+import com.acnh.api.image.dto.ImagePresignResponse.PresignedUpload;
+import com.acnh.api.image.dto.UploadedImageResponse;
+import com.acnh.api.image.service.ImageTransformer.ImageVariant;
+import com.acnh.api.image.service.ImageTransformer.TransformedImage;
+import com.acnh.api.image.util.JpegMetadataStripper;
+import com.acnh.api.member.service.MemberIdentityResolver;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.InputStreamSource;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
-import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.MetadataDirective;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
  * 이미지 업로드/삭제 서비스
  * Cloudflare R2에 이미지를 저장하고 관리
+ *
+ * [성능 개선]
+ * Before: 파일마다 getBytes()로 전체를 힙에 적재 후 순차 putObject (요청 시간 = 파일별 업로드 시간의 합)
+ * After: 앞부분 헤더(HEADER_SIZE)만 읽어 형식 검증, 본문은 multipart 입력 스트림에서 바로 전송,
+ *        요청 내 파일들은 ImageUploadExecutor에서 병렬 업로드 (요청 시간 = 가장 느린 파일 업로드 시간)
+ *
+ * [성능 개선]
+ * Before: 동기 S3Client 업로드 동안 서블릿(Tomcat) 스레드가 R2 왕복 전체를 대기
+ * After: S3AsyncClient(Netty)로 업로드하고 CompletableFuture 반환 (컨트롤러 비동기 응답),
+ *        큰 객체는 클라이언트가 자동 멀티파트 업로드
+ *        (입력 스트림 읽기만 ImageUploadExecutor 스레드에서 수행)
+ *
+ * [성능 개선]
+ * Before: 원본(최대 10MB)을 그대로 저장하고 피드/채팅에서도 원본 URL 사용
+ * After: JPEG/PNG는 ImageTransformer로 메타데이터 제거 + 표시용/썸네일 변형 생성 후 저장,
+ *        응답에 변형 URL 반환 (GIF/WebP, 디코딩 불가 이미지는 원본 스트리밍 업로드,
+ *        디코딩 불가 JPEG는 Exif/XMP/IPTC 세그먼트만 제거한 원본 업로드)
+ *
+ * [성능 개선]
+ * Before: 모든 이미지 바이트가 API 서버를 거쳐 R2로 전송 (힙, 네트워크, 스레드 사용)
+ * After: 직접 업로드 흐름 제공 - 서명된 PUT URL 발급 -> 클라이언트가 R2 임시 경로(uploads/)로 직접 업로드
+ *        -> 완료 요청 시 앞부분 HEADER_SIZE 바이트만 Range GET으로 읽어 형식 검증 후 확정 경로로 이동
+ *        (JPEG/PNG는 서버 업로드와 동일하게 변형 생성/메타데이터 제거, GIF/WebP는 서버 측 복사)
+ *        확정 경로({folder}/...)에는 서버만 쓰므로 채팅 메시지 등은 확정된 URL만 첨부 허용 (isFinalizedImage)
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class ImageService {
 
-    private final S3Client s3Client;
-    private final MemberRepository memberRepository;
+    // 매직 바이트 검사에 필요한 앞부분 크기 (WebP: 12바이트)
+    private static final int HEADER_SIZE = 12;
 
-    @Value("${r2.bucket-name}")
-    private String bucketName;
+    private static final String JPEG = "image/jpeg";
 
-    @Value("${r2.public-url}")
-    private String publicUrl;
+    // 썸네일 키 접미사: {folder}/{userId}/{timestamp}_{uuid}_thumb.{ext}
+    static final String THUMBNAIL_SUFFIX = "_thumb";
 
-    @Value("${image.max-count.post}")
-    private int maxPostImages;
+    // 직접 업로드 임시 경로: uploads/{folder}/{userId}/{timestamp}_{uuid}.{ext} (완료 처리 전, 첨부 불가)
+    static final String STAGING_PREFIX = "uploads/";
 
-    @Value("${image.max-count.chat}")
-    private int maxChatImages;
+    private final S3Client s3Client;
+    private final S3AsyncClient s3AsyncClient;
+    private final MemberIdentityResolver memberIdentityResolver;
+    private final ExecutorService uploadExecutor;
+    private final ImageTransformer imageTransformer;
+    private final S3Presigner s3Presigner;
+
+    private final String bucketName;
+    private final String publicUrl;
+    private final int maxPostImages;
+    private final int maxChatImages;
+    private final Duration presignExpiration;
+    private final long presignMaxFileSize;
 
     // 이미지 경로에서 사용자 ID 추출용 패턴: {folder}/{userId}/{timestamp}_{uuid}.{ext}
     private static final Pattern IMAGE_PATH_PATTERN = Pattern.compile("^(posts|chat|profiles)/(\\d+)/.*$");
 
+    // 직접 업로드 임시 경로 패턴: uploads/{folder}/{userId}/{파일명}
+    private static final Pattern STAGED_PATH_PATTERN =
+            Pattern.compile("^" + STAGING_PREFIX + "(posts|chat|profiles)/(\\d+)/[^/]+$");
+
     // 파일 매직 바이트로 실제 MIME 타입 감지 (클라이언트 제공값 신뢰하지 않음)
     private static final Map<String, byte[]> MAGIC_BYTES = Map.of(
             "image/jpeg", new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF},
@@ -69,11 +140,38 @@ public class ImageService {
             "image/jpeg", "image/png", "image/gif", "image/webp"
     );
 
+    public ImageService(S3Client s3Client,
+                        S3AsyncClient s3AsyncClient,
+                        MemberIdentityResolver memberIdentityResolver,
+                        ImageUploadExecutor imageUploadExecutor,
+                        ImageTransformer imageTransformer,
+                        S3Presigner s3Presigner,
+                        @Value("${r2.bucket-name}") String bucketName,
+                        @Value("${r2.public-url}") String publicUrl,
+                        @Value("${image.max-count.post}") int maxPostImages,
+                        @Value("${image.max-count.chat}") int maxChatImages,
+                        @Value("${image.presign.expiration:5m}") Duration presignExpiration,
+                        @Value("${image.presign.max-file-size:10MB}") DataSize presignMaxFileSize) {
+        this.s3Client = s3Client;
+        this.s3AsyncClient = s3AsyncClient;
+        this.memberIdentityResolver = memberIdentityResolver;
+        this.uploadExecutor = imageUploadExecutor.getExecutorService();
+        this.imageTransformer = imageTransformer;
+        this.s3Presigner = s3Presigner;
+        this.bucketName = bucketName;
+        this.publicUrl = publicUrl;
+        this.maxPostImages = maxPostImages;
+        this.maxChatImages = maxChatImages;
+        this.presignExpiration = presignExpiration;
+        this.presignMaxFileSize = presignMaxFileSize.toBytes();
+    }
+
     /**
      * 게시글용 이미지 업로드 (최대 10개)
+     * 개수/형식 검증 실패는 즉시 예외, 업로드 결과는 CompletableFuture로 반환
      */
-    public List<String> uploadPostImages(List<MultipartFile> files, String visitorId) {
-        Long userId = findMemberByUuid(visitorId).getId();
+    public CompletableFuture<List<UploadedImageResponse>> uploadPostImages(List<MultipartFile> files, String visitorId) {
+        Long userId = memberIdentityResolver.resolveId(visitorId);
         validateFileCount(files, maxPostImages, "게시글");
         return uploadImages(files, "posts", userId);
     }
@@ -81,8 +179,8 @@ public class ImageService {
     /**
      * 채팅용 이미지 업로드 (최대 10개)
      */
-    public List<String> uploadChatImages(List<MultipartFile> files, String visitorId) {
-        Long userId = findMemberByUuid(visitorId).getId();
+    public CompletableFuture<List<UploadedImageResponse>> uploadChatImages(List<MultipartFile> files, String visitorId) {
+        Long userId = memberIdentityResolver.resolveId(visitorId);
         validateFileCount(files, maxChatImages, "채팅");
         return uploadImages(files, "chat", userId);
     }
@@ -90,10 +188,134 @@ public class ImageService {
     /**
      * 프로필 이미지 업로드 (단일)
      */
-    public String uploadProfileImage(MultipartFile file, String visitorId) {
-        Long userId = findMemberByUuid(visitorId).getId();
+    public CompletableFuture<UploadedImageResponse> uploadProfileImage(MultipartFile file, String visitorId) {
+        Long userId = memberIdentityResolver.resolveId(visitorId);
         validateFile(file);
-        return uploadImage(file, "profiles", userId);
+        return uploadImages(List.of(file), "profiles", userId)
+                .thenApply(images -> images.get(0));
+    }
+
+    /**
+     * 직접 업로드용 PUT URL 발급 (서명만 수행, R2 호출 없음)
+     * - 임시 경로로 발급: uploads/{folder}/{userId}/{timestamp}_{uuid}.{ext}
+     *   (완료 처리 전에는 첨부할 수 없고, 완료되지 않은 객체는 OrphanImageCollector가 정리)
+     * - Content-Type, Content-Length가 서명에 포함되어 다른 형식/크기로 업로드 불가
+     */
+    public ImagePresignResponse createPresignedUploads(ImagePresignRequest request, String visitorId) {
+        Long userId = memberIdentityResolver.resolveId(visitorId);
+
+        String folder = request.getType();
+        List<ImagePresignRequest.FileInfo> files = request.getFiles();
+        switch (folder) {
+            case "posts" -> validateFileCount(files, maxPostImages, "게시글");
+            case "chat" -> validateFileCount(files, maxChatImages, "채팅");
+            case "profiles" -> validateFileCount(files, 1, "프로필");
+            default -> throw new IllegalArgumentException("지원하지 않는 업로드 유형입니다.");
+        }
+
+        List<PresignedUpload> uploads = new ArrayList<>();
+        for (ImagePresignRequest.FileInfo file : files) {
+            if (!ALLOWED_MIME_TYPES.contains(file.getContentType())) {
+                throw new IllegalArgumentException(
+                        "지원하지 않는 파일 형식입니다. (허용: JPEG, PNG, GIF, WebP)");
+            }
+            if (file.getContentLength() > presignMaxFileSize) {
+                throw new IllegalArgumentException(
+                        String.format("파일 크기가 너무 큽니다. (최대 %dMB)", presignMaxFileSize / (1024 * 1024)));
+            }
+
+            String key = STAGING_PREFIX + newBaseKey(folder, userId) + MIME_TO_EXTENSION.get(file.getContentType());
+            PresignedPutObjectRequest presigned = s3Presigner.presignPutObject(presign -> presign
+                    .signatureDuration(presignExpiration)
+                    .putObjectRequest(put -> put
+                            .bucket(bucketName)
+                            .key(key)
+                            .contentType(file.getContentType())
+                            .contentLength(file.getContentLength())));
+
+            Map<String, String> headers = new LinkedHashMap<>();
+            presigned.signedHeaders().forEach((name, values) -> {
+                // Host는 클라이언트가 URL에서 설정
+                if (!"host".equalsIgnoreCase(name)) {
+                    headers.put(name, String.join(",", values));
+                }
+            });
+
+            uploads.add(PresignedUpload.builder()
+                    .uploadUrl(presigned.url().toString())
+                    .imageUrl(publicUrl + "/" + key)
+                    .headers(headers)
+                    .build());
+        }
+
+        log.info("직접 업로드 URL 발급: userId={}, type={}, count={}", userId, folder, uploads.size());
+        return ImagePresignResponse.builder()
+                .uploads(uploads)
+                .expiresAt(LocalDateTime.now().plus(presignExpiration))
+                .build();
+    }
+
+    /**
+     * 직접 업로드 완료 처리
+     * - URL/소유권 검증 후 임시 객체 앞부분 HEADER_SIZE 바이트만 Range GET으로 읽어 실제 형식 확인
+     * - JPEG/PNG: 전체를 내려받아 서버 업로드와 같은 변환(메타데이터 제거, 표시용/썸네일) 후 확정 경로에 저장
+     * - GIF/WebP: 확정 경로로 서버 측 복사 (서버 업로드와 동일하게 원본 유지)
+     * - 모두 성공하면 임시 객체 삭제, 실패하면 확정 경로에 저장된 객체와 형식이 잘못된 임시 객체 삭제
+     *   (일시 오류로 실패한 임시 객체는 남겨 두어 다시 완료 요청 가능)
+     */
+    public CompletableFuture<List<UploadedImageResponse>> finalizeUploads(List<String> imageUrls, String visitorId) {
+        Long userId = memberIdentityResolver.resolveId(visitorId);
+        if (imageUrls.size() > Math.max(maxPostImages, maxChatImages)) {
+            throw new IllegalArgumentException(
+                    String.format("이미지는 최대 %d개까지 완료할 수 있습니다.", Math.max(maxPostImages, maxChatImages)));
+        }
+
+        List<String> stagedKeys = new ArrayList<>();
+        for (String imageUrl : imageUrls) {
+            String key = extractKey(imageUrl, userId);
+            validateStagedOwnership(key, userId);
+            stagedKeys.add(key);
+        }
+
+        Queue<String> uploadedKeys = new ConcurrentLinkedQueue<>();
+        Queue<String> rejectedKeys = new ConcurrentLinkedQueue<>();
+        List<CompletableFuture<UploadedImageResponse>> futures = stagedKeys.stream()
+                .map(key -> finalizeStaged(key, uploadedKeys).whenComplete((image, error) -> {
+                    if (error != null && unwrap(error) instanceof IllegalArgumentException) {
+                        rejectedKeys.add(key);
+                    }
+                }))
+                .toList();
+
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .handle((ignored, error) -> error)
+                .<List<UploadedImageResponse>>thenCompose(error -> {
+                    if (error == null) {
+                        List<UploadedImageResponse> images = futures.stream().map(CompletableFuture::join).toList();
+                        return deleteUploaded(stagedKeys).thenApply(deleted -> images);
+                    }
+                    List<String> cleanup = new ArrayList<>(uploadedKeys);
+                    cleanup.addAll(rejectedKeys);
+                    return deleteUploaded(cleanup)
+                            .thenCompose(deleted -> CompletableFuture.<List<UploadedImageResponse>>failedFuture(
+                                    toUploadException(error)));
+                });
+    }
+
+    /**
+     * 첨부 가능한 이미지 URL 여부
+     * - 서버 업로드 또는 직접 업로드 완료 처리로 확정된 본인 이미지만 허용
+     *   (확정 경로는 서버만 쓰므로 형식 검증/메타데이터 제거를 거친 객체임이 보장됨)
+     * - 임시 경로(uploads/), 다른 사용자/용도의 이미지, 외부 URL은 거절
+     */
+    public boolean isFinalizedImage(String imageUrl, String folder, Long ownerId) {
+        if (imageUrl == null || ownerId == null) {
+            return false;
+        }
+        String prefix = publicUrl + "/" + folder + "/" + ownerId + "/";
+        return imageUrl.startsWith(prefix)
+                && imageUrl.length() > prefix.length()
+                && imageUrl.indexOf('/', prefix.length()) < 0;
     }
 
     /**
@@ -102,28 +324,25 @@ public class ImageService {
      * @param visitorId 요청한 사용자 UUID
      */
     public void deleteImage(String imageUrl, String visitorId) {
-        Long userId = findMemberByUuid(visitorId).getId();
+        Long userId = memberIdentityResolver.resolveId(visitorId);
 
-        // URL 유효성 검증: 반드시 우리 R2 publicUrl로 시작해야 함
-        String urlPrefix = publicUrl + "/";
-        if (imageUrl == null || !imageUrl.startsWith(urlPrefix)) {
-            log.warn("잘못된 이미지 URL 요청: userId={}, imageUrl={}", userId, imageUrl);
-            throw new IllegalArgumentException("유효하지 않은 이미지 URL입니다.");
-        }
-
-        // URL에서 키 추출 (publicUrl 이후 부분)
-        String key = imageUrl.substring(urlPrefix.length());
+        String key = extractKey(imageUrl, userId);
 
         // 소유권 검증
         validateImageOwnership(key, userId);
 
         try {
-            DeleteObjectRequest deleteRequest = DeleteObjectRequest.builder()
+            // 표시용과 썸네일 함께 삭제 (원본 형식으로 저장된 이미지는 썸네일 키가 없어도 무시됨)
+            DeleteObjectsRequest deleteRequest = DeleteObjectsRequest.builder()
                     .bucket(bucketName)
-                    .key(key)
+                    .delete(Delete.builder()
+                            .objects(ObjectIdentifier.builder().key(key).build(),
+                                    ObjectIdentifier.builder().key(thumbnailKeyOf(key)).build())
+                            .quiet(true)
+                            .build())
                     .build();
 
-            s3Client.deleteObject(deleteRequest);
+            s3Client.deleteObjects(deleteRequest);
             log.info("이미지 삭제 완료: bucket={}, key={}, userId={}", bucketName, key, userId);
         } catch (Exception e) {
             log.error("이미지 삭제 실패: bucket={}, key={}, userId={}", bucketName, key, userId, e);
@@ -131,6 +350,120 @@ public class ImageService {
         }
     }
 
+    /**
+     * URL 유효성 검증 후 키 추출: 반드시 우리 R2 publicUrl로 시작해야 함
+     */
+    private String extractKey(String imageUrl, Long userId) {
+        String urlPrefix = publicUrl + "/";
+        if (imageUrl == null || !imageUrl.startsWith(urlPrefix)) {
+            log.warn("잘못된 이미지 URL 요청: userId={}, imageUrl={}", userId, imageUrl);
+            throw new IllegalArgumentException("유효하지 않은 이미지 URL입니다.");
+        }
+
+        // URL에서 키 추출 (publicUrl 이후 부분)
+        return imageUrl.substring(urlPrefix.length());
+    }
+
+    /**
+     * 임시 객체 1건 확정 (형식 검증 -> 변환 또는 복사)
+     */
+    private CompletableFuture<UploadedImageResponse> finalizeStaged(String stagedKey, Queue<String> uploadedKeys) {
+        String finalKey = stagedKey.substring(STAGING_PREFIX.length());
+        String baseKey = finalKey.substring(0, finalKey.lastIndexOf('.'));
+
+        return verifyUploaded(stagedKey).thenCompose(mimeType -> {
+            if (!imageTransformer.supports(mimeType)) {
+                return copyStaged(stagedKey, finalKey, mimeType, uploadedKeys)
+                        .thenApply(UploadedImageResponse::original);
+            }
+            // 서명된 Content-Length로 크기가 제한되어 있으므로(presign.max-file-size) 메모리로 내려받아 변환
+            GetObjectRequest getRequest = GetObjectRequest.builder().bucket(bucketName).key(stagedKey).build();
+            return s3AsyncClient.getObject(getRequest, AsyncResponseTransformer.<GetObjectResponse>toBytes())
+                    .thenCompose(object -> {
+                        byte[] bytes = object.asByteArray();
+                        return process(new PreparedUpload(new ByteArrayResource(bytes), bytes.length, stagedKey,
+                                baseKey, mimeType), uploadedKeys);
+                    });
+        });
+    }
+
+    /**
+     * 직접 업로드된 객체 형식 검증 (앞부분 HEADER_SIZE 바이트 Range GET)
+     * - 반환: 감지된 MIME 타입, 허용되지 않거나 키의 확장자와 다르면 IllegalArgumentException
+     */
+    private CompletableFuture<String> verifyUploaded(String key) {
+        GetObjectRequest rangeRequest = GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .range("bytes=0-" + (HEADER_SIZE - 1))
+                .build();
+
+        return s3AsyncClient.getObject(rangeRequest, AsyncResponseTransformer.<GetObjectResponse>toBytes())
+                .handle((header, error) -> {
+                    if (error != null) {
+                        Throwable cause = unwrap(error);
+                        if (cause instanceof NoSuchKeyException) {
+                            throw new IllegalArgumentException("업로드된 이미지를 찾을 수 없습니다.");
+                        }
+                        // 빈 객체는 Range 요청이 416으로 실패
+                        if (cause instanceof S3Exception s3Exception && s3Exception.statusCode() == 416) {
+                            throw new IllegalArgumentException("지원하지 않는 파일 형식입니다. (허용: JPEG, PNG, GIF, WebP)");
+                        }
+                        throw new CompletionException(cause);
+                    }
+
+                    String detectedMime = detectMimeType(header.asByteArray());
+                    String expectedExtension = detectedMime != null ? MIME_TO_EXTENSION.get(detectedMime) : null;
+                    if (expectedExtension == null || !key.endsWith(expectedExtension)) {
+                        log.warn("직접 업로드 이미지 형식 불일치: key={}, detectedMime={}", key, detectedMime);
+                        throw new IllegalArgumentException("지원하지 않는 파일 형식입니다. (허용: JPEG, PNG, GIF, WebP)");
+                    }
+                    log.info("직접 업로드 이미지 확인: key={}, detectedMime={}", key, detectedMime);
+                    return detectedMime;
+                });
+    }
+
+    /**
+     * 임시 객체를 확정 경로로 서버 측 복사 (변환하지 않는 GIF/WebP)
+     */
+    private CompletableFuture<String> copyStaged(String stagedKey, String key, String mimeType,
+                                                 Queue<String> uploadedKeys) {
+        CopyObjectRequest copyRequest = CopyObjectRequest.builder()
+                .sourceBucket(bucketName)
+                .sourceKey(stagedKey)
+                .destinationBucket(bucketName)
+                .destinationKey(key)
+                .contentType(mimeType)
+                .metadataDirective(MetadataDirective.REPLACE)
+                .build();
+
+        return s3AsyncClient.copyObject(copyRequest)
+                .thenApply(response -> {
+                    uploadedKeys.add(key);
+                    String imageUrl = publicUrl + "/" + key;
+                    log.info("직접 업로드 이미지 확정(복사): url={}, mimeType={}", imageUrl, mimeType);
+                    return imageUrl;
+                });
+    }
+
+    /**
+     * 직접 업로드 임시 객체 소유권 검증
+     * 경로 형식: uploads/{folder}/{userId}/{timestamp}_{uuid}.{ext}
+     */
+    private void validateStagedOwnership(String key, Long userId) {
+        Matcher matcher = STAGED_PATH_PATTERN.matcher(key);
+        if (!matcher.matches()) {
+            log.warn("잘못된 직접 업로드 경로 형식: {}", key);
+            throw new IllegalArgumentException("잘못된 이미지 경로입니다.");
+        }
+
+        Long imageOwnerId = Long.parseLong(matcher.group(2));
+        if (!imageOwnerId.equals(userId)) {
+            log.warn("직접 업로드 완료 권한 없음: userId={}, imageOwnerId={}, key={}", userId, imageOwnerId, key);
+            throw new AccessDeniedException("해당 이미지를 완료할 권한이 없습니다.");
+        }
+    }
+
     /**
      * 이미지 소유권 검증
      * 경로 형식: {folder}/{userId}/{timestamp}_{uuid}.{ext}
@@ -151,75 +484,243 @@ public class ImageService {
 
     /**
      * 여러 이미지 업로드 공통 로직
+     * - 모든 파일의 형식을 먼저 검증 (하나라도 실패하면 업로드 시작 전 거절)
+     * - 검증 통과 후 병렬 변환/업로드, 하나라도 실패하면 이미 업로드된 객체 삭제 후 실패 처리
+     * - 반환 순서는 요청 파일 순서와 동일
      */
-    private List<String> uploadImages(List<MultipartFile> files, String folder, Long userId) {
-        List<String> uploadedUrls = new ArrayList<>();
-
+    private CompletableFuture<List<UploadedImageResponse>> uploadImages(List<MultipartFile> files, String folder, Long userId) {
+        List<PreparedUpload> uploads = new ArrayList<>();
         for (MultipartFile file : files) {
             if (!file.isEmpty()) {
-                String url = uploadImage(file, folder, userId);
-                uploadedUrls.add(url);
+                uploads.add(prepare(file, folder, userId));
             }
         }
 
-        return uploadedUrls;
+        Queue<String> uploadedKeys = new ConcurrentLinkedQueue<>();
+        List<CompletableFuture<UploadedImageResponse>> futures = uploads.stream()
+                .map(upload -> process(upload, uploadedKeys))
+                .toList();
+
+        // allOf는 실패가 있어도 모든 업로드가 끝난 뒤 완료 -> 성공한 객체만 정리
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .handle((ignored, error) -> error)
+                .<List<UploadedImageResponse>>thenCompose(error -> {
+                    if (error == null) {
+                        return CompletableFuture.completedFuture(
+                                futures.stream().map(CompletableFuture::join).toList());
+                    }
+                    return deleteUploaded(uploadedKeys)
+                            .thenCompose(deleted -> CompletableFuture.<List<UploadedImageResponse>>failedFuture(
+                                    toUploadException(error)));
+                });
     }
 
     /**
-     * 단일 이미지 업로드
+     * 단일 이미지 처리: 변환 가능한 형식이면 변형 생성 후 업로드, 아니면 원본 업로드
+     * - 디코딩하지 못한 JPEG는 메타데이터 세그먼트를 제거한 원본 업로드 (위치 정보 노출 방지)
+     */
+    private CompletableFuture<UploadedImageResponse> process(PreparedUpload upload, Queue<String> uploadedKeys) {
+        if (!imageTransformer.supports(upload.getMimeType())) {
+            return uploadOriginal(upload, uploadedKeys);
+        }
+        return imageTransformer.transform(upload.getSource(), upload.getName(), upload.getMimeType())
+                .thenCompose(transformed -> {
+                    if (transformed != null) {
+                        return uploadVariants(upload, transformed, uploadedKeys);
+                    }
+                    return JPEG.equals(upload.getMimeType())
+                            ? uploadStrippedJpeg(upload, uploadedKeys)
+                            : uploadOriginal(upload, uploadedKeys);
+                });
+    }
+
+    /**
+     * 업로드 준비: 헤더만 읽어 실제 MIME 타입 감지, 저장 키(확장자 제외) 생성
      * 경로 형식: {folder}/{userId}/{timestamp}_{uuid}.{ext}
-     * 파일 바이트에서 실제 MIME 타입을 감지하여 확장자 결정
      */
-    private String uploadImage(MultipartFile file, String folder, Long userId) {
+    private PreparedUpload prepare(MultipartFile file, String folder, Long userId) {
         // 기본 파일 검증 (null, empty)
         validateFile(file);
 
+        byte[] header;
+        try (InputStream in = file.getInputStream()) {
+            header = in.readNBytes(HEADER_SIZE);
+        } catch (IOException e) {
+            log.error("이미지 읽기 실패: {}", file.getOriginalFilename(), e);
+            throw new RuntimeException("이미지 업로드에 실패했습니다.");
+        }
+
+        // 파일 앞부분에서 실제 MIME 타입 감지 (클라이언트 제공값 신뢰하지 않음)
+        String detectedMime = detectMimeType(header);
+        if (detectedMime == null || !ALLOWED_MIME_TYPES.contains(detectedMime)) {
+            log.warn("지원하지 않는 파일 형식 감지: detectedMime={}, originalName={}",
+                    detectedMime, file.getOriginalFilename());
+            throw new IllegalArgumentException(
+                    "지원하지 않는 파일 형식입니다. (허용: JPEG, PNG, GIF, WebP)");
+        }
+
+        return new PreparedUpload(file, file.getSize(), file.getOriginalFilename(), newBaseKey(folder, userId),
+                detectedMime);
+    }
+
+    /**
+     * UUID + 타임스탬프로 고유한 파일명 생성 (사용자 ID 포함, 확장자는 저장 형식에 따라 결정)
+     */
+    private String newBaseKey(String folder, Long userId) {
+        return String.format("%s/%d/%d_%s",
+                folder,
+                userId,
+                System.currentTimeMillis(),
+                UUID.randomUUID().toString().substring(0, 8));
+    }
+
+    /**
+     * 원본 업로드 (multipart 입력 스트림에서 바로 전송, 전체 바이트 배열 생성 없음)
+     * - 스트림 읽기는 uploadExecutor, 전송은 S3AsyncClient(Netty) 이벤트 루프에서 처리
+     */
+    private CompletableFuture<UploadedImageResponse> uploadOriginal(PreparedUpload upload, Queue<String> uploadedKeys) {
+        // 감지된 MIME 타입에서 확장자 결정 (원본 파일명 확장자 무시)
+        String key = upload.getBaseKey() + MIME_TO_EXTENSION.get(upload.getMimeType());
+
+        InputStream in;
         try {
-            byte[] fileBytes = file.getBytes();
+            in = upload.getSource().getInputStream();
+        } catch (IOException e) {
+            log.error("이미지 읽기 실패: {}", upload.getName(), e);
+            return CompletableFuture.failedFuture(new UncheckedIOException("이미지 업로드에 실패했습니다.", e));
+        }
 
-            // 파일 바이트에서 실제 MIME 타입 감지 (클라이언트 제공값 신뢰하지 않음)
-            String detectedMime = detectMimeType(fileBytes);
-            if (detectedMime == null || !ALLOWED_MIME_TYPES.contains(detectedMime)) {
-                log.warn("지원하지 않는 파일 형식 감지: detectedMime={}, originalName={}",
-                        detectedMime, file.getOriginalFilename());
-                throw new IllegalArgumentException(
-                        "지원하지 않는 파일 형식입니다. (허용: JPEG, PNG, GIF, WebP)");
-            }
+        AsyncRequestBody body = AsyncRequestBody.fromInputStream(in, upload.getSize(), uploadExecutor);
+        return put(key, upload.getMimeType(), body, uploadedKeys)
+                .whenComplete((url, error) -> closeQuietly(in))
+                .thenApply(UploadedImageResponse::original);
+    }
 
-            // 감지된 MIME 타입에서 확장자 결정 (원본 파일명 확장자 무시)
-            String extension = MIME_TO_EXTENSION.get(detectedMime);
+    /**
+     * 메타데이터 세그먼트 제거 후 원본 JPEG 업로드 (디코딩 실패 시에만 사용, 파일 전체를 메모리에 적재)
+     */
+    private CompletableFuture<UploadedImageResponse> uploadStrippedJpeg(PreparedUpload upload,
+                                                                        Queue<String> uploadedKeys) {
+        byte[] stripped;
+        try (InputStream in = upload.getSource().getInputStream()) {
+            stripped = JpegMetadataStripper.strip(in.readAllBytes());
+        } catch (IOException e) {
+            log.error("이미지 읽기 실패: {}", upload.getName(), e);
+            return CompletableFuture.failedFuture(new UncheckedIOException("이미지 업로드에 실패했습니다.", e));
+        } catch (IllegalArgumentException e) {
+            log.warn("JPEG 구조 손상으로 거절: {}", upload.getName());
+            return CompletableFuture.failedFuture(e);
+        }
 
-            // UUID + 타임스탬프로 고유한 파일명 생성 (사용자 ID 포함)
-            String key = String.format("%s/%d/%d_%s%s",
-                    folder,
-                    userId,
-                    System.currentTimeMillis(),
-                    UUID.randomUUID().toString().substring(0, 8),
-                    extension);
+        String key = upload.getBaseKey() + MIME_TO_EXTENSION.get(JPEG);
+        return put(key, JPEG, AsyncRequestBody.fromBytes(stripped), uploadedKeys)
+                .thenApply(UploadedImageResponse::original);
+    }
 
-            // 감지된 MIME 타입으로 Content-Type 설정
-            PutObjectRequest putRequest = PutObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(key)
-                    .contentType(detectedMime)
-                    .build();
+    /**
+     * 표시용/썸네일 변형 업로드 (변환 결과는 수백 KB 이하라 바이트 배열로 전송)
+     */
+    private CompletableFuture<UploadedImageResponse> uploadVariants(PreparedUpload upload, TransformedImage transformed,
+                                                                    Queue<String> uploadedKeys) {
+        ImageVariant display = transformed.getDisplay();
+        ImageVariant thumbnail = transformed.getThumbnail();
+
+        CompletableFuture<String> displayUrl = put(upload.getBaseKey() + display.getExtension(),
+                display.getMimeType(), AsyncRequestBody.fromBytes(display.getBytes()), uploadedKeys);
+        CompletableFuture<String> thumbnailUrl = put(upload.getBaseKey() + THUMBNAIL_SUFFIX + thumbnail.getExtension(),
+                thumbnail.getMimeType(), AsyncRequestBody.fromBytes(thumbnail.getBytes()), uploadedKeys);
+
+        return displayUrl.thenCombine(thumbnailUrl, (url, thumbUrl) -> UploadedImageResponse.builder()
+                .url(url)
+                .thumbnailUrl(thumbUrl)
+                .width(display.getWidth())
+                .height(display.getHeight())
+                .build());
+    }
+
+    /**
+     * 단일 객체 업로드 (성공 시 정리 대상 키 목록에 추가)
+     */
+    private CompletableFuture<String> put(String key, String mimeType, AsyncRequestBody body, Queue<String> uploadedKeys) {
+        // 저장 형식의 MIME 타입으로 Content-Type 설정
+        PutObjectRequest putRequest = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType(mimeType)
+                .build();
+
+        return s3AsyncClient.putObject(putRequest, body)
+                .thenApply(response -> {
+                    uploadedKeys.add(key);
+                    String imageUrl = publicUrl + "/" + key;
+                    log.info("이미지 업로드 완료: url={}, mimeType={}", imageUrl, mimeType);
+                    return imageUrl;
+                });
+    }
+
+    /**
+     * 객체 일괄 삭제 (DeleteObjects 1회, 실패해도 원래 결과/예외 유지)
+     * - 부분 실패 시 이미 업로드된 객체, 직접 업로드 완료 후 임시 객체 정리
+     */
+    private CompletableFuture<Void> deleteUploaded(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
 
-            s3Client.putObject(putRequest, RequestBody.fromBytes(fileBytes));
+        List<ObjectIdentifier> uploaded = keys.stream()
+                .map(key -> ObjectIdentifier.builder().key(key).build())
+                .toList();
+
+        return s3AsyncClient.deleteObjects(DeleteObjectsRequest.builder()
+                        .bucket(bucketName)
+                        .delete(Delete.builder().objects(uploaded).quiet(true).build())
+                        .build())
+                .handle((response, error) -> {
+                    if (error != null) {
+                        log.error("이미지 정리 삭제 실패: bucket={}, keys={}", bucketName, keys, error);
+                    } else {
+                        log.info("이미지 정리 삭제: bucket={}, count={}", bucketName, uploaded.size());
+                    }
+                    return null;
+                });
+    }
 
-            String imageUrl = publicUrl + "/" + key;
-            log.info("이미지 업로드 완료: url={}, detectedMime={}", imageUrl, detectedMime);
+    /**
+     * 표시용 키 -> 썸네일 키 ({base}.{ext} -> {base}_thumb.{ext})
+     */
+    private String thumbnailKeyOf(String key) {
+        int dot = key.lastIndexOf('.');
+        return dot < 0 ? key + THUMBNAIL_SUFFIX : key.substring(0, dot) + THUMBNAIL_SUFFIX + key.substring(dot);
+    }
 
-            return imageUrl;
+    /**
+     * 업로드 예외 -> 서비스 예외 변환 (형식 오류 등은 원래 예외 유지)
+     */
+    private RuntimeException toUploadException(Throwable error) {
+        Throwable cause = unwrap(error);
+        if (cause instanceof IllegalArgumentException illegalArgument) {
+            return illegalArgument;
+        }
+        log.error("이미지 업로드 실패", cause);
+        return new RuntimeException("이미지 업로드에 실패했습니다.");
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    private void closeQuietly(InputStream in) {
+        try {
+            in.close();
         } catch (IOException e) {
-            log.error("이미지 업로드 실패: {}", file.getOriginalFilename(), e);
-            throw new RuntimeException("이미지 업로드에 실패했습니다.");
+            log.debug("이미지 입력 스트림 닫기 실패: {}", e.getMessage());
         }
     }
 
     /**
      * 파일 개수 검증
      */
-    private void validateFileCount(List<MultipartFile> files, int maxCount, String type) {
+    private void validateFileCount(List<?> files, int maxCount, String type) {
         if (files == null || files.isEmpty()) {
             throw new IllegalArgumentException("업로드할 이미지가 없습니다.");
         }
@@ -239,7 +740,7 @@ public class ImageService {
     }
 
     /**
-     * 파일 바이트에서 실제 MIME 타입 감지 (매직 바이트 기반)
+     * 파일 앞부분 바이트에서 실제 MIME 타입 감지 (매직 바이트 기반)
      * 클라이언트가 제공한 Content-Type이나 확장자를 신뢰하지 않음
      */
     private String detectMimeType(byte[] fileBytes) {
@@ -288,15 +789,15 @@ public class ImageService {
     }
 
     /**
-     * UUID로 회원 조회
-     * Before: visitorId == null 만 체크하여 "anonymousUser"가 UUID 파싱 시도됨
-     * After: "anonymousUser" 문자열도 비인증 상태로 처리
+     * 형식 검증을 마친 업로드 대상 (multipart 파일 또는 직접 업로드 후 내려받은 바이트)
      */
-    private Member findMemberByUuid(String visitorId) {
-        if (visitorId == null || "anonymousUser".equals(visitorId)) {
-            throw new IllegalArgumentException("로그인이 필요합니다");
-        }
-        return memberRepository.findByUuidAndDeletedAtIsNull(UUID.fromString(visitorId))
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다"));
+    @Getter
+    @RequiredArgsConstructor
+    private static class PreparedUpload {
+        private final InputStreamSource source;
+        private final long size;
+        private final String name;
+        private final String baseKey;
+        private final String mimeType;
     }
 }
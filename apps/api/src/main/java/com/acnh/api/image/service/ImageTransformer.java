@@ -0,0 +1,377 @@
+package com.acnh.api.image.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.core.io.InputStreamSource;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 이미지 변환기 (업로드 원본 -> 표시용/썸네일 변형)
+ * - 메타데이터(EXIF, GPS 등) 제거: 디코딩 시 메타데이터를 읽지 않고 픽셀만 다시 인코딩
+ *   (EXIF 방향 값은 픽셀에 적용 후 제거)
+ * - 표시용: 긴 변 max-dimension 이하, 썸네일(피드 카드/채팅 말풍선): 긴 변 thumbnail-size 이하
+ * - 출력 형식: 투명도가 있으면 PNG, 없으면 JPEG (JDK ImageIO만 사용, WebP 인코더 없음)
+ * - 메모리 제한
+ *   - 디코딩 전 헤더의 가로x세로가 max-pixels 초과면 거절 (압축 폭탄 방지)
+ *   - 원본이 표시용보다 2배 이상 크면 서브샘플링 디코딩 (디코딩 버퍼 축소)
+ *   - 변환은 크기 제한 풀(max-concurrency)에서만 수행 -> 동시 디코딩 메모리 상한 = max-concurrency x max-pixels x 4바이트
+ *
+ * [성능 개선]
+ * Before: 최대 10MB 원본 그대로 저장, 피드/채팅에서 원본을 내려받아 클라이언트가 디코딩
+ * After: 표시용(수백 KB)과 썸네일(수십 KB) 제공 -> 전송량/클라이언트 디코딩 시간 감소
+ */
+@Slf4j
+@Component
+public class ImageTransformer implements DisposableBean {
+
+    private static final String JPEG = "image/jpeg";
+    private static final String PNG = "image/png";
+
+    private final ThreadPoolTaskExecutor executor;
+    private final long maxPixels;
+    private final int maxDimension;
+    private final int thumbnailSize;
+    private final float jpegQuality;
+
+    public ImageTransformer(MeterRegistry meterRegistry,
+                            @Value("${image.transform.max-concurrency:2}") int maxConcurrency,
+                            @Value("${image.transform.queue-capacity:50}") int queueCapacity,
+                            @Value("${image.transform.max-pixels:40000000}") long maxPixels,
+                            @Value("${image.transform.max-dimension:2048}") int maxDimension,
+                            @Value("${image.transform.thumbnail-size:320}") int thumbnailSize,
+                            @Value("${image.transform.jpeg-quality:0.85}") float jpegQuality) {
+        this.maxPixels = maxPixels;
+        this.maxDimension = maxDimension;
+        this.thumbnailSize = thumbnailSize;
+        this.jpegQuality = jpegQuality;
+
+        // 디스크 임시 캐시 대신 메모리 사용 (입력은 이미 multipart 임시 파일)
+        ImageIO.setUseCache(false);
+
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("image-transform-");
+        executor.setCorePoolSize(maxConcurrency);
+        executor.setMaxPoolSize(maxConcurrency);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setAllowCoreThreadTimeOut(true);
+        // 대기열 초과 시 거절 (호출 측에서 업로드 실패로 처리)
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            throw new RejectedExecutionException("이미지 변환 대기열이 가득 찼습니다");
+        });
+        executor.initialize();
+        ExecutorServiceMetrics.monitor(meterRegistry, executor.getThreadPoolExecutor(), "image.transform");
+
+        log.info("이미지 변환기 설정 - maxConcurrency: {}, maxPixels: {}, maxDimension: {}, thumbnailSize: {}",
+                maxConcurrency, maxPixels, maxDimension, thumbnailSize);
+    }
+
+    /**
+     * 변환 대상 형식 여부 (GIF는 애니메이션 보존, WebP는 JDK 디코더 없음 -> 원본 유지)
+     */
+    public boolean supports(String mimeType) {
+        return JPEG.equals(mimeType) || PNG.equals(mimeType);
+    }
+
+    /**
+     * 표시용/썸네일 변형 생성 (변환 풀에서 비동기 실행)
+     * - 해상도 초과: IllegalArgumentException
+     * - 디코딩 불가(CMYK JPEG, 리더 내부 런타임 예외 등): null 반환
+     *   -> 호출 측에서 원본 업로드 (JPEG는 JpegMetadataStripper로 메타데이터 세그먼트 제거)
+     * - source: multipart 파일 또는 직접 업로드 후 내려받은 바이트, name은 로그용
+     */
+    public CompletableFuture<TransformedImage> transform(InputStreamSource source, String name, String mimeType) {
+        try {
+            return CompletableFuture.supplyAsync(() -> transformNow(source, name, mimeType), executor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private TransformedImage transformNow(InputStreamSource source, String name, String mimeType) {
+        int orientation = JPEG.equals(mimeType) ? readExifOrientation(source) : 1;
+
+        BufferedImage decoded;
+        try {
+            decoded = decode(source, name);
+        } catch (IOException e) {
+            log.warn("이미지 디코딩 실패, 원본 유지: name={}, error={}", name, e.getMessage());
+            return null;
+        }
+        if (decoded == null) {
+            return null;
+        }
+
+        BufferedImage display = resize(applyOrientation(decoded, orientation), maxDimension);
+        BufferedImage thumbnail = resize(display, thumbnailSize);
+
+        boolean alpha = display.getColorModel().hasAlpha();
+        return new TransformedImage(encode(display, alpha), encode(thumbnail, alpha));
+    }
+
+    /**
+     * 메타데이터 없이 픽셀만 디코딩 (헤더 크기 검사 후 필요하면 서브샘플링)
+     * - ImageIO 리더의 런타임 예외(색 공간 불일치, 잘못된 테이블 등)는 IOException으로 변환해 원본 업로드로 처리
+     *   (해상도 초과 IllegalArgumentException만 요청 오류로 전달)
+     */
+    private BufferedImage decode(InputStreamSource source, String name) throws IOException {
+        try (InputStream in = source.getInputStream();
+             ImageInputStream iis = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(iis);
+            if (!readers.hasNext()) {
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                // ignoreMetadata = true: EXIF/XMP/ICC 텍스트 청크를 읽지 않음
+                reader.setInput(iis, true, true);
+                int width;
+                int height;
+                try {
+                    width = reader.getWidth(0);
+                    height = reader.getHeight(0);
+                } catch (RuntimeException e) {
+                    throw new IOException("이미지 헤더 읽기 실패: " + e.getMessage(), e);
+                }
+                if ((long) width * height > maxPixels) {
+                    log.warn("이미지 해상도 초과: name={}, width={}, height={}", name, width, height);
+                    throw new IllegalArgumentException(
+                            String.format("이미지 해상도가 너무 큽니다. (최대 %d만 화소)", maxPixels / 10_000));
+                }
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(width, height) / maxDimension;
+                if (subsampling >= 2) {
+                    param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                }
+                try {
+                    return reader.read(0, param);
+                } catch (RuntimeException e) {
+                    throw new IOException("이미지 디코딩 실패: " + e.getMessage(), e);
+                }
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 긴 변이 maxSize 이하가 되도록 축소 (절반씩 단계 축소로 품질 유지)
+     * 결과는 항상 TYPE_INT_RGB/ARGB (인코딩 시 색 공간 변환 없음)
+     */
+    private BufferedImage resize(BufferedImage source, int maxSize) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double scale = Math.min(1.0, (double) maxSize / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+        BufferedImage current = source;
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            current = draw(current, width, height, null);
+        } while (width != targetWidth || height != targetHeight);
+
+        return current;
+    }
+
+    private BufferedImage draw(BufferedImage source, int width, int height, AffineTransform transform) {
+        boolean alpha = source.getColorModel().hasAlpha();
+        BufferedImage target = new BufferedImage(width, height,
+                alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            if (transform != null) {
+                g.drawImage(source, transform, null);
+            } else {
+                g.drawImage(source, 0, 0, width, height, null);
+            }
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    /**
+     * EXIF 방향(1~8) 적용 (메타데이터 제거 후에도 사진 방향 유지)
+     */
+    private BufferedImage applyOrientation(BufferedImage source, int orientation) {
+        if (orientation < 2 || orientation > 8) {
+            return source;
+        }
+
+        int width = source.getWidth();
+        int height = source.getHeight();
+        boolean swap = orientation >= 5;
+        AffineTransform transform = new AffineTransform();
+        switch (orientation) {
+            case 2 -> {
+                transform.translate(width, 0);
+                transform.scale(-1, 1);
+            }
+            case 3 -> {
+                transform.translate(width, height);
+                transform.rotate(Math.PI);
+            }
+            case 4 -> {
+                transform.translate(0, height);
+                transform.scale(1, -1);
+            }
+            case 5 -> {
+                transform.rotate(Math.PI / 2);
+                transform.scale(1, -1);
+            }
+            case 6 -> {
+                transform.translate(height, 0);
+                transform.rotate(Math.PI / 2);
+            }
+            case 7 -> {
+                transform.translate(height, width);
+                transform.rotate(3 * Math.PI / 2);
+                transform.scale(1, -1);
+            }
+            case 8 -> {
+                transform.translate(0, width);
+                transform.rotate(3 * Math.PI / 2);
+            }
+            default -> {
+            }
+        }
+        return draw(source, swap ? height : width, swap ? width : height, transform);
+    }
+
+    /**
+     * 투명도 없음 -> JPEG(quality), 있음 -> PNG
+     */
+    private ImageVariant encode(BufferedImage image, boolean alpha) {
+        String mimeType = alpha ? PNG : JPEG;
+        ImageWriter writer = ImageIO.getImageWritersByMIMEType(mimeType).next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(ios);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if (!alpha) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(jpegQuality);
+            }
+            writer.write(null, new IIOImage(image, null, null), param);
+        } catch (IOException e) {
+            throw new UncheckedIOException("이미지 변환에 실패했습니다.", e);
+        } finally {
+            writer.dispose();
+        }
+
+        return new ImageVariant(out.toByteArray(), mimeType, alpha ? ".png" : ".jpg",
+                image.getWidth(), image.getHeight());
+    }
+
+    /**
+     * JPEG APP1(Exif) 세그먼트에서 방향 태그(0x0112)만 읽음 (실패 시 1 = 정방향)
+     */
+    private int readExifOrientation(InputStreamSource source) {
+        try (InputStream in = source.getInputStream()) {
+            byte[] head = in.readNBytes(64 * 1024);
+            int pos = 2;
+            while (pos + 4 <= head.length && (head[pos] & 0xFF) == 0xFF) {
+                int marker = head[pos + 1] & 0xFF;
+                int length = ((head[pos + 2] & 0xFF) << 8) | (head[pos + 3] & 0xFF);
+                if (marker == 0xE1 && pos + 10 <= head.length
+                        && head[pos + 4] == 'E' && head[pos + 5] == 'x' && head[pos + 6] == 'i' && head[pos + 7] == 'f') {
+                    return readTiffOrientation(head, pos + 10, Math.min(head.length, pos + 2 + length));
+                }
+                if (marker == 0xDA) {
+                    break;
+                }
+                pos += 2 + length;
+            }
+        } catch (IOException | RuntimeException e) {
+            log.debug("EXIF 방향 읽기 실패: {}", e.getMessage());
+        }
+        return 1;
+    }
+
+    private int readTiffOrientation(byte[] data, int tiff, int end) {
+        boolean little = data[tiff] == 'I';
+        int ifd = tiff + readInt(data, tiff + 4, little);
+        int entries = readShort(data, ifd, little);
+        for (int i = 0; i < entries; i++) {
+            int entry = ifd + 2 + i * 12;
+            if (entry + 12 > end) {
+                break;
+            }
+            if (readShort(data, entry, little) == 0x0112) {
+                return readShort(data, entry + 8, little);
+            }
+        }
+        return 1;
+    }
+
+    private int readShort(byte[] data, int offset, boolean little) {
+        int b0 = data[offset] & 0xFF;
+        int b1 = data[offset + 1] & 0xFF;
+        return little ? (b1 << 8) | b0 : (b0 << 8) | b1;
+    }
+
+    private int readInt(byte[] data, int offset, boolean little) {
+        int high = readShort(data, little ? offset + 2 : offset, little);
+        int low = readShort(data, little ? offset : offset + 2, little);
+        return (high << 16) | low;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    /**
+     * 변환 결과 (표시용 + 썸네일)
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class TransformedImage {
+        private final ImageVariant display;
+        private final ImageVariant thumbnail;
+    }
+
+    /**
+     * 인코딩된 변형 이미지
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class ImageVariant {
+        private final byte[] bytes;
+        private final String mimeType;
+        private final String extension;
+        private final int width;
+        private final int height;
+    }
+}
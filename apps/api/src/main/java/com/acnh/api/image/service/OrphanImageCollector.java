@@ -0,0 +1,366 @@
+package com.acnh.api.image.service;
+
+import com.acnh.api.chat.repository.ChatMessageRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+
+/**
+ * 고아 이미지 정리기 (R2에 남아 있지만 어디에서도 참조하지 않는 이미지 삭제)
+ * - 대상 경로: chat/ (참조 = 삭제되지 않은 chat_messages.image_url)
+ *   uploads/ (직접 업로드 임시 경로, 완료 처리 시 확정 경로로 옮겨지므로 참조 없이 min-age 경과 시 모두 삭제)
+ *   posts/, profiles/는 아직 DB에 이미지 참조를 저장하지 않으므로 대상에서 제외
+ *   (해당 경로에는 서버 업로드/완료 처리만 쓰므로 완료되지 않은 직접 업로드가 남지 않음)
+ * - 1) 참조 URL을 ID 커서로 페이지 단위 조회해 블룸 필터 구성 (참조 수와 무관하게 고정 메모리)
+ *   2) 버킷을 prefix로 페이지 단위 나열, 참조되지 않고 min-age보다 오래된 키만 삭제 대상
+ *      (썸네일 키는 표시용 키로 환원해 판단, 블룸 필터 거짓 양성은 삭제를 건너뛰는 쪽으로만 작동)
+ *   3) DeleteObjects로 최대 1000개씩 일괄 삭제, max-deletes-per-second로 속도 제한
+ * - 재개 가능: 페이지마다 마지막 키를 image_gc_state에 저장, 다음 실행은 그 키 이후부터 나열
+ *   (max-pages-per-run 도달 시 중단 후 다음 주기에 이어서 진행)
+ * - 인스턴스 간 중복 실행 방지: image_gc_state 임대(lease), 참조 조회/나열 페이지마다 갱신
+ * - publicUrl로 시작하지 않는 참조가 하나라도 있으면 삭제하지 않음 (키로 환원할 수 없어 참조 여부 판단 불가)
+ * - dry-run: 삭제 대상 집계/로그만 남기고 삭제하지 않음
+ * - @Scheduled는 작업 요청만 하고 실제 작업은 전용 스레드에서 수행 (스케줄러 스레드 점유 방지)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "image.gc.enabled", havingValue = "true")
+public class OrphanImageCollector implements DisposableBean {
+
+    private static final String PREFIX = "chat/";
+
+    // DeleteObjects 1회 최대 키 수 (S3 API 제한)
+    private static final int MAX_DELETE_BATCH = 1000;
+
+    private static final Pattern THUMBNAIL_KEY_PATTERN =
+            Pattern.compile(Pattern.quote(ImageService.THUMBNAIL_SUFFIX) + "(\\.[A-Za-z0-9]+)$");
+
+    private static final String ENSURE_STATE_SQL =
+            "INSERT INTO image_gc_state (prefix) VALUES (?) ON CONFLICT (prefix) DO NOTHING";
+
+    private static final String ACQUIRE_LEASE_SQL = "UPDATE image_gc_state " +
+            "SET lease_owner = ?, lease_until = now() + make_interval(secs => ?), updated_at = now() " +
+            "WHERE prefix = ? AND (lease_until IS NULL OR lease_until < now() OR lease_owner = ?)";
+
+    private static final String RENEW_LEASE_SQL = "UPDATE image_gc_state " +
+            "SET lease_until = now() + make_interval(secs => ?), updated_at = now() " +
+            "WHERE prefix = ? AND lease_owner = ?";
+
+    private static final String SAVE_PROGRESS_SQL = "UPDATE image_gc_state " +
+            "SET last_key = ?, lease_until = now() + make_interval(secs => ?), updated_at = now() " +
+            "WHERE prefix = ? AND lease_owner = ?";
+
+    private static final String COMPLETE_SQL = "UPDATE image_gc_state " +
+            "SET last_key = NULL, last_completed_at = now(), updated_at = now() " +
+            "WHERE prefix = ? AND lease_owner = ?";
+
+    private static final String RELEASE_LEASE_SQL = "UPDATE image_gc_state " +
+            "SET lease_owner = NULL, lease_until = NULL, updated_at = now() " +
+            "WHERE prefix = ? AND lease_owner = ?";
+
+    private final S3Client s3Client;
+    private final ChatMessageRepository chatMessageRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    private final String bucketName;
+    private final String publicUrl;
+    private final boolean dryRun;
+    private final Duration minAge;
+    private final int listPageSize;
+    private final int maxPagesPerRun;
+    private final int referencePageSize;
+    private final double falsePositiveRate;
+    private final int deleteBatchSize;
+    private final int maxDeletesPerSecond;
+    private final Duration leaseDuration;
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final ExecutorService worker;
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+    private volatile boolean stopping;
+
+    private final Counter scannedCounter;
+    private final Counter orphanCounter;
+    private final Counter deletedCounter;
+    private final Counter foreignReferenceCounter;
+
+    public OrphanImageCollector(S3Client s3Client,
+                                ChatMessageRepository chatMessageRepository,
+                                JdbcTemplate jdbcTemplate,
+                                MeterRegistry meterRegistry,
+                                @Value("${r2.bucket-name}") String bucketName,
+                                @Value("${r2.public-url}") String publicUrl,
+                                @Value("${image.gc.dry-run:true}") boolean dryRun,
+                                @Value("${image.gc.min-age:24h}") Duration minAge,
+                                @Value("${image.gc.list-page-size:1000}") int listPageSize,
+                                @Value("${image.gc.max-pages-per-run:500}") int maxPagesPerRun,
+                                @Value("${image.gc.reference-page-size:5000}") int referencePageSize,
+                                @Value("${image.gc.false-positive-rate:0.01}") double falsePositiveRate,
+                                @Value("${image.gc.delete-batch-size:1000}") int deleteBatchSize,
+                                @Value("${image.gc.max-deletes-per-second:100}") int maxDeletesPerSecond,
+                                @Value("${image.gc.lease-duration:10m}") Duration leaseDuration) {
+        this.s3Client = s3Client;
+        this.chatMessageRepository = chatMessageRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.bucketName = bucketName;
+        this.publicUrl = publicUrl;
+        this.dryRun = dryRun;
+        this.minAge = minAge;
+        this.listPageSize = Math.min(listPageSize, 1000);
+        this.maxPagesPerRun = maxPagesPerRun;
+        this.referencePageSize = referencePageSize;
+        this.falsePositiveRate = falsePositiveRate;
+        this.deleteBatchSize = Math.min(deleteBatchSize, MAX_DELETE_BATCH);
+        this.maxDeletesPerSecond = maxDeletesPerSecond;
+        this.leaseDuration = leaseDuration;
+
+        this.worker = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "image-gc");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.scannedCounter = meterRegistry.counter("image.gc.scanned");
+        this.orphanCounter = meterRegistry.counter("image.gc.orphans", "dry_run", String.valueOf(dryRun));
+        this.deletedCounter = meterRegistry.counter("image.gc.deleted");
+        this.foreignReferenceCounter = meterRegistry.counter("image.gc.foreign_references");
+
+        log.info("고아 이미지 정리기 설정 - prefixes: [{}, {}], dryRun: {}, minAge: {}, maxDeletesPerSecond: {}",
+                PREFIX, ImageService.STAGING_PREFIX, dryRun, minAge, maxDeletesPerSecond);
+    }
+
+    /**
+     * 주기 실행 (기본 매일 04:30), 이전 실행이 진행 중이면 건너뜀
+     */
+    @Scheduled(cron = "${image.gc.cron:0 30 4 * * *}")
+    public void schedule() {
+        if (!sweeping.compareAndSet(false, true)) {
+            log.info("고아 이미지 정리 진행 중 - 이번 주기 건너뜀");
+            return;
+        }
+        worker.execute(() -> {
+            try {
+                sweep();
+            } catch (Exception e) {
+                log.error("고아 이미지 정리 실패", e);
+            } finally {
+                sweeping.set(false);
+            }
+        });
+    }
+
+    /**
+     * 1회 정리 (chat/ -> uploads/ 순서, 경로별 임대/진행 상태)
+     */
+    void sweep() {
+        sweepPrefix(PREFIX, true);
+        if (!stopping) {
+            sweepPrefix(ImageService.STAGING_PREFIX, false);
+        }
+    }
+
+    /**
+     * 경로 1개 정리 (임대 획득 -> 참조 필터 구성 -> 저장된 키 이후부터 나열/삭제)
+     * - referenced = false: 참조 없는 경로 (min-age보다 오래된 객체는 모두 삭제 대상)
+     */
+    private void sweepPrefix(String prefix, boolean referenced) {
+        jdbcTemplate.update(ENSURE_STATE_SQL, prefix);
+        if (jdbcTemplate.update(ACQUIRE_LEASE_SQL, instanceId, leaseDuration.toSeconds(), prefix, instanceId) == 0) {
+            log.info("고아 이미지 정리 - 다른 인스턴스가 진행 중, prefix: {}", prefix);
+            return;
+        }
+
+        try {
+            KeyBloomFilter references = null;
+            if (referenced) {
+                references = loadReferences(prefix);
+                if (references == null) {
+                    return;
+                }
+            }
+            String startAfter = jdbcTemplate.queryForObject(
+                    "SELECT last_key FROM image_gc_state WHERE prefix = ?", String.class, prefix);
+            sweepFrom(prefix, startAfter, references);
+        } finally {
+            jdbcTemplate.update(RELEASE_LEASE_SQL, prefix, instanceId);
+        }
+    }
+
+    /**
+     * 참조 중인 이미지 키로 블룸 필터 구성 (ID 커서 페이지 조회, 전체 목록을 메모리에 두지 않음)
+     * - 페이지마다 임대 갱신 (참조가 많아 구성 시간이 lease-duration을 넘어도 다른 인스턴스가 끼어들지 않음)
+     * - 반환 null = 이번 실행 중단: 임대 상실, 종료 중, publicUrl 밖의 참조 존재
+     *   (일부만 담긴 필터로 삭제하면 참조 중인 이미지가 삭제되므로)
+     */
+    private KeyBloomFilter loadReferences(String prefix) {
+        long expected = chatMessageRepository.countImageMessages();
+        // 조회 중 추가되는 메시지 여유분 포함
+        KeyBloomFilter filter = new KeyBloomFilter(expected + expected / 10 + 1000, falsePositiveRate);
+
+        String urlPrefix = publicUrl + "/";
+        long afterId = 0;
+        long loaded = 0;
+        long foreign = 0;
+        String foreignSample = null;
+        while (true) {
+            if (stopping) {
+                return null;
+            }
+            List<Object[]> rows = chatMessageRepository.findImageUrlsAfter(afterId, referencePageSize);
+            for (Object[] row : rows) {
+                String imageUrl = (String) row[1];
+                if (imageUrl.startsWith(urlPrefix)) {
+                    filter.put(canonicalKey(imageUrl.substring(urlPrefix.length())));
+                    loaded++;
+                } else {
+                    foreign++;
+                    if (foreignSample == null) {
+                        foreignSample = imageUrl;
+                    }
+                }
+            }
+            if (rows.size() < referencePageSize) {
+                break;
+            }
+            afterId = ((Number) rows.get(rows.size() - 1)[0]).longValue();
+            if (jdbcTemplate.update(RENEW_LEASE_SQL, leaseDuration.toSeconds(), prefix, instanceId) == 0) {
+                log.warn("고아 이미지 정리 임대 만료 - 참조 필터 구성 중단, prefix: {}, afterId: {}", prefix, afterId);
+                return null;
+            }
+        }
+
+        if (foreign > 0) {
+            foreignReferenceCounter.increment(foreign);
+            log.error("고아 이미지 정리 중단 - publicUrl 밖의 참조 발견 (r2.public-url 변경 여부 확인), " +
+                    "prefix: {}, publicUrl: {}, count: {}, sample: {}", prefix, publicUrl, foreign, foreignSample);
+            return null;
+        }
+
+        log.info("고아 이미지 정리 - 참조 필터 구성: references: {}, filterBytes: {}", loaded, filter.sizeInBytes());
+        return filter;
+    }
+
+    private void sweepFrom(String prefix, String startAfter, KeyBloomFilter references) {
+        Instant cutoff = Instant.now().minus(minAge);
+        String cursor = startAfter;
+        long scanned = 0;
+        long orphans = 0;
+
+        for (int page = 0; page < maxPagesPerRun && !stopping; page++) {
+            ListObjectsV2Request.Builder request = ListObjectsV2Request.builder()
+                    .bucket(bucketName)
+                    .prefix(prefix)
+                    .maxKeys(listPageSize);
+            if (cursor != null) {
+                request.startAfter(cursor);
+            }
+            ListObjectsV2Response response = s3Client.listObjectsV2(request.build());
+
+            List<String> orphanKeys = new ArrayList<>();
+            for (S3Object object : response.contents()) {
+                if (object.lastModified().isBefore(cutoff)
+                        && (references == null || !references.mightContain(canonicalKey(object.key())))) {
+                    orphanKeys.add(object.key());
+                }
+            }
+            scanned += response.contents().size();
+            orphans += orphanKeys.size();
+            scannedCounter.increment(response.contents().size());
+            orphanCounter.increment(orphanKeys.size());
+
+            deleteOrphans(orphanKeys);
+
+            if (!response.isTruncated()) {
+                jdbcTemplate.update(COMPLETE_SQL, prefix, instanceId);
+                log.info("고아 이미지 정리 완료 - prefix: {}, scanned: {}, orphans: {}, dryRun: {}",
+                        prefix, scanned, orphans, dryRun);
+                return;
+            }
+
+            cursor = response.contents().get(response.contents().size() - 1).key();
+            if (jdbcTemplate.update(SAVE_PROGRESS_SQL, cursor, leaseDuration.toSeconds(), prefix, instanceId) == 0) {
+                log.warn("고아 이미지 정리 임대 만료 - 중단, prefix: {}, cursor: {}", prefix, cursor);
+                return;
+            }
+        }
+
+        log.info("고아 이미지 정리 일시 중단 (다음 주기에 이어서 진행) - prefix: {}, cursor: {}, scanned: {}, orphans: {}, dryRun: {}",
+                prefix, cursor, scanned, orphans, dryRun);
+    }
+
+    /**
+     * DeleteObjects 일괄 삭제 (delete-batch-size씩, 초당 max-deletes-per-second 이하)
+     */
+    private void deleteOrphans(List<String> keys) {
+        for (int from = 0; from < keys.size() && !stopping; from += deleteBatchSize) {
+            List<String> batch = keys.subList(from, Math.min(keys.size(), from + deleteBatchSize));
+            if (dryRun) {
+                log.info("고아 이미지 삭제 대상(dry-run) - count: {}, first: {}", batch.size(), batch.get(0));
+                log.debug("고아 이미지 삭제 대상(dry-run) - keys: {}", batch);
+                continue;
+            }
+
+            DeleteObjectsResponse response = s3Client.deleteObjects(request -> request
+                    .bucket(bucketName)
+                    .delete(Delete.builder()
+                            .objects(batch.stream().map(key -> ObjectIdentifier.builder().key(key).build()).toList())
+                            .quiet(true)
+                            .build()));
+            int failed = response.errors().size();
+            deletedCounter.increment(batch.size() - failed);
+            if (failed > 0) {
+                log.warn("고아 이미지 일부 삭제 실패 - count: {}, first: {}", failed, response.errors().get(0));
+            }
+
+            throttle(batch.size());
+        }
+    }
+
+    private void throttle(int deleted) {
+        if (maxDeletesPerSecond <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(deleted * 1000L / maxDeletesPerSecond);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            stopping = true;
+        }
+    }
+
+    /**
+     * 썸네일 키를 표시용 키로 환원 ({base}_thumb.{ext} -> {base}.{ext})
+     */
+    private String canonicalKey(String key) {
+        return THUMBNAIL_KEY_PATTERN.matcher(key).replaceFirst("$1");
+    }
+
+    @Override
+    public void destroy() {
+        stopping = true;
+        worker.shutdownNow();
+    }
+}
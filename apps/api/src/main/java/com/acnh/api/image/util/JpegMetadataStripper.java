@@ -0,0 +1,113 @@
+package com.acnh.api.image.util;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * JPEG 메타데이터 세그먼트 제거 유틸리티 (디코딩 없이 바이트 단위 세그먼트 복사)
+ * - ImageTransformer가 디코딩하지 못한 JPEG(CMYK 등)를 원본으로 저장할 때 사용
+ * - 제거: APP1(Exif, XMP - 촬영 위치/기기 정보), APP13(IPTC/Photoshop), EOI 이후 데이터(MPF 보조 이미지 등)
+ * - 유지: APP0(JFIF), APP2(ICC 색상 프로파일), APP14(Adobe 색 변환), 양자화/허프만 테이블, 스캔 데이터
+ * - 세그먼트 구조가 깨진 파일은 IllegalArgumentException (메타데이터 제거를 보장할 수 없으므로 거절)
+ */
+public final class JpegMetadataStripper {
+
+    private static final int MARKER_PREFIX = 0xFF;
+    private static final int SOI = 0xD8;
+    private static final int EOI = 0xD9;
+    private static final int SOS = 0xDA;
+    private static final int APP1 = 0xE1;
+    private static final int APP13 = 0xED;
+
+    private JpegMetadataStripper() {
+    }
+
+    /**
+     * 메타데이터 세그먼트를 제외한 JPEG 바이트 생성
+     */
+    public static byte[] strip(byte[] jpeg) {
+        if (jpeg.length < 4 || unsigned(jpeg, 0) != MARKER_PREFIX || unsigned(jpeg, 1) != SOI) {
+            throw malformed();
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(jpeg.length);
+        out.write(jpeg, 0, 2);
+
+        int pos = 2;
+        while (pos < jpeg.length) {
+            if (pos + 1 >= jpeg.length || unsigned(jpeg, pos) != MARKER_PREFIX) {
+                throw malformed();
+            }
+
+            int marker = unsigned(jpeg, pos + 1);
+            if (marker == MARKER_PREFIX) {
+                // 마커 앞 채움 바이트
+                pos++;
+                continue;
+            }
+            if (marker == EOI) {
+                out.write(jpeg, pos, 2);
+                return out.toByteArray();
+            }
+            if (isStandalone(marker)) {
+                out.write(jpeg, pos, 2);
+                pos += 2;
+                continue;
+            }
+
+            if (pos + 4 > jpeg.length) {
+                throw malformed();
+            }
+            int length = (unsigned(jpeg, pos + 2) << 8) | unsigned(jpeg, pos + 3);
+            int next = pos + 2 + length;
+            if (length < 2 || next > jpeg.length) {
+                throw malformed();
+            }
+            if (marker != APP1 && marker != APP13) {
+                out.write(jpeg, pos, next - pos);
+            }
+            pos = next;
+
+            if (marker == SOS) {
+                // 압축 데이터: 다음 마커(0xFF 뒤 0x00 스터핑/RST 제외)까지 그대로 복사
+                int start = pos;
+                while (pos + 1 < jpeg.length && !isMarkerAt(jpeg, pos)) {
+                    pos++;
+                }
+                if (pos + 1 >= jpeg.length) {
+                    // EOI 없이 끝난 파일 (디코더가 허용하는 범위)
+                    out.write(jpeg, start, jpeg.length - start);
+                    return out.toByteArray();
+                }
+                out.write(jpeg, start, pos - start);
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private static boolean isMarkerAt(byte[] jpeg, int pos) {
+        if (unsigned(jpeg, pos) != MARKER_PREFIX) {
+            return false;
+        }
+        int next = unsigned(jpeg, pos + 1);
+        return next != 0x00 && !isRestart(next);
+    }
+
+    /**
+     * 길이 필드가 없는 마커 (RST0~7, TEM)
+     */
+    private static boolean isStandalone(int marker) {
+        return isRestart(marker) || marker == 0x01;
+    }
+
+    private static boolean isRestart(int marker) {
+        return marker >= 0xD0 && marker <= 0xD7;
+    }
+
+    private static int unsigned(byte[] data, int offset) {
+        return data[offset] & 0xFF;
+    }
+
+    private static IllegalArgumentException malformed() {
+        return new IllegalArgumentException("손상된 이미지 파일입니다.");
+    }
+}
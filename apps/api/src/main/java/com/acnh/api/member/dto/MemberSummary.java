@@ -0,0 +1,37 @@
+package com.acnh.api.member.dto;
+
+import com.acnh.api.member.entity.Member;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * 회원 요약 정보 (응답 변환용 경량 불변 객체)
+ * - 게시글/채팅/리뷰/차단 응답에 표시되는 작성자 정보만 보관
+ * - uuid: STOMP 사용자 목적지(/user/{uuid}/...) 전송용
+ * - MemberSummaryCache에 저장되므로 엔티티 참조를 갖지 않음
+ */
+@Getter
+@Builder
+public class MemberSummary {
+
+    private final Long id;
+    private final UUID uuid;
+    private final String nickname;
+    private final String islandName;
+    private final Integer mannerScore;
+
+    /**
+     * Entity -> 요약 정보 변환
+     */
+    public static MemberSummary from(Member member) {
+        return MemberSummary.builder()
+                .id(member.getId())
+                .uuid(member.getUuid())
+                .nickname(member.getNickname())
+                .islandName(member.getIslandName())
+                .mannerScore(member.getMannerScore())
+                .build();
+    }
+}
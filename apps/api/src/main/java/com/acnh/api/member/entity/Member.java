@@ -16,6 +16,7 @@ import java.util.UUID;
  */
 @Entity
 @Table(name = "users")
+@EntityListeners(MemberChangeListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Member extends BaseEntity {
@@ -0,0 +1,26 @@
+package com.acnh.api.member.entity;
+
+import com.acnh.api.member.event.MemberChangedEvent;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Member 엔티티 변경 감지 리스너
+ * - users 행이 UPDATE될 때마다 MemberChangedEvent 발행 (dirty checking 포함)
+ * - 서비스마다 이벤트 발행을 빠뜨리지 않도록 엔티티 레벨에서 처리
+ *   (프로필 수정/설정, 탈퇴, 매너 점수 변경 모두 포함)
+ * - Spring Boot가 Hibernate에 SpringBeanContainer를 등록하므로 빈 주입 가능
+ */
+@Component
+@RequiredArgsConstructor
+public class MemberChangeListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostUpdate
+    public void onPostUpdate(Member member) {
+        eventPublisher.publishEvent(new MemberChangedEvent(member.getId(), member.getUuid()));
+    }
+}
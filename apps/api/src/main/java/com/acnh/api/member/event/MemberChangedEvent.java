@@ -0,0 +1,19 @@
+package com.acnh.api.member.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * 회원 정보 변경 이벤트
+ * - 프로필 수정/설정, 매너 점수 변경, 탈퇴(soft delete) 등 users 행이 갱신될 때 발행
+ * - 트랜잭션 커밋 후 회원 관련 인메모리 캐시 무효화에 사용
+ */
+@Getter
+@RequiredArgsConstructor
+public class MemberChangedEvent {
+
+    private final Long memberId;
+    private final UUID uuid;
+}
@@ -2,7 +2,11 @@ package com.acnh.api.member.repository;
 
 import com.acnh.api.member.entity.MemberFcmToken;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,4 +29,16 @@ public interface MemberFcmTokenRepository extends JpaRepository<MemberFcmToken,
      * 회원 ID와 디바이스 ID로 조회
      */
     Optional<MemberFcmToken> findByMemberIdAndDeviceIdAndDeletedAtIsNull(Long memberId, String deviceId);
+
+    /**
+     * 회원 ID 목록으로 활성화된 FCM 토큰 일괄 조회 (푸시 일괄 발송용)
+     */
+    List<MemberFcmToken> findByMemberIdInAndIsActiveTrueAndDeletedAtIsNull(Collection<Long> memberIds);
+
+    /**
+     * 토큰 일괄 비활성화 (발송 게이트웨이가 무효로 판정한 토큰)
+     */
+    @Modifying
+    @Query("UPDATE MemberFcmToken t SET t.isActive = false WHERE t.fcmToken IN :tokens AND t.isActive = true")
+    int deactivateByFcmTokens(@Param("tokens") Collection<String> tokens);
 }
@@ -23,6 +23,11 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
      */
     Optional<Member> findByUuidAndDeletedAtIsNull(UUID uuid);
 
+    /**
+     * UUID로 회원 조회 (탈퇴 회원 포함, 식별자 캐시 적재용)
+     */
+    Optional<Member> findByUuid(UUID uuid);
+
     /**
      * Cognito Sub으로 삭제되지 않은 회원 조회
      */
@@ -0,0 +1,133 @@
+package com.acnh.api.member.service;
+
+import com.acnh.api.member.event.MemberChangedEvent;
+import com.acnh.api.member.repository.MemberRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * 인증 사용자 식별자 변환기 (visitorId(UUID 문자열) -> 회원 ID)
+ * - 모든 서비스에 복사되어 있던 findMemberByUuid / getCurrentUserId 공통화
+ * - REST(@AuthenticationPrincipal)와 STOMP(Principal.getName()) 경로에서 공통 사용
+ * - uuid -> (회원 ID, 탈퇴 여부)를 크기 제한 캐시에 보관 (탈퇴 회원도 캐시하여 반복 조회 방지)
+ * - 회원 정보 변경(탈퇴 포함) 커밋 후 무효화, 다른 인스턴스의 탈퇴는 expire-after-write 만료로 수렴
+ *
+ * [성능 개선]
+ * Before: 인증이 필요한 모든 요청마다 memberRepository.findByUuidAndDeletedAtIsNull 1회 실행
+ * After: 캐시 적중 시 DB 조회 없음
+ */
+@Component
+public class MemberIdentityResolver {
+
+    private static final String CACHE_NAME = "memberIdentity";
+    private static final String ANONYMOUS_USER = "anonymousUser";
+
+    private final MemberRepository memberRepository;
+    private final Cache<UUID, MemberIdentity> cache;
+
+    public MemberIdentityResolver(MemberRepository memberRepository,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${member.identity-cache.max-size:50000}") long maxSize,
+                                  @Value("${member.identity-cache.expire-after-write:5m}") Duration expireAfterWrite) {
+        this.memberRepository = memberRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 로그인 필수 API용 회원 ID 조회
+     * - 비로그인("anonymousUser" 포함) 또는 UUID 형식 오류: "로그인이 필요합니다"
+     * - 존재하지 않거나 탈퇴한 회원: "존재하지 않는 사용자입니다"
+     */
+    public Long resolveId(String visitorId) {
+        if (isAnonymous(visitorId)) {
+            throw new IllegalArgumentException("로그인이 필요합니다");
+        }
+
+        // UUID 파싱 실패 시 원본 예외 메시지 노출 방지
+        UUID uuid = parseUuid(visitorId);
+        if (uuid == null) {
+            throw new IllegalArgumentException("로그인이 필요합니다");
+        }
+
+        MemberIdentity identity = lookup(uuid);
+        if (identity == null || identity.isDeleted()) {
+            throw new IllegalArgumentException("존재하지 않는 사용자입니다");
+        }
+        return identity.getId();
+    }
+
+    /**
+     * 비로그인 허용 API용 회원 ID 조회
+     * - 비로그인, UUID 형식 오류, 존재하지 않거나 탈퇴한 회원이면 null
+     */
+    public Long resolveIdOrNull(String visitorId) {
+        if (isAnonymous(visitorId)) {
+            return null;
+        }
+
+        UUID uuid = parseUuid(visitorId);
+        if (uuid == null) {
+            return null;
+        }
+
+        MemberIdentity identity = lookup(uuid);
+        return identity != null && !identity.isDeleted() ? identity.getId() : null;
+    }
+
+    /**
+     * 회원 정보 변경(탈퇴 포함) 커밋 후 무효화
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMemberChanged(MemberChangedEvent event) {
+        if (event.getUuid() != null) {
+            cache.invalidate(event.getUuid());
+        }
+    }
+
+    /**
+     * 캐시 조회, 미스 시 DB 조회 (존재하지 않는 UUID는 캐시하지 않음)
+     */
+    private MemberIdentity lookup(UUID uuid) {
+        return cache.get(uuid, key -> memberRepository.findByUuid(key)
+                .map(member -> new MemberIdentity(member.getId(), member.isDeleted()))
+                .orElse(null));
+    }
+
+    private boolean isAnonymous(String visitorId) {
+        return visitorId == null || ANONYMOUS_USER.equals(visitorId);
+    }
+
+    private UUID parseUuid(String visitorId) {
+        try {
+            return UUID.fromString(visitorId);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 캐시 항목 (회원 ID, 탈퇴 여부)
+     */
+    @Getter
+    @RequiredArgsConstructor
+    private static final class MemberIdentity {
+        private final Long id;
+        private final boolean deleted;
+    }
+}
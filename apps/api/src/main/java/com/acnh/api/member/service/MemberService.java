@@ -24,6 +24,7 @@ import java.util.UUID;
 public class MemberService {
 
     private final MemberRepository memberRepository;
+    private final MemberIdentityResolver memberIdentityResolver;
     private final ReviewRepository reviewRepository;
 
     /**
@@ -110,15 +111,11 @@ public class MemberService {
     }
 
     /**
-     * UUID로 회원 조회 (공통 메서드)
-     * Before: visitorId == null 체크 없이 바로 UUID 파싱 시도됨
-     * After: "anonymousUser" 문자열도 비인증 상태로 처리
+     * 로그인 사용자 엔티티 조회 (수정/탈퇴 등 엔티티가 필요한 경우)
+     * - visitorId 검증 및 회원 ID 변환은 MemberIdentityResolver에 위임
      */
     private Member findMemberByUuid(String visitorId) {
-        if (visitorId == null || "anonymousUser".equals(visitorId)) {
-            throw new IllegalArgumentException("로그인이 필요합니다");
-        }
-        return memberRepository.findByUuidAndDeletedAtIsNull(UUID.fromString(visitorId))
+        return memberRepository.findByIdAndDeletedAtIsNull(memberIdentityResolver.resolveId(visitorId))
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다"));
     }
 }
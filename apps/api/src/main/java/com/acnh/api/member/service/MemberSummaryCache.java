@@ -0,0 +1,98 @@
+package com.acnh.api.member.service;
+
+import com.acnh.api.member.dto.MemberSummary;
+import com.acnh.api.member.event.MemberChangedEvent;
+import com.acnh.api.member.repository.MemberRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 회원 요약 정보 read-through 캐시 (memberId -> MemberSummary)
+ * - 게시글/채팅/리뷰/차단 응답의 닉네임, 섬 이름, 매너 점수 조회에 사용
+ * - 최대 크기 제한 (초과 시 Caffeine W-TinyLFU 정책으로 제거)
+ * - 회원 정보 변경 커밋 후 무효화 (MemberChangedEvent)
+ * - 다른 인스턴스의 변경은 expire-after-write 만료로 수렴
+ * - 적중/미스/제거 지표는 Micrometer로 노출 (/actuator/metrics/cache.gets?tag=cache:memberSummary)
+ *
+ * [성능 개선]
+ * Before: 응답 변환마다 memberRepository.findByIdAndDeletedAtIsNull / findByIdInAndDeletedAtIsNull 호출
+ * After: 캐시 미스인 ID만 IN 쿼리 1회로 조회
+ */
+@Slf4j
+@Component
+public class MemberSummaryCache {
+
+    private static final String CACHE_NAME = "memberSummary";
+
+    private final MemberRepository memberRepository;
+    private final Cache<Long, MemberSummary> cache;
+
+    public MemberSummaryCache(MemberRepository memberRepository,
+                              MeterRegistry meterRegistry,
+                              @Value("${member.summary-cache.max-size:10000}") long maxSize,
+                              @Value("${member.summary-cache.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.memberRepository = memberRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 단건 조회 (삭제된 회원이면 empty, 캐시하지 않음)
+     */
+    public Optional<MemberSummary> get(Long memberId) {
+        if (memberId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(cache.get(memberId, id -> memberRepository.findByIdAndDeletedAtIsNull(id)
+                .map(MemberSummary::from)
+                .orElse(null)));
+    }
+
+    /**
+     * 일괄 조회 (캐시 미스인 ID만 IN 쿼리 1회)
+     * - 삭제된 회원은 결과 Map에 포함되지 않음
+     */
+    public Map<Long, MemberSummary> getAll(Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return Map.of();
+        }
+        return cache.getAll(memberIds, this::loadAll);
+    }
+
+    /**
+     * 회원 정보 변경 커밋 후 무효화
+     * - 트랜잭션 밖에서 변경된 경우에도 즉시 무효화 (fallbackExecution)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMemberChanged(MemberChangedEvent event) {
+        cache.invalidate(event.getMemberId());
+        log.debug("회원 요약 캐시 무효화 - memberId: {}", event.getMemberId());
+    }
+
+    private Map<Long, MemberSummary> loadAll(Set<? extends Long> memberIds) {
+        return memberRepository.findByIdInAndDeletedAtIsNull(List.copyOf(memberIds))
+                .stream()
+                .map(MemberSummary::from)
+                .collect(Collectors.toMap(MemberSummary::getId, Function.identity()));
+    }
+}
@@ -0,0 +1,209 @@
+package com.acnh.api.notification.controller;
+
+import com.acnh.api.notification.dto.NotificationListResponse;
+import com.acnh.api.notification.dto.NotificationSettingResponse;
+import com.acnh.api.notification.dto.NotificationSettingUpdateRequest;
+import com.acnh.api.notification.dto.NotificationUnreadCountResponse;
+import com.acnh.api.notification.service.NotificationService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * 알림 API 컨트롤러
+ * Base Path: /api/notifications
+ * - 알림 인박스 (커서 페이징), 읽지 않은 알림 수, 읽음 처리
+ * - 알림 설정 조회/수정
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/notifications")
+@RequiredArgsConstructor
+public class NotificationController {
+
+    private final NotificationService notificationService;
+
+    private static final int MAX_PAGE_SIZE = 50;
+
+    /**
+     * 알림 인박스 조회 (커서 페이징, 최신순)
+     * GET /api/notifications
+     * - before: 이전 응답의 nextCursor (없으면 첫 페이지)
+     * - size: 기본 20, 최대 50
+     */
+    @GetMapping
+    public ResponseEntity<?> getNotifications(
+            @AuthenticationPrincipal String visitorId,
+            @RequestParam(required = false) Long before,
+            @RequestParam(defaultValue = "20") int size) {
+
+        log.info("알림 목록 조회 요청 - visitorId: {}, before: {}, size: {}", visitorId, before, size);
+
+        if (visitorId == null) {
+            return ResponseEntity.status(401).body(Map.of(
+                    "error", "UNAUTHORIZED",
+                    "message", "로그인이 필요합니다"
+            ));
+        }
+
+        try {
+            int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+            NotificationListResponse response = notificationService.getInbox(visitorId, before, pageSize);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(404).body(Map.of(
+                    "error", "NOT_FOUND",
+                    "message", e.getMessage()
+            ));
+        }
+    }
+
+    /**
+     * 읽지 않은 알림 수 조회
+     * GET /api/notifications/unread-count
+     */
+    @GetMapping("/unread-count")
+    public ResponseEntity<?> getUnreadCount(@AuthenticationPrincipal String visitorId) {
+        if (visitorId == null) {
+            return ResponseEntity.status(401).body(Map.of(
+                    "error", "UNAUTHORIZED",
+                    "message", "로그인이 필요합니다"
+            ));
+        }
+
+        try {
+            NotificationUnreadCountResponse response = notificationService.getUnreadCount(visitorId);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(404).body(Map.of(
+                    "error", "NOT_FOUND",
+                    "message", e.getMessage()
+            ));
+        }
+    }
+
+    /**
+     * 알림 읽음 처리
+     * PATCH /api/notifications/{notificationId}/read
+     */
+    @PatchMapping("/{notificationId}/read")
+    public ResponseEntity<?> markAsRead(
+            @AuthenticationPrincipal String visitorId,
+            @PathVariable Long notificationId) {
+
+        log.info("알림 읽음 처리 요청 - notificationId: {}, visitorId: {}", notificationId, visitorId);
+
+        if (visitorId == null) {
+            return ResponseEntity.status(401).body(Map.of(
+                    "error", "UNAUTHORIZED",
+                    "message", "로그인이 필요합니다"
+            ));
+        }
+
+        try {
+            NotificationUnreadCountResponse response = notificationService.markAsRead(notificationId, visitorId);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            if (e.getMessage().contains("존재하지 않는")) {
+                return ResponseEntity.status(404).body(Map.of(
+                        "error", "NOT_FOUND",
+                        "message", e.getMessage()
+                ));
+            }
+            return ResponseEntity.status(403).body(Map.of(
+                    "error", "FORBIDDEN",
+                    "message", e.getMessage()
+            ));
+        }
+    }
+
+    /**
+     * 모든 알림 읽음 처리
+     * PATCH /api/notifications/read-all
+     */
+    @PatchMapping("/read-all")
+    public ResponseEntity<?> markAllAsRead(@AuthenticationPrincipal String visitorId) {
+        log.info("알림 모두 읽음 처리 요청 - visitorId: {}", visitorId);
+
+        if (visitorId == null) {
+            return ResponseEntity.status(401).body(Map.of(
+                    "error", "UNAUTHORIZED",
+                    "message", "로그인이 필요합니다"
+            ));
+        }
+
+        try {
+            NotificationUnreadCountResponse response = notificationService.markAllAsRead(visitorId);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(404).body(Map.of(
+                    "error", "NOT_FOUND",
+                    "message", e.getMessage()
+            ));
+        }
+    }
+
+    /**
+     * 알림 설정 조회
+     * GET /api/notifications/settings
+     */
+    @GetMapping("/settings")
+    public ResponseEntity<?> getSettings(@AuthenticationPrincipal String visitorId) {
+        if (visitorId == null) {
+            return ResponseEntity.status(401).body(Map.of(
+                    "error", "UNAUTHORIZED",
+                    "message", "로그인이 필요합니다"
+            ));
+        }
+
+        try {
+            NotificationSettingResponse response = notificationService.getSettings(visitorId);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(404).body(Map.of(
+                    "error", "NOT_FOUND",
+                    "message", e.getMessage()
+            ));
+        }
+    }
+
+    /**
+     * 알림 설정 수정
+     * PUT /api/notifications/settings
+     */
+    @PutMapping("/settings")
+    public ResponseEntity<?> updateSettings(
+            @AuthenticationPrincipal String visitorId,
+            @Valid @RequestBody NotificationSettingUpdateRequest request) {
+
+        log.info("알림 설정 수정 요청 - visitorId: {}", visitorId);
+
+        if (visitorId == null) {
+            return ResponseEntity.status(401).body(Map.of(
+                    "error", "UNAUTHORIZED",
+                    "message", "로그인이 필요합니다"
+            ));
+        }
+
+        try {
+            NotificationSettingResponse response = notificationService.updateSettings(request, visitorId);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            if (e.getMessage().contains("존재하지 않는")) {
+                return ResponseEntity.status(404).body(Map.of(
+                        "error", "NOT_FOUND",
+                        "message", e.getMessage()
+                ));
+            }
+            return ResponseEntity.badRequest().body(Map.of(
+                    "error", "INVALID_REQUEST",
+                    "message", e.getMessage()
+            ));
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.acnh.api.notification.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 알림 인박스 커서 페이징 응답 DTO
+ * - 전체 개수(COUNT) 없이 다음 페이지 커서(마지막 알림 ID)만 제공
+ */
+@Getter
+@Builder
+public class NotificationListResponse {
+
+    private List<NotificationResponse> notifications;
+    private Long nextCursor;  // 다음 페이지 요청 시 beforeId로 전달 (마지막 페이지면 null)
+    private boolean hasNext;
+    private int unreadCount;
+
+    public static NotificationListResponse of(List<NotificationResponse> notifications, Long nextCursor,
+                                              int unreadCount) {
+        return NotificationListResponse.builder()
+                .notifications(notifications)
+                .nextCursor(nextCursor)
+                .hasNext(nextCursor != null)
+                .unreadCount(unreadCount)
+                .build();
+    }
+}
@@ -0,0 +1,19 @@
+package com.acnh.api.notification.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 실시간 알림 전송 DTO (/user/queue/notifications)
+ * - 전송 주기 동안 쌓인 사용자별 알림을 한 프레임으로 묶어서 전송
+ * - unreadCount: 전송 시점의 읽지 않은 알림 수 (배지 갱신용)
+ */
+@Getter
+@RequiredArgsConstructor
+public class NotificationRealtimeResponse {
+
+    private final List<NotificationResponse> notifications;
+    private final int unreadCount;
+}
@@ -0,0 +1,44 @@
+package com.acnh.api.notification.dto;
+
+import com.acnh.api.notification.entity.Notification;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 응답 DTO
+ */
+@Getter
+@Builder
+public class NotificationResponse {
+
+    private Long id;
+    private String type;
+    private String title;
+    private String content;
+    private Long referenceId;
+    private String referenceType;
+    private Long requesterId;
+    private Integer offeredPrice;
+    private Boolean isRead;
+    private LocalDateTime createdAt;
+
+    /**
+     * Entity -> DTO 변환
+     */
+    public static NotificationResponse from(Notification notification) {
+        return NotificationResponse.builder()
+                .id(notification.getId())
+                .type(notification.getType())
+                .title(notification.getTitle())
+                .content(notification.getContent())
+                .referenceId(notification.getReferenceId())
+                .referenceType(notification.getReferenceType())
+                .requesterId(notification.getRequesterId())
+                .offeredPrice(notification.getOfferedPrice())
+                .isRead(notification.getIsRead())
+                .createdAt(notification.getCreatedAt())
+                .build();
+    }
+}
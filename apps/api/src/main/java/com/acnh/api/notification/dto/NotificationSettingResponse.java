@@ -0,0 +1,68 @@
+package com.acnh.api.notification.dto;
+
+import com.acnh.api.notification.entity.NotificationSetting;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalTime;
+
+/**
+ * 알림 설정 응답 DTO
+ * - 불변 객체이므로 NotificationSettingCache에 그대로 캐시
+ */
+@Getter
+@Builder
+public class NotificationSettingResponse {
+
+    private Long userId;
+    private Boolean chatEnabled;
+    private Boolean likeAlertEnabled;
+    private Boolean reviewEnabled;
+    private Boolean marketingEnabled;
+    private LocalTime dndStart;
+    private LocalTime dndEnd;
+
+    /**
+     * Entity -> DTO 변환
+     */
+    public static NotificationSettingResponse from(NotificationSetting setting) {
+        return NotificationSettingResponse.builder()
+                .userId(setting.getUserId())
+                .chatEnabled(setting.getChatEnabled())
+                .likeAlertEnabled(setting.getLikeAlertEnabled())
+                .reviewEnabled(setting.getReviewEnabled())
+                .marketingEnabled(setting.getMarketingEnabled())
+                .dndStart(setting.getDndStart())
+                .dndEnd(setting.getDndEnd())
+                .build();
+    }
+
+    /**
+     * 설정이 없는 사용자의 기본값
+     */
+    public static NotificationSettingResponse defaultOf(Long userId) {
+        return from(NotificationSetting.createDefault(userId));
+    }
+
+    /**
+     * 채팅 푸시 발송 가능 여부 (채팅 알림 on + 방해금지 시간 아님)
+     */
+    public boolean isChatPushAllowed(LocalTime now) {
+        return Boolean.TRUE.equals(chatEnabled) && !isInDoNotDisturbTime(now);
+    }
+
+    /**
+     * 찜한 상품 알림 생성 여부 (찜 알림 on)
+     * - 방해금지 시간이어도 알림은 저장, 실시간 전송만 NotificationRealtimeDispatcher에서 보류
+     */
+    public boolean allowsLikeAlert() {
+        return Boolean.TRUE.equals(likeAlertEnabled);
+    }
+
+    /**
+     * 현재 방해금지 시간인지 확인 (NotificationSetting과 같은 규칙 사용)
+     */
+    public boolean isInDoNotDisturbTime(LocalTime now) {
+        return NotificationSetting.isInDoNotDisturbTime(dndStart, dndEnd, now);
+    }
+}
@@ -0,0 +1,31 @@
+package com.acnh.api.notification.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalTime;
+
+/**
+ * 알림 설정 수정 요청 DTO
+ * - 방해금지 시간은 시작/종료 모두 지정하거나 모두 생략(해제)
+ */
+@Getter
+@NoArgsConstructor
+public class NotificationSettingUpdateRequest {
+
+    @NotNull(message = "채팅 알림 설정은 필수입니다")
+    private Boolean chatEnabled;
+
+    @NotNull(message = "찜 알림 설정은 필수입니다")
+    private Boolean likeAlertEnabled;
+
+    @NotNull(message = "리뷰 알림 설정은 필수입니다")
+    private Boolean reviewEnabled;
+
+    @NotNull(message = "마케팅 알림 설정은 필수입니다")
+    private Boolean marketingEnabled;
+
+    private LocalTime dndStart;
+    private LocalTime dndEnd;
+}
@@ -0,0 +1,14 @@
+package com.acnh.api.notification.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 읽지 않은 알림 수 응답 DTO
+ */
+@Getter
+@RequiredArgsConstructor
+public class NotificationUnreadCountResponse {
+
+    private final int unreadCount;
+}
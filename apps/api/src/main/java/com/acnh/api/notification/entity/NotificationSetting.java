@@ -104,6 +104,14 @@ public class NotificationSetting extends BaseEntity {
      * 현재 방해금지 시간인지 확인
      */
     public boolean isInDoNotDisturbTime(LocalTime now) {
+        return isInDoNotDisturbTime(dndStart, dndEnd, now);
+    }
+
+    /**
+     * 방해금지 시간 판정 규칙 (엔티티와 캐시용 NotificationSettingResponse가 공유)
+     * - 시작 포함, 종료 제외, 시작/종료 중 하나라도 없으면 방해금지 아님
+     */
+    public static boolean isInDoNotDisturbTime(LocalTime dndStart, LocalTime dndEnd, LocalTime now) {
         if (dndStart == null || dndEnd == null) {
             return false;
         }
@@ -0,0 +1,23 @@
+package com.acnh.api.notification.event;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 알림 생성 요청 이벤트
+ * - 거래/가격 제안 등 업무 트랜잭션에서 발행, 커밋 후 NotificationBatchWriter가 비동기 일괄 저장
+ * - 업무 트랜잭션이 롤백되면 알림도 생성되지 않음
+ */
+@Getter
+@Builder
+public class NotificationRequestedEvent {
+
+    private final Long userId;
+    private final String type;
+    private final String title;
+    private final String content;
+    private final Long referenceId;
+    private final String referenceType;
+    private final Long requesterId;
+    private final Integer offeredPrice;
+}
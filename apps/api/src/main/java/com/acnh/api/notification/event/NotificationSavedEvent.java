@@ -0,0 +1,18 @@
+package com.acnh.api.notification.event;
+
+import com.acnh.api.notification.dto.NotificationResponse;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 알림 저장 완료 이벤트
+ * - NotificationBatchWriter가 배치 저장(커밋) 후 알림마다 발행
+ * - 실시간 전송(/user/queue/notifications)에 사용
+ */
+@Getter
+@RequiredArgsConstructor
+public class NotificationSavedEvent {
+
+    private final Long userId;
+    private final NotificationResponse notification;
+}
@@ -0,0 +1,15 @@
+package com.acnh.api.notification.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 알림 설정 변경 이벤트
+ * - 트랜잭션 커밋 후 알림 설정 캐시 무효화에 사용
+ */
+@Getter
+@RequiredArgsConstructor
+public class NotificationSettingChangedEvent {
+
+    private final Long userId;
+}
@@ -0,0 +1,355 @@
+package com.acnh.api.notification.push;
+
+import com.acnh.api.chat.event.ChatMessageSentEvent;
+import com.acnh.api.chat.service.PresenceService;
+import com.acnh.api.member.dto.MemberSummary;
+import com.acnh.api.member.entity.MemberFcmToken;
+import com.acnh.api.member.repository.MemberFcmTokenRepository;
+import com.acnh.api.member.service.MemberSummaryCache;
+import com.acnh.api.notification.dto.NotificationSettingResponse;
+import com.acnh.api.notification.enums.NotificationType;
+import com.acnh.api.notification.service.NotificationSettingCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 오프라인 수신자 채팅 푸시 발송기
+ * - 메시지 저장 후(ChatMessageSentEvent) 수신자에게 이 인스턴스의 STOMP 세션이 없으면 대기열에 적재
+ * - 발송 직전 SimpUserRegistry로 다시 확인해 접속 중인 수신자 제외
+ *   (relay 모드는 userRegistryBroadcast로 다른 인스턴스 세션까지 포함 -> 다른 노드 접속자에게 중복 푸시 방지)
+ * - 같은 수신자/채팅방의 메시지는 coalesce-window 동안 1건으로 합침 (연속 메시지 = 푸시 1회)
+ * - 발송 전용 스레드가 알림 설정(채팅 알림 off, 방해 금지 시간)을 캐시에서 일괄 확인 후 게이트웨이로 일괄 발송
+ * - 요청 스레드에서는 인메모리 접속 확인(PresenceService) + 대기열 적재만 수행 (DB 조회/외부 발송 없음)
+ * - 대기열은 크기 제한, 가득 차면 새 채팅방 알림은 버림 (이미 적재된 채팅방은 계속 합침)
+ *
+ * [성능 개선]
+ * Before: 푸시 발송 없음 (앱을 닫은 사용자는 새 메시지를 알 수 없음)
+ * After: 수신자/채팅방 단위로 합친 뒤 설정은 캐시, 토큰은 IN 쿼리로 일괄 조회, 게이트웨이 배치 발송
+ */
+@Slf4j
+@Component
+public class ChatPushDispatcher implements SmartLifecycle {
+
+    private final PresenceService presenceService;
+    private final SimpUserRegistry simpUserRegistry;
+    private final MemberSummaryCache memberSummaryCache;
+    private final NotificationSettingCache notificationSettingCache;
+    private final MemberFcmTokenRepository memberFcmTokenRepository;
+    private final PushGateway pushGateway;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<PushKey, PendingPush> pending = new ConcurrentHashMap<>();
+    private final boolean enabled;
+    private final Duration coalesceWindow;
+    private final Duration flushInterval;
+    private final int maxPending;
+    private final int batchSize;
+
+    private final Counter enqueuedCounter;
+    private final Counter coalescedCounter;
+    private final Counter droppedCounter;
+    private final Counter sentCounter;
+    private final Counter skippedOnlineCounter;
+    private final Counter skippedSettingCounter;
+    private final Counter failedCounter;
+
+    private volatile boolean running;
+    private Thread dispatcher;
+
+    public ChatPushDispatcher(PresenceService presenceService,
+                              SimpUserRegistry simpUserRegistry,
+                              MemberSummaryCache memberSummaryCache,
+                              NotificationSettingCache notificationSettingCache,
+                              MemberFcmTokenRepository memberFcmTokenRepository,
+                              PushGateway pushGateway,
+                              TransactionTemplate transactionTemplate,
+                              MeterRegistry meterRegistry,
+                              @Value("${notification.push.chat.enabled:true}") boolean enabled,
+                              @Value("${notification.push.chat.coalesce-window:3s}") Duration coalesceWindow,
+                              @Value("${notification.push.chat.flush-interval:1s}") Duration flushInterval,
+                              @Value("${notification.push.chat.max-pending:10000}") int maxPending,
+                              @Value("${notification.push.batch-size:500}") int batchSize) {
+        this.presenceService = presenceService;
+        this.simpUserRegistry = simpUserRegistry;
+        this.memberSummaryCache = memberSummaryCache;
+        this.notificationSettingCache = notificationSettingCache;
+        this.memberFcmTokenRepository = memberFcmTokenRepository;
+        this.pushGateway = pushGateway;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.coalesceWindow = coalesceWindow;
+        this.flushInterval = flushInterval;
+        this.maxPending = maxPending;
+        this.batchSize = batchSize;
+
+        meterRegistry.gaugeMapSize("notification.push.chat.pending", List.of(), pending);
+        this.enqueuedCounter = meterRegistry.counter("notification.push.chat.enqueued");
+        this.coalescedCounter = meterRegistry.counter("notification.push.chat.coalesced");
+        this.droppedCounter = meterRegistry.counter("notification.push.chat.dropped");
+        this.sentCounter = meterRegistry.counter("notification.push.chat.sent");
+        this.skippedOnlineCounter = meterRegistry.counter("notification.push.chat.skipped", "reason", "online");
+        this.skippedSettingCounter = meterRegistry.counter("notification.push.chat.skipped", "reason", "setting");
+        this.failedCounter = meterRegistry.counter("notification.push.chat.failed");
+    }
+
+    /**
+     * 메시지 저장 이벤트 수신 (커밋 후, write-behind는 배치 저장 후)
+     * - 수신자가 이 인스턴스에 접속 중이면 무시, 아니면 수신자/채팅방 단위로 합쳐서 적재
+     *   (다른 인스턴스 접속 여부는 발송 스레드에서 SimpUserRegistry로 확인)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMessageSent(ChatMessageSentEvent event) {
+        if (!enabled || !running) {
+            return;
+        }
+        if (presenceService.isOnline(event.getRecipientId())) {
+            skippedOnlineCounter.increment();
+            return;
+        }
+
+        PushKey key = new PushKey(event.getRecipientId(), event.getRoomId());
+        pending.compute(key, (k, existing) -> {
+            if (existing != null) {
+                coalescedCounter.increment();
+                return existing.merge(event);
+            }
+            if (pending.size() >= maxPending) {
+                droppedCounter.increment();
+                return null;
+            }
+            enqueuedCounter.increment();
+            return new PendingPush(event, System.nanoTime());
+        });
+    }
+
+    /**
+     * 발송 스레드 루프: flush-interval마다 coalesce-window가 지난 항목 발송, 종료 시 남은 항목 모두 발송
+     */
+    private void runDispatchLoop() {
+        while (running) {
+            try {
+                Thread.sleep(flushInterval.toMillis());
+            } catch (InterruptedException e) {
+                // 종료 요청 - 루프 조건에서 확인
+            }
+            dispatch(drain(false));
+        }
+        dispatch(drain(true));
+    }
+
+    /**
+     * 첫 메시지 적재 후 coalesce-window가 지난 항목을 대기열에서 꺼냄 (all이면 전부)
+     */
+    private List<PendingPush> drain(boolean all) {
+        long now = System.nanoTime();
+        long windowNanos = coalesceWindow.toNanos();
+        List<PendingPush> ready = new ArrayList<>();
+        for (PushKey key : pending.keySet()) {
+            pending.computeIfPresent(key, (k, push) -> {
+                if (all || now - push.getFirstQueuedAt() >= windowNanos) {
+                    ready.add(push);
+                    return null;
+                }
+                return push;
+            });
+        }
+        return ready;
+    }
+
+    /**
+     * batch-size 단위로 나눠서 발송 (실패해도 다음 배치는 계속 진행)
+     */
+    private void dispatch(List<PendingPush> ready) {
+        for (int from = 0; from < ready.size(); from += batchSize) {
+            List<PendingPush> batch = ready.subList(from, Math.min(from + batchSize, ready.size()));
+            try {
+                dispatchBatch(batch);
+            } catch (RuntimeException e) {
+                failedCounter.increment(batch.size());
+                log.warn("채팅 푸시 발송 실패 - size: {}, error: {}", batch.size(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 수신자 알림 설정/토큰 일괄 조회 -> 필터링 -> 게이트웨이 발송 -> 무효 토큰 비활성화
+     */
+    private void dispatchBatch(List<PendingPush> batch) {
+        // 대기 중 다시 접속했거나 다른 인스턴스에 접속 중인 수신자 제외
+        Set<Long> connected = findConnected(batch.stream()
+                .map(PendingPush::getRecipientId)
+                .collect(Collectors.toSet()));
+        List<PendingPush> offline = new ArrayList<>(batch.size());
+        for (PendingPush push : batch) {
+            if (connected.contains(push.getRecipientId())) {
+                skippedOnlineCounter.increment();
+            } else {
+                offline.add(push);
+            }
+        }
+        if (offline.isEmpty()) {
+            return;
+        }
+
+        Set<Long> recipientIds = offline.stream().map(PendingPush::getRecipientId).collect(Collectors.toSet());
+        Map<Long, NotificationSettingResponse> settings = notificationSettingCache.getAll(recipientIds);
+
+        // 채팅 알림 off 또는 방해 금지 시간인 수신자 제외 (설정이 없으면 기본값 = 알림 on)
+        LocalTime now = LocalTime.now();
+        Set<Long> allowed = new HashSet<>();
+        for (Long recipientId : recipientIds) {
+            NotificationSettingResponse setting = settings.get(recipientId);
+            if (setting == null || setting.isChatPushAllowed(now)) {
+                allowed.add(recipientId);
+            }
+        }
+        if (allowed.isEmpty()) {
+            skippedSettingCounter.increment(offline.size());
+            return;
+        }
+
+        Map<Long, List<MemberFcmToken>> tokens = memberFcmTokenRepository
+                .findByMemberIdInAndIsActiveTrueAndDeletedAtIsNull(allowed).stream()
+                .collect(Collectors.groupingBy(MemberFcmToken::getMemberId));
+
+        List<PushMessage> messages = new ArrayList<>();
+        for (PendingPush push : offline) {
+            if (!allowed.contains(push.getRecipientId())) {
+                skippedSettingCounter.increment();
+                continue;
+            }
+            for (MemberFcmToken token : tokens.getOrDefault(push.getRecipientId(), List.of())) {
+                messages.add(push.toMessage(token.getFcmToken()));
+            }
+        }
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        Set<String> invalidTokens = pushGateway.send(messages);
+        sentCounter.increment(messages.size() - invalidTokens.size());
+
+        if (!invalidTokens.isEmpty()) {
+            Integer deactivated = transactionTemplate.execute(status ->
+                    memberFcmTokenRepository.deactivateByFcmTokens(invalidTokens));
+            log.info("무효 FCM 토큰 비활성화 - count: {}", deactivated);
+        }
+    }
+
+    /**
+     * STOMP 세션이 있는 수신자 (사용자 목적지 이름 = 회원 UUID, relay 모드는 전체 인스턴스 기준)
+     */
+    private Set<Long> findConnected(Set<Long> recipientIds) {
+        Map<Long, MemberSummary> members = memberSummaryCache.getAll(recipientIds);
+        Set<Long> connected = new HashSet<>();
+        members.forEach((memberId, member) -> {
+            if (simpUserRegistry.getUser(member.getUuid().toString()) != null) {
+                connected.add(memberId);
+            }
+        });
+        return connected;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        dispatcher = new Thread(this::runDispatchLoop, "chat-push-dispatcher");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+        log.info("채팅 푸시 발송기 시작 - enabled: {}, coalesceWindow: {}", enabled, coalesceWindow);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        dispatcher.interrupt();
+        try {
+            dispatcher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.info("채팅 푸시 발송기 종료");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 합치기 단위 (수신자 + 채팅방)
+     */
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static class PushKey {
+        private final Long recipientId;
+        private final Long roomId;
+    }
+
+    /**
+     * 발송 대기 알림 (합쳐진 메시지 수, 마지막 메시지 기준 미리보기)
+     */
+    private static class PendingPush {
+        private final long firstQueuedAt;
+        private ChatMessageSentEvent last;
+        private int messageCount;
+
+        PendingPush(ChatMessageSentEvent event, long firstQueuedAt) {
+            this.firstQueuedAt = firstQueuedAt;
+            this.last = event;
+            this.messageCount = 1;
+        }
+
+        PendingPush merge(ChatMessageSentEvent event) {
+            if (last.getMessageId() < event.getMessageId()) {
+                last = event;
+            }
+            messageCount++;
+            return this;
+        }
+
+        long getFirstQueuedAt() {
+            return firstQueuedAt;
+        }
+
+        Long getRecipientId() {
+            return last.getRecipientId();
+        }
+
+        PushMessage toMessage(String token) {
+            String body = messageCount > 1
+                    ? String.format("%s (새 메시지 %d개)", last.getPreview(), messageCount)
+                    : last.getPreview();
+            return PushMessage.builder()
+                    .memberId(last.getRecipientId())
+                    .token(token)
+                    .title(last.getSenderNickname())
+                    .body(body)
+                    .data(Map.of(
+                            "type", NotificationType.CHAT_NEW_MESSAGE.name(),
+                            "chatRoomId", String.valueOf(last.getRoomId()),
+                            "messageId", String.valueOf(last.getMessageId())))
+                    .build();
+        }
+    }
+}
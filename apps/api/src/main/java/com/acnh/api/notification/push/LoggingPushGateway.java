@@ -0,0 +1,27 @@
+package com.acnh.api.notification.push;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 로그 출력용 푸시 게이트웨이 (로컬/개발 환경 기본값)
+ * - 실제 발송 없이 발송 내용만 로그로 남김
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "notification.push.gateway", havingValue = "log", matchIfMissing = true)
+public class LoggingPushGateway implements PushGateway {
+
+    @Override
+    public Set<String> send(List<PushMessage> messages) {
+        for (PushMessage message : messages) {
+            log.info("푸시 발송(로그) - memberId: {}, title: {}, body: {}, data: {}",
+                    message.getMemberId(), message.getTitle(), message.getBody(), message.getData());
+        }
+        return Set.of();
+    }
+}
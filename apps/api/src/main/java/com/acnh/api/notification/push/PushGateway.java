@@ -0,0 +1,17 @@
+package com.acnh.api.notification.push;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 푸시 발송 게이트웨이 (FCM 등 외부 발송 수단 추상화)
+ * - 구현체는 notification.push.gateway 값으로 선택
+ */
+public interface PushGateway {
+
+    /**
+     * 일괄 발송
+     * - 반환: 더 이상 유효하지 않은 토큰 목록 (호출 측에서 비활성화)
+     */
+    Set<String> send(List<PushMessage> messages);
+}
@@ -0,0 +1,20 @@
+package com.acnh.api.notification.push;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * 푸시 발송 단위 (디바이스 토큰 1개당 1건)
+ */
+@Getter
+@Builder
+public class PushMessage {
+
+    private final Long memberId;
+    private final String token;
+    private final String title;
+    private final String body;
+    private final Map<String, String> data;
+}
@@ -1,6 +1,7 @@
 package com.acnh.api.notification.repository;
 
 import com.acnh.api.notification.entity.Notification;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -8,6 +9,8 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -25,8 +28,19 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
      */
     Page<Notification> findByUserIdAndDeletedAtIsNullOrderByCreatedAtDesc(Long userId, Pageable pageable);
 
+    /**
+     * 인박스 첫 페이지 조회 (ID 내림차순, idx_notifications_user_id_id)
+     */
+    List<Notification> findByUserIdAndDeletedAtIsNullOrderByIdDesc(Long userId, Limit limit);
+
+    /**
+     * 인박스 커서 조회 (beforeId보다 작은 ID, ID 내림차순)
+     */
+    List<Notification> findByUserIdAndIdLessThanAndDeletedAtIsNullOrderByIdDesc(Long userId, Long beforeId, Limit limit);
+
     /**
      * 사용자 ID로 읽지 않은 알림 수 조회
+     * - 인박스 표시는 notification_unread_counts 카운터(findUnreadCount) 사용, 보정/검증용
      */
     long countByUserIdAndIsReadFalseAndDeletedAtIsNull(Long userId);
 
@@ -36,4 +50,37 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     @Modifying
     @Query("UPDATE Notification n SET n.isRead = true WHERE n.userId = :userId AND n.isRead = false AND n.deletedAt IS NULL")
     int markAllAsReadByUserId(@Param("userId") Long userId);
+
+    /**
+     * 알림 단건 읽음 처리 (본인 알림, 읽지 않은 경우만)
+     * - 반환: 실제로 읽음 처리된 행 수 (0이면 이미 읽었거나 존재하지 않음)
+     */
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true " +
+            "WHERE n.id = :id AND n.userId = :userId AND n.isRead = false AND n.deletedAt IS NULL")
+    int markAsRead(@Param("id") Long id, @Param("userId") Long userId);
+
+    /**
+     * 읽지 않은 알림 수 카운터 조회 (카운터 행이 없으면 알림을 받은 적 없음 = 0)
+     */
+    @Query(value = "SELECT unread_count FROM notification_unread_counts WHERE user_id = :userId", nativeQuery = true)
+    Optional<Integer> findUnreadCount(@Param("userId") Long userId);
+
+    /**
+     * 읽지 않은 알림 수 카운터 일괄 조회 (실시간 전송 배지용)
+     * - 반환: [userId, unreadCount], 카운터 행이 없는 사용자는 결과에 없음 (= 0)
+     */
+    @Query(value = "SELECT user_id, unread_count FROM notification_unread_counts WHERE user_id IN (:userIds)",
+            nativeQuery = true)
+    List<Object[]> findUnreadCounts(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * 읽지 않은 알림 수 카운터 감소 (읽음 처리된 행 수만큼, 0 미만 방지)
+     * - 0으로 초기화하지 않음: 읽음 처리와 동시에 저장된 새 알림의 증가분 보존
+     */
+    @Modifying
+    @Query(value = "UPDATE notification_unread_counts " +
+            "SET unread_count = GREATEST(unread_count - :count, 0), updated_at = now() " +
+            "WHERE user_id = :userId", nativeQuery = true)
+    int decreaseUnreadCount(@Param("userId") Long userId, @Param("count") int count);
 }
@@ -3,6 +3,8 @@ package com.acnh.api.notification.repository;
 import com.acnh.api.notification.entity.NotificationSetting;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -19,4 +21,9 @@ public interface NotificationSettingRepository extends JpaRepository<Notificatio
      * 사용자 ID로 알림 설정 존재 여부 확인
      */
     boolean existsByUserIdAndDeletedAtIsNull(Long userId);
+
+    /**
+     * 사용자 ID 목록으로 삭제되지 않은 알림 설정 일괄 조회 (푸시 발송 대상 필터링용)
+     */
+    List<NotificationSetting> findByUserIdInAndDeletedAtIsNull(Collection<Long> userIds);
 }
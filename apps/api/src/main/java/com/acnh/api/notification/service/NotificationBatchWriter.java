@@ -0,0 +1,255 @@
+package com.acnh.api.notification.service;
+
+import com.acnh.api.notification.dto.NotificationResponse;
+import com.acnh.api.notification.event.NotificationRequestedEvent;
+import com.acnh.api.notification.event.NotificationSavedEvent;
+import com.acnh.api.common.batch.MicroBatchWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 알림 비동기 일괄 저장기
+ * - 업무 트랜잭션 커밋 후(NotificationRequestedEvent) 대기열에 적재만 하고 즉시 반환
+ * - MicroBatchWriter 전용 스레드가 마이크로 배치로 저장: ID 일괄 발급 1회 + JDBC batch INSERT 1회 + 사용자별 카운터 증가
+ * - 저장과 읽지 않은 알림 수 카운터 증가는 하나의 트랜잭션 (카운터 정합성 유지)
+ * - ID를 저장 전에 발급하므로 재시도 시 INSERT는 ON CONFLICT로 멱등 처리
+ *   (재시도 배치는 이미 저장된 ID를 먼저 조회해 카운터 중복 증가 방지, 드라이버가 행별 결과를 주지 않아도 정확)
+ * - 재시도/오류 행 분할은 MicroBatchWriter (오류 행만 실패 처리, 나머지 알림은 저장)
+ * - 대기열은 크기 제한, 가득 차면 알림을 버리고 경고 로그 (업무 요청은 지연시키지 않음)
+ * - 저장 완료된 알림마다 NotificationSavedEvent 발행 (실시간 전송)
+ * - 종료 시 대기열을 모두 저장한 뒤 종료 (shutdown-timeout까지만 대기)
+ *
+ * [성능 개선]
+ * Before: 가격 제안 등 업무 트랜잭션 안에서 알림 INSERT (업무 응답 지연 + 트랜잭션/락 유지 시간 증가)
+ * After: 커밋 후 대기열 적재만 수행, 저장은 배치 단위로 묶어 전용 스레드에서 처리
+ */
+@Slf4j
+@Component
+public class NotificationBatchWriter implements SmartLifecycle {
+
+    private static final String NEXT_IDS_SQL =
+            "SELECT nextval(pg_get_serial_sequence('notifications', 'id')) FROM generate_series(1, ?)";
+
+    private static final String INSERT_SQL = "INSERT INTO notifications " +
+            "(id, user_id, type, title, content, reference_id, reference_type, requester_id, offered_price, " +
+            "is_read, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, false, ?, ?) ON CONFLICT (id) DO NOTHING";
+
+    private static final String EXISTING_IDS_SQL = "SELECT id FROM notifications WHERE id = ANY (?)";
+
+    private static final String INCREASE_UNREAD_SQL = "INSERT INTO notification_unread_counts " +
+            "(user_id, unread_count, updated_at) VALUES (?, ?, now()) " +
+            "ON CONFLICT (user_id) DO UPDATE SET " +
+            "unread_count = notification_unread_counts.unread_count + EXCLUDED.unread_count, updated_at = now()";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final MicroBatchWriter<PendingNotification> writer;
+    private final int batchSize;
+    private final Duration maxDelay;
+    private final Counter droppedCounter;
+
+    public NotificationBatchWriter(JdbcTemplate jdbcTemplate,
+                                   TransactionTemplate transactionTemplate,
+                                   ApplicationEventPublisher eventPublisher,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${notification.writer.queue-capacity:10000}") int queueCapacity,
+                                   @Value("${notification.writer.batch-size:200}") int batchSize,
+                                   @Value("${notification.writer.max-delay:200ms}") Duration maxDelay,
+                                   @Value("${notification.writer.max-attempts:5}") int maxAttempts,
+                                   @Value("${notification.writer.retry-backoff:500ms}") Duration retryBackoff,
+                                   @Value("${notification.writer.shutdown-timeout:20s}") Duration shutdownTimeout) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+        this.maxDelay = maxDelay;
+
+        this.writer = new MicroBatchWriter<>("notification-writer", new PendingNotificationHandler(), meterRegistry,
+                "notification.writer", queueCapacity, batchSize, maxDelay, maxAttempts, retryBackoff, shutdownTimeout);
+        this.droppedCounter = meterRegistry.counter("notification.writer.dropped");
+    }
+
+    /**
+     * 알림 생성 요청 수신 (커밋 후, 트랜잭션 밖에서 발행된 경우 즉시)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onNotificationRequested(NotificationRequestedEvent event) {
+        if (!writer.offer(new PendingNotification(event, LocalDateTime.now()), Duration.ZERO)) {
+            droppedCounter.increment();
+            log.warn("알림 대기열 초과로 저장 생략 - userId: {}, type: {}", event.getUserId(), event.getType());
+        }
+    }
+
+    /**
+     * ID가 없는 알림에만 시퀀스에서 ID 일괄 발급 (재시도 시 기존 ID 유지)
+     */
+    private void assignIds(List<PendingNotification> batch) {
+        List<PendingNotification> unassigned = batch.stream().filter(pending -> pending.id == null).toList();
+        if (unassigned.isEmpty()) {
+            return;
+        }
+        List<Long> ids = jdbcTemplate.queryForList(NEXT_IDS_SQL, Long.class, unassigned.size());
+        for (int i = 0; i < unassigned.size(); i++) {
+            unassigned.get(i).id = ids.get(i);
+        }
+    }
+
+    /**
+     * 배치 INSERT + 사용자별 읽지 않은 알림 수 증가 (단일 트랜잭션)
+     */
+    private void persist(List<PendingNotification> batch) {
+        transactionTemplate.executeWithoutResult(status -> {
+            // 이전 시도가 커밋 응답만 잃고 저장되었을 수 있으므로 재시도 배치는 이미 있는 ID를 먼저 확인
+            boolean retried = batch.stream().anyMatch(pending -> pending.attempted);
+            Set<Long> existing = retried ? findExistingIds(batch) : Set.of();
+            batch.forEach(pending -> pending.attempted = true);
+
+            int[][] inserted = jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, pending) -> {
+                NotificationRequestedEvent event = pending.event;
+                Timestamp createdAt = Timestamp.valueOf(pending.createdAt);
+                ps.setLong(1, pending.id);
+                ps.setLong(2, event.getUserId());
+                ps.setString(3, event.getType());
+                ps.setString(4, event.getTitle());
+                ps.setString(5, event.getContent());
+                ps.setObject(6, event.getReferenceId(), Types.BIGINT);
+                ps.setString(7, event.getReferenceType());
+                ps.setObject(8, event.getRequesterId(), Types.BIGINT);
+                ps.setObject(9, event.getOfferedPrice(), Types.INTEGER);
+                ps.setTimestamp(10, createdAt);
+                ps.setTimestamp(11, createdAt);
+            });
+
+            // 실제로 INSERT된 행만 카운터에 반영 (이전 시도에서 저장된 행 중복 증가 방지)
+            // - 드라이버가 행별 건수 대신 SUCCESS_NO_INFO(-2)를 주면 위에서 확인한 기존 ID로 판단
+            Map<Long, Integer> increments = new LinkedHashMap<>();
+            for (int i = 0; i < batch.size(); i++) {
+                int count = inserted[0][i];
+                PendingNotification pending = batch.get(i);
+                if (count > 0 || (count == Statement.SUCCESS_NO_INFO && !existing.contains(pending.id))) {
+                    increments.merge(pending.event.getUserId(), 1, Integer::sum);
+                }
+            }
+            if (!increments.isEmpty()) {
+                jdbcTemplate.batchUpdate(INCREASE_UNREAD_SQL, new ArrayList<>(increments.entrySet()), increments.size(),
+                        (ps, entry) -> {
+                            ps.setLong(1, entry.getKey());
+                            ps.setInt(2, entry.getValue());
+                        });
+            }
+        });
+    }
+
+    /**
+     * 배치 중 이미 저장된 알림 ID 조회
+     */
+    private Set<Long> findExistingIds(List<PendingNotification> batch) {
+        Long[] ids = batch.stream().map(pending -> pending.id).toArray(Long[]::new);
+        List<Long> existing = jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(EXISTING_IDS_SQL);
+            ps.setArray(1, connection.createArrayOf("bigint", ids));
+            return ps;
+        }, (rs, rowNum) -> rs.getLong(1));
+        return new HashSet<>(existing);
+    }
+
+    private void publishSaved(PendingNotification pending) {
+        NotificationRequestedEvent event = pending.event;
+        try {
+            eventPublisher.publishEvent(new NotificationSavedEvent(event.getUserId(), NotificationResponse.builder()
+                    .id(pending.id)
+                    .type(event.getType())
+                    .title(event.getTitle())
+                    .content(event.getContent())
+                    .referenceId(event.getReferenceId())
+                    .referenceType(event.getReferenceType())
+                    .requesterId(event.getRequesterId())
+                    .offeredPrice(event.getOfferedPrice())
+                    .isRead(false)
+                    .createdAt(pending.createdAt)
+                    .build()));
+        } catch (Exception e) {
+            log.warn("알림 저장 이벤트 발행 실패 - notificationId: {}, error: {}", pending.id, e.getMessage());
+        }
+    }
+
+    /**
+     * 저장 결과 처리: 저장 완료 -> NotificationSavedEvent 발행, 최종 실패 -> 로그
+     */
+    private class PendingNotificationHandler implements MicroBatchWriter.Handler<PendingNotification> {
+
+        @Override
+        public void flush(List<PendingNotification> batch) {
+            assignIds(batch);
+            persist(batch);
+        }
+
+        @Override
+        public void onPersisted(List<PendingNotification> batch) {
+            batch.forEach(NotificationBatchWriter.this::publishSaved);
+        }
+
+        @Override
+        public void onFailed(List<PendingNotification> items) {
+            log.error("알림 저장 최종 실패 - size: {}, ids: {}..{}",
+                    items.size(), items.get(0).id, items.get(items.size() - 1).id);
+        }
+    }
+
+    @Override
+    public void start() {
+        writer.start();
+        log.info("알림 일괄 저장기 시작 - batchSize: {}, maxDelay: {}", batchSize, maxDelay);
+    }
+
+    @Override
+    public void stop() {
+        writer.stop();
+        log.info("알림 일괄 저장기 종료");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return writer.isRunning();
+    }
+
+    /**
+     * 저장 대기 알림 (ID는 저장 시점에 발급)
+     */
+    private static class PendingNotification {
+        private final NotificationRequestedEvent event;
+        private final LocalDateTime createdAt;
+        private Long id;
+        private boolean attempted;
+
+        PendingNotification(NotificationRequestedEvent event, LocalDateTime createdAt) {
+            this.event = event;
+            this.createdAt = createdAt;
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.acnh.api.notification.service;
+
+import com.acnh.api.member.dto.MemberSummary;
+import com.acnh.api.member.service.MemberSummaryCache;
+import com.acnh.api.notification.dto.NotificationRealtimeResponse;
+import com.acnh.api.notification.dto.NotificationResponse;
+import com.acnh.api.notification.dto.NotificationSettingResponse;
+import com.acnh.api.notification.enums.NotificationType;
+import com.acnh.api.notification.event.NotificationSavedEvent;
+import com.acnh.api.notification.repository.NotificationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 실시간 알림 전송기 (/user/queue/notifications)
+ * - 알림 저장 후(NotificationSavedEvent) 사용자별로 모아두고 flush-interval마다 사용자당 1프레임으로 전송
+ * - STOMP 세션이 없는 사용자(SimpUserRegistry 기준, relay 모드는 다른 인스턴스 세션 포함)는 전송 생략
+ *   (인박스 조회 시 확인)
+ * - 방해금지 시간인 사용자에게는 찜 알림을 실시간 전송하지 않음 (저장은 되어 있으므로 인박스에서 확인)
+ * - 프레임에 전송 시점의 읽지 않은 알림 수 포함 (대상 사용자 카운터 IN 쿼리 1회)
+ * - 사용자당 최신 max-per-user건만 보관 (초과분은 인박스에서 조회)
+ *
+ * [성능 개선]
+ * Before: 클라이언트가 알림 목록/읽지 않은 수를 주기적으로 조회 (폴링)
+ * After: 새 알림이 있을 때만 사용자당 주기별 최대 1프레임 전송
+ */
+@Slf4j
+@Component
+public class NotificationRealtimeDispatcher {
+
+    private static final String DESTINATION = "/queue/notifications";
+
+    // 방해금지 시간에 실시간 전송을 보류하는 알림 유형
+    private static final Set<String> QUIET_HOURS_TYPES =
+            Set.of(NotificationType.LIKE_PRICE_CHANGED.name(), NotificationType.LIKE_STATUS_CHANGED.name());
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final SimpUserRegistry simpUserRegistry;
+    private final MemberSummaryCache memberSummaryCache;
+    private final NotificationRepository notificationRepository;
+    private final NotificationSettingCache notificationSettingCache;
+    private final int maxPerUser;
+
+    private final Map<Long, List<NotificationResponse>> pendingByUser = new ConcurrentHashMap<>();
+
+    private final Counter sentCounter;
+    private final Counter skippedOfflineCounter;
+    private final Counter heldQuietHoursCounter;
+
+    public NotificationRealtimeDispatcher(SimpMessagingTemplate messagingTemplate,
+                                          SimpUserRegistry simpUserRegistry,
+                                          MemberSummaryCache memberSummaryCache,
+                                          NotificationRepository notificationRepository,
+                                          NotificationSettingCache notificationSettingCache,
+                                          MeterRegistry meterRegistry,
+                                          @Value("${notification.realtime.max-per-user:20}") int maxPerUser) {
+        this.messagingTemplate = messagingTemplate;
+        this.simpUserRegistry = simpUserRegistry;
+        this.memberSummaryCache = memberSummaryCache;
+        this.notificationRepository = notificationRepository;
+        this.notificationSettingCache = notificationSettingCache;
+        this.maxPerUser = maxPerUser;
+
+        meterRegistry.gaugeMapSize("notification.realtime.pending.users", List.of(), pendingByUser);
+        this.sentCounter = meterRegistry.counter("notification.realtime.frames.sent");
+        this.skippedOfflineCounter = meterRegistry.counter("notification.realtime.frames.skipped");
+        this.heldQuietHoursCounter = meterRegistry.counter("notification.realtime.quiet_hours.held");
+    }
+
+    /**
+     * 알림 저장 완료 수신 (NotificationBatchWriter 저장 스레드에서 호출, 적재만 수행)
+     */
+    @EventListener
+    public void onNotificationSaved(NotificationSavedEvent event) {
+        pendingByUser.compute(event.getUserId(), (id, notifications) -> {
+            List<NotificationResponse> current = notifications != null ? notifications : new ArrayList<>();
+            current.add(event.getNotification());
+            if (current.size() > maxPerUser) {
+                current.remove(0);
+            }
+            return current;
+        });
+    }
+
+    /**
+     * 사용자별로 모인 알림 전송 (기본 500ms 주기)
+     */
+    @Scheduled(fixedDelayString = "${notification.realtime.flush-interval-ms:500}")
+    public void flush() {
+        if (pendingByUser.isEmpty()) {
+            return;
+        }
+
+        Map<Long, List<NotificationResponse>> ready = new HashMap<>();
+        for (Long userId : pendingByUser.keySet()) {
+            List<NotificationResponse> notifications = pendingByUser.remove(userId);
+            if (notifications != null) {
+                ready.put(userId, notifications);
+            }
+        }
+
+        // 접속 중인 사용자만 전송 (사용자 목적지 이름 = 회원 UUID)
+        Map<Long, MemberSummary> members = memberSummaryCache.getAll(ready.keySet());
+        Map<Long, String> onlineUsers = new HashMap<>();
+        members.forEach((userId, member) -> {
+            String userName = member.getUuid().toString();
+            if (simpUserRegistry.getUser(userName) != null) {
+                onlineUsers.put(userId, userName);
+            }
+        });
+        skippedOfflineCounter.increment(ready.size() - onlineUsers.size());
+
+        holdQuietHoursNotifications(ready, onlineUsers);
+        if (onlineUsers.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Integer> unreadCounts = new HashMap<>();
+        for (Object[] row : notificationRepository.findUnreadCounts(onlineUsers.keySet())) {
+            unreadCounts.put(((Number) row[0]).longValue(), ((Number) row[1]).intValue());
+        }
+
+        onlineUsers.forEach((userId, userName) -> {
+            try {
+                messagingTemplate.convertAndSendToUser(userName, DESTINATION,
+                        new NotificationRealtimeResponse(ready.get(userId), unreadCounts.getOrDefault(userId, 0)));
+                sentCounter.increment();
+            } catch (Exception e) {
+                log.warn("실시간 알림 전송 실패 - userId: {}, error: {}", userId, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 방해금지 시간인 사용자의 찜 알림을 프레임에서 제외 (남은 알림이 없으면 전송 대상에서 제외)
+     * - 설정은 찜 알림이 포함된 사용자만 캐시에서 일괄 조회
+     */
+    private void holdQuietHoursNotifications(Map<Long, List<NotificationResponse>> ready,
+                                             Map<Long, String> onlineUsers) {
+        List<Long> candidates = onlineUsers.keySet().stream()
+                .filter(userId -> ready.get(userId).stream()
+                        .anyMatch(notification -> QUIET_HOURS_TYPES.contains(notification.getType())))
+                .toList();
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        LocalTime now = LocalTime.now();
+        Map<Long, NotificationSettingResponse> settings = notificationSettingCache.getAll(candidates);
+        for (Long userId : candidates) {
+            NotificationSettingResponse setting = settings.get(userId);
+            if (setting == null || !setting.isInDoNotDisturbTime(now)) {
+                continue;
+            }
+            List<NotificationResponse> deliverable = ready.get(userId).stream()
+                    .filter(notification -> !QUIET_HOURS_TYPES.contains(notification.getType()))
+                    .toList();
+            heldQuietHoursCounter.increment(ready.get(userId).size() - deliverable.size());
+            if (deliverable.isEmpty()) {
+                onlineUsers.remove(userId);
+            } else {
+                ready.put(userId, deliverable);
+            }
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.acnh.api.notification.service;
+
+import com.acnh.api.member.service.MemberIdentityResolver;
+import com.acnh.api.notification.dto.NotificationListResponse;
+import com.acnh.api.notification.dto.NotificationResponse;
+import com.acnh.api.notification.dto.NotificationSettingResponse;
+import com.acnh.api.notification.dto.NotificationSettingUpdateRequest;
+import com.acnh.api.notification.dto.NotificationUnreadCountResponse;
+import com.acnh.api.notification.entity.Notification;
+import com.acnh.api.notification.entity.NotificationSetting;
+import com.acnh.api.notification.event.NotificationSettingChangedEvent;
+import com.acnh.api.notification.repository.NotificationRepository;
+import com.acnh.api.notification.repository.NotificationSettingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 알림 인박스/설정 서비스
+ * - 알림 생성은 NotificationRequestedEvent 발행 -> NotificationBatchWriter가 커밋 후 비동기 일괄 저장
+ * - 읽지 않은 알림 수는 notification_unread_counts 카운터 조회 (COUNT(*) 없음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class NotificationService {
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationSettingRepository notificationSettingRepository;
+    private final NotificationSettingCache notificationSettingCache;
+    private final MemberIdentityResolver memberIdentityResolver;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 알림 인박스 조회 (커서 기반, 최신순)
+     * - beforeId: 이전 페이지의 nextCursor (없으면 첫 페이지)
+     * - size + 1건 조회하여 다음 페이지 존재 여부 판단
+     */
+    public NotificationListResponse getInbox(String visitorId, Long beforeId, int size) {
+        Long userId = memberIdentityResolver.resolveId(visitorId);
+
+        List<Notification> notifications = beforeId != null
+                ? notificationRepository.findByUserIdAndIdLessThanAndDeletedAtIsNullOrderByIdDesc(userId, beforeId, Limit.of(size + 1))
+                : notificationRepository.findByUserIdAndDeletedAtIsNullOrderByIdDesc(userId, Limit.of(size + 1));
+
+        // size + 1건이 조회되면 다음 페이지 존재
+        boolean hasNext = notifications.size() > size;
+        List<Notification> page = hasNext ? notifications.subList(0, size) : notifications;
+        Long nextCursor = hasNext ? page.get(page.size() - 1).getId() : null;
+
+        return NotificationListResponse.of(
+                page.stream().map(NotificationResponse::from).toList(),
+                nextCursor,
+                findUnreadCount(userId));
+    }
+
+    /**
+     * 읽지 않은 알림 수 조회 (카운터 1행 조회)
+     */
+    public NotificationUnreadCountResponse getUnreadCount(String visitorId) {
+        Long userId = memberIdentityResolver.resolveId(visitorId);
+        return new NotificationUnreadCountResponse(findUnreadCount(userId));
+    }
+
+    /**
+     * 알림 단건 읽음 처리
+     * - 이미 읽은 알림이면 카운터 변경 없음
+     */
+    @Transactional
+    public NotificationUnreadCountResponse markAsRead(Long notificationId, String visitorId) {
+        Long userId = memberIdentityResolver.resolveId(visitorId);
+
+        int updated = notificationRepository.markAsRead(notificationId, userId);
+        if (updated > 0) {
+            notificationRepository.decreaseUnreadCount(userId, updated);
+        } else {
+            Notification notification = notificationRepository.findByIdAndDeletedAtIsNull(notificationId)
+                    .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 알림입니다"));
+            if (!notification.getUserId().equals(userId)) {
+                throw new IllegalArgumentException("본인의 알림만 읽음 처리할 수 있습니다");
+            }
+        }
+
+        return new NotificationUnreadCountResponse(findUnreadCount(userId));
+    }
+
+    /**
+     * 모든 알림 읽음 처리 (UPDATE 1회 + 카운터 감소 1회)
+     */
+    @Transactional
+    public NotificationUnreadCountResponse markAllAsRead(String visitorId) {
+        Long userId = memberIdentityResolver.resolveId(visitorId);
+
+        int updated = notificationRepository.markAllAsReadByUserId(userId);
+        if (updated > 0) {
+            notificationRepository.decreaseUnreadCount(userId, updated);
+        }
+        log.info("알림 모두 읽음 처리 - userId: {}, count: {}", userId, updated);
+
+        return new NotificationUnreadCountResponse(findUnreadCount(userId));
+    }
+
+    /**
+     * 알림 설정 조회 (캐시, 설정이 없으면 기본값)
+     */
+    public NotificationSettingResponse getSettings(String visitorId) {
+        Long userId = memberIdentityResolver.resolveId(visitorId);
+        return notificationSettingCache.get(userId);
+    }
+
+    /**
+     * 알림 설정 수정 (설정이 없으면 기본값으로 생성 후 수정)
+     */
+    @Transactional
+    public NotificationSettingResponse updateSettings(NotificationSettingUpdateRequest request, String visitorId) {
+        Long userId = memberIdentityResolver.resolveId(visitorId);
+
+        // 방해금지 시간은 시작/종료를 함께 지정
+        if ((request.getDndStart() == null) != (request.getDndEnd() == null)) {
+            throw new IllegalArgumentException("방해금지 시작/종료 시간은 함께 지정해야 합니다");
+        }
+
+        NotificationSetting setting = notificationSettingRepository.findByUserIdAndDeletedAtIsNull(userId)
+                .orElseGet(() -> notificationSettingRepository.save(NotificationSetting.createDefault(userId)));
+        setting.update(request.getChatEnabled(), request.getLikeAlertEnabled(),
+                request.getReviewEnabled(), request.getMarketingEnabled(),
+                request.getDndStart(), request.getDndEnd());
+
+        // 알림 설정 캐시 무효화 (커밋 후 반영)
+        eventPublisher.publishEvent(new NotificationSettingChangedEvent(userId));
+        log.info("알림 설정 수정 - userId: {}", userId);
+
+        return NotificationSettingResponse.from(setting);
+    }
+
+    private int findUnreadCount(Long userId) {
+        return notificationRepository.findUnreadCount(userId).orElse(0);
+    }
+}
@@ -36,6 +36,8 @@ public class PostController {
      * - 필터: categoryId, postType, status, currencyType, minPrice, maxPrice
      * - 가격 필터 사용 시 currencyType 필수 (벨 500과 마일 500은 다름)
      * - 페이징: page, size
+     * - 커서 페이징: cursor 파라미터 전달 시 (첫 페이지는 빈 값 "cursor=")
+     *   응답의 nextCursor를 다음 요청의 cursor로 전달, COUNT 쿼리 없음
      */
     @GetMapping
     public ResponseEntity<?> getFeed(
@@ -46,13 +48,22 @@ public class PostController {
             @RequestParam(required = false) String currencyType,
             @RequestParam(required = false) Integer minPrice,
             @RequestParam(required = false) Integer maxPrice,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size) {
 
-        log.info("피드 조회 요청 - categoryId: {}, postType: {}, status: {}, currencyType: {}, minPrice: {}, maxPrice: {}, page: {}, size: {}",
-                categoryId, postType, status, currencyType, minPrice, maxPrice, page, size);
+        log.info("피드 조회 요청 - categoryId: {}, postType: {}, status: {}, currencyType: {}, minPrice: {}, maxPrice: {}, cursor: {}, page: {}, size: {}",
+                categoryId, postType, status, currencyType, minPrice, maxPrice, cursor, page, size);
 
         try {
+            // 커서 페이징 (cursor 파라미터가 있으면 Keyset 방식 사용)
+            if (cursor != null) {
+                int pageSize = Math.max(1, Math.min(size, DEFAULT_PAGE_SIZE));
+                PostCursorResponse response = postService.getFeedByCursor(categoryId, postType, status, currencyType,
+                        minPrice, maxPrice, cursor, visitorId, pageSize);
+                return ResponseEntity.ok(response);
+            }
+
             Pageable pageable = PageRequest.of(page, Math.min(size, DEFAULT_PAGE_SIZE));
             PostListResponse response = postService.getFeed(categoryId, postType, status, currencyType, minPrice, maxPrice, visitorId, pageable);
             return ResponseEntity.ok(response);
@@ -70,6 +81,7 @@ public class PostController {
      * - 필수: keyword
      * - 필터: categoryId, postType, status, currencyType, minPrice, maxPrice
      * - 가격 필터 사용 시 currencyType 필수 (벨 500과 마일 500은 다름)
+     * - 정렬: sort=recent(기본, 최신순) | relevance(관련도순)
      * - 페이징: page, size
      */
     @GetMapping("/search")
@@ -82,15 +94,38 @@ public class PostController {
             @RequestParam(required = false) String currencyType,
             @RequestParam(required = false) Integer minPrice,
             @RequestParam(required = false) Integer maxPrice,
+            @RequestParam(defaultValue = "recent") String sort,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size) {
 
-        log.info("검색 요청 - keyword: {}, categoryId: {}, postType: {}, status: {}, currencyType: {}, minPrice: {}, maxPrice: {}, page: {}, size: {}",
-                keyword, categoryId, postType, status, currencyType, minPrice, maxPrice, page, size);
+        log.info("검색 요청 - keyword: {}, categoryId: {}, postType: {}, status: {}, currencyType: {}, minPrice: {}, maxPrice: {}, sort: {}, page: {}, size: {}",
+                keyword, categoryId, postType, status, currencyType, minPrice, maxPrice, sort, page, size);
 
         try {
             Pageable pageable = PageRequest.of(page, Math.min(size, DEFAULT_PAGE_SIZE));
-            PostListResponse response = postService.searchPosts(keyword, categoryId, postType, status, currencyType, minPrice, maxPrice, visitorId, pageable);
+            PostListResponse response = postService.searchPosts(keyword, categoryId, postType, status, currencyType, minPrice, maxPrice, sort, visitorId, pageable);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "error", "INVALID_REQUEST",
+                    "message", e.getMessage()
+            ));
+        }
+    }
+
+    /**
+     * 아이템명 자동완성
+     * GET /api/posts/suggest
+     * - 필수: q (초성만 입력도 가능, 예: "ㅁㄷㄷ")
+     * - limit: 최대 후보 수 (기본 10, 최대 20)
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<?> suggestItemNames(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+
+        try {
+            ItemNameSuggestResponse response = postService.suggestItemNames(q, limit);
             return ResponseEntity.ok(response);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(Map.of(
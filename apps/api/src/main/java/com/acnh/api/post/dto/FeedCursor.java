@@ -0,0 +1,65 @@
+package com.acnh.api.post.dto;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 피드 커서 (Keyset 페이징용)
+ * - (정렬키, 게시글 ID) 조합으로 마지막으로 본 위치를 표현
+ * - 정렬키: Post.feedSortAt (끌올 시각, 없으면 작성 시각)
+ * - 클라이언트에는 Base64(URL-safe) 인코딩된 불투명 문자열로 전달
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class FeedCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime sortKey;
+    private final Long id;
+
+    /**
+     * 마지막 게시글 위치로 커서 생성
+     */
+    public static FeedCursor of(LocalDateTime sortKey, Long id) {
+        return new FeedCursor(sortKey, id);
+    }
+
+    /**
+     * 커서 문자열 인코딩
+     */
+    public String encode() {
+        String raw = sortKey + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열 디코딩
+     * - null 또는 빈 문자열이면 첫 페이지 (null 반환)
+     */
+    public static FeedCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(DELIMITER);
+            if (idx <= 0) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다");
+            }
+            LocalDateTime sortKey = LocalDateTime.parse(raw.substring(0, idx));
+            Long id = Long.parseLong(raw.substring(idx + 1));
+            return new FeedCursor(sortKey, id);
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            // NumberFormatException은 IllegalArgumentException의 하위 타입
+            throw new IllegalArgumentException("유효하지 않은 커서입니다");
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.acnh.api.post.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 아이템명 자동완성 응답 DTO
+ */
+@Getter
+@Builder
+public class ItemNameSuggestResponse {
+
+    private List<String> suggestions;  // 게시글 수 많은 순
+
+    public static ItemNameSuggestResponse of(List<String> suggestions) {
+        return ItemNameSuggestResponse.builder()
+                .suggestions(suggestions)
+                .build();
+    }
+}
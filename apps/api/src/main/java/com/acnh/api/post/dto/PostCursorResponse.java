@@ -0,0 +1,27 @@
+package com.acnh.api.post.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 게시글 목록 커서 페이징 응답 DTO
+ * - 전체 개수(COUNT) 없이 다음 페이지 커서만 제공
+ */
+@Getter
+@Builder
+public class PostCursorResponse {
+
+    private List<PostResponse> posts;
+    private String nextCursor;  // 다음 페이지 요청 시 전달 (마지막 페이지면 null)
+    private boolean hasNext;
+
+    public static PostCursorResponse of(List<PostResponse> posts, String nextCursor) {
+        return PostCursorResponse.builder()
+                .posts(posts)
+                .nextCursor(nextCursor)
+                .hasNext(nextCursor != null)
+                .build();
+    }
+}
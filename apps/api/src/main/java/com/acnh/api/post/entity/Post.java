@@ -1,6 +1,7 @@
 package com.acnh.api.post.entity;
 
 import com.acnh.api.common.entity.BaseEntity;
+import com.acnh.api.post.util.ItemNameNormalizer;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -38,6 +39,13 @@ public class Post extends BaseEntity {
     @Column(name = "item_name", nullable = false, length = 100)
     private String itemName;
 
+    /*
+     * 검색용 정규화 아이템명 (공백 제거 + 소문자 + NFC)
+     * - item_name 변경 시 함께 갱신, pg_trgm GIN 인덱스로 부분 일치 검색
+     */
+    @Column(name = "item_name_search", nullable = false, length = 100)
+    private String itemNameSearch;
+
     @Column(name = "currency_type", length = 20)
     private String currencyType;
 
@@ -56,6 +64,14 @@ public class Post extends BaseEntity {
     @Column(name = "bumped_at")
     private LocalDateTime bumpedAt;
 
+    /*
+     * 피드 정렬 키 (COALESCE(bumped_at, created_at)을 저장해 둔 컬럼)
+     * - 생성 시 created_at, 끌어올리기 시 bumped_at으로 갱신
+     * - 함수식 정렬은 인덱스를 탈 수 없어 컬럼으로 분리 (부분 인덱스: deleted_at IS NULL)
+     */
+    @Column(name = "feed_sort_at", nullable = false)
+    private LocalDateTime feedSortAt;
+
     @Builder
     public Post(Long userId, String postType, String status, Long categoryId,
                 String itemName, String currencyType, Integer price,
@@ -65,6 +81,7 @@ public class Post extends BaseEntity {
         this.status = status != null ? status : "AVAILABLE";
         this.categoryId = categoryId;
         this.itemName = itemName;
+        this.itemNameSearch = ItemNameNormalizer.normalize(itemName);
         this.currencyType = currencyType;
         this.price = price;
         this.priceNegotiable = priceNegotiable != null ? priceNegotiable : false;
@@ -72,6 +89,17 @@ public class Post extends BaseEntity {
         this.likeCount = 0;
     }
 
+    /**
+     * 최초 저장 시 피드 정렬 키 설정
+     * - AuditingEntityListener(@CreatedDate)가 먼저 실행되므로 createdAt과 동일한 값 사용
+     */
+    @PrePersist
+    protected void initFeedSortAt() {
+        if (this.feedSortAt == null) {
+            this.feedSortAt = getCreatedAt() != null ? getCreatedAt() : LocalDateTime.now();
+        }
+    }
+
     /**
      * 게시글 수정
      */
@@ -91,6 +119,7 @@ public class Post extends BaseEntity {
         this.postType = postType;
         this.categoryId = categoryId;
         this.itemName = itemName;
+        this.itemNameSearch = ItemNameNormalizer.normalize(itemName);
         this.currencyType = currencyType;
         this.price = price;
         this.priceNegotiable = priceNegotiable != null ? priceNegotiable : false;
@@ -109,5 +138,6 @@ public class Post extends BaseEntity {
      */
     public void bump() {
         this.bumpedAt = LocalDateTime.now();
+        this.feedSortAt = this.bumpedAt;
     }
 }
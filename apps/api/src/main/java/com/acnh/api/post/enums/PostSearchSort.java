@@ -0,0 +1,11 @@
+package com.acnh.api.post.enums;
+
+/**
+ * 게시글 검색 정렬 기준
+ * - RECENT: 최신순 (끌올 시각, 없으면 작성 시각)
+ * - RELEVANCE: 관련도순 (정확히 일치 > 앞부분 일치 > 부분 일치, 같은 등급은 짧은 아이템명 우선)
+ */
+public enum PostSearchSort {
+    RECENT,
+    RELEVANCE
+}
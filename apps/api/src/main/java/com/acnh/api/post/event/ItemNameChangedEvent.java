@@ -0,0 +1,32 @@
+package com.acnh.api.post.event;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게시글 아이템명 변경 이벤트
+ * - 작성: previousItemName = null
+ * - 삭제: currentItemName = null
+ * - 수정: 둘 다 존재 (같은 값일 수 있음)
+ * - 트랜잭션 커밋 후 인메모리 인덱스(자동완성 등) 갱신에 사용
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ItemNameChangedEvent {
+
+    private final String previousItemName;
+    private final String currentItemName;
+
+    public static ItemNameChangedEvent created(String itemName) {
+        return new ItemNameChangedEvent(null, itemName);
+    }
+
+    public static ItemNameChangedEvent updated(String previousItemName, String currentItemName) {
+        return new ItemNameChangedEvent(previousItemName, currentItemName);
+    }
+
+    public static ItemNameChangedEvent deleted(String itemName) {
+        return new ItemNameChangedEvent(itemName, null);
+    }
+}
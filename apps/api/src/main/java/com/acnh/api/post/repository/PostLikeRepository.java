@@ -4,7 +4,11 @@ import com.acnh.api.post.entity.PostLike;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -31,4 +35,18 @@ public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
      * 게시글 ID의 삭제되지 않은 찜 수 조회
      */
     long countByPostIdAndDeletedAtIsNull(Long postId);
+
+    /**
+     * 게시글 ID 목록 중 사용자가 찜한 게시글 ID 일괄 조회
+     * - 목록 조회 시 게시글별 existsBy 쿼리(N+1) 방지
+     */
+    @Query("SELECT pl.postId FROM PostLike pl WHERE pl.deletedAt IS NULL " +
+            "AND pl.userId = :userId AND pl.postId IN :postIds")
+    List<Long> findLikedPostIds(@Param("userId") Long userId, @Param("postIds") Collection<Long> postIds);
+
+    /**
+     * 게시글을 찜한 사용자 ID 목록 조회 (찜한 상품 가격/상태 변경 알림 대상)
+     */
+    @Query("SELECT pl.userId FROM PostLike pl WHERE pl.deletedAt IS NULL AND pl.postId = :postId")
+    List<Long> findUserIdsByPostId(@Param("postId") Long postId);
 }
@@ -0,0 +1,44 @@
+package com.acnh.api.post.repository;
+
+import com.acnh.api.post.entity.Post;
+import com.acnh.api.post.enums.PostSearchSort;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 게시글 동적 쿼리 Repository
+ * - 필터 값이 있는 조건만 WHERE 절에 포함 (":x IS NULL OR col = :x" 패턴 제거)
+ * - 정렬은 feed_sort_at DESC, id DESC (부분 인덱스와 동일한 순서)
+ */
+public interface PostRepositoryCustom {
+
+    /**
+     * 피드 조회 (OFFSET 페이징)
+     * - 필터: 카테고리, 게시글유형, 상태, 화폐유형, 가격범위
+     * - 가격 필터는 화폐유형(currencyType)과 함께 사용해야 함 (벨 500과 마일 500은 다름)
+     */
+    Page<Post> findFeed(Long categoryId, String postType, String status, String currencyType,
+                        Integer minPrice, Integer maxPrice, Pageable pageable);
+
+    /**
+     * 피드 조회 (커서 기반 Keyset 페이징)
+     * - 커서가 null이면 첫 페이지, 아니면 (feedSortAt, id)가 커서보다 작은 게시글만 조회
+     * - COUNT 쿼리 없이 최대 limit건 반환
+     */
+    List<Post> findFeedByCursor(Long categoryId, String postType, String status, String currencyType,
+                                Integer minPrice, Integer maxPrice,
+                                LocalDateTime cursorSortKey, Long cursorId, int limit);
+
+    /**
+     * 아이템명 검색 (부분 일치, 띄어쓰기/대소문자 무시)
+     * - normalizedKeyword: ItemNameNormalizer로 정규화된 검색어
+     * - item_name_search 컬럼의 pg_trgm GIN 인덱스 사용
+     * - 정렬: RECENT(최신순) 또는 RELEVANCE(관련도순)
+     */
+    Page<Post> searchByKeyword(String normalizedKeyword, Long categoryId, String postType, String status,
+                               String currencyType, Integer minPrice, Integer maxPrice,
+                               PostSearchSort sort, Pageable pageable);
+}
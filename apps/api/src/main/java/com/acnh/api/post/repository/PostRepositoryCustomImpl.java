@@ -0,0 +1,160 @@
+package com.acnh.api.post.repository;
+
+import com.acnh.api.post.entity.Post;
+import com.acnh.api.post.enums.PostSearchSort;
+import com.acnh.api.post.util.ItemNameNormalizer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 동적 쿼리 Repository 구현체
+ *
+ * [성능 개선]
+ * Before: @Query에 "(:x IS NULL OR col = :x)" 조건을 모두 나열 + COALESCE(bumpedAt, createdAt) 정렬
+ *         -> 플래너가 어떤 조건이 활성인지 알 수 없어 인덱스 선택 실패, 함수식 정렬로 전체 정렬 발생
+ * After: 값이 있는 조건만 JPQL에 추가 + 저장된 feedSortAt 컬럼으로 정렬
+ *         -> (category_id | status, feed_sort_at, id) 부분 인덱스로 정렬 없이 LIMIT만큼만 스캔
+ */
+public class PostRepositoryCustomImpl implements PostRepositoryCustom {
+
+    private static final String FEED_ORDER_BY = " ORDER BY p.feedSortAt DESC, p.id DESC";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /*
+     * 관련도순 정렬: 정확히 일치(0) > 앞부분 일치(1) > 부분 일치(2), 같은 등급은 짧은 아이템명 우선
+     */
+    private static final String RELEVANCE_ORDER_BY = " ORDER BY CASE " +
+            "WHEN p.itemNameSearch = :keyword THEN 0 " +
+            "WHEN p.itemNameSearch LIKE :prefixPattern ESCAPE '!' THEN 1 " +
+            "ELSE 2 END, LENGTH(p.itemNameSearch), p.feedSortAt DESC, p.id DESC";
+
+    @Override
+    public Page<Post> findFeed(Long categoryId, String postType, String status, String currencyType,
+                               Integer minPrice, Integer maxPrice, Pageable pageable) {
+        FeedWhereClause where = FeedWhereClause.of(categoryId, postType, status, currencyType, minPrice, maxPrice);
+
+        TypedQuery<Post> query = entityManager.createQuery(
+                "SELECT p FROM Post p" + where.jpql() + FEED_ORDER_BY, Post.class);
+        where.bind(query);
+        query.setFirstResult((int) pageable.getOffset());
+        query.setMaxResults(pageable.getPageSize());
+        List<Post> content = query.getResultList();
+
+        TypedQuery<Long> countQuery = entityManager.createQuery(
+                "SELECT COUNT(p) FROM Post p" + where.jpql(), Long.class);
+        where.bind(countQuery);
+        long total = countQuery.getSingleResult();
+
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    @Override
+    public List<Post> findFeedByCursor(Long categoryId, String postType, String status, String currencyType,
+                                       Integer minPrice, Integer maxPrice,
+                                       LocalDateTime cursorSortKey, Long cursorId, int limit) {
+        FeedWhereClause where = FeedWhereClause.of(categoryId, postType, status, currencyType, minPrice, maxPrice);
+
+        /*
+         * Keyset 조건: (feedSortAt, id) < (cursorSortKey, cursorId)
+         * - "a < :k OR (a = :k AND id < :id)" 형태는 인덱스 범위 스캔의 시작 키로 쓸 수 없어
+         *   인덱스를 처음부터 읽으며 Filter로 걸러냄 (N번째 페이지 비용 O(N * pageSize))
+         * - 행 값 비교 + 중복 상한(feedSortAt <= :k)으로 Index Cond에서 커서 위치부터 바로 스캔
+         */
+        if (cursorSortKey != null && cursorId != null) {
+            where.add("p.feedSortAt <= :cursorSortKey", "cursorSortKey", cursorSortKey);
+            where.add("(p.feedSortAt, p.id) < (:cursorSortKey, :cursorId)", "cursorId", cursorId);
+        }
+
+        TypedQuery<Post> query = entityManager.createQuery(
+                "SELECT p FROM Post p" + where.jpql() + FEED_ORDER_BY, Post.class);
+        where.bind(query);
+        query.setMaxResults(limit);
+
+        return query.getResultList();
+    }
+
+    /**
+     * [성능 개선]
+     * Before: LOWER(REPLACE(item_name, ' ', '')) LIKE '%kw%' (네이티브) + 동일 조건 COUNT 쿼리
+     *         -> 함수식 때문에 인덱스 사용 불가, 검색마다 전체 테이블 순차 스캔 2회
+     * After: 미리 정규화된 item_name_search 컬럼에 LIKE (pg_trgm GIN 인덱스) + 활성 필터만 포함
+     */
+    @Override
+    public Page<Post> searchByKeyword(String normalizedKeyword, Long categoryId, String postType, String status,
+                                      String currencyType, Integer minPrice, Integer maxPrice,
+                                      PostSearchSort sort, Pageable pageable) {
+        FeedWhereClause where = FeedWhereClause.of(categoryId, postType, status, currencyType, minPrice, maxPrice);
+        String escaped = ItemNameNormalizer.escapeLike(normalizedKeyword);
+        where.add("p.itemNameSearch LIKE :containsPattern ESCAPE '!'", "containsPattern", "%" + escaped + "%");
+
+        boolean byRelevance = sort == PostSearchSort.RELEVANCE;
+        TypedQuery<Post> query = entityManager.createQuery(
+                "SELECT p FROM Post p" + where.jpql() + (byRelevance ? RELEVANCE_ORDER_BY : FEED_ORDER_BY), Post.class);
+        where.bind(query);
+        if (byRelevance) {
+            query.setParameter("keyword", normalizedKeyword);
+            query.setParameter("prefixPattern", escaped + "%");
+        }
+        query.setFirstResult((int) pageable.getOffset());
+        query.setMaxResults(pageable.getPageSize());
+        List<Post> content = query.getResultList();
+
+        TypedQuery<Long> countQuery = entityManager.createQuery(
+                "SELECT COUNT(p) FROM Post p" + where.jpql(), Long.class);
+        where.bind(countQuery);
+        long total = countQuery.getSingleResult();
+
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    /**
+     * 활성 필터만 포함하는 WHERE 절 빌더
+     */
+    private static final class FeedWhereClause {
+
+        private final StringBuilder jpql = new StringBuilder(" WHERE p.deletedAt IS NULL");
+        private final Map<String, Object> params = new LinkedHashMap<>();
+
+        static FeedWhereClause of(Long categoryId, String postType, String status, String currencyType,
+                                  Integer minPrice, Integer maxPrice) {
+            FeedWhereClause where = new FeedWhereClause();
+            where.addIfPresent("p.categoryId = :categoryId", "categoryId", categoryId);
+            where.addIfPresent("p.postType = :postType", "postType", postType);
+            where.addIfPresent("p.status = :status", "status", status);
+            where.addIfPresent("p.currencyType = :currencyType", "currencyType", currencyType);
+            where.addIfPresent("p.price >= :minPrice", "minPrice", minPrice);
+            where.addIfPresent("p.price <= :maxPrice", "maxPrice", maxPrice);
+            return where;
+        }
+
+        void addIfPresent(String condition, String name, Object value) {
+            if (value != null) {
+                add(condition, name, value);
+            }
+        }
+
+        void add(String condition, String name, Object value) {
+            jpql.append(" AND ").append(condition);
+            params.put(name, value);
+        }
+
+        String jpql() {
+            return jpql.toString();
+        }
+
+        void bind(TypedQuery<?> query) {
+            params.forEach(query::setParameter);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.acnh.api.post.service;
+
+import com.acnh.api.post.event.ItemNameChangedEvent;
+import com.acnh.api.post.repository.PostRepository;
+import com.acnh.api.post.util.HangulUtils;
+import com.acnh.api.post.util.ItemNameNormalizer;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 아이템명 자동완성 인메모리 인덱스
+ * - 삭제되지 않은 게시글의 아이템명(중복 제거)을 정렬된 맵에 보관, 접두어 범위 조회로 검색
+ * - 초성 검색 지원 (예: "ㅁㄷ" -> "무드등"), 마지막 글자만 초성인 입력 중 상태도 지원 (예: "무ㄷ")
+ * - 서버 시작 시 1회 DB에서 적재, 이후 게시글 작성/수정/삭제 커밋 시 증분 갱신 (조회 시 DB 접근 없음)
+ * - 읽기는 락 없이 동작, 쓰기(게시글 변경)는 빈도가 낮으므로 synchronized로 직렬화
+ * - 순위는 접두어 범위 전체에서 결정 (크기 limit의 최소 힙으로 상위 K개만 유지)
+ *   사전순 앞쪽 일부만 잘라 정렬하면 게시글 수가 많은 항목이 뒤쪽에 있을 때 누락되므로 범위를 끝까지 확인
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ItemNameSuggestIndex {
+
+    private static final char CHOSEONG_KEY_DELIMITER = '\u0000';
+
+    // 게시글 수 많은 순, 같으면 짧은 이름 순, 그다음 사전순 (결과 순서 고정)
+    private static final Comparator<Suggestion> RANKING = Comparator.comparingInt(Suggestion::getCount).reversed()
+            .thenComparingInt(s -> s.getKey().length())
+            .thenComparing(Suggestion::getKey);
+
+    private final PostRepository postRepository;
+
+    // 정규화 키 -> 항목
+    private final ConcurrentSkipListMap<String, Suggestion> byKey = new ConcurrentSkipListMap<>();
+
+    // 초성 키 + 구분자 + 정규화 키 -> 항목 (초성이 같은 아이템명 공존)
+    private final ConcurrentSkipListMap<String, Suggestion> byChoseong = new ConcurrentSkipListMap<>();
+
+    /**
+     * 서버 시작 시 아이템명별 게시글 수 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        List<Object[]> rows = postRepository.countActiveItemNames();
+        for (Object[] row : rows) {
+            add((String) row[0], ((Long) row[1]).intValue());
+        }
+        log.info("아이템명 자동완성 인덱스 적재 완료 - distinctNames: {}", byKey.size());
+    }
+
+    /**
+     * 게시글 작성/수정/삭제 커밋 후 증분 갱신
+     * - 롤백된 변경은 반영되지 않음
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public synchronized void onItemNameChanged(ItemNameChangedEvent event) {
+        if (event.getPreviousItemName() != null) {
+            add(event.getPreviousItemName(), -1);
+        }
+        if (event.getCurrentItemName() != null) {
+            add(event.getCurrentItemName(), 1);
+        }
+    }
+
+    /**
+     * 자동완성 후보 조회
+     * - 게시글 수 많은 순, 같으면 짧은 이름 순
+     */
+    public List<String> suggest(String query, int limit) {
+        String normalized = ItemNameNormalizer.normalize(query);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        List<Suggestion> top;
+        if (HangulUtils.isChoseongOnly(normalized)) {
+            // 전체 초성 입력 (예: "ㅁㄷㄷ")
+            top = topK(byChoseong, normalized, -1, (char) 0, limit);
+        } else if (normalized.length() > 1 && HangulUtils.isChoseong(normalized.charAt(normalized.length() - 1))) {
+            // 입력 중인 마지막 글자만 초성 (예: "무ㄷ" -> "무드등")
+            String prefix = normalized.substring(0, normalized.length() - 1);
+            top = topK(byKey, prefix, prefix.length(), normalized.charAt(normalized.length() - 1), limit);
+        } else {
+            top = topK(byKey, normalized, -1, (char) 0, limit);
+        }
+
+        return top.stream()
+                .map(Suggestion::getDisplayName)
+                .toList();
+    }
+
+    /**
+     * 접두어 범위 전체 스캔 -> 순위 상위 limit개 (순위순 정렬)
+     * - choseongPosition >= 0이면 해당 위치 글자의 초성이 choseong과 일치하는 항목만 포함
+     * - 힙 루트가 현재 상위 K개 중 가장 낮은 순위 -> 그보다 높은 항목만 교체 (O(N log K), 메모리 O(K))
+     */
+    private List<Suggestion> topK(ConcurrentSkipListMap<String, Suggestion> map, String prefix,
+                                  int choseongPosition, char choseong, int limit) {
+        PriorityQueue<Suggestion> heap = new PriorityQueue<>(limit + 1, RANKING.reversed());
+        for (Map.Entry<String, Suggestion> entry : map.tailMap(prefix, true).entrySet()) {
+            if (!entry.getKey().startsWith(prefix)) {
+                break;
+            }
+            Suggestion suggestion = entry.getValue();
+            if (choseongPosition >= 0) {
+                String key = suggestion.getKey();
+                if (key.length() <= choseongPosition
+                        || HangulUtils.choseongOf(key.charAt(choseongPosition)) != choseong) {
+                    continue;
+                }
+            }
+            if (heap.size() < limit) {
+                heap.add(suggestion);
+            } else if (RANKING.compare(suggestion, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(suggestion);
+            }
+        }
+
+        List<Suggestion> top = new ArrayList<>(heap);
+        top.sort(RANKING);
+        return top;
+    }
+
+    /**
+     * 아이템명 게시글 수 증감 (0 이하가 되면 인덱스에서 제거)
+     * - 호출부에서 synchronized 보장
+     */
+    private void add(String itemName, int delta) {
+        String key = ItemNameNormalizer.normalize(itemName);
+        if (key.isEmpty()) {
+            return;
+        }
+        String choseongKey = HangulUtils.toChoseong(key) + CHOSEONG_KEY_DELIMITER + key;
+
+        Suggestion existing = byKey.get(key);
+        int count = (existing != null ? existing.getCount() : 0) + delta;
+        if (count <= 0) {
+            byKey.remove(key);
+            byChoseong.remove(choseongKey);
+            return;
+        }
+
+        // 표시명은 가장 최근에 추가된 원본 아이템명 사용 (삭제 시에는 기존 표시명 유지)
+        String displayName = delta > 0 || existing == null ? itemName.trim() : existing.getDisplayName();
+        Suggestion updated = new Suggestion(key, displayName, count);
+        byKey.put(key, updated);
+        byChoseong.put(choseongKey, updated);
+    }
+
+    /**
+     * 자동완성 항목 (불변)
+     */
+    @Getter
+    @AllArgsConstructor
+    private static final class Suggestion {
+        private final String key;
+        private final String displayName;
+        private final int count;
+    }
+}
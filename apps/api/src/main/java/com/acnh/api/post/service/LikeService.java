@@ -1,9 +1,6 @@
 package com.acnh.api.post.service;
 
-import com.acnh.api.category.entity.Category;
-import com.acnh.api.category.repository.CategoryRepository;
-import com.acnh.api.member.entity.Member;
-import com.acnh.api.member.repository.MemberRepository;
+import com.acnh.api.member.service.MemberIdentityResolver;
 import com.acnh.api.post.dto.LikeResponse;
 import com.acnh.api.post.dto.PostListResponse;
 import com.acnh.api.post.dto.PostResponse;
@@ -19,9 +16,12 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 찜(좋아요) 관련 비즈니스 로직 서비스
@@ -34,30 +34,39 @@ public class LikeService {
 
     private final PostRepository postRepository;
     private final PostLikeRepository postLikeRepository;
-    private final MemberRepository memberRepository;
-    private final CategoryRepository categoryRepository;
+    private final MemberIdentityResolver memberIdentityResolver;
+    private final PostResponseHydrator postResponseHydrator;
 
     /**
      * 내 찜 목록 조회
+     *
+     * [성능 개선]
+     * Before: 찜 1건마다 게시글/작성자/카테고리 개별 조회 (N+1)
+     * After: 게시글 ID 일괄 조회 후 PostResponseHydrator로 작성자/카테고리 일괄 변환
      */
     public PostListResponse getMyLikes(String visitorId, Pageable pageable) {
-        Member member = findMemberByUuid(visitorId);
+        Long userId = memberIdentityResolver.resolveId(visitorId);
 
         // 찜 목록 조회
-        Page<PostLike> likes = postLikeRepository.findByUserIdAndDeletedAtIsNull(member.getId(), pageable);
-
-        // PostLike -> PostResponse 변환 (삭제된 게시글은 null 반환)
-        List<PostResponse> responses = likes.getContent().stream()
-                .map(like -> {
-                    Post post = postRepository.findByIdAndDeletedAtIsNull(like.getPostId()).orElse(null);
-                    if (post == null) {
-                        return null;
-                    }
-                    return toPostResponse(post, member.getId());
-                })
+        Page<PostLike> likes = postLikeRepository.findByUserIdAndDeletedAtIsNull(userId, pageable);
+
+        // 찜한 게시글 일괄 조회 (삭제된 게시글은 조회되지 않음)
+        List<Long> postIds = likes.getContent().stream().map(PostLike::getPostId).toList();
+        Map<Long, Post> postMap = postIds.isEmpty()
+                ? Collections.emptyMap()
+                : postRepository.findByIdInAndDeletedAtIsNull(postIds)
+                        .stream()
+                        .collect(Collectors.toMap(Post::getId, Function.identity()));
+
+        // 찜 목록 순서 유지, 삭제된 게시글 제외
+        List<Post> posts = postIds.stream()
+                .map(postMap::get)
                 .filter(Objects::nonNull)
                 .toList();
 
+        // 찜 목록에서 조회한 것이므로 isLiked는 항상 true (찜 여부 조회 생략)
+        List<PostResponse> responses = postResponseHydrator.hydrateWithLikedIds(posts, postMap.keySet());
+
         // null 필터링된 결과로 새 Page 생성
         Page<PostResponse> filteredPage = new PageImpl<>(responses, pageable, likes.getTotalElements());
 
@@ -69,18 +78,18 @@ public class LikeService {
      */
     @Transactional
     public LikeResponse likePost(Long postId, String visitorId) {
-        Member member = findMemberByUuid(visitorId);
+        Long userId = memberIdentityResolver.resolveId(visitorId);
         Post post = findPostById(postId);
 
         // 이미 찜한 경우 체크
-        if (postLikeRepository.existsByPostIdAndUserIdAndDeletedAtIsNull(postId, member.getId())) {
+        if (postLikeRepository.existsByPostIdAndUserIdAndDeletedAtIsNull(postId, userId)) {
             throw new IllegalStateException("이미 찜한 게시글입니다");
         }
 
         // 찜 생성
         PostLike like = PostLike.builder()
                 .postId(postId)
-                .userId(member.getId())
+                .userId(userId)
                 .build();
         postLikeRepository.save(like);
 
@@ -90,7 +99,7 @@ public class LikeService {
         // 최신 좋아요 수 조회
         int likeCount = post.getLikeCount() + 1;
 
-        log.info("게시글 찜하기 완료 - postId: {}, userId: {}", postId, member.getId());
+        log.info("게시글 찜하기 완료 - postId: {}, userId: {}", postId, userId);
 
         return LikeResponse.of(postId, likeCount, true);
     }
@@ -100,11 +109,11 @@ public class LikeService {
      */
     @Transactional
     public LikeResponse unlikePost(Long postId, String visitorId) {
-        Member member = findMemberByUuid(visitorId);
+        Long userId = memberIdentityResolver.resolveId(visitorId);
         Post post = findPostById(postId);
 
         // 찜 기록 조회
-        PostLike like = postLikeRepository.findByPostIdAndUserIdAndDeletedAtIsNull(postId, member.getId())
+        PostLike like = postLikeRepository.findByPostIdAndUserIdAndDeletedAtIsNull(postId, userId)
                 .orElseThrow(() -> new IllegalStateException("찜하지 않은 게시글입니다"));
 
         // 찜 삭제 (soft delete)
@@ -116,26 +125,13 @@ public class LikeService {
         // 최신 좋아요 수 조회
         int likeCount = Math.max(0, post.getLikeCount() - 1);
 
-        log.info("게시글 찜 취소 완료 - postId: {}, userId: {}", postId, member.getId());
+        log.info("게시글 찜 취소 완료 - postId: {}, userId: {}", postId, userId);
 
         return LikeResponse.of(postId, likeCount, false);
     }
 
     // ========== Private Helper Methods ==========
 
-    /**
-     * UUID로 회원 조회
-     * Before: visitorId == null 만 체크하여 "anonymousUser"가 UUID 파싱 시도됨
-     * After: "anonymousUser" 문자열도 비인증 상태로 처리
-     */
-    private Member findMemberByUuid(String visitorId) {
-        if (visitorId == null || "anonymousUser".equals(visitorId)) {
-            throw new IllegalArgumentException("로그인이 필요합니다");
-        }
-        return memberRepository.findByUuidAndDeletedAtIsNull(UUID.fromString(visitorId))
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다"));
-    }
-
     /**
      * 게시글 ID로 조회
      */
@@ -143,22 +139,4 @@ public class LikeService {
         return postRepository.findByIdAndDeletedAtIsNull(postId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 게시글입니다"));
     }
-
-    /**
-     * Post -> PostResponse 변환 (유저 정보, 카테고리명, 찜 여부 포함)
-     */
-    private PostResponse toPostResponse(Post post, Long currentUserId) {
-        // 게시글 작성자 정보 조회
-        Member author = memberRepository.findByIdAndDeletedAtIsNull(post.getUserId()).orElse(null);
-        String nickname = author != null ? author.getNickname() : "알 수 없음";
-        String islandName = author != null ? author.getIslandName() : null;
-        Integer mannerScore = author != null ? author.getMannerScore() : null;
-
-        // 카테고리명 조회
-        Category category = categoryRepository.findByIdAndDeletedAtIsNull(post.getCategoryId()).orElse(null);
-        String categoryName = category != null ? category.getName() : null;
-
-        // 찜 목록에서 조회한 것이므로 isLiked는 항상 true
-        return PostResponse.from(post, nickname, islandName, mannerScore, categoryName, true);
-    }
 }
@@ -0,0 +1,92 @@
+package com.acnh.api.post.service;
+
+import com.acnh.api.notification.dto.NotificationSettingResponse;
+import com.acnh.api.notification.enums.NotificationType;
+import com.acnh.api.notification.event.NotificationRequestedEvent;
+import com.acnh.api.notification.service.NotificationSettingCache;
+import com.acnh.api.post.entity.Post;
+import com.acnh.api.post.enums.PostStatus;
+import com.acnh.api.post.repository.PostLikeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 찜한 사용자 알림 발행기 (찜한 상품 가격/상태 변경)
+ * - 찜한 사용자 ID만 조회(1회) 후 사용자별 알림 생성 이벤트 발행
+ * - 알림 저장은 커밋 후 NotificationBatchWriter가 비동기 일괄 처리
+ * - 게시글 작성자 본인, 찜 알림 off인 사용자는 제외 (설정은 캐시에서 일괄 확인)
+ * - 방해금지 시간인 사용자도 알림은 저장 (인박스에 남김), 실시간 전송만 NotificationRealtimeDispatcher가 보류
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostLikeNotifier {
+
+    private static final String REFERENCE_TYPE = "POST";
+
+    private final PostLikeRepository postLikeRepository;
+    private final NotificationSettingCache notificationSettingCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 찜한 상품 가격 변경 알림
+     */
+    public void notifyPriceChanged(Post post) {
+        String currencyUnit = "MILE_TICKET".equals(post.getCurrencyType()) ? "마일 티켓" : "벨";
+        String content = post.getPrice() != null
+                ? String.format("찜한 %s의 가격이 %,d%s(으)로 변경되었어요", post.getItemName(), post.getPrice(), currencyUnit)
+                : String.format("찜한 %s의 가격이 변경되었어요", post.getItemName());
+
+        notifyLikers(post, NotificationType.LIKE_PRICE_CHANGED, "찜한 상품의 가격이 바뀌었어요", content);
+    }
+
+    /**
+     * 찜한 상품 상태 변경 알림
+     */
+    public void notifyStatusChanged(Post post) {
+        String content = String.format("찜한 %s이(가) %s 상태가 되었어요", post.getItemName(), toStatusLabel(post.getStatus()));
+
+        notifyLikers(post, NotificationType.LIKE_STATUS_CHANGED, "찜한 상품의 상태가 바뀌었어요", content);
+    }
+
+    private void notifyLikers(Post post, NotificationType type, String title, String content) {
+        List<Long> likerIds = postLikeRepository.findUserIdsByPostId(post.getId()).stream()
+                .filter(likerId -> !likerId.equals(post.getUserId()))
+                .toList();
+        Map<Long, NotificationSettingResponse> settings = notificationSettingCache.getAll(likerIds);
+
+        int requested = 0;
+        for (Long likerId : likerIds) {
+            NotificationSettingResponse setting = settings.get(likerId);
+            if (setting != null && !setting.allowsLikeAlert()) {
+                continue;
+            }
+            requested++;
+            eventPublisher.publishEvent(NotificationRequestedEvent.builder()
+                    .userId(likerId)
+                    .type(type.name())
+                    .title(title)
+                    .content(content)
+                    .referenceId(post.getId())
+                    .referenceType(REFERENCE_TYPE)
+                    .build());
+        }
+        log.info("찜한 사용자 알림 요청 - postId: {}, type: {}, likers: {}, requested: {}",
+                post.getId(), type, likerIds.size(), requested);
+    }
+
+    private String toStatusLabel(String status) {
+        if (PostStatus.RESERVED.name().equals(status)) {
+            return "예약 중";
+        }
+        if (PostStatus.COMPLETED.name().equals(status)) {
+            return "거래 완료";
+        }
+        return "거래 가능";
+    }
+}
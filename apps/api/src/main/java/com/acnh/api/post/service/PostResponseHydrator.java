@@ -0,0 +1,114 @@
+package com.acnh.api.post.service;
+
+import com.acnh.api.category.service.CategoryCache;
+import com.acnh.api.member.dto.MemberSummary;
+import com.acnh.api.member.service.MemberSummaryCache;
+import com.acnh.api.post.dto.PostResponse;
+import com.acnh.api.post.entity.Post;
+import com.acnh.api.post.repository.PostLikeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Post -> PostResponse 일괄 변환기 (페이지 단위 hydration)
+ * - 현재 사용자의 찜 여부는 IN 쿼리 1회로 조회
+ * - 작성자 정보는 MemberSummaryCache(미스만 IN 쿼리), 카테고리명은 CategoryCache 사용
+ * - PostService, LikeService에서 공통 사용
+ *
+ * [성능 개선]
+ * Before: toPostResponse()에서 게시글마다 작성자/카테고리/찜 여부 개별 조회 (20건 페이지 = 약 61개 쿼리)
+ * After: 페이지 단위로 ID 수집 후 일괄 조회, Map/Set으로 O(1) lookup (고정 2개 쿼리)
+ */
+@Component
+@RequiredArgsConstructor
+public class PostResponseHydrator {
+
+    private final MemberSummaryCache memberSummaryCache;
+    private final CategoryCache categoryCache;
+    private final PostLikeRepository postLikeRepository;
+
+    /**
+     * 페이지 단위 변환 (현재 사용자의 찜 여부 일괄 조회)
+     */
+    public Page<PostResponse> hydrate(Page<Post> posts, Long currentUserId) {
+        Map<Long, PostResponse> responseMap = hydrate(posts.getContent(), currentUserId)
+                .stream()
+                .collect(Collectors.toMap(PostResponse::getId, Function.identity()));
+        return posts.map(post -> responseMap.get(post.getId()));
+    }
+
+    /**
+     * 목록 단위 변환 (현재 사용자의 찜 여부 일괄 조회)
+     * - currentUserId가 null이면 (비로그인) 찜 여부 조회 생략
+     */
+    public List<PostResponse> hydrate(List<Post> posts, Long currentUserId) {
+        if (posts.isEmpty()) {
+            return List.of();
+        }
+
+        Set<Long> likedPostIds = currentUserId == null
+                ? Collections.emptySet()
+                : new HashSet<>(postLikeRepository.findLikedPostIds(currentUserId, collectIds(posts, Post::getId)));
+
+        return hydrateWithLikedIds(posts, likedPostIds);
+    }
+
+    /**
+     * 단건 변환 (상세 조회, 작성/수정 응답용)
+     */
+    public PostResponse hydrate(Post post, Long currentUserId) {
+        return hydrate(List.of(post), currentUserId).get(0);
+    }
+
+    /**
+     * 찜 여부를 이미 알고 있는 경우의 변환 (찜 목록 조회 등)
+     * - 찜 여부 조회 쿼리 생략
+     */
+    public List<PostResponse> hydrateWithLikedIds(List<Post> posts, Set<Long> likedPostIds) {
+        if (posts.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, MemberSummary> authorMap = memberSummaryCache.getAll(collectIds(posts, Post::getUserId));
+
+        return posts.stream()
+                .map(post -> toPostResponse(post, authorMap, likedPostIds))
+                .toList();
+    }
+
+    /**
+     * Post -> PostResponse 변환 (미리 조회된 Map 사용하여 N+1 방지)
+     */
+    private PostResponse toPostResponse(Post post, Map<Long, MemberSummary> authorMap, Set<Long> likedPostIds) {
+        // 게시글 작성자 정보
+        MemberSummary author = authorMap.get(post.getUserId());
+        String nickname = author != null ? author.getNickname() : "알 수 없음";
+        String islandName = author != null ? author.getIslandName() : null;
+        Integer mannerScore = author != null ? author.getMannerScore() : null;
+
+        // 카테고리명
+        String categoryName = categoryCache.getName(post.getCategoryId());
+
+        // 찜 여부
+        Boolean isLiked = likedPostIds.contains(post.getId());
+
+        return PostResponse.from(post, nickname, islandName, mannerScore, categoryName, isLiked);
+    }
+
+    /**
+     * 게시글 목록에서 중복 제거된 ID 목록 추출
+     */
+    private Collection<Long> collectIds(List<Post> posts, Function<Post, Long> idExtractor) {
+        return posts.stream().map(idExtractor).distinct().toList();
+    }
+}
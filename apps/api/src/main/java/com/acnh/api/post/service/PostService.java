@@ -1,25 +1,27 @@
 package com.acnh.api.post.service;
 
-import com.acnh.api.category.entity.Category;
-import com.acnh.api.category.repository.CategoryRepository;
-import com.acnh.api.member.entity.Member;
-import com.acnh.api.member.repository.MemberRepository;
+import com.acnh.api.category.service.CategoryCache;
+import com.acnh.api.member.service.MemberIdentityResolver;
 import com.acnh.api.post.dto.*;
 import com.acnh.api.post.entity.Post;
+import com.acnh.api.post.event.ItemNameChangedEvent;
 import com.acnh.api.post.enums.CurrencyType;
+import com.acnh.api.post.enums.PostSearchSort;
 import com.acnh.api.post.enums.PostStatus;
 import com.acnh.api.post.enums.PostType;
-import com.acnh.api.post.repository.PostLikeRepository;
 import com.acnh.api.post.repository.PostRepository;
+import com.acnh.api.post.util.ItemNameNormalizer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.UUID;
+import java.util.List;
+import java.util.Objects;
 
 /**
  * 게시글 관련 비즈니스 로직 서비스
@@ -30,17 +32,22 @@ import java.util.UUID;
 @Transactional(readOnly = true)
 public class PostService {
 
+    private static final int MAX_SUGGEST_LIMIT = 20;
+
     private final PostRepository postRepository;
-    private final PostLikeRepository postLikeRepository;
-    private final MemberRepository memberRepository;
-    private final CategoryRepository categoryRepository;
+    private final MemberIdentityResolver memberIdentityResolver;
+    private final CategoryCache categoryCache;
+    private final PostResponseHydrator postResponseHydrator;
+    private final ItemNameSuggestIndex itemNameSuggestIndex;
+    private final PostLikeNotifier postLikeNotifier;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 끌어올리기 제한 시간 (3일 = 72시간)
     private static final int BUMP_LIMIT_HOURS = 72;
 
     /**
      * 게시글 목록 조회 (피드)
-     * - bumped_at 우선 정렬
+     * - feed_sort_at(끌올 시각, 없으면 작성 시각) 정렬
      * - 필터: 카테고리, 게시글유형, 상태, 화폐유형, 가격범위
      * - 가격 필터는 화폐유형(currencyType)과 함께 사용해야 함 (벨 500과 마일 500은 다름)
      */
@@ -54,45 +61,102 @@ public class PostService {
 
         Page<Post> posts = postRepository.findFeed(categoryId, validPostType, validStatus, validCurrencyType, minPrice, maxPrice, pageable);
 
-        Long currentUserId = getCurrentUserId(visitorId);
-        Page<PostResponse> responsePage = posts.map(post -> toPostResponse(post, currentUserId));
+        Long currentUserId = memberIdentityResolver.resolveIdOrNull(visitorId);
+        Page<PostResponse> responsePage = postResponseHydrator.hydrate(posts, currentUserId);
 
         return PostListResponse.from(responsePage);
     }
 
+    /**
+     * 게시글 목록 조회 (피드, 커서 기반)
+     * - (정렬키, id) Keyset 페이징으로 OFFSET 스캔/COUNT 쿼리 제거
+     * - size + 1건 조회하여 다음 페이지 존재 여부 판단
+     * - 필터는 getFeed와 동일
+     * - 스크롤 중 끌어올림(bump)/신규 등록된 글은 정렬키가 커서보다 앞으로 이동
+     *   - 이미 내려받은 글: 다음 페이지에 중복되지 않음
+     *   - 아직 내려받지 않은 글: 이번 스크롤에서는 보이지 않음 (첫 페이지부터 다시 조회해야 노출)
+     *   - 나머지 글의 상대 순서는 유지되므로 그 외의 누락/중복은 없음
+     */
+    public PostCursorResponse getFeedByCursor(Long categoryId, String postType, String status,
+                                              String currencyType, Integer minPrice, Integer maxPrice,
+                                              String cursor, String visitorId, int size) {
+        String validPostType = validatePostType(postType);
+        String validStatus = validateStatus(status);
+        String validCurrencyType = validateCurrencyTypeOptional(currencyType);
+        FeedCursor feedCursor = FeedCursor.decode(cursor);
+
+        List<Post> posts = postRepository.findFeedByCursor(categoryId, validPostType, validStatus, validCurrencyType,
+                minPrice, maxPrice,
+                feedCursor != null ? feedCursor.getSortKey() : null,
+                feedCursor != null ? feedCursor.getId() : null,
+                size + 1);
+
+        // size + 1건이 조회되면 다음 페이지 존재
+        boolean hasNext = posts.size() > size;
+        List<Post> pagePosts = hasNext ? posts.subList(0, size) : posts;
+
+        String nextCursor = null;
+        if (hasNext) {
+            Post last = pagePosts.get(pagePosts.size() - 1);
+            nextCursor = FeedCursor.of(last.getFeedSortAt(), last.getId()).encode();
+        }
+
+        Long currentUserId = memberIdentityResolver.resolveIdOrNull(visitorId);
+        List<PostResponse> responses = postResponseHydrator.hydrate(pagePosts, currentUserId);
+
+        return PostCursorResponse.of(responses, nextCursor);
+    }
+
     /**
      * 게시글 검색
-     * - 아이템명 LIKE 검색
+     * - 아이템명 부분 일치 검색 (띄어쓰기/대소문자 무시, pg_trgm 인덱스)
      * - 필터: 카테고리, 게시글유형, 상태, 화폐유형, 가격범위
+     * - 정렬: recent(최신순, 기본) 또는 relevance(관련도순)
      * - 가격 필터는 화폐유형(currencyType)과 함께 사용해야 함 (벨 500과 마일 500은 다름)
      */
     public PostListResponse searchPosts(String keyword, Long categoryId, String postType,
                                         String status, String currencyType, Integer minPrice, Integer maxPrice,
-                                        String visitorId, Pageable pageable) {
-        if (keyword == null || keyword.isBlank()) {
+                                        String sort, String visitorId, Pageable pageable) {
+        // 검색어 정규화 (공백 제거, 소문자, NFC) - item_name_search 컬럼과 동일 규칙
+        String normalizedKeyword = ItemNameNormalizer.normalize(keyword);
+        if (normalizedKeyword.isEmpty()) {
             throw new IllegalArgumentException("검색어를 입력해주세요");
         }
 
         String validPostType = validatePostType(postType);
         String validStatus = validateStatus(status);
         String validCurrencyType = validateCurrencyTypeOptional(currencyType);
+        PostSearchSort validSort = validateSearchSort(sort);
 
-        Page<Post> posts = postRepository.searchByKeyword(keyword, categoryId, validPostType, validStatus, validCurrencyType, minPrice, maxPrice, pageable);
+        Page<Post> posts = postRepository.searchByKeyword(normalizedKeyword, categoryId, validPostType, validStatus,
+                validCurrencyType, minPrice, maxPrice, validSort, pageable);
 
-        Long currentUserId = getCurrentUserId(visitorId);
-        Page<PostResponse> responsePage = posts.map(post -> toPostResponse(post, currentUserId));
+        Long currentUserId = memberIdentityResolver.resolveIdOrNull(visitorId);
+        Page<PostResponse> responsePage = postResponseHydrator.hydrate(posts, currentUserId);
 
         return PostListResponse.from(responsePage);
     }
 
+    /**
+     * 아이템명 자동완성
+     * - 인메모리 인덱스 조회 (DB 접근 없음)
+     * - 초성 검색 지원 (예: "ㅁㄷㄷ" -> "무드등")
+     */
+    public ItemNameSuggestResponse suggestItemNames(String query, int limit) {
+        if (limit < 1 || limit > MAX_SUGGEST_LIMIT) {
+            throw new IllegalArgumentException("자동완성 개수는 1~" + MAX_SUGGEST_LIMIT + " 사이여야 합니다");
+        }
+        return ItemNameSuggestResponse.of(itemNameSuggestIndex.suggest(query, limit));
+    }
+
     /**
      * 내 게시글 목록 조회
      */
     public PostListResponse getMyPosts(String visitorId, Pageable pageable) {
-        Member member = findMemberByUuid(visitorId);
+        Long userId = memberIdentityResolver.resolveId(visitorId);
 
-        Page<Post> posts = postRepository.findMyPosts(member.getId(), pageable);
-        Page<PostResponse> responsePage = posts.map(post -> toPostResponse(post, member.getId()));
+        Page<Post> posts = postRepository.findMyPosts(userId, pageable);
+        Page<PostResponse> responsePage = postResponseHydrator.hydrate(posts, userId);
 
         return PostListResponse.from(responsePage);
     }
@@ -102,9 +166,9 @@ public class PostService {
      */
     public PostResponse getPost(Long postId, String visitorId) {
         Post post = findPostById(postId);
-        Long currentUserId = getCurrentUserId(visitorId);
+        Long currentUserId = memberIdentityResolver.resolveIdOrNull(visitorId);
 
-        return toPostResponse(post, currentUserId);
+        return postResponseHydrator.hydrate(post, currentUserId);
     }
 
     /**
@@ -112,11 +176,12 @@ public class PostService {
      */
     @Transactional
     public PostResponse createPost(PostCreateRequest request, String visitorId) {
-        Member member = findMemberByUuid(visitorId);
+        Long userId = memberIdentityResolver.resolveId(visitorId);
 
         // 카테고리 존재 확인
-        categoryRepository.findByIdAndDeletedAtIsNull(request.getCategoryId())
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 카테고리입니다"));
+        if (!categoryCache.exists(request.getCategoryId())) {
+            throw new IllegalArgumentException("존재하지 않는 카테고리입니다");
+        }
 
         // Enum 유효성 검증
         validatePostTypeRequired(request.getPostType());
@@ -125,7 +190,7 @@ public class PostService {
         }
 
         Post post = Post.builder()
-                .userId(member.getId())
+                .userId(userId)
                 .postType(request.getPostType())
                 .categoryId(request.getCategoryId())
                 .itemName(request.getItemName())
@@ -136,9 +201,12 @@ public class PostService {
                 .build();
 
         Post savedPost = postRepository.save(post);
-        log.info("게시글 작성 완료 - postId: {}, userId: {}", savedPost.getId(), member.getId());
+        log.info("게시글 작성 완료 - postId: {}, userId: {}", savedPost.getId(), userId);
+
+        // 자동완성 인덱스 갱신 (커밋 후 반영)
+        eventPublisher.publishEvent(ItemNameChangedEvent.created(savedPost.getItemName()));
 
-        return toPostResponse(savedPost, member.getId());
+        return postResponseHydrator.hydrate(savedPost, userId);
     }
 
     /**
@@ -147,15 +215,16 @@ public class PostService {
      */
     @Transactional
     public PostResponse updatePost(Long postId, PostUpdateRequest request, String visitorId) {
-        Member member = findMemberByUuid(visitorId);
+        Long userId = memberIdentityResolver.resolveId(visitorId);
         Post post = findPostById(postId);
 
         // 본인 확인
-        validateOwnership(post, member.getId());
+        validateOwnership(post, userId);
 
         // 카테고리 존재 확인
-        categoryRepository.findByIdAndDeletedAtIsNull(request.getCategoryId())
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 카테고리입니다"));
+        if (!categoryCache.exists(request.getCategoryId())) {
+            throw new IllegalArgumentException("존재하지 않는 카테고리입니다");
+        }
 
         // Enum 유효성 검증
         validatePostTypeRequired(request.getPostType());
@@ -163,6 +232,9 @@ public class PostService {
             validateCurrencyType(request.getCurrencyType());
         }
 
+        String previousItemName = post.getItemName();
+        Integer previousPrice = post.getPrice();
+        String previousCurrencyType = post.getCurrencyType();
         post.update(
                 request.getPostType(),
                 request.getCategoryId(),
@@ -173,8 +245,16 @@ public class PostService {
                 request.getDescription()
         );
 
-        log.info("게시글 수정 완료 - postId: {}, userId: {}", postId, member.getId());
-        return toPostResponse(post, member.getId());
+        log.info("게시글 수정 완료 - postId: {}, userId: {}", postId, userId);
+
+        // 찜한 사용자에게 가격 변경 알림 (커밋 후 비동기 저장/전송)
+        if (!Objects.equals(previousPrice, post.getPrice()) || !Objects.equals(previousCurrencyType, post.getCurrencyType())) {
+            postLikeNotifier.notifyPriceChanged(post);
+        }
+
+        // 자동완성 인덱스 갱신 (커밋 후 반영)
+        eventPublisher.publishEvent(ItemNameChangedEvent.updated(previousItemName, post.getItemName()));
+        return postResponseHydrator.hydrate(post, userId);
     }
 
     /**
@@ -183,13 +263,16 @@ public class PostService {
      */
     @Transactional
     public void deletePost(Long postId, String visitorId) {
-        Member member = findMemberByUuid(visitorId);
+        Long userId = memberIdentityResolver.resolveId(visitorId);
         Post post = findPostById(postId);
 
-        validateOwnership(post, member.getId());
+        validateOwnership(post, userId);
 
         post.delete();
-        log.info("게시글 삭제 완료 - postId: {}, userId: {}", postId, member.getId());
+        log.info("게시글 삭제 완료 - postId: {}, userId: {}", postId, userId);
+
+        // 자동완성 인덱스 갱신 (커밋 후 반영)
+        eventPublisher.publishEvent(ItemNameChangedEvent.deleted(post.getItemName()));
     }
 
     /**
@@ -199,17 +282,23 @@ public class PostService {
      */
     @Transactional
     public PostResponse updatePostStatus(Long postId, PostStatusUpdateRequest request, String visitorId) {
-        Member member = findMemberByUuid(visitorId);
+        Long userId = memberIdentityResolver.resolveId(visitorId);
         Post post = findPostById(postId);
 
-        validateOwnership(post, member.getId());
+        validateOwnership(post, userId);
 
         // 상태 값 유효성 검증
         String validStatus = validateStatusRequired(request.getStatus());
+        String previousStatus = post.getStatus();
         post.updateStatus(validStatus);
 
         log.info("게시글 상태 변경 완료 - postId: {}, status: {}", postId, validStatus);
-        return toPostResponse(post, member.getId());
+
+        // 찜한 사용자에게 상태 변경 알림 (커밋 후 비동기 저장/전송)
+        if (!validStatus.equals(previousStatus)) {
+            postLikeNotifier.notifyStatusChanged(post);
+        }
+        return postResponseHydrator.hydrate(post, userId);
     }
 
     /**
@@ -219,10 +308,10 @@ public class PostService {
      */
     @Transactional
     public PostResponse bumpPost(Long postId, String visitorId) {
-        Member member = findMemberByUuid(visitorId);
+        Long userId = memberIdentityResolver.resolveId(visitorId);
         Post post = findPostById(postId);
 
-        validateOwnership(post, member.getId());
+        validateOwnership(post, userId);
 
         // 끌어올리기 제한 체크
         LocalDateTime lastBumpOrCreate = post.getBumpedAt() != null ? post.getBumpedAt() : post.getCreatedAt();
@@ -238,24 +327,11 @@ public class PostService {
         post.bump();
         log.info("게시글 끌어올리기 완료 - postId: {}", postId);
 
-        return toPostResponse(post, member.getId());
+        return postResponseHydrator.hydrate(post, userId);
     }
 
     // ========== Private Helper Methods ==========
 
-    /**
-     * UUID로 회원 조회
-     * Before: visitorId == null 만 체크하여 "anonymousUser"가 UUID 파싱 시도됨
-     * After: "anonymousUser" 문자열도 비인증 상태로 처리
-     */
-    private Member findMemberByUuid(String visitorId) {
-        if (visitorId == null || "anonymousUser".equals(visitorId)) {
-            throw new IllegalArgumentException("로그인이 필요합니다");
-        }
-        return memberRepository.findByUuidAndDeletedAtIsNull(UUID.fromString(visitorId))
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다"));
-    }
-
     /**
      * 게시글 ID로 조회
      */
@@ -264,20 +340,6 @@ public class PostService {
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 게시글입니다"));
     }
 
-    /**
-     * 현재 로그인한 사용자 ID 조회 (null 허용)
-     * Before: visitorId == null 만 체크하여 "anonymousUser"가 UUID 파싱 시도됨
-     * After: "anonymousUser" 문자열도 비인증 상태로 처리
-     */
-    private Long getCurrentUserId(String visitorId) {
-        if (visitorId == null || "anonymousUser".equals(visitorId)) {
-            return null;
-        }
-        return memberRepository.findByUuidAndDeletedAtIsNull(UUID.fromString(visitorId))
-                .map(Member::getId)
-                .orElse(null);
-    }
-
     /**
      * 게시글 소유자 확인
      */
@@ -287,27 +349,6 @@ public class PostService {
         }
     }
 
-    /**
-     * Post -> PostResponse 변환 (유저 정보, 카테고리명, 찜 여부 포함)
-     */
-    private PostResponse toPostResponse(Post post, Long currentUserId) {
-        // 게시글 작성자 정보 조회
-        Member author = memberRepository.findByIdAndDeletedAtIsNull(post.getUserId()).orElse(null);
-        String nickname = author != null ? author.getNickname() : "알 수 없음";
-        String islandName = author != null ? author.getIslandName() : null;
-        Integer mannerScore = author != null ? author.getMannerScore() : null;
-
-        // 카테고리명 조회
-        Category category = categoryRepository.findByIdAndDeletedAtIsNull(post.getCategoryId()).orElse(null);
-        String categoryName = category != null ? category.getName() : null;
-
-        // 찜 여부 확인
-        Boolean isLiked = currentUserId != null
-                && postLikeRepository.existsByPostIdAndUserIdAndDeletedAtIsNull(post.getId(), currentUserId);
-
-        return PostResponse.from(post, nickname, islandName, mannerScore, categoryName, isLiked);
-    }
-
     /**
      * PostType 유효성 검증 (선택, null 허용)
      */
@@ -364,6 +405,20 @@ public class PostService {
         }
     }
 
+    /**
+     * 검색 정렬 기준 유효성 검증 (선택, 기본값 RECENT)
+     */
+    private PostSearchSort validateSearchSort(String sort) {
+        if (sort == null || sort.isBlank()) {
+            return PostSearchSort.RECENT;
+        }
+        try {
+            return PostSearchSort.valueOf(sort.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("유효하지 않은 정렬 기준입니다: " + sort);
+        }
+    }
+
     /**
      * CurrencyType 유효성 검증 (필수, 게시글 작성/수정 시)
      */
@@ -0,0 +1,77 @@
+package com.acnh.api.post.util;
+
+/**
+ * 한글 초성 처리 유틸리티
+ * - 완성형 한글(가~힣)에서 초성 추출
+ * - 초성 검색 (예: "ㄴㅁㅂ" -> "너무바보")
+ */
+public final class HangulUtils {
+
+    private static final char HANGUL_BASE = 0xAC00;   // '가'
+    private static final char HANGUL_LAST = 0xD7A3;   // '힣'
+    private static final int CHOSEONG_PERIOD = 21 * 28;  // 중성 21 x 종성 28
+
+    // 초성 19자 (호환용 자모)
+    private static final char[] CHOSEONG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private HangulUtils() {
+    }
+
+    /**
+     * 완성형 한글 음절 여부
+     */
+    public static boolean isSyllable(char c) {
+        return c >= HANGUL_BASE && c <= HANGUL_LAST;
+    }
+
+    /**
+     * 초성 자모 여부 (ㄱ~ㅎ 중 초성으로 쓰이는 19자)
+     */
+    public static boolean isChoseong(char c) {
+        for (char choseong : CHOSEONG) {
+            if (choseong == c) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 문자열이 초성으로만 이루어졌는지 확인 (빈 문자열은 false)
+     */
+    public static boolean isChoseongOnly(String value) {
+        if (value == null || value.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (!isChoseong(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 단일 문자의 초성 반환 (한글 음절이 아니면 원래 문자)
+     */
+    public static char choseongOf(char c) {
+        if (!isSyllable(c)) {
+            return c;
+        }
+        return CHOSEONG[(c - HANGUL_BASE) / CHOSEONG_PERIOD];
+    }
+
+    /**
+     * 문자열의 초성 문자열 반환 (한글 음절 외 문자는 그대로 유지)
+     */
+    public static String toChoseong(String value) {
+        StringBuilder sb = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            sb.append(choseongOf(value.charAt(i)));
+        }
+        return sb.toString();
+    }
+}
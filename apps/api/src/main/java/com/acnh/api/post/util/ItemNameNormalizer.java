@@ -0,0 +1,51 @@
+package com.acnh.api.post.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 아이템명 검색용 정규화 유틸리티
+ * - 유니코드 NFC 정규화 (iOS 등에서 입력된 자모 분리형 한글을 완성형으로 통일)
+ * - 모든 공백 제거 (띄어쓰기 무시 검색)
+ *   - Java \s와 PostgreSQL \s는 범위가 달라(NBSP, 전각 공백 등) 명시적인 문자 클래스를 DB 마이그레이션과 공유
+ * - 소문자 변환 (영문 대소문자 무시)
+ */
+public final class ItemNameNormalizer {
+
+    /**
+     * 제거 대상 공백 문자 클래스 (유니코드 White_Space + 폭 없는 공백/BOM)
+     * - Java 정규식과 PostgreSQL ARE에서 같은 문자열로 동일하게 해석됨
+     * - db/008_posts_item_name_search_whitespace.sql의 REGEXP_REPLACE 패턴과 반드시 같은 값 유지
+     */
+    static final String WHITESPACE_CLASS =
+            "[\\t\\n\\u000B\\f\\r \\u0085\\u00A0\\u1680\\u2000-\\u200A"
+                    + "\\u2028\\u2029\\u202F\\u205F\\u3000\\u200B\\uFEFF]";
+
+    private static final Pattern WHITESPACE = Pattern.compile(WHITESPACE_CLASS + "+");
+
+    private ItemNameNormalizer() {
+    }
+
+    /**
+     * 검색용 정규화 문자열 생성
+     * - null 입력 시 빈 문자열 반환
+     */
+    public static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        String composed = Normalizer.normalize(value, Normalizer.Form.NFC);
+        return WHITESPACE.matcher(composed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * LIKE 패턴용 이스케이프 (%, _, ! 를 일반 문자로 취급)
+     * - 쿼리에서 ESCAPE '!' 와 함께 사용
+     */
+    public static String escapeLike(String value) {
+        return value.replace("!", "!!")
+                .replace("%", "!%")
+                .replace("_", "!_");
+    }
+}
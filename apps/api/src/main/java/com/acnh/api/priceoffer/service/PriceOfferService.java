@@ -2,11 +2,11 @@ package com.acnh.api.priceoffer.service;
 
 import com.acnh.api.chat.entity.ChatRoom;
 import com.acnh.api.chat.repository.ChatRoomRepository;
-import com.acnh.api.member.entity.Member;
-import com.acnh.api.member.repository.MemberRepository;
-import com.acnh.api.notification.entity.Notification;
+import com.acnh.api.member.dto.MemberSummary;
+import com.acnh.api.member.service.MemberIdentityResolver;
+import com.acnh.api.member.service.MemberSummaryCache;
 import com.acnh.api.notification.enums.NotificationType;
-import com.acnh.api.notification.repository.NotificationRepository;
+import com.acnh.api.notification.event.NotificationRequestedEvent;
 import com.acnh.api.post.entity.Post;
 import com.acnh.api.post.enums.CurrencyType;
 import com.acnh.api.post.repository.PostRepository;
@@ -17,10 +17,10 @@ import com.acnh.api.priceoffer.entity.PriceOffer;
 import com.acnh.api.priceoffer.repository.PriceOfferRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.UUID;
 
 /**
  * 가격 제안 서비스
@@ -33,9 +33,10 @@ public class PriceOfferService {
 
     private final PriceOfferRepository priceOfferRepository;
     private final PostRepository postRepository;
-    private final MemberRepository memberRepository;
-    private final NotificationRepository notificationRepository;
+    private final MemberIdentityResolver memberIdentityResolver;
+    private final MemberSummaryCache memberSummaryCache;
     private final ChatRoomRepository chatRoomRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 가격 제안하기
@@ -45,7 +46,8 @@ public class PriceOfferService {
      */
     @Transactional
     public PriceOfferResponse createPriceOffer(Long postId, PriceOfferCreateRequest request, String visitorId) {
-        Member offerer = findMemberByUuid(visitorId);
+        MemberSummary offerer = memberSummaryCache.get(memberIdentityResolver.resolveId(visitorId))
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다"));
         Post post = findPostById(postId);
 
         // 가격제안 받기 ON 체크
@@ -113,11 +115,11 @@ public class PriceOfferService {
      */
     @Transactional
     public PriceOfferAcceptResponse acceptPriceOffer(Long offerId, String visitorId) {
-        Member postOwner = findMemberByUuid(visitorId);
+        Long postOwnerId = memberIdentityResolver.resolveId(visitorId);
         PriceOffer priceOffer = findPriceOfferById(offerId);
 
         // 게시글 작성자 체크
-        if (!priceOffer.getPostOwnerId().equals(postOwner.getId())) {
+        if (!priceOffer.getPostOwnerId().equals(postOwnerId)) {
             throw new IllegalArgumentException("게시글 작성자만 가격 제안을 수락할 수 있습니다");
         }
 
@@ -146,15 +148,19 @@ public class PriceOfferService {
 
     /**
      * 가격 제안 알림 발송
+     *
+     * [성능 개선]
+     * Before: 가격 제안 트랜잭션 안에서 notificationRepository.save() (INSERT 1회 추가)
+     * After: 알림 생성 이벤트만 발행, 커밋 후 NotificationBatchWriter가 비동기 일괄 저장
      */
-    private void sendPriceOfferNotification(Post post, Member offerer, PriceOffer priceOffer) {
+    private void sendPriceOfferNotification(Post post, MemberSummary offerer, PriceOffer priceOffer) {
         // 화폐 단위 결정
         String currencyUnit = "MILE_TICKET".equals(priceOffer.getCurrencyType()) ? "마일 티켓" : "벨";
 
         String content = String.format("%s님이 %,d%s을 제안했어요",
                 offerer.getNickname(), priceOffer.getOfferedPrice(), currencyUnit);
 
-        Notification notification = Notification.builder()
+        eventPublisher.publishEvent(NotificationRequestedEvent.builder()
                 .userId(post.getUserId())
                 .type(NotificationType.PRICE_OFFER_RECEIVED.name())
                 .title("가격 제안이 도착했어요")
@@ -163,10 +169,8 @@ public class PriceOfferService {
                 .referenceType("PRICE_OFFER")
                 .requesterId(offerer.getId())
                 .offeredPrice(priceOffer.getOfferedPrice())
-                .build();
-
-        notificationRepository.save(notification);
-        log.info("가격 제안 알림 발송 - userId: {}, offerId: {}", post.getUserId(), priceOffer.getId());
+                .build());
+        log.info("가격 제안 알림 요청 - userId: {}, offerId: {}", post.getUserId(), priceOffer.getId());
     }
 
     /**
@@ -197,27 +201,6 @@ public class PriceOfferService {
         return savedRoom.getId();
     }
 
-    /**
-     * UUID로 회원 조회
-     * Before: visitorId == null 만 체크하여 "anonymousUser"가 UUID 파싱 시도됨
-     * After: "anonymousUser" 문자열도 비인증 상태로 처리
-     */
-    private Member findMemberByUuid(String visitorId) {
-        if (visitorId == null || "anonymousUser".equals(visitorId)) {
-            throw new IllegalArgumentException("로그인이 필요합니다");
-        }
-
-        // UUID 파싱 및 에러 메시지 정규화
-        UUID uuid;
-        try {
-            uuid = UUID.fromString(visitorId);
-        } catch (IllegalArgumentException e) {
-            throw new IllegalArgumentException("잘못된 사용자 ID 형식입니다");
-        }
-
-        return memberRepository.findByUuidAndDeletedAtIsNull(uuid)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다"));
-    }
 
     /**
      * 게시글 ID로 조회
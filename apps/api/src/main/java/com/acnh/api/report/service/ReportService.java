@@ -1,8 +1,7 @@
 package com.acnh.api.report.service;
 
 import com.acnh.api.block.service.BlockService;
-import com.acnh.api.member.entity.Member;
-import com.acnh.api.member.repository.MemberRepository;
+import com.acnh.api.member.service.MemberIdentityResolver;
 import com.acnh.api.post.entity.Post;
 import com.acnh.api.post.repository.PostRepository;
 import com.acnh.api.report.dto.ReportCreateRequest;
@@ -15,8 +14,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.UUID;
-
 /**
  * 신고 관련 비즈니스 로직 서비스
  */
@@ -28,7 +25,7 @@ public class ReportService {
 
     private final ReportRepository reportRepository;
     private final PostRepository postRepository;
-    private final MemberRepository memberRepository;
+    private final MemberIdentityResolver memberIdentityResolver;
     private final BlockService blockService;
 
     /**
@@ -37,20 +34,20 @@ public class ReportService {
      */
     @Transactional
     public ReportResponse createReport(ReportCreateRequest request, String visitorId) {
-        Member member = findMemberByUuid(visitorId);
+        Long userId = memberIdentityResolver.resolveId(visitorId);
         Post post = findPostById(request.getPostId());
 
         // 신고 사유 코드 유효성 검증
         validateReasonCode(request.getReasonCode());
 
         // 본인 게시글은 신고할 수 없음
-        if (post.getUserId().equals(member.getId())) {
+        if (post.getUserId().equals(userId)) {
             throw new IllegalArgumentException("본인의 게시글은 신고할 수 없습니다");
         }
 
         // 신고 생성 (피신고자 ID = 게시글 작성자)
         Report report = Report.builder()
-                .reporterId(member.getId())
+                .reporterId(userId)
                 .postId(request.getPostId())
                 .reportedUserId(post.getUserId())
                 .reasonCode(request.getReasonCode())
@@ -60,7 +57,7 @@ public class ReportService {
         Report savedReport = reportRepository.save(report);
 
         log.info("신고 생성 완료 - reportId: {}, postId: {}, reporterId: {}, reportedUserId: {}, reasonCode: {}",
-                savedReport.getId(), request.getPostId(), member.getId(), post.getUserId(), request.getReasonCode());
+                savedReport.getId(), request.getPostId(), userId, post.getUserId(), request.getReasonCode());
 
         // 차단 여부 처리 (blockUser == true 일 때만 차단)
         boolean blocked = false;
@@ -68,7 +65,7 @@ public class ReportService {
             String blockReason = "신고 사유: " + request.getReasonCode();
             blockService.blockUserById(post.getUserId(), blockReason, visitorId);
             blocked = true;
-            log.info("신고 후 차단 처리 - blockerId: {}, blockedId: {}", member.getId(), post.getUserId());
+            log.info("신고 후 차단 처리 - blockerId: {}, blockedId: {}", userId, post.getUserId());
         }
 
         return ReportResponse.from(savedReport, blocked);
@@ -76,19 +73,6 @@ public class ReportService {
 
     // ========== Private Helper Methods ==========
 
-    /**
-     * UUID로 회원 조회
-     * Before: visitorId == null 만 체크하여 "anonymousUser"가 UUID 파싱 시도됨
-     * After: "anonymousUser" 문자열도 비인증 상태로 처리
-     */
-    private Member findMemberByUuid(String visitorId) {
-        if (visitorId == null || "anonymousUser".equals(visitorId)) {
-            throw new IllegalArgumentException("로그인이 필요합니다");
-        }
-        return memberRepository.findByUuidAndDeletedAtIsNull(UUID.fromString(visitorId))
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다"));
-    }
-
     /**
      * 게시글 ID로 조회
      */
@@ -2,8 +2,11 @@ package com.acnh.api.review.service;
 
 import com.acnh.api.chat.repository.ChatRoomRepository;
 import com.acnh.api.filter.ProfanityFilter;
+import com.acnh.api.member.dto.MemberSummary;
 import com.acnh.api.member.entity.Member;
 import com.acnh.api.member.repository.MemberRepository;
+import com.acnh.api.member.service.MemberIdentityResolver;
+import com.acnh.api.member.service.MemberSummaryCache;
 import com.acnh.api.post.entity.Post;
 import com.acnh.api.post.repository.PostRepository;
 import com.acnh.api.review.dto.ReviewCreateRequest;
@@ -22,7 +25,6 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -37,6 +39,8 @@ public class ReviewService {
 
     private final ReviewRepository reviewRepository;
     private final MemberRepository memberRepository;
+    private final MemberIdentityResolver memberIdentityResolver;
+    private final MemberSummaryCache memberSummaryCache;
     private final PostRepository postRepository;
     private final ChatRoomRepository chatRoomRepository;
     private final ProfanityFilter profanityFilter;
@@ -48,23 +52,23 @@ public class ReviewService {
      */
     @Transactional
     public ReviewResponse createReview(ReviewCreateRequest request, String visitorId) {
-        Member reviewer = findMemberByUuid(visitorId);
+        Long reviewerId = memberIdentityResolver.resolveId(visitorId);
         Post post = findPostById(request.getPostId());
         Member reviewee = findMemberById(request.getRevieweeId());
 
         // 자기 자신에게 리뷰 불가
-        if (reviewer.getId().equals(reviewee.getId())) {
+        if (reviewerId.equals(reviewee.getId())) {
             throw new IllegalArgumentException("자기 자신에게 리뷰를 작성할 수 없습니다");
         }
 
         // 채팅 기록 확인 (리뷰어가 해당 게시글에 채팅방이 있는지)
-        validateChatHistory(post, reviewer);
+        validateChatHistory(post, reviewerId);
 
         // 리뷰 대상자 유효성 검증
-        validateRevieweeEligibility(post, reviewer, reviewee);
+        validateRevieweeEligibility(post, reviewerId, reviewee);
 
         // 중복 리뷰 검사 (post_id + reviewer_id 기준)
-        if (reviewRepository.existsByPostIdAndReviewerIdAndDeletedAtIsNull(post.getId(), reviewer.getId())) {
+        if (reviewRepository.existsByPostIdAndReviewerIdAndDeletedAtIsNull(post.getId(), reviewerId)) {
             throw new IllegalArgumentException("이미 해당 게시글에 리뷰를 작성하였습니다");
         }
 
@@ -75,7 +79,7 @@ public class ReviewService {
 
         Review review = Review.builder()
                 .postId(post.getId())
-                .reviewerId(reviewer.getId())
+                .reviewerId(reviewerId)
                 .revieweeId(reviewee.getId())
                 .rating(request.getRating())
                 .comment(request.getComment())
@@ -90,7 +94,7 @@ public class ReviewService {
         }
 
         log.info("리뷰 작성 완료 - reviewId: {}, postId: {}, reviewerId: {}, revieweeId: {}",
-                savedReview.getId(), post.getId(), reviewer.getId(), reviewee.getId());
+                savedReview.getId(), post.getId(), reviewerId, reviewee.getId());
 
         return toReviewResponse(savedReview);
     }
@@ -109,11 +113,7 @@ public class ReviewService {
         List<Long> postIds = reviews.stream().map(Review::getPostId).distinct().toList();
 
         // 빈 리스트일 경우 불필요한 DB 조회 방지
-        Map<Long, Member> memberMap = reviewerIds.isEmpty()
-                ? Collections.emptyMap()
-                : memberRepository.findByIdInAndDeletedAtIsNull(reviewerIds)
-                        .stream()
-                        .collect(Collectors.toMap(Member::getId, Function.identity()));
+        Map<Long, MemberSummary> memberMap = memberSummaryCache.getAll(reviewerIds);
 
         Map<Long, Post> postMap = postIds.isEmpty()
                 ? Collections.emptyMap()
@@ -122,11 +122,11 @@ public class ReviewService {
                         .collect(Collectors.toMap(Post::getId, Function.identity()));
 
         // 리뷰 대상자 정보 조회
-        Member reviewee = memberRepository.findByIdAndDeletedAtIsNull(userId).orElse(null);
+        MemberSummary reviewee = memberSummaryCache.get(userId).orElse(null);
         String revieweeNickname = reviewee != null ? reviewee.getNickname() : "알 수 없음";
 
         Page<ReviewResponse> responsePage = reviews.map(review -> {
-            Member reviewer = memberMap.get(review.getReviewerId());
+            MemberSummary reviewer = memberMap.get(review.getReviewerId());
             Post post = postMap.get(review.getPostId());
 
             String reviewerNickname = reviewer != null ? reviewer.getNickname() : "알 수 없음";
@@ -149,21 +149,9 @@ public class ReviewService {
      * - 해당 게시글에 채팅 기록이 있고, 아직 리뷰를 작성하지 않았는지 확인
      */
     public boolean canWriteReview(Long postId, String visitorId) {
-        if (visitorId == null) {
-            return false;
-        }
-
-        // UUID 파싱 실패 시 false 반환
-        UUID uuid;
-        try {
-            uuid = UUID.fromString(visitorId);
-        } catch (IllegalArgumentException e) {
-            return false;
-        }
-
-        Member member = memberRepository.findByUuidAndDeletedAtIsNull(uuid)
-                .orElse(null);
-        if (member == null) {
+        // 비로그인, UUID 형식 오류, 탈퇴 회원이면 false
+        Long userId = memberIdentityResolver.resolveIdOrNull(visitorId);
+        if (userId == null) {
             return false;
         }
 
@@ -173,43 +161,22 @@ public class ReviewService {
         }
 
         // 이미 리뷰 작성했는지 확인
-        if (reviewRepository.existsByPostIdAndReviewerIdAndDeletedAtIsNull(postId, member.getId())) {
+        if (reviewRepository.existsByPostIdAndReviewerIdAndDeletedAtIsNull(postId, userId)) {
             return false;
         }
 
         // 채팅 기록 확인
         // 게시글 작성자인 경우: 해당 게시글에 채팅방이 있으면 리뷰 가능
-        if (post.getUserId().equals(member.getId())) {
+        if (post.getUserId().equals(userId)) {
             return !chatRoomRepository.findByPostIdAndDeletedAtIsNull(postId).isEmpty();
         }
 
         // 채팅 요청자인 경우: 해당 게시글에 본인이 신청한 채팅방이 있으면 리뷰 가능
-        return chatRoomRepository.existsByPostIdAndApplicantIdAndDeletedAtIsNull(postId, member.getId());
+        return chatRoomRepository.existsByPostIdAndApplicantIdAndDeletedAtIsNull(postId, userId);
     }
 
     // ========== Private Helper Methods ==========
 
-    /**
-     * UUID로 회원 조회
-     * Before: visitorId == null 만 체크하여 "anonymousUser"가 UUID 파싱 시도됨
-     * After: "anonymousUser" 문자열도 비인증 상태로 처리
-     */
-    private Member findMemberByUuid(String visitorId) {
-        if (visitorId == null || "anonymousUser".equals(visitorId)) {
-            throw new IllegalArgumentException("로그인이 필요합니다");
-        }
-
-        // UUID 파싱 실패 시 원본 예외 메시지 노출 방지
-        UUID uuid;
-        try {
-            uuid = UUID.fromString(visitorId);
-        } catch (IllegalArgumentException e) {
-            throw new IllegalArgumentException("로그인이 필요합니다");
-        }
-
-        return memberRepository.findByUuidAndDeletedAtIsNull(uuid)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다"));
-    }
 
     /**
      * ID로 회원 조회
@@ -232,9 +199,9 @@ public class ReviewService {
      * - 게시글 작성자: 해당 게시글에 채팅방이 존재해야 함
      * - 채팅 요청자: 해당 게시글에 본인이 신청한 채팅방이 존재해야 함
      */
-    private void validateChatHistory(Post post, Member reviewer) {
+    private void validateChatHistory(Post post, Long reviewerId) {
         // 게시글 작성자인 경우
-        if (post.getUserId().equals(reviewer.getId())) {
+        if (post.getUserId().equals(reviewerId)) {
             if (chatRoomRepository.findByPostIdAndDeletedAtIsNull(post.getId()).isEmpty()) {
                 throw new IllegalArgumentException("해당 게시글에 채팅 기록이 없습니다");
             }
@@ -242,7 +209,7 @@ public class ReviewService {
         }
 
         // 채팅 요청자인 경우
-        if (!chatRoomRepository.existsByPostIdAndApplicantIdAndDeletedAtIsNull(post.getId(), reviewer.getId())) {
+        if (!chatRoomRepository.existsByPostIdAndApplicantIdAndDeletedAtIsNull(post.getId(), reviewerId)) {
             throw new IllegalArgumentException("해당 게시글에 채팅 기록이 없습니다");
         }
     }
@@ -252,9 +219,9 @@ public class ReviewService {
      * - 채팅 요청자 → 게시글 작성자에게만 리뷰 가능
      * - 게시글 작성자 → 채팅 요청자에게만 리뷰 가능
      */
-    private void validateRevieweeEligibility(Post post, Member reviewer, Member reviewee) {
+    private void validateRevieweeEligibility(Post post, Long reviewerId, Member reviewee) {
         // 채팅 요청자가 리뷰하는 경우: 게시글 작성자에게만 리뷰 가능
-        if (!post.getUserId().equals(reviewer.getId())) {
+        if (!post.getUserId().equals(reviewerId)) {
             if (!post.getUserId().equals(reviewee.getId())) {
                 throw new IllegalArgumentException("게시글 작성자에게만 리뷰를 작성할 수 있습니다");
             }
@@ -271,8 +238,8 @@ public class ReviewService {
      * Review -> ReviewResponse 변환
      */
     private ReviewResponse toReviewResponse(Review review) {
-        Member reviewer = memberRepository.findByIdAndDeletedAtIsNull(review.getReviewerId()).orElse(null);
-        Member reviewee = memberRepository.findByIdAndDeletedAtIsNull(review.getRevieweeId()).orElse(null);
+        MemberSummary reviewer = memberSummaryCache.get(review.getReviewerId()).orElse(null);
+        MemberSummary reviewee = memberSummaryCache.get(review.getRevieweeId()).orElse(null);
         Post post = postRepository.findByIdAndDeletedAtIsNull(review.getPostId()).orElse(null);
 
         String reviewerNickname = reviewer != null ? reviewer.getNickname() : "알 수 없음";
@@ -0,0 +1,26 @@
+-- 게시글 피드 정렬 키 컬럼 및 부분 인덱스
+-- - ddl-auto: validate 이므로 배포 전에 수동 적용 필요
+-- - feed_sort_at = COALESCE(bumped_at, created_at) (애플리케이션에서 생성/끌올 시 갱신)
+-- - 인덱스는 삭제되지 않은 게시글만 포함 (deleted_at IS NULL)
+-- - CREATE INDEX CONCURRENTLY는 트랜잭션 밖에서 실행해야 함
+
+ALTER TABLE posts ADD COLUMN IF NOT EXISTS feed_sort_at TIMESTAMP;
+
+UPDATE posts SET feed_sort_at = COALESCE(bumped_at, created_at) WHERE feed_sort_at IS NULL;
+
+ALTER TABLE posts ALTER COLUMN feed_sort_at SET NOT NULL;
+
+-- 전체 피드 (필터 없음)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_posts_feed
+    ON posts (feed_sort_at DESC, id DESC)
+    WHERE deleted_at IS NULL;
+
+-- 카테고리 필터 피드
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_posts_category_feed
+    ON posts (category_id, feed_sort_at DESC, id DESC)
+    WHERE deleted_at IS NULL;
+
+-- 상태 필터 피드 (거래가능만 보기 등)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_posts_status_feed
+    ON posts (status, feed_sort_at DESC, id DESC)
+    WHERE deleted_at IS NULL;
@@ -0,0 +1,19 @@
+-- 게시글 아이템명 검색용 정규화 컬럼 및 pg_trgm GIN 인덱스
+-- - ddl-auto: validate 이므로 배포 전에 수동 적용 필요
+-- - item_name_search = 공백 제거 + 소문자 + NFC (ItemNameNormalizer와 동일 규칙)
+-- - pg_trgm은 DB의 LC_CTYPE이 UTF-8 로케일이어야 한글을 트라이그램으로 인식함 (C 로케일 불가)
+-- - 3글자 미만 검색어는 트라이그램 추출이 안 되어 인덱스 전체 스캔으로 동작 (결과는 동일)
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+ALTER TABLE posts ADD COLUMN IF NOT EXISTS item_name_search VARCHAR(100);
+
+UPDATE posts
+SET item_name_search = LOWER(REGEXP_REPLACE(NORMALIZE(item_name, NFC), '\s+', '', 'g'))
+WHERE item_name_search IS NULL;
+
+ALTER TABLE posts ALTER COLUMN item_name_search SET NOT NULL;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_posts_item_name_search_trgm
+    ON posts USING gin (item_name_search gin_trgm_ops)
+    WHERE deleted_at IS NULL;
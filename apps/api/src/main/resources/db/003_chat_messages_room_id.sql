@@ -0,0 +1,9 @@
+-- 채팅 메시지 커서 페이징용 부분 인덱스
+-- - ddl-auto: validate 이므로 배포 전에 수동 적용 필요
+-- - 채팅방별 최신/이전(before)/이후(after) 메시지 조회: WHERE chat_room_id = ? AND id < ? ORDER BY id DESC LIMIT ?
+-- - 인덱스는 삭제되지 않은 메시지만 포함 (deleted_at IS NULL)
+-- - CREATE INDEX CONCURRENTLY는 트랜잭션 밖에서 실행해야 함
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_chat_messages_room_id
+    ON chat_messages (chat_room_id, id)
+    WHERE deleted_at IS NULL;
@@ -0,0 +1,16 @@
+-- 채팅방 참여자별 마지막 읽은 메시지 ID (읽음 high-water mark)
+-- - ddl-auto: validate 이므로 배포 전에 수동 적용 필요
+-- - 안 읽은 메시지 수: WHERE chat_room_id = ? AND sender_id <> ? AND id > {last_read_message_id}
+--   idx_chat_messages_room_id (chat_room_id, id) 범위 스캔으로 안 읽은 구간만 탐색
+-- - 기존 데이터는 is_read = true인 상대방 메시지의 최대 ID로 백필
+
+ALTER TABLE chat_rooms ADD COLUMN IF NOT EXISTS post_owner_last_read_message_id BIGINT;
+ALTER TABLE chat_rooms ADD COLUMN IF NOT EXISTS applicant_last_read_message_id BIGINT;
+
+UPDATE chat_rooms c
+SET post_owner_last_read_message_id = (
+        SELECT MAX(m.id) FROM chat_messages m
+        WHERE m.chat_room_id = c.id AND m.sender_id <> c.post_owner_id AND m.is_read = true),
+    applicant_last_read_message_id = (
+        SELECT MAX(m.id) FROM chat_messages m
+        WHERE m.chat_room_id = c.id AND m.sender_id <> c.applicant_id AND m.is_read = true);
@@ -0,0 +1,30 @@
+-- 채팅방 목록용 비정규화 컬럼 (마지막 메시지, 참여자별 안 읽은 메시지 수)
+-- - ddl-auto: validate 이므로 배포 전에 수동 적용 필요
+-- - 메시지 저장/읽음 처리 시 원자적 UPDATE로 유지, ChatRoomSummaryReconciler가 주기적으로 드리프트 보정
+-- - 채팅방 목록 조회 시 chat_messages 집계 쿼리 없이 chat_rooms만 조회
+
+ALTER TABLE chat_rooms ADD COLUMN IF NOT EXISTS last_message_id BIGINT;
+ALTER TABLE chat_rooms ADD COLUMN IF NOT EXISTS last_message_preview VARCHAR(100);
+ALTER TABLE chat_rooms ADD COLUMN IF NOT EXISTS last_message_at TIMESTAMP;
+ALTER TABLE chat_rooms ADD COLUMN IF NOT EXISTS post_owner_unread_count INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE chat_rooms ADD COLUMN IF NOT EXISTS applicant_unread_count INTEGER NOT NULL DEFAULT 0;
+
+-- 기존 데이터 백필
+UPDATE chat_rooms c
+SET post_owner_unread_count = (
+        SELECT COUNT(*) FROM chat_messages m
+        WHERE m.chat_room_id = c.id AND m.deleted_at IS NULL
+          AND m.is_read = false AND m.sender_id <> c.post_owner_id),
+    applicant_unread_count = (
+        SELECT COUNT(*) FROM chat_messages m
+        WHERE m.chat_room_id = c.id AND m.deleted_at IS NULL
+          AND m.is_read = false AND m.sender_id <> c.applicant_id),
+    last_message_id = (
+        SELECT MAX(m.id) FROM chat_messages m
+        WHERE m.chat_room_id = c.id AND m.deleted_at IS NULL);
+
+UPDATE chat_rooms c
+SET last_message_preview = CASE WHEN m.message_type = 'IMAGE' THEN '[이미지]' ELSE LEFT(m.content, 100) END,
+    last_message_at = m.created_at
+FROM chat_messages m
+WHERE m.id = c.last_message_id;
@@ -0,0 +1,23 @@
+-- 알림 인박스 커서 페이징 인덱스 + 사용자별 읽지 않은 알림 수 카운터
+-- - ddl-auto: validate 이므로 배포 전에 수동 적용 필요
+-- - 인박스 조회: WHERE user_id = ? AND id < {cursor} ORDER BY id DESC LIMIT n (인덱스 범위 스캔)
+-- - 읽지 않은 수: COUNT(*) 대신 notification_unread_counts 1행 조회
+--   알림 저장 시 증가, 읽음 처리 시 실제로 읽음 처리된 행 수만큼 감소 (0 미만 방지)
+-- - 기존 데이터는 읽지 않은 알림 수로 백필
+
+CREATE INDEX IF NOT EXISTS idx_notifications_user_id_id
+    ON notifications (user_id, id DESC)
+    WHERE deleted_at IS NULL;
+
+CREATE TABLE IF NOT EXISTS notification_unread_counts (
+    user_id      BIGINT    PRIMARY KEY,
+    unread_count INTEGER   NOT NULL DEFAULT 0,
+    updated_at   TIMESTAMP NOT NULL DEFAULT now()
+);
+
+INSERT INTO notification_unread_counts (user_id, unread_count)
+SELECT user_id, COUNT(*)
+FROM notifications
+WHERE is_read = false AND deleted_at IS NULL
+GROUP BY user_id
+ON CONFLICT (user_id) DO UPDATE SET unread_count = EXCLUDED.unread_count, updated_at = now();
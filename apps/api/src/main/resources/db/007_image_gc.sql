@@ -0,0 +1,19 @@
+-- 고아 이미지 정리(OrphanImageCollector)용 참조 인덱스 + 진행 상태 테이블
+-- - ddl-auto: validate 이므로 배포 전에 수동 적용 필요
+-- - 참조 이미지 조회: WHERE image_url IS NOT NULL AND deleted_at IS NULL AND id > {cursor} ORDER BY id LIMIT n
+--   (이미지 메시지만 담은 부분 인덱스 범위 스캔, 텍스트 메시지는 읽지 않음)
+-- - image_gc_state: 경로(prefix)별 마지막 처리 키(재시작 시 이어서 진행) + 인스턴스 간 중복 실행 방지 임대(lease)
+
+CREATE INDEX IF NOT EXISTS idx_chat_messages_image_url
+    ON chat_messages (id)
+    INCLUDE (image_url)
+    WHERE image_url IS NOT NULL AND deleted_at IS NULL;
+
+CREATE TABLE IF NOT EXISTS image_gc_state (
+    prefix            VARCHAR(100)  PRIMARY KEY,
+    last_key          VARCHAR(1024),
+    lease_owner       VARCHAR(100),
+    lease_until       TIMESTAMP,
+    last_completed_at TIMESTAMP,
+    updated_at        TIMESTAMP     NOT NULL DEFAULT now()
+);
@@ -0,0 +1,11 @@
+-- 게시글 아이템명 검색 컬럼 공백 규칙 통일 (002 보정)
+-- - ddl-auto: validate 이므로 배포 전에 수동 적용 필요
+-- - 002의 '\s'는 PostgreSQL 정규식 기준이라 NBSP, 전각 공백(U+3000) 등을 남길 수 있어 Java 정규화 결과와 어긋남
+-- - 패턴은 ItemNameNormalizer.WHITESPACE_CLASS와 같은 문자열 (유니코드 White_Space + 폭 없는 공백/BOM)
+-- - 값이 달라지는 행만 갱신
+
+UPDATE posts
+SET item_name_search = LOWER(REGEXP_REPLACE(NORMALIZE(item_name, NFC),
+        '[\t\n\u000B\f\r \u0085\u00A0\u1680\u2000-\u200A\u2028\u2029\u202F\u205F\u3000\u200B\uFEFF]+', '', 'g'))
+WHERE item_name_search IS DISTINCT FROM LOWER(REGEXP_REPLACE(NORMALIZE(item_name, NFC),
+        '[\t\n\u000B\f\r \u0085\u00A0\u1680\u2000-\u200A\u2028\u2029\u202F\u205F\u3000\u200B\uFEFF]+', '', 'g'));
@@ -0,0 +1,259 @@
+package com.acnh.api.chat.service;
+
+import com.acnh.api.chat.dto.ChatMessageAck;
+import com.acnh.api.chat.dto.ChatMessageRequest;
+import com.acnh.api.chat.dto.ChatMessageResponse;
+import com.acnh.api.chat.entity.ChatMessage;
+import com.acnh.api.chat.entity.ChatRoom;
+import com.acnh.api.chat.repository.ChatRoomRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 채팅 메시지 write-behind 저장 파이프라인 테스트 (로컬 PostgreSQL)
+ * - 전송 순서대로 저장/ack, 일시 오류 재시도, 오류 행만 FAILED 처리, 종료 시 대기열 저장 확인
+ * - Docker가 없는 환경에서는 건너뜀
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ChatMessageWriteBehindTest {
+
+    private static final long ROOM_ID = 1L;
+    private static final long DELETED_ROOM_ID = 999L;
+    private static final long SENDER_ID = 10L;
+    private static final long RECIPIENT_ID = 20L;
+
+    @Container
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static JdbcTemplate jdbcTemplate;
+    private static TransactionTemplate transactionTemplate;
+
+    private final ChatService chatService = mock(ChatService.class);
+    private final ChatRoomRepository chatRoomRepository = mock(ChatRoomRepository.class);
+    private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final List<ChatMessageAck> acks = new CopyOnWriteArrayList<>();
+
+    private ChatMessageWriteBehind writeBehind;
+
+    @BeforeAll
+    static void createSchema() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+        jdbcTemplate.execute("CREATE TABLE chat_rooms (id BIGSERIAL PRIMARY KEY)");
+        jdbcTemplate.execute("CREATE TABLE chat_messages (" +
+                "id BIGSERIAL PRIMARY KEY, " +
+                "chat_room_id BIGINT NOT NULL REFERENCES chat_rooms (id), " +
+                "sender_id BIGINT NOT NULL, " +
+                "message_type VARCHAR(20) NOT NULL, " +
+                "content TEXT, " +
+                "image_url VARCHAR(500), " +
+                "is_read BOOLEAN NOT NULL, " +
+                "created_at TIMESTAMP NOT NULL, " +
+                "updated_at TIMESTAMP NOT NULL, " +
+                "deleted_at TIMESTAMP)");
+        jdbcTemplate.update("INSERT INTO chat_rooms (id) VALUES (?)", ROOM_ID);
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("TRUNCATE chat_messages");
+
+        when(chatService.newMessage(any(), anyLong())).thenAnswer(invocation -> {
+            ChatMessageRequest request = invocation.getArgument(0);
+            return ChatMessage.builder()
+                    .chatRoomId(request.getChatRoomId())
+                    .senderId(invocation.getArgument(1))
+                    .content(request.getContent())
+                    .build();
+        });
+        when(chatService.getNickname(anyLong())).thenReturn("nickname");
+        doAnswer(invocation -> acks.add(invocation.getArgument(2)))
+                .when(messagingTemplate).convertAndSendToUser(anyString(), eq("/queue/chat.ack"), any(Object.class));
+
+        writeBehind = new ChatMessageWriteBehind(chatService,
+                new ChatMessageIdAllocator(jdbcTemplate), chatRoomRepository,
+                jdbcTemplate, transactionTemplate, messagingTemplate, eventPublisher, new SimpleMeterRegistry(),
+                1000, 50, Duration.ofMillis(100), Duration.ofMillis(100), 3, Duration.ofMillis(10),
+                Duration.ofSeconds(10));
+        writeBehind.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (writeBehind.isRunning()) {
+            writeBehind.stop();
+        }
+    }
+
+    @Test
+    void persistsMessagesInSubmitOrderAndAcksEach() {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            ids.add(submit(ROOM_ID, "message-" + i).getId());
+        }
+
+        awaitAcks(10);
+
+        assertThat(ids).isSorted();
+        assertThat(jdbcTemplate.queryForList("SELECT content FROM chat_messages ORDER BY id", String.class))
+                .containsExactly("message-0", "message-1", "message-2", "message-3", "message-4",
+                        "message-5", "message-6", "message-7", "message-8", "message-9");
+        assertThat(acks).extracting(ChatMessageAck::getMessageId).containsExactlyInAnyOrderElementsOf(ids);
+        assertThat(acks).extracting(ChatMessageAck::getStatus).containsOnly(ChatMessageAck.PERSISTED);
+        verify(eventPublisher, times(10)).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void retriesBatchAfterTransientFailure() {
+        when(chatRoomRepository.recordMessages(anyLong(), anyLong(), any(), any(), anyInt(), anyInt()))
+                .thenThrow(new TransientDataAccessResourceException("connection reset"))
+                .thenReturn(1);
+
+        for (int i = 0; i < 5; i++) {
+            submit(ROOM_ID, "message-" + i);
+        }
+
+        awaitAcks(5);
+
+        assertThat(countMessages()).isEqualTo(5);
+        assertThat(acks).extracting(ChatMessageAck::getStatus).containsOnly(ChatMessageAck.PERSISTED);
+    }
+
+    @Test
+    void failsOnlyRowsThatViolateConstraints() {
+        List<Long> goodIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            goodIds.add(submit(ROOM_ID, "before-" + i).getId());
+        }
+        Long badId = submit(DELETED_ROOM_ID, "orphan").getId();
+        for (int i = 0; i < 5; i++) {
+            goodIds.add(submit(ROOM_ID, "after-" + i).getId());
+        }
+
+        awaitAcks(11);
+
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM chat_messages ORDER BY id", Long.class))
+                .containsExactlyElementsOf(goodIds);
+        assertThat(acksWith(ChatMessageAck.FAILED)).containsExactly(badId);
+        assertThat(acksWith(ChatMessageAck.PERSISTED)).containsExactlyInAnyOrderElementsOf(goodIds);
+    }
+
+    @Test
+    void stopDrainsQueuedMessages() {
+        for (int i = 0; i < 300; i++) {
+            submit(ROOM_ID, "message-" + i);
+        }
+
+        writeBehind.stop();
+
+        assertThat(countMessages()).isEqualTo(300);
+        assertThat(acksWith(ChatMessageAck.PERSISTED)).hasSize(300);
+    }
+
+    @Test
+    void stopFailsMessagesLeftAfterShutdownTimeout() {
+        writeBehind.stop();
+        when(chatRoomRepository.recordMessages(anyLong(), anyLong(), any(), any(), anyInt(), anyInt()))
+                .thenThrow(new TransientDataAccessResourceException("connection reset"));
+        writeBehind = new ChatMessageWriteBehind(chatService,
+                new ChatMessageIdAllocator(jdbcTemplate), chatRoomRepository,
+                jdbcTemplate, transactionTemplate, messagingTemplate, eventPublisher, new SimpleMeterRegistry(),
+                1000, 50, Duration.ofMillis(100), Duration.ofMillis(100), 100, Duration.ofSeconds(1),
+                Duration.ofMillis(300));
+        writeBehind.start();
+
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            ids.add(submit(ROOM_ID, "message-" + i).getId());
+        }
+
+        // 재시도 대기 중 종료 시간 초과 -> 인터럽트로 재시도 중단, 미저장 메시지는 FAILED
+        long startedAt = System.nanoTime();
+        writeBehind.stop();
+
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofSeconds(5));
+        assertThat(countMessages()).isZero();
+        assertThat(acksWith(ChatMessageAck.FAILED)).containsExactlyInAnyOrderElementsOf(ids);
+        assertThat(writeBehind.submit(request(ROOM_ID, "after-stop"), SENDER_ID, "visitor", participants(ROOM_ID)))
+                .isEmpty();
+    }
+
+    private ChatMessageResponse submit(Long roomId, String content) {
+        return writeBehind.submit(request(roomId, content), SENDER_ID, "visitor", participants(roomId))
+                .orElseThrow(() -> new AssertionError("message rejected: " + content));
+    }
+
+    private static ChatMessageRequest request(Long roomId, String content) {
+        ChatMessageRequest request = new ChatMessageRequest();
+        ReflectionTestUtils.setField(request, "chatRoomId", roomId);
+        ReflectionTestUtils.setField(request, "content", content);
+        return request;
+    }
+
+    private static ChatRoomParticipants participants(Long roomId) {
+        ChatRoom chatRoom = ChatRoom.builder().postId(1L).postOwnerId(RECIPIENT_ID).applicantId(SENDER_ID).build();
+        ReflectionTestUtils.setField(chatRoom, "id", roomId);
+        return ChatRoomParticipants.from(chatRoom);
+    }
+
+    private List<Long> acksWith(String status) {
+        return acks.stream()
+                .filter(ack -> status.equals(ack.getStatus()))
+                .map(ChatMessageAck::getMessageId)
+                .toList();
+    }
+
+    private int countMessages() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM chat_messages", Integer.class);
+    }
+
+    private void awaitAcks(int expected) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (acks.size() < expected) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("ack timeout - received: " + acks.size());
+            }
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AssertionError(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.acnh.api.chat.service;
+
+import com.acnh.api.chat.entity.ChatRoom;
+import com.acnh.api.chat.event.ChatRoomClosedEvent;
+import com.acnh.api.chat.repository.ChatRoomRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * STOMP 세션별 채팅방 권한 캐시 테스트
+ * - 세션 내 재사용, 채팅방 종료/연결 종료/ttl 만료 시 재확인, 종료된 세션 항목 재생성 방지 확인
+ */
+class ChatRoomAuthorizationCacheTest {
+
+    private static final long ROOM_ID = 7L;
+    private static final long OWNER_ID = 1L;
+    private static final long APPLICANT_ID = 2L;
+    private static final String SESSION_ID = "session-1";
+
+    private final ChatRoomRepository chatRoomRepository = mock(ChatRoomRepository.class);
+    private final ChatRoomAuthorizationCache cache =
+            new ChatRoomAuthorizationCache(chatRoomRepository, Duration.ofMinutes(5));
+
+    @BeforeEach
+    void setUp() {
+        ChatRoom chatRoom = ChatRoom.builder()
+                .postId(100L)
+                .postOwnerId(OWNER_ID)
+                .applicantId(APPLICANT_ID)
+                .status("ACTIVE")
+                .build();
+        ReflectionTestUtils.setField(chatRoom, "id", ROOM_ID);
+        ReflectionTestUtils.setField(chatRoom, "applicantLastReadMessageId", 30L);
+        when(chatRoomRepository.findByIdAndDeletedAtIsNull(ROOM_ID)).thenReturn(Optional.of(chatRoom));
+    }
+
+    @Test
+    void reusesAuthorizationWithinSession() {
+        cache.connected(SESSION_ID);
+
+        ChatRoomParticipants first = cache.authorize(SESSION_ID, ROOM_ID, APPLICANT_ID);
+        ChatRoomParticipants second = cache.authorize(SESSION_ID, ROOM_ID, APPLICANT_ID);
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.getLastReadMessageIdOf(APPLICANT_ID)).isEqualTo(30L);
+        assertThat(first.getLastReadMessageIdOf(OWNER_ID)).isZero();
+        verify(chatRoomRepository, times(1)).findByIdAndDeletedAtIsNull(ROOM_ID);
+    }
+
+    @Test
+    void rechecksWhenAnotherUserUsesSameSession() {
+        cache.connected(SESSION_ID);
+        cache.authorize(SESSION_ID, ROOM_ID, APPLICANT_ID);
+
+        assertThatThrownBy(() -> cache.authorize(SESSION_ID, ROOM_ID, 99L))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(chatRoomRepository, times(2)).findByIdAndDeletedAtIsNull(ROOM_ID);
+    }
+
+    @Test
+    void evictsRoomFromAllSessionsWhenClosed() {
+        cache.connected(SESSION_ID);
+        cache.connected("session-2");
+        cache.authorize(SESSION_ID, ROOM_ID, APPLICANT_ID);
+        cache.authorize("session-2", ROOM_ID, OWNER_ID);
+
+        cache.onChatRoomClosed(new ChatRoomClosedEvent(ROOM_ID));
+        cache.authorize(SESSION_ID, ROOM_ID, APPLICANT_ID);
+        cache.authorize("session-2", ROOM_ID, OWNER_ID);
+
+        verify(chatRoomRepository, times(4)).findByIdAndDeletedAtIsNull(ROOM_ID);
+    }
+
+    @Test
+    void doesNotRecreateEntriesAfterDisconnect() {
+        cache.connected(SESSION_ID);
+        cache.authorize(SESSION_ID, ROOM_ID, APPLICANT_ID);
+
+        cache.onSessionDisconnect(disconnect(SESSION_ID));
+        // 연결 종료 후 늦게 처리된 프레임: 권한 확인은 하되 적재하지 않음
+        cache.authorize(SESSION_ID, ROOM_ID, APPLICANT_ID);
+        cache.authorize(SESSION_ID, ROOM_ID, APPLICANT_ID);
+
+        verify(chatRoomRepository, times(3)).findByIdAndDeletedAtIsNull(ROOM_ID);
+        assertThat(internalMap("sessions")).isEmpty();
+        assertThat(internalMap("sessionsByRoom")).isEmpty();
+    }
+
+    @Test
+    void doesNotCacheForUnregisteredSession() {
+        cache.authorize(SESSION_ID, ROOM_ID, APPLICANT_ID);
+
+        assertThat(internalMap("sessions")).isEmpty();
+        assertThat(internalMap("sessionsByRoom")).isEmpty();
+    }
+
+    @Test
+    void rechecksAfterTtlExpires() {
+        ChatRoomAuthorizationCache expiring = new ChatRoomAuthorizationCache(chatRoomRepository, Duration.ZERO);
+        expiring.connected(SESSION_ID);
+
+        expiring.authorize(SESSION_ID, ROOM_ID, APPLICANT_ID);
+        expiring.authorize(SESSION_ID, ROOM_ID, APPLICANT_ID);
+
+        verify(chatRoomRepository, times(2)).findByIdAndDeletedAtIsNull(ROOM_ID);
+    }
+
+    private static SessionDisconnectEvent disconnect(String sessionId) {
+        return new SessionDisconnectEvent(new Object(), MessageBuilder.withPayload(new byte[0]).build(),
+                sessionId, CloseStatus.NORMAL);
+    }
+
+    private Map<?, ?> internalMap(String name) {
+        return (Map<?, ?>) ReflectionTestUtils.getField(cache, name);
+    }
+}
@@ -0,0 +1,44 @@
+package com.acnh.api.chat.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 접속 상태 관리 테스트
+ * - ttl 초과로 정리된 세션이 다시 등록될 수 있는지 확인
+ */
+class PresenceServiceTest {
+
+    private static final long USER_ID = 1L;
+
+    @Test
+    void sweptSessionIsReportedForReRegistration() {
+        PresenceService presenceService = new PresenceService(Duration.ZERO, 100, Duration.ofDays(7));
+        presenceService.connected("session-1", USER_ID);
+        assertThat(presenceService.touch("session-1")).isTrue();
+
+        presenceService.sweep();
+        assertThat(presenceService.isOnline(USER_ID)).isFalse();
+        assertThat(presenceService.getLastSeenAt(USER_ID)).isNotNull();
+
+        // 연결이 살아 있던 세션의 다음 프레임 -> 호출 측에서 재등록
+        assertThat(presenceService.touch("session-1")).isFalse();
+        presenceService.connected("session-1", USER_ID);
+        assertThat(presenceService.isOnline(USER_ID)).isTrue();
+        assertThat(presenceService.getLastSeenAt(USER_ID)).isNull();
+    }
+
+    @Test
+    void keepsActiveSessionsOnSweep() {
+        PresenceService presenceService = new PresenceService(Duration.ofMinutes(1), 100, Duration.ofDays(7));
+        presenceService.connected("session-1", USER_ID);
+
+        presenceService.sweep();
+
+        assertThat(presenceService.isOnline(USER_ID)).isTrue();
+        assertThat(presenceService.touch("session-1")).isTrue();
+    }
+}
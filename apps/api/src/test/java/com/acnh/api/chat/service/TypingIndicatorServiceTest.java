@@ -0,0 +1,36 @@
+package com.acnh.api.chat.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 입력 중 상태 사용자별 속도 제한 테스트
+ */
+class TypingIndicatorServiceTest {
+
+    @Test
+    void dropsRepeatedSignalsWithinMinInterval() {
+        TypingIndicatorService service = new TypingIndicatorService(
+                mock(SimpMessagingTemplate.class), Duration.ofSeconds(5), Duration.ofHours(1), 100);
+
+        assertThat(service.tryAcquire("user-a")).isTrue();
+        assertThat(service.tryAcquire("user-a")).isFalse();
+        assertThat(service.tryAcquire("user-b")).isTrue();
+    }
+
+    @Test
+    void acceptsSignalAgainAfterMinInterval() throws InterruptedException {
+        TypingIndicatorService service = new TypingIndicatorService(
+                mock(SimpMessagingTemplate.class), Duration.ofSeconds(5), Duration.ofMillis(50), 100);
+
+        assertThat(service.tryAcquire("user-a")).isTrue();
+        Thread.sleep(100);
+
+        assertThat(service.tryAcquire("user-a")).isTrue();
+    }
+}
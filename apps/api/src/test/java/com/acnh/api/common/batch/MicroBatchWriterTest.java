@@ -0,0 +1,127 @@
+package com.acnh.api.common.batch;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.TransientDataAccessResourceException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 마이크로 배치 저장기 테스트 (수집, 재시도, 오류 행 분할, 종료 처리)
+ */
+class MicroBatchWriterTest {
+
+    private final List<List<Integer>> flushed = new CopyOnWriteArrayList<>();
+    private final List<Integer> persisted = new CopyOnWriteArrayList<>();
+    private final List<Integer> failed = new CopyOnWriteArrayList<>();
+
+    private MicroBatchWriter<Integer> writer;
+
+    @AfterEach
+    void tearDown() {
+        if (writer != null && writer.isRunning()) {
+            writer.stop();
+        }
+    }
+
+    @Test
+    void collectsQueuedItemsIntoBatches() {
+        writer = writer(batch -> { }, 5, Duration.ofSeconds(1), Duration.ofSeconds(10));
+        writer.start();
+
+        for (int i = 0; i < 12; i++) {
+            assertThat(writer.offer(i, Duration.ZERO)).isTrue();
+        }
+        writer.stop();
+
+        assertThat(flushed).allSatisfy(batch -> assertThat(batch).hasSizeLessThanOrEqualTo(5));
+        assertThat(persisted).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11);
+        assertThat(failed).isEmpty();
+    }
+
+    @Test
+    void retriesTransientFailure() {
+        AtomicInteger calls = new AtomicInteger();
+        writer = writer(batch -> {
+            if (calls.getAndIncrement() == 0) {
+                throw new TransientDataAccessResourceException("connection reset");
+            }
+        }, 10, Duration.ofMillis(10), Duration.ofSeconds(10));
+        writer.start();
+
+        writer.offer(1, Duration.ZERO);
+        writer.stop();
+
+        assertThat(calls).hasValue(2);
+        assertThat(persisted).containsExactly(1);
+        assertThat(failed).isEmpty();
+    }
+
+    @Test
+    void splitsBatchToIsolateRowErrors() {
+        writer = writer(batch -> {
+            if (batch.contains(7)) {
+                throw new DataIntegrityViolationException("bad row");
+            }
+        }, 20, Duration.ofMillis(10), Duration.ofSeconds(10));
+        writer.start();
+
+        for (int i = 0; i < 16; i++) {
+            writer.offer(i, Duration.ZERO);
+        }
+        writer.stop();
+
+        assertThat(failed).containsExactly(7);
+        assertThat(persisted).hasSize(15).doesNotContain(7);
+    }
+
+    @Test
+    void stopFailsItemsLeftAfterTimeoutAndRejectsNewOnes() {
+        writer = writer(batch -> {
+            throw new TransientDataAccessResourceException("connection reset");
+        }, 10, Duration.ofSeconds(5), Duration.ofMillis(200));
+        writer.start();
+
+        writer.offer(1, Duration.ZERO);
+        writer.offer(2, Duration.ZERO);
+        long startedAt = System.nanoTime();
+        writer.stop();
+
+        // 재시도 대기 중 인터럽트 -> 재시도 중단 후 실패 처리
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofSeconds(3));
+        assertThat(failed).containsExactlyInAnyOrder(1, 2);
+        assertThat(persisted).isEmpty();
+        assertThat(writer.offer(3, Duration.ZERO)).isFalse();
+    }
+
+    private MicroBatchWriter<Integer> writer(Consumer<List<Integer>> onFlush, int batchSize,
+                                             Duration retryBackoff, Duration shutdownTimeout) {
+        return new MicroBatchWriter<>("test-writer", new MicroBatchWriter.Handler<>() {
+            @Override
+            public void flush(List<Integer> batch) {
+                flushed.add(new ArrayList<>(batch));
+                onFlush.accept(batch);
+            }
+
+            @Override
+            public void onPersisted(List<Integer> batch) {
+                persisted.addAll(batch);
+            }
+
+            @Override
+            public void onFailed(List<Integer> items) {
+                failed.addAll(items);
+            }
+        }, new SimpleMeterRegistry(), "test.writer", 100, batchSize, Duration.ofMillis(20),
+                5, retryBackoff, shutdownTimeout);
+    }
+}
@@ -0,0 +1,278 @@
+package com.acnh.api.config;
+
+import com.acnh.api.chat.controller.ChatMessageController;
+import com.acnh.api.chat.dto.ChatMessageRequest;
+import com.acnh.api.chat.dto.ChatMessageResponse;
+import com.acnh.api.chat.entity.ChatRoom;
+import com.acnh.api.chat.handler.StompHandler;
+import com.acnh.api.chat.service.ChatRoomAuthorizationCache;
+import com.acnh.api.chat.service.ChatRoomParticipants;
+import com.acnh.api.chat.service.ChatService;
+import com.acnh.api.chat.service.TypingIndicatorService;
+import com.acnh.api.member.service.MemberIdentityResolver;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.ServletWebServerFactoryAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.boot.autoconfigure.websocket.servlet.WebSocketMessagingAutoConfiguration;
+import org.springframework.boot.autoconfigure.websocket.servlet.WebSocketServletAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.springframework.web.socket.sockjs.client.SockJsClient;
+import org.springframework.web.socket.sockjs.client.WebSocketTransport;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.images.builder.Transferable;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.lang.reflect.Type;
+import java.security.Principal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 외부 STOMP 브로커 중계(chat.broker.mode=relay) 통합 테스트
+ * - RabbitMQ(STOMP 플러그인, Testcontainers)에 WebSocket 설정만 올린 인스턴스 2개를 연결
+ * - 한 인스턴스에 연결된 구독자가 다른 인스턴스에서 발행한 메시지를 수신하는지 확인
+ * - 클라이언트 간 교환은 실제 경로(/app/chat.send -> ChatMessageController -> 브로커 중계)로 전송
+ * - JWT 인증(StompHandler)은 CONNECT 시 고정 사용자를 설정하는 mock으로, 저장/권한 확인은 mock 서비스로 대체
+ * - Docker가 없는 환경에서는 건너뜀
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class StompBrokerRelayIntegrationTest {
+
+    private static final int STOMP_PORT = 61613;
+    private static final long ROOM_ID = 1L;
+    private static final String ROOM_TOPIC = "/topic/chat." + ROOM_ID;
+    private static final String SEND_DESTINATION = "/app/chat.send";
+    private static final long SENDER_ID = 10L;
+
+    @Container
+    static final GenericContainer<?> rabbitmq = new GenericContainer<>("rabbitmq:3.13-alpine")
+            .withCopyToContainer(Transferable.of("[rabbitmq_stomp]."), "/etc/rabbitmq/enabled_plugins")
+            .withExposedPorts(STOMP_PORT)
+            .waitingFor(Wait.forLogMessage(".*Server startup complete.*", 1));
+
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    @BeforeAll
+    static void startNodes() {
+        nodeA = startNode();
+        nodeB = startNode();
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        if (nodeA != null) {
+            nodeA.close();
+        }
+        if (nodeB != null) {
+            nodeB.close();
+        }
+    }
+
+    @Test
+    void subscriberReceivesMessagePublishedOnAnotherNode() throws Exception {
+        BlockingQueue<Map<String, Object>> received = new LinkedBlockingQueue<>();
+        StompSession subscriber = connect(nodeA);
+        subscriber.subscribe(ROOM_TOPIC, collectInto(received));
+
+        // 구독이 브로커에 등록되기 전 발행분은 유실되므로 수신될 때까지 재발행
+        SimpMessagingTemplate publisherOnB = nodeB.getBean(SimpMessagingTemplate.class);
+        Map<String, Object> payload = awaitDelivery(received,
+                () -> publisherOnB.convertAndSend(ROOM_TOPIC, Map.of("content", "hello from B")));
+
+        assertThat(payload).containsEntry("content", "hello from B");
+        subscriber.disconnect();
+    }
+
+    @Test
+    void clientsOnDifferentNodesExchangeMessages() throws Exception {
+        BlockingQueue<Map<String, Object>> receivedOnA = new LinkedBlockingQueue<>();
+        BlockingQueue<Map<String, Object>> receivedOnB = new LinkedBlockingQueue<>();
+        StompSession clientA = connect(nodeA);
+        StompSession clientB = connect(nodeB);
+        clientA.subscribe(ROOM_TOPIC, collectInto(receivedOnA));
+        clientB.subscribe(ROOM_TOPIC, collectInto(receivedOnB));
+
+        // /topic 직접 SEND가 아닌 애플리케이션 경로로 전송 -> 컨트롤러가 발행한 응답이 다른 인스턴스에 도달
+        assertThat(awaitDelivery(receivedOnA, () -> clientB.send(SEND_DESTINATION, chatMessage("from B"))))
+                .containsEntry("chatRoomId", (int) ROOM_ID)
+                .containsEntry("content", "from B");
+        assertThat(awaitDelivery(receivedOnB, () -> clientA.send(SEND_DESTINATION, chatMessage("from A"))))
+                .containsEntry("chatRoomId", (int) ROOM_ID)
+                .containsEntry("content", "from A");
+
+        clientA.disconnect();
+        clientB.disconnect();
+    }
+
+    private static ConfigurableApplicationContext startNode() {
+        return new SpringApplicationBuilder(RelayNode.class)
+                .properties(
+                        "server.port=0",
+                        "app.cors.allowed-origins=http://localhost",
+                        "chat.broker.mode=relay",
+                        "chat.broker.relay.host=" + rabbitmq.getHost(),
+                        "chat.broker.relay.port=" + rabbitmq.getMappedPort(STOMP_PORT))
+                .run();
+    }
+
+    private static StompSession connect(ConfigurableApplicationContext node) throws Exception {
+        int port = ((ServletWebServerApplicationContext) node).getWebServer().getPort();
+        WebSocketStompClient client = new WebSocketStompClient(
+                new SockJsClient(List.of(new WebSocketTransport(new StandardWebSocketClient()))));
+        client.setMessageConverter(new MappingJackson2MessageConverter());
+        return client.connectAsync("ws://localhost:" + port + "/ws", new StompSessionHandlerAdapter() {
+                })
+                .get(10, TimeUnit.SECONDS);
+    }
+
+    private static Map<String, Object> chatMessage(String content) {
+        return Map.of("chatRoomId", ROOM_ID, "messageType", "TEXT", "content", content);
+    }
+
+    private static StompFrameHandler collectInto(BlockingQueue<Map<String, Object>> received) {
+        return new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return Map.class;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public void handleFrame(StompHeaders headers, Object payload) {
+                received.add((Map<String, Object>) payload);
+            }
+        };
+    }
+
+    private static Map<String, Object> awaitDelivery(BlockingQueue<Map<String, Object>> received, Runnable publish)
+            throws InterruptedException {
+        for (int attempt = 0; attempt < 50; attempt++) {
+            publish.run();
+            Map<String, Object> payload = received.poll(200, TimeUnit.MILLISECONDS);
+            if (payload != null) {
+                return payload;
+            }
+        }
+        throw new AssertionError("다른 인스턴스에서 발행한 메시지를 수신하지 못했습니다");
+    }
+
+    /**
+     * 브로커 중계 검증용 최소 인스턴스 (웹 서버 + WebSocketConfig, 채널 실행기, 채팅 메시지 컨트롤러)
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ImportAutoConfiguration({
+            ServletWebServerFactoryAutoConfiguration.class,
+            DispatcherServletAutoConfiguration.class,
+            WebMvcAutoConfiguration.class,
+            HttpMessageConvertersAutoConfiguration.class,
+            JacksonAutoConfiguration.class,
+            WebSocketServletAutoConfiguration.class,
+            WebSocketMessagingAutoConfiguration.class
+    })
+    @Import({WebSocketConfig.class, WebSocketChannelExecutors.class, ChatMessageController.class})
+    static class RelayNode {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        /**
+         * CONNECT 시 고정 사용자 설정 (JWT 검증 생략), 나머지 프레임은 그대로 통과
+         */
+        @Bean
+        StompHandler stompHandler() {
+            StompHandler stompHandler = mock(StompHandler.class);
+            when(stompHandler.preSend(any(Message.class), any())).thenAnswer(invocation -> {
+                Message<?> message = invocation.getArgument(0);
+                StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+                if (accessor != null && StompCommand.CONNECT.equals(accessor.getCommand())) {
+                    Principal visitor = () -> "visitor";
+                    accessor.setUser(visitor);
+                }
+                return message;
+            });
+            return stompHandler;
+        }
+
+        @Bean
+        MemberIdentityResolver memberIdentityResolver() {
+            MemberIdentityResolver resolver = mock(MemberIdentityResolver.class);
+            when(resolver.resolveId(anyString())).thenReturn(SENDER_ID);
+            return resolver;
+        }
+
+        @Bean
+        ChatRoomAuthorizationCache chatRoomAuthorizationCache() {
+            ChatRoom chatRoom = ChatRoom.builder().postId(1L).postOwnerId(2L).applicantId(SENDER_ID).build();
+            ReflectionTestUtils.setField(chatRoom, "id", ROOM_ID);
+            ChatRoomParticipants participants = ChatRoomParticipants.from(chatRoom);
+
+            ChatRoomAuthorizationCache cache = mock(ChatRoomAuthorizationCache.class);
+            when(cache.authorize(any(), anyLong(), anyLong())).thenReturn(participants);
+            return cache;
+        }
+
+        /**
+         * 저장 없이 요청 내용을 응답으로 변환
+         */
+        @Bean
+        ChatService chatService() {
+            ChatService chatService = mock(ChatService.class);
+            when(chatService.saveMessage(any(), anyLong(), any())).thenAnswer(invocation -> {
+                ChatMessageRequest request = invocation.getArgument(0);
+                return ChatMessageResponse.builder()
+                        .chatRoomId(request.getChatRoomId())
+                        .senderId(invocation.getArgument(1))
+                        .messageType(request.getMessageType())
+                        .content(request.getContent())
+                        .build();
+            });
+            return chatService;
+        }
+
+        @Bean
+        TypingIndicatorService typingIndicatorService() {
+            return mock(TypingIndicatorService.class);
+        }
+    }
+}
@@ -0,0 +1,353 @@
+package com.acnh.api.image.service;
+
+import com.acnh.api.config.ImageUploadExecutor;
+import com.acnh.api.image.dto.ImagePresignRequest;
+import com.acnh.api.image.dto.ImagePresignResponse;
+import com.acnh.api.image.dto.UploadedImageResponse;
+import com.acnh.api.member.service.MemberIdentityResolver;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+import org.testcontainers.containers.MinIOContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.multipart.MultipartConfiguration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 이미지 업로드 통합 테스트
+ * - 로컬 MinIO(Testcontainers)를 R2 대신 사용
+ * - 병렬 업로드 결과 순서, 형식 검증 선행, 부분 실패 시 정리, 멀티파트 업로드, 변형 이미지 저장,
+ *   직접 업로드(서명된 PUT URL + 완료 시 형식 검증) 확인
+ * - Docker가 없는 환경에서는 건너뜀
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ImageServiceTest {
+
+    private static final String BUCKET = "acnh-images";
+    private static final String PUBLIC_URL = "https://images.example.com";
+    private static final String VISITOR_ID = "visitor-uuid";
+    private static final long USER_ID = 42L;
+
+    private static final long MULTIPART_THRESHOLD = 5L * 1024 * 1024;
+
+    private static final byte[] PNG_HEADER = {(byte) 0x89, 0x50, 0x4E, 0x47, 0x0D, 0x0A, 0x1A, 0x0A};
+    private static final byte[] GIF_HEADER = {'G', 'I', 'F', '8', '9', 'a'};
+
+    @Container
+    static final MinIOContainer minio = new MinIOContainer("minio/minio:RELEASE.2024-05-10T01-41-38Z");
+
+    private static S3Client s3Client;
+    private static S3AsyncClient s3AsyncClient;
+    private static S3Presigner s3Presigner;
+
+    private ImageUploadExecutor uploadExecutor;
+    private ImageTransformer imageTransformer;
+    private ImageService imageService;
+
+    @BeforeAll
+    static void createBucket() {
+        StaticCredentialsProvider credentials = StaticCredentialsProvider.create(
+                AwsBasicCredentials.create(minio.getUserName(), minio.getPassword()));
+
+        s3Client = S3Client.builder()
+                .endpointOverride(URI.create(minio.getS3URL()))
+                .credentialsProvider(credentials)
+                .region(Region.US_EAST_1)
+                .forcePathStyle(true)
+                .build();
+        s3AsyncClient = S3AsyncClient.builder()
+                .endpointOverride(URI.create(minio.getS3URL()))
+                .credentialsProvider(credentials)
+                .region(Region.US_EAST_1)
+                .forcePathStyle(true)
+                .multipartEnabled(true)
+                .multipartConfiguration(MultipartConfiguration.builder()
+                        .thresholdInBytes(MULTIPART_THRESHOLD)
+                        .minimumPartSizeInBytes(MULTIPART_THRESHOLD)
+                        .build())
+                .build();
+        s3Presigner = S3Presigner.builder()
+                .endpointOverride(URI.create(minio.getS3URL()))
+                .credentialsProvider(credentials)
+                .region(Region.US_EAST_1)
+                .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build())
+                .build();
+        s3Client.createBucket(b -> b.bucket(BUCKET));
+    }
+
+    @BeforeEach
+    void setUp() {
+        MemberIdentityResolver memberIdentityResolver = mock(MemberIdentityResolver.class);
+        when(memberIdentityResolver.resolveId(VISITOR_ID)).thenReturn(USER_ID);
+
+        uploadExecutor = new ImageUploadExecutor(new SimpleMeterRegistry(), "platform", 4, 100);
+        imageTransformer = new ImageTransformer(new SimpleMeterRegistry(), 2, 10, 40_000_000L, 2048, 320, 0.85f);
+        imageService = new ImageService(s3Client, s3AsyncClient, memberIdentityResolver, uploadExecutor,
+                imageTransformer, s3Presigner, BUCKET, PUBLIC_URL, 10, 10,
+                Duration.ofMinutes(5), DataSize.ofMegabytes(10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        uploadExecutor.destroy();
+        imageTransformer.destroy();
+        List<S3Object> objects = s3Client.listObjectsV2(b -> b.bucket(BUCKET)).contents();
+        for (S3Object object : objects) {
+            s3Client.deleteObject(b -> b.bucket(BUCKET).key(object.key()));
+        }
+    }
+
+    @Test
+    void uploadsFilesConcurrentlyAndPreservesOrder() {
+        List<MultipartFile> files = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            files.add(png("image" + i + ".png", 256 * 1024 + i));
+        }
+
+        // 헤더만 PNG인 파일은 디코딩 불가 -> 원본 그대로 업로드
+        List<String> urls = imageService.uploadPostImages(files, VISITOR_ID).join().stream()
+                .map(UploadedImageResponse::getUrl)
+                .toList();
+
+        assertThat(urls).hasSize(8);
+        for (int i = 0; i < urls.size(); i++) {
+            assertThat(urls.get(i)).startsWith(PUBLIC_URL + "/posts/" + USER_ID + "/").endsWith(".png");
+
+            String key = urls.get(i).substring(PUBLIC_URL.length() + 1);
+            ResponseBytes<GetObjectResponse> stored = s3Client.getObjectAsBytes(b -> b.bucket(BUCKET).key(key));
+            assertThat(stored.response().contentType()).isEqualTo("image/png");
+            // 파일 크기로 요청 순서와 결과 순서가 일치하는지 확인
+            assertThat(stored.asByteArray()).hasSize(256 * 1024 + i);
+        }
+    }
+
+    @Test
+    void rejectsUnsupportedTypeBeforeUploading() {
+        List<MultipartFile> files = List.of(
+                png("ok.png", 1024),
+                new MockMultipartFile("files", "fake.png", "image/png", "not an image at all".getBytes()));
+
+        assertThatThrownBy(() -> imageService.uploadPostImages(files, VISITOR_ID))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(s3Client.listObjectsV2(b -> b.bucket(BUCKET)).contents()).isEmpty();
+    }
+
+    @Test
+    void deletesUploadedObjectsWhenAnUploadFails() {
+        List<MultipartFile> files = List.of(
+                png("first.png", 64 * 1024),
+                new BrokenAfterHeaderFile("broken.png", 64 * 1024),
+                png("third.png", 64 * 1024));
+
+        assertThatThrownBy(() -> imageService.uploadPostImages(files, VISITOR_ID).join())
+                .isInstanceOf(CompletionException.class)
+                .cause()
+                .hasMessage("이미지 업로드에 실패했습니다.");
+
+        assertThat(s3Client.listObjectsV2(b -> b.bucket(BUCKET)).contents()).isEmpty();
+    }
+
+    @Test
+    void uploadsLargeFileWithMultipart() {
+        int size = (int) MULTIPART_THRESHOLD + 1024 * 1024;
+
+        String url = imageService.uploadProfileImage(png("large.png", size), VISITOR_ID).join().getUrl();
+
+        String key = url.substring(PUBLIC_URL.length() + 1);
+        HeadObjectResponse head = s3Client.headObject(b -> b.bucket(BUCKET).key(key));
+        assertThat(head.contentLength()).isEqualTo(size);
+        // 멀티파트 업로드 객체의 ETag는 "{md5}-{파트 수}" 형식
+        assertThat(head.eTag()).contains("-2");
+    }
+
+    @Test
+    void storesDisplayAndThumbnailVariantsForJpeg() throws IOException {
+        BufferedImage photo = new BufferedImage(4000, 3000, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream jpeg = new ByteArrayOutputStream();
+        ImageIO.write(photo, "jpg", jpeg);
+
+        UploadedImageResponse image = imageService.uploadChatImages(
+                List.of(new MockMultipartFile("files", "photo.jpg", "image/jpeg", jpeg.toByteArray())),
+                VISITOR_ID).join().get(0);
+
+        assertThat(image.getWidth()).isEqualTo(2048);
+        assertThat(image.getHeight()).isEqualTo(1536);
+        assertThat(image.getThumbnailUrl()).endsWith("_thumb.jpg");
+
+        String thumbnailKey = image.getThumbnailUrl().substring(PUBLIC_URL.length() + 1);
+        byte[] thumbnail = s3Client.getObjectAsBytes(b -> b.bucket(BUCKET).key(thumbnailKey)).asByteArray();
+        BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(thumbnail));
+        assertThat(Math.max(decoded.getWidth(), decoded.getHeight())).isEqualTo(320);
+
+        // 표시용 삭제 시 썸네일도 함께 삭제
+        imageService.deleteImage(image.getUrl(), VISITOR_ID);
+        assertThat(s3Client.listObjectsV2(b -> b.bucket(BUCKET)).contents()).isEmpty();
+    }
+
+    @Test
+    void stripsExifFromJpegThatCannotBeDecoded() {
+        // SOF 없이 SOS가 나오는 JPEG -> ImageIO 디코딩 실패 -> 원본 업로드 경로
+        byte[] undecodable = {(byte) 0xFF, (byte) 0xD8,
+                (byte) 0xFF, (byte) 0xE1, 0, 14, 'E', 'x', 'i', 'f', 0, 0, 'G', 'P', 'S', '3', '7', 'N',
+                (byte) 0xFF, (byte) 0xDA, 0, 8, 1, 1, 0, 0, 0x3F, 0, 1, 2, 3,
+                (byte) 0xFF, (byte) 0xD9};
+
+        UploadedImageResponse image = imageService.uploadChatImages(
+                List.of(new MockMultipartFile("files", "cmyk.jpg", "image/jpeg", undecodable)),
+                VISITOR_ID).join().get(0);
+
+        assertThat(image.getThumbnailUrl()).isEqualTo(image.getUrl());
+        String key = image.getUrl().substring(PUBLIC_URL.length() + 1);
+        byte[] stored = s3Client.getObjectAsBytes(b -> b.bucket(BUCKET).key(key)).asByteArray();
+        assertThat(new String(stored, StandardCharsets.ISO_8859_1)).doesNotContain("Exif").doesNotContain("GPS");
+        assertThat(stored).hasSize(undecodable.length - 16);
+    }
+
+    @Test
+    void movesVerifiedDirectUploadOutOfStaging() throws Exception {
+        byte[] content = Arrays.copyOf(GIF_HEADER, 4096);
+        ImagePresignResponse.PresignedUpload upload = presign("image/gif", content.length);
+
+        assertThat(upload.getImageUrl()).startsWith(PUBLIC_URL + "/uploads/chat/" + USER_ID + "/").endsWith(".gif");
+        assertThat(putDirectly(upload, content)).isEqualTo(200);
+        // 완료 전 임시 URL은 첨부 불가
+        assertThat(imageService.isFinalizedImage(upload.getImageUrl(), "chat", USER_ID)).isFalse();
+
+        List<UploadedImageResponse> images = imageService.finalizeUploads(List.of(upload.getImageUrl()), VISITOR_ID).join();
+
+        String finalUrl = upload.getImageUrl().replace("/uploads/", "/");
+        assertThat(images).extracting(UploadedImageResponse::getUrl).containsExactly(finalUrl);
+        assertThat(imageService.isFinalizedImage(finalUrl, "chat", USER_ID)).isTrue();
+        assertThat(imageService.isFinalizedImage(finalUrl, "chat", USER_ID + 1)).isFalse();
+        assertThat(s3Client.listObjectsV2(b -> b.bucket(BUCKET)).contents())
+                .extracting(S3Object::key)
+                .containsExactly(finalUrl.substring(PUBLIC_URL.length() + 1));
+    }
+
+    @Test
+    void stripsMetadataFromDirectlyUploadedJpeg() throws Exception {
+        BufferedImage photo = new BufferedImage(640, 480, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+        ImageIO.write(photo, "jpg", encoded);
+        byte[] jpeg = encoded.toByteArray();
+        // SOI 바로 뒤에 Exif 세그먼트 삽입
+        byte[] exif = {(byte) 0xFF, (byte) 0xE1, 0, 14, 'E', 'x', 'i', 'f', 0, 0, 'G', 'P', 'S', '3', '7', 'N'};
+        byte[] content = new byte[jpeg.length + exif.length];
+        System.arraycopy(jpeg, 0, content, 0, 2);
+        System.arraycopy(exif, 0, content, 2, exif.length);
+        System.arraycopy(jpeg, 2, content, 2 + exif.length, jpeg.length - 2);
+
+        ImagePresignResponse.PresignedUpload upload = presign("image/jpeg", content.length);
+        assertThat(putDirectly(upload, content)).isEqualTo(200);
+
+        UploadedImageResponse image = imageService.finalizeUploads(List.of(upload.getImageUrl()), VISITOR_ID)
+                .join().get(0);
+
+        assertThat(image.getUrl()).startsWith(PUBLIC_URL + "/chat/" + USER_ID + "/");
+        assertThat(image.getThumbnailUrl()).endsWith("_thumb.jpg");
+        for (String url : List.of(image.getUrl(), image.getThumbnailUrl())) {
+            String key = url.substring(PUBLIC_URL.length() + 1);
+            byte[] stored = s3Client.getObjectAsBytes(b -> b.bucket(BUCKET).key(key)).asByteArray();
+            assertThat(new String(stored, StandardCharsets.ISO_8859_1)).doesNotContain("Exif").doesNotContain("GPS");
+        }
+        assertThat(s3Client.listObjectsV2(b -> b.bucket(BUCKET).prefix("uploads/")).contents()).isEmpty();
+    }
+
+    @Test
+    void rejectsAndDeletesDirectUploadWithMismatchedContent() throws Exception {
+        byte[] content = "<html>not an image</html>".getBytes();
+        ImagePresignResponse.PresignedUpload upload = presign("image/png", content.length);
+        assertThat(putDirectly(upload, content)).isEqualTo(200);
+
+        assertThatThrownBy(() -> imageService.finalizeUploads(List.of(upload.getImageUrl()), VISITOR_ID).join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(IllegalArgumentException.class);
+
+        assertThat(s3Client.listObjectsV2(b -> b.bucket(BUCKET)).contents()).isEmpty();
+    }
+
+    private ImagePresignResponse.PresignedUpload presign(String contentType, long contentLength) throws IOException {
+        String json = String.format("{\"type\":\"chat\",\"files\":[{\"contentType\":\"%s\",\"contentLength\":%d}]}",
+                contentType, contentLength);
+        ImagePresignRequest request = new ObjectMapper().readValue(json, ImagePresignRequest.class);
+        return imageService.createPresignedUploads(request, VISITOR_ID).getUploads().get(0);
+    }
+
+    private static int putDirectly(ImagePresignResponse.PresignedUpload upload, byte[] content) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(upload.getUploadUrl()))
+                .PUT(HttpRequest.BodyPublishers.ofByteArray(content));
+        // Content-Length는 HttpClient가 본문 크기로 설정
+        upload.getHeaders().forEach((name, value) -> {
+            if (!"content-length".equalsIgnoreCase(name)) {
+                request.header(name, value);
+            }
+        });
+        return HttpClient.newHttpClient().send(request.build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private static MockMultipartFile png(String name, int size) {
+        byte[] content = Arrays.copyOf(PNG_HEADER, size);
+        return new MockMultipartFile("files", name, "image/png", content);
+    }
+
+    /**
+     * 헤더 검증용 첫 번째 스트림은 정상, 업로드용 두 번째 스트림부터 실패하는 파일
+     */
+    private static class BrokenAfterHeaderFile extends MockMultipartFile {
+
+        private final AtomicInteger opened = new AtomicInteger();
+
+        BrokenAfterHeaderFile(String name, int size) {
+            super("files", name, "image/png", Arrays.copyOf(PNG_HEADER, size));
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            if (opened.incrementAndGet() > 1) {
+                throw new IOException("connection reset");
+            }
+            return super.getInputStream();
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.acnh.api.image.service;
+
+import com.acnh.api.image.service.ImageTransformer.TransformedImage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 이미지 변환기 테스트
+ * - 긴 변 제한, 썸네일 크기, 메타데이터 제거, EXIF 방향 적용, 해상도 제한 확인
+ */
+class ImageTransformerTest {
+
+    private final ImageTransformer imageTransformer =
+            new ImageTransformer(new SimpleMeterRegistry(), 2, 10, 20_000_000L, 2048, 320, 0.85f);
+
+    @AfterEach
+    void tearDown() {
+        imageTransformer.destroy();
+    }
+
+    @Test
+    void capsDimensionsAndCreatesThumbnail() throws IOException {
+        TransformedImage result = transform(jpeg(4000, 3000), "image/jpeg");
+
+        assertThat(result.getDisplay().getMimeType()).isEqualTo("image/jpeg");
+        assertThat(result.getDisplay().getWidth()).isEqualTo(2048);
+        assertThat(result.getDisplay().getHeight()).isEqualTo(1536);
+        assertThat(result.getThumbnail().getWidth()).isEqualTo(320);
+        assertThat(result.getThumbnail().getHeight()).isEqualTo(240);
+        assertThat(decode(result.getThumbnail().getBytes()).getWidth()).isEqualTo(320);
+    }
+
+    @Test
+    void stripsMetadataAndAppliesExifOrientation() throws IOException {
+        // 방향 6 = 90도 시계 방향 회전 필요 -> 원본 왼쪽 위 빨간 점이 오른쪽 위로 이동
+        byte[] source = withExifOrientation(jpeg(400, 300), 6);
+
+        TransformedImage result = transform(source, "image/jpeg");
+
+        assertThat(result.getDisplay().getWidth()).isEqualTo(300);
+        assertThat(result.getDisplay().getHeight()).isEqualTo(400);
+        assertThat(new String(result.getDisplay().getBytes(), StandardCharsets.ISO_8859_1)).doesNotContain("Exif");
+
+        BufferedImage display = decode(result.getDisplay().getBytes());
+        assertThat(new Color(display.getRGB(display.getWidth() - 5, 5)).getRed()).isGreaterThan(200);
+        assertThat(new Color(display.getRGB(5, 5)).getRed()).isLessThan(100);
+    }
+
+    @Test
+    void keepsTransparencyAsPng() throws IOException {
+        BufferedImage sticker = new BufferedImage(500, 400, BufferedImage.TYPE_INT_ARGB);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(sticker, "png", out);
+
+        TransformedImage result = transform(out.toByteArray(), "image/png");
+
+        assertThat(result.getDisplay().getMimeType()).isEqualTo("image/png");
+        assertThat(result.getDisplay().getExtension()).isEqualTo(".png");
+        assertThat(decode(result.getThumbnail().getBytes()).getColorModel().hasAlpha()).isTrue();
+    }
+
+    @Test
+    void rejectsImagesOverPixelLimitBeforeDecoding() throws IOException {
+        byte[] source = jpeg(5000, 5000);
+
+        assertThatThrownBy(() -> transform(source, "image/jpeg"))
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void returnsNullWhenImageCannotBeDecoded() {
+        byte[] source = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, 0, 0, 0, 0, 0, 0, 0, 0, 0};
+
+        assertThat(transform(source, "image/jpeg")).isNull();
+    }
+
+    @Test
+    void returnsNullWhenReaderRejectsFileStructure() {
+        // SOF 없이 SOS가 나오는 JPEG (리더가 헤더 읽기 단계에서 실패)
+        byte[] source = {(byte) 0xFF, (byte) 0xD8,
+                (byte) 0xFF, (byte) 0xDA, 0, 8, 1, 1, 0, 0, 0x3F, 0, 1, 2, 3,
+                (byte) 0xFF, (byte) 0xD9};
+
+        assertThat(transform(source, "image/jpeg")).isNull();
+    }
+
+    private TransformedImage transform(byte[] content, String mimeType) {
+        MockMultipartFile file = new MockMultipartFile("file", "image", mimeType, content);
+        return imageTransformer.transform(file, file.getOriginalFilename(), mimeType).join();
+    }
+
+    private static byte[] jpeg(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(Color.RED);
+        g.fillRect(0, 0, width / 10, height / 10);
+        g.dispose();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", out);
+        return out.toByteArray();
+    }
+
+    private static BufferedImage decode(byte[] bytes) throws IOException {
+        return ImageIO.read(new ByteArrayInputStream(bytes));
+    }
+
+    /**
+     * SOI 직후에 방향 태그만 있는 APP1(Exif) 세그먼트 삽입
+     */
+    private static byte[] withExifOrientation(byte[] jpeg, int orientation) {
+        byte[] tiff = {'M', 'M', 0, 42, 0, 0, 0, 8,
+                0, 1,
+                0x01, 0x12, 0, 3, 0, 0, 0, 1, 0, (byte) orientation, 0, 0,
+                0, 0, 0, 0};
+        int length = 2 + 6 + tiff.length;
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(0xFF);
+        out.write(0xD8);
+        out.write(0xFF);
+        out.write(0xE1);
+        out.write(length >> 8);
+        out.write(length & 0xFF);
+        out.writeBytes(new byte[]{'E', 'x', 'i', 'f', 0, 0});
+        out.writeBytes(tiff);
+        out.write(jpeg, 2, jpeg.length - 2);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,47 @@
+package com.acnh.api.image.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 이미지 키 블룸 필터 테스트
+ * - 거짓 음성 없음(참조 이미지 삭제 방지), 거짓 양성 비율 확인
+ */
+class KeyBloomFilterTest {
+
+    private static final int KEY_COUNT = 50_000;
+
+    @Test
+    void neverReportsInsertedKeyAsMissing() {
+        KeyBloomFilter filter = new KeyBloomFilter(KEY_COUNT, 0.01);
+        for (int i = 0; i < KEY_COUNT; i++) {
+            filter.put(key(i));
+        }
+
+        for (int i = 0; i < KEY_COUNT; i++) {
+            assertThat(filter.mightContain(key(i))).isTrue();
+        }
+    }
+
+    @Test
+    void keepsFalsePositiveRateNearTarget() {
+        KeyBloomFilter filter = new KeyBloomFilter(KEY_COUNT, 0.01);
+        for (int i = 0; i < KEY_COUNT; i++) {
+            filter.put(key(i));
+        }
+
+        int falsePositives = 0;
+        for (int i = KEY_COUNT; i < KEY_COUNT * 2; i++) {
+            if (filter.mightContain(key(i))) {
+                falsePositives++;
+            }
+        }
+
+        assertThat((double) falsePositives / KEY_COUNT).isLessThan(0.02);
+    }
+
+    private static String key(int index) {
+        return "chat/" + (index % 500) + "/" + (1_700_000_000_000L + index) + "_a1b2c3d4.jpg";
+    }
+}
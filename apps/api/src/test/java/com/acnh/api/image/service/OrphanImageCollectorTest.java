@@ -0,0 +1,213 @@
+package com.acnh.api.image.service;
+
+import com.acnh.api.chat.repository.ChatMessageRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.MinIOContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 고아 이미지 정리기 통합 테스트
+ * - 로컬 MinIO(R2 대신) + PostgreSQL(image_gc_state), 참조 조회는 ChatMessageRepository 목으로 대체
+ * - 참조/썸네일 환원, dry-run, min-age, 임시 경로(uploads/) 정리, last_key 재개, publicUrl 밖 참조 시 중단,
+ *   참조 필터 구성 중 임대 상실 시 중단 확인
+ * - Docker가 없는 환경에서는 건너뜀
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class OrphanImageCollectorTest {
+
+    private static final String BUCKET = "acnh-images";
+    private static final String PUBLIC_URL = "https://images.example.com";
+
+    // 시계 오차와 무관하게 모든 객체를 min-age 경과로 취급
+    private static final Duration ANY_AGE = Duration.ofMinutes(-1);
+
+    // 블룸 필터 거짓 양성으로 삭제가 건너뛰어지지 않도록 낮게 설정
+    private static final double FALSE_POSITIVE_RATE = 1e-9;
+
+    @Container
+    static final MinIOContainer minio = new MinIOContainer("minio/minio:RELEASE.2024-05-10T01-41-38Z");
+
+    @Container
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static S3Client s3Client;
+    private static JdbcTemplate jdbcTemplate;
+
+    private final ChatMessageRepository chatMessageRepository = mock(ChatMessageRepository.class);
+    private final List<Object[]> references = new ArrayList<>();
+
+    @BeforeAll
+    static void setUpInfrastructure() {
+        s3Client = S3Client.builder()
+                .endpointOverride(URI.create(minio.getS3URL()))
+                .credentialsProvider(StaticCredentialsProvider.create(
+                        AwsBasicCredentials.create(minio.getUserName(), minio.getPassword())))
+                .region(Region.US_EAST_1)
+                .forcePathStyle(true)
+                .build();
+        s3Client.createBucket(b -> b.bucket(BUCKET));
+
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword()));
+        jdbcTemplate.execute("CREATE TABLE image_gc_state (" +
+                "prefix VARCHAR(100) PRIMARY KEY, " +
+                "last_key VARCHAR(1024), " +
+                "lease_owner VARCHAR(100), " +
+                "lease_until TIMESTAMP, " +
+                "last_completed_at TIMESTAMP, " +
+                "updated_at TIMESTAMP NOT NULL DEFAULT now())");
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("TRUNCATE image_gc_state");
+        when(chatMessageRepository.countImageMessages()).thenAnswer(invocation -> (long) references.size());
+        when(chatMessageRepository.findImageUrlsAfter(anyLong(), anyInt())).thenAnswer(invocation -> {
+            long afterId = invocation.getArgument(0);
+            int limit = invocation.getArgument(1);
+            return references.stream()
+                    .filter(row -> (Long) row[0] > afterId)
+                    .limit(limit)
+                    .toList();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (S3Object object : s3Client.listObjectsV2(b -> b.bucket(BUCKET)).contents()) {
+            s3Client.deleteObject(b -> b.bucket(BUCKET).key(object.key()));
+        }
+    }
+
+    @Test
+    void deletesUnreferencedObjectsAndKeepsReferencedThumbnails() {
+        put("chat/42/1_a.jpg", "chat/42/1_a_thumb.jpg", "chat/42/2_b.jpg", "chat/42/2_b_thumb.jpg",
+                "uploads/chat/42/3_c.png", "posts/42/4_d.jpg");
+        reference("chat/42/1_a.jpg");
+
+        collector(false, ANY_AGE, 1000, 10).sweep();
+
+        assertThat(keys()).containsExactly("chat/42/1_a.jpg", "chat/42/1_a_thumb.jpg", "posts/42/4_d.jpg");
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT prefix FROM image_gc_state WHERE last_key IS NULL AND last_completed_at IS NOT NULL " +
+                        "AND lease_owner IS NULL ORDER BY prefix", String.class))
+                .containsExactly("chat/", "uploads/");
+    }
+
+    @Test
+    void dryRunDeletesNothing() {
+        put("chat/42/1_a.jpg", "chat/42/1_a_thumb.jpg", "uploads/chat/42/2_b.png");
+
+        collector(true, ANY_AGE, 1000, 10).sweep();
+
+        assertThat(keys()).hasSize(3);
+    }
+
+    @Test
+    void keepsObjectsYoungerThanMinAge() {
+        put("chat/42/1_a.jpg", "uploads/chat/42/2_b.png");
+
+        collector(false, Duration.ofHours(1), 1000, 10).sweep();
+
+        assertThat(keys()).hasSize(2);
+    }
+
+    @Test
+    void resumesFromSavedLastKey() {
+        put("chat/42/1.jpg", "chat/42/2.jpg", "chat/42/3.jpg", "chat/42/4.jpg", "chat/42/5.jpg");
+        OrphanImageCollector collector = collector(false, ANY_AGE, 2, 1);
+
+        collector.sweep();
+        assertThat(keys()).containsExactly("chat/42/3.jpg", "chat/42/4.jpg", "chat/42/5.jpg");
+        assertThat(lastKey("chat/")).isEqualTo("chat/42/2.jpg");
+
+        collector.sweep();
+        assertThat(keys()).containsExactly("chat/42/5.jpg");
+        assertThat(lastKey("chat/")).isEqualTo("chat/42/4.jpg");
+
+        collector.sweep();
+        assertThat(keys()).isEmpty();
+        assertThat(lastKey("chat/")).isNull();
+    }
+
+    @Test
+    void refusesToDeleteWhenReferencesAreOutsidePublicUrl() {
+        put("chat/42/1_a.jpg", "chat/42/2_b.jpg");
+        reference("chat/42/1_a.jpg");
+        references.add(new Object[]{(long) references.size() + 1, "https://old-cdn.example.com/chat/42/2_b.jpg"});
+
+        collector(false, ANY_AGE, 1000, 10).sweep();
+
+        assertThat(keys()).containsExactly("chat/42/1_a.jpg", "chat/42/2_b.jpg");
+    }
+
+    @Test
+    void stopsWhenLeaseIsLostWhileLoadingReferences() {
+        put("chat/42/1_a.jpg", "chat/42/2_b.jpg", "chat/42/3_c.jpg");
+        reference("chat/42/1_a.jpg");
+        reference("chat/42/2_b.jpg");
+        // 첫 참조 페이지 조회 중 다른 인스턴스가 만료된 임대를 가져감
+        when(chatMessageRepository.findImageUrlsAfter(anyLong(), anyInt())).thenAnswer(invocation -> {
+            jdbcTemplate.update("UPDATE image_gc_state SET lease_owner = 'other' WHERE prefix = 'chat/'");
+            long afterId = invocation.getArgument(0);
+            return references.stream().filter(row -> (Long) row[0] > afterId).limit(1).toList();
+        });
+
+        OrphanImageCollector collector = new OrphanImageCollector(s3Client, chatMessageRepository, jdbcTemplate,
+                new SimpleMeterRegistry(), BUCKET, PUBLIC_URL, false, ANY_AGE, 1000, 10, 1, FALSE_POSITIVE_RATE,
+                1000, 0, Duration.ofMinutes(10));
+        collector.sweep();
+
+        assertThat(keys()).contains("chat/42/1_a.jpg", "chat/42/2_b.jpg", "chat/42/3_c.jpg");
+    }
+
+    private OrphanImageCollector collector(boolean dryRun, Duration minAge, int listPageSize, int maxPagesPerRun) {
+        return new OrphanImageCollector(s3Client, chatMessageRepository, jdbcTemplate, new SimpleMeterRegistry(),
+                BUCKET, PUBLIC_URL, dryRun, minAge, listPageSize, maxPagesPerRun, 5000, FALSE_POSITIVE_RATE,
+                1000, 0, Duration.ofMinutes(10));
+    }
+
+    private void reference(String key) {
+        references.add(new Object[]{(long) references.size() + 1, PUBLIC_URL + "/" + key});
+    }
+
+    private static void put(String... keys) {
+        for (String key : keys) {
+            s3Client.putObject(b -> b.bucket(BUCKET).key(key), RequestBody.fromBytes(new byte[]{1}));
+        }
+    }
+
+    private static List<String> keys() {
+        return s3Client.listObjectsV2(b -> b.bucket(BUCKET)).contents().stream().map(S3Object::key).toList();
+    }
+
+    private static String lastKey(String prefix) {
+        return jdbcTemplate.queryForObject("SELECT last_key FROM image_gc_state WHERE prefix = ?", String.class,
+                prefix);
+    }
+}
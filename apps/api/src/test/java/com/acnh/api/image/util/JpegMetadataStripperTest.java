@@ -0,0 +1,103 @@
+package com.acnh.api.image.util;
+
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * JPEG 메타데이터 세그먼트 제거 테스트
+ * - APP1/APP13/EOI 이후 데이터 제거, 나머지 세그먼트와 스캔 데이터 보존, 손상된 구조 거절 확인
+ */
+class JpegMetadataStripperTest {
+
+    @Test
+    void removesExifIptcAndTrailingDataOnly() throws IOException {
+        byte[] original = jpeg(64, 48);
+        byte[] tagged = withSegments(original,
+                segment(0xE1, "Exif\0\0GPS 37.5665N 126.9780E"),
+                segment(0xED, "Photoshop 3.0\0IPTC caption"));
+        byte[] withTrailer = concat(tagged, "MPF secondary image Exif".getBytes(StandardCharsets.ISO_8859_1));
+
+        byte[] stripped = JpegMetadataStripper.strip(withTrailer);
+
+        // ImageIO가 만든 JPEG에는 제거 대상 세그먼트가 없으므로 원본과 동일해야 함
+        assertThat(stripped).isEqualTo(original);
+        BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(stripped));
+        assertThat(decoded.getWidth()).isEqualTo(64);
+        assertThat(decoded.getHeight()).isEqualTo(48);
+    }
+
+    @Test
+    void keepsScanDataOfFilesWithoutEndMarker() throws IOException {
+        byte[] original = jpeg(32, 32);
+        byte[] truncated = Arrays.copyOf(original, original.length - 2);
+
+        assertThat(JpegMetadataStripper.strip(truncated)).isEqualTo(truncated);
+    }
+
+    @Test
+    void rejectsBrokenSegmentStructure() {
+        byte[] overflowingLength = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE1, 0x7F, (byte) 0xFF, 'E', 'x'};
+        byte[] notJpeg = "GIF89a".getBytes(StandardCharsets.ISO_8859_1);
+
+        assertThatThrownBy(() -> JpegMetadataStripper.strip(overflowingLength))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> JpegMetadataStripper.strip(notJpeg))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static byte[] jpeg(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(Color.ORANGE);
+        g.fillOval(0, 0, width, height);
+        g.dispose();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", out);
+        return out.toByteArray();
+    }
+
+    private static byte[] segment(int marker, String payload) {
+        byte[] data = payload.getBytes(StandardCharsets.ISO_8859_1);
+        int length = data.length + 2;
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(0xFF);
+        out.write(marker);
+        out.write(length >> 8);
+        out.write(length & 0xFF);
+        out.writeBytes(data);
+        return out.toByteArray();
+    }
+
+    /**
+     * SOI 직후에 세그먼트 삽입
+     */
+    private static byte[] withSegments(byte[] jpeg, byte[]... segments) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(jpeg, 0, 2);
+        for (byte[] segment : segments) {
+            out.writeBytes(segment);
+        }
+        out.write(jpeg, 2, jpeg.length - 2);
+        return out.toByteArray();
+    }
+
+    private static byte[] concat(byte[] first, byte[] second) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.writeBytes(first);
+        out.writeBytes(second);
+        return out.toByteArray();
+    }
+}
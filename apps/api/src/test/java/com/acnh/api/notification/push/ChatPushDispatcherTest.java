@@ -0,0 +1,249 @@
+package com.acnh.api.notification.push;
+
+import com.acnh.api.chat.event.ChatMessageSentEvent;
+import com.acnh.api.chat.service.PresenceService;
+import com.acnh.api.member.dto.MemberSummary;
+import com.acnh.api.member.entity.MemberFcmToken;
+import com.acnh.api.member.repository.MemberFcmTokenRepository;
+import com.acnh.api.member.service.MemberSummaryCache;
+import com.acnh.api.notification.dto.NotificationSettingResponse;
+import com.acnh.api.notification.service.NotificationSettingCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.user.SimpUser;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 오프라인 수신자 채팅 푸시 발송기 테스트
+ * - 수신자/채팅방 단위 합치기, 알림 설정/방해금지 시간 제외, 로컬/다른 인스턴스 접속자 제외,
+ *   max-pending 초과 시 새 채팅방 알림 버림, 무효 토큰 비활성화 확인
+ * - coalesce-window를 길게 두고 stop()의 잔여 항목 발송으로 결과를 확인 (타이밍 의존 없음)
+ */
+class ChatPushDispatcherTest {
+
+    private static final long SENDER_ID = 1L;
+
+    private final PresenceService presenceService = mock(PresenceService.class);
+    private final SimpUserRegistry simpUserRegistry = mock(SimpUserRegistry.class);
+    private final MemberSummaryCache memberSummaryCache = mock(MemberSummaryCache.class);
+    private final NotificationSettingCache notificationSettingCache = mock(NotificationSettingCache.class);
+    private final MemberFcmTokenRepository memberFcmTokenRepository = mock(MemberFcmTokenRepository.class);
+    private final FakePushGateway pushGateway = new FakePushGateway();
+
+    private final Map<Long, UUID> uuids = new ConcurrentHashMap<>();
+    private final Set<String> connectedUserNames = ConcurrentHashMap.newKeySet();
+    private final Map<Long, NotificationSettingResponse> settings = new ConcurrentHashMap<>();
+
+    private ChatPushDispatcher dispatcher;
+    private long nextMessageId = 1;
+
+    @BeforeEach
+    void setUp() {
+        when(memberSummaryCache.getAll(anyCollection())).thenAnswer(invocation -> {
+            Map<Long, MemberSummary> members = new HashMap<>();
+            for (Long memberId : invocation.<Collection<Long>>getArgument(0)) {
+                members.put(memberId, MemberSummary.builder().id(memberId).uuid(uuidOf(memberId)).build());
+            }
+            return members;
+        });
+        when(simpUserRegistry.getUser(anyString())).thenAnswer(invocation ->
+                connectedUserNames.contains(invocation.<String>getArgument(0)) ? mock(SimpUser.class) : null);
+        when(notificationSettingCache.getAll(anyCollection())).thenAnswer(invocation -> {
+            Map<Long, NotificationSettingResponse> result = new HashMap<>();
+            for (Long memberId : invocation.<Collection<Long>>getArgument(0)) {
+                result.put(memberId, settings.getOrDefault(memberId, NotificationSettingResponse.defaultOf(memberId)));
+            }
+            return result;
+        });
+        when(memberFcmTokenRepository.findByMemberIdInAndIsActiveTrueAndDeletedAtIsNull(anyCollection()))
+                .thenAnswer(invocation -> invocation.<Collection<Long>>getArgument(0).stream()
+                        .map(memberId -> MemberFcmToken.builder()
+                                .memberId(memberId)
+                                .fcmToken(tokenOf(memberId))
+                                .deviceType("ANDROID")
+                                .build())
+                        .toList());
+        when(presenceService.isOnline(anyLong())).thenReturn(false);
+
+        dispatcher = dispatcher(10_000);
+        dispatcher.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (dispatcher.isRunning()) {
+            dispatcher.stop();
+        }
+    }
+
+    @Test
+    void coalescesMessagesPerRoomIntoOnePushWithCount() {
+        sent(2L, 10L, "first");
+        sent(2L, 10L, "second");
+        sent(2L, 10L, "third");
+        sent(2L, 11L, "other room");
+
+        dispatcher.stop();
+
+        Map<String, PushMessage> byRoom = pushGateway.byRoom();
+        assertThat(pushGateway.sent).hasSize(2);
+        assertThat(byRoom.get("10").getBody()).isEqualTo("third (새 메시지 3개)");
+        assertThat(byRoom.get("10").getData()).containsEntry("messageId", "3");
+        assertThat(byRoom.get("10").getToken()).isEqualTo(tokenOf(2L));
+        assertThat(byRoom.get("11").getBody()).isEqualTo("other room");
+    }
+
+    @Test
+    void skipsRecipientsWithChatDisabledOrInQuietHours() {
+        LocalTime now = LocalTime.now();
+        settings.put(2L, setting(2L, false, null, null));
+        settings.put(3L, setting(3L, true, now.minusHours(1), now.plusHours(1)));
+        sent(2L, 20L, "chat off");
+        sent(3L, 30L, "quiet hours");
+        sent(4L, 40L, "default setting");
+
+        dispatcher.stop();
+
+        assertThat(pushGateway.recipients()).containsExactly(4L);
+    }
+
+    @Test
+    void skipsRecipientsOnlineLocallyOrOnAnotherNode() {
+        when(presenceService.isOnline(2L)).thenReturn(true);
+        connectedUserNames.add(uuidOf(3L).toString());
+        sent(2L, 20L, "local session");
+        sent(3L, 30L, "session on another node");
+        sent(4L, 40L, "offline");
+
+        dispatcher.stop();
+
+        assertThat(pushGateway.recipients()).containsExactly(4L);
+    }
+
+    @Test
+    void dropsNewRoomsBeyondMaxPendingButKeepsCoalescing() {
+        dispatcher.stop();
+        dispatcher = dispatcher(2);
+        dispatcher.start();
+
+        sent(2L, 10L, "room 10");
+        sent(2L, 11L, "room 11");
+        sent(2L, 12L, "dropped");
+        sent(2L, 10L, "room 10 again");
+
+        dispatcher.stop();
+
+        Map<String, PushMessage> byRoom = pushGateway.byRoom();
+        assertThat(byRoom).containsOnlyKeys("10", "11");
+        assertThat(byRoom.get("10").getBody()).isEqualTo("room 10 again (새 메시지 2개)");
+    }
+
+    @Test
+    void deactivatesInvalidTokens() {
+        pushGateway.invalidTokens.add(tokenOf(2L));
+        sent(2L, 20L, "stale device");
+        sent(3L, 30L, "valid device");
+
+        dispatcher.stop();
+
+        assertThat(pushGateway.recipients()).containsExactlyInAnyOrder(2L, 3L);
+        verify(memberFcmTokenRepository).deactivateByFcmTokens(Set.of(tokenOf(2L)));
+    }
+
+    @Test
+    void keepsValidTokensWhenGatewayReportsNone() {
+        sent(2L, 20L, "message");
+
+        dispatcher.stop();
+
+        assertThat(pushGateway.recipients()).containsExactly(2L);
+        verify(memberFcmTokenRepository, never()).deactivateByFcmTokens(anyCollection());
+    }
+
+    private ChatPushDispatcher dispatcher(int maxPending) {
+        return new ChatPushDispatcher(presenceService, simpUserRegistry, memberSummaryCache,
+                notificationSettingCache, memberFcmTokenRepository, pushGateway,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), new SimpleMeterRegistry(),
+                true, Duration.ofHours(1), Duration.ofMillis(50), maxPending, 500);
+    }
+
+    private void sent(Long recipientId, Long roomId, String preview) {
+        dispatcher.onMessageSent(new ChatMessageSentEvent(roomId, nextMessageId++, SENDER_ID, recipientId,
+                "sender", preview));
+    }
+
+    private UUID uuidOf(Long memberId) {
+        return uuids.computeIfAbsent(memberId, id -> UUID.randomUUID());
+    }
+
+    private static String tokenOf(Long memberId) {
+        return "token-" + memberId;
+    }
+
+    private static NotificationSettingResponse setting(Long userId, boolean chatEnabled,
+                                                       LocalTime dndStart, LocalTime dndEnd) {
+        return NotificationSettingResponse.builder()
+                .userId(userId)
+                .chatEnabled(chatEnabled)
+                .likeAlertEnabled(true)
+                .dndStart(dndStart)
+                .dndEnd(dndEnd)
+                .build();
+    }
+
+    /**
+     * 발송 내용을 기록하고 지정한 토큰을 무효로 응답하는 게이트웨이
+     */
+    private static class FakePushGateway implements PushGateway {
+
+        private final List<PushMessage> sent = new CopyOnWriteArrayList<>();
+        private final Set<String> invalidTokens = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public Set<String> send(List<PushMessage> messages) {
+            sent.addAll(messages);
+            Set<String> invalid = new HashSet<>();
+            for (PushMessage message : messages) {
+                if (invalidTokens.contains(message.getToken())) {
+                    invalid.add(message.getToken());
+                }
+            }
+            return invalid;
+        }
+
+        List<Long> recipients() {
+            return sent.stream().map(PushMessage::getMemberId).toList();
+        }
+
+        Map<String, PushMessage> byRoom() {
+            Map<String, PushMessage> byRoom = new HashMap<>();
+            sent.forEach(message -> byRoom.put(message.getData().get("chatRoomId"), message));
+            return byRoom;
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.acnh.api.notification.service;
+
+import com.acnh.api.notification.event.NotificationRequestedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 알림 일괄 저장기 통합 테스트
+ * - PostgreSQL(Testcontainers)에 실제 배치 INSERT
+ * - 사용자별 읽지 않은 수 증가, 오류 행만 실패 처리, 커밋 응답 유실 후 재시도 시 카운터 중복 증가 방지 확인
+ *   (reWriteBatchedInserts 사용 시 드라이버가 행별 건수 대신 SUCCESS_NO_INFO를 반환)
+ * - Docker가 없는 환경에서는 건너뜀
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class NotificationBatchWriterTest {
+
+    @Container
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static DriverManagerDataSource dataSource;
+    private static JdbcTemplate jdbcTemplate;
+
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+
+    @BeforeAll
+    static void createSchema() {
+        dataSource = new DriverManagerDataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        jdbcTemplate.execute("CREATE TABLE notifications (" +
+                "id BIGSERIAL PRIMARY KEY, " +
+                "user_id BIGINT NOT NULL, " +
+                "type VARCHAR(50) NOT NULL, " +
+                "title VARCHAR(200) NOT NULL, " +
+                "content TEXT, " +
+                "reference_id BIGINT, " +
+                "reference_type VARCHAR(50), " +
+                "requester_id BIGINT, " +
+                "offered_price INTEGER, " +
+                "is_read BOOLEAN NOT NULL, " +
+                "created_at TIMESTAMP NOT NULL, " +
+                "updated_at TIMESTAMP NOT NULL, " +
+                "deleted_at TIMESTAMP)");
+        jdbcTemplate.execute("CREATE TABLE notification_unread_counts (" +
+                "user_id BIGINT PRIMARY KEY, " +
+                "unread_count INTEGER NOT NULL DEFAULT 0, " +
+                "updated_at TIMESTAMP NOT NULL DEFAULT now())");
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("TRUNCATE notifications, notification_unread_counts");
+    }
+
+    @Test
+    void persistsNotificationsAndCountsUnreadPerUser() {
+        NotificationBatchWriter writer = writer(jdbcTemplate, new TransactionTemplate(transactionManager()));
+        writer.start();
+        for (int i = 0; i < 3; i++) {
+            writer.onNotificationRequested(event(1L, "title-" + i));
+        }
+        for (int i = 0; i < 2; i++) {
+            writer.onNotificationRequested(event(2L, "title-" + i));
+        }
+
+        writer.stop();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM notifications", Long.class)).isEqualTo(5);
+        assertThat(unreadCounts()).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 3, 2L, 2));
+        verify(eventPublisher, times(5)).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void failsOnlyRowsThatViolateConstraints() {
+        NotificationBatchWriter writer = writer(jdbcTemplate, new TransactionTemplate(transactionManager()));
+        writer.start();
+        for (int i = 0; i < 4; i++) {
+            writer.onNotificationRequested(event(1L, "before-" + i));
+        }
+        writer.onNotificationRequested(event(2L, null));
+        for (int i = 0; i < 4; i++) {
+            writer.onNotificationRequested(event(1L, "after-" + i));
+        }
+
+        writer.stop();
+
+        assertThat(jdbcTemplate.queryForList("SELECT title FROM notifications ORDER BY id", String.class))
+                .containsExactly("before-0", "before-1", "before-2", "before-3",
+                        "after-0", "after-1", "after-2", "after-3");
+        assertThat(unreadCounts()).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 8));
+        verify(eventPublisher, times(8)).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void doesNotDoubleCountRowsCommittedBeforeLostAcknowledgement() {
+        // 행별 건수 대신 SUCCESS_NO_INFO(-2)를 반환하는 드라이버 설정
+        String url = postgres.getJdbcUrl() + (postgres.getJdbcUrl().contains("?") ? "&" : "?")
+                + "reWriteBatchedInserts=true";
+        DriverManagerDataSource rewriting = new DriverManagerDataSource(
+                url, postgres.getUsername(), postgres.getPassword());
+        NotificationBatchWriter writer = writer(new JdbcTemplate(rewriting),
+                new CommitThenFailOnceTemplate(new DataSourceTransactionManager(rewriting)));
+        writer.start();
+        for (int i = 0; i < 3; i++) {
+            writer.onNotificationRequested(event(1L, "title-" + i));
+        }
+
+        writer.stop();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM notifications", Long.class)).isEqualTo(3);
+        assertThat(unreadCounts()).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 3));
+    }
+
+    private NotificationBatchWriter writer(JdbcTemplate template, TransactionTemplate transactionTemplate) {
+        return new NotificationBatchWriter(template, transactionTemplate, eventPublisher, new SimpleMeterRegistry(),
+                1000, 50, Duration.ofMillis(100), 3, Duration.ofMillis(10), Duration.ofSeconds(10));
+    }
+
+    private static PlatformTransactionManager transactionManager() {
+        return new DataSourceTransactionManager(dataSource);
+    }
+
+    private static NotificationRequestedEvent event(Long userId, String title) {
+        return NotificationRequestedEvent.builder()
+                .userId(userId)
+                .type("PRICE_OFFER")
+                .title(title)
+                .content("content")
+                .build();
+    }
+
+    private static Map<Long, Integer> unreadCounts() {
+        return jdbcTemplate.queryForList("SELECT user_id, unread_count FROM notification_unread_counts").stream()
+                .collect(Collectors.toMap(row -> ((Number) row.get("user_id")).longValue(),
+                        row -> ((Number) row.get("unread_count")).intValue()));
+    }
+
+    /**
+     * 첫 트랜잭션은 커밋한 뒤 실패로 응답 (커밋 응답 유실 재현)
+     */
+    private static class CommitThenFailOnceTemplate extends TransactionTemplate {
+
+        private boolean failed;
+
+        CommitThenFailOnceTemplate(PlatformTransactionManager transactionManager) {
+            super(transactionManager);
+        }
+
+        @Override
+        public <T> T execute(TransactionCallback<T> action) throws TransactionException {
+            T result = super.execute(action);
+            if (!failed) {
+                failed = true;
+                throw new TransientDataAccessResourceException("connection reset after commit");
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.acnh.api.notification.service;
+
+import com.acnh.api.member.dto.MemberSummary;
+import com.acnh.api.member.service.MemberSummaryCache;
+import com.acnh.api.notification.dto.NotificationRealtimeResponse;
+import com.acnh.api.notification.dto.NotificationResponse;
+import com.acnh.api.notification.dto.NotificationSettingResponse;
+import com.acnh.api.notification.enums.NotificationType;
+import com.acnh.api.notification.event.NotificationSavedEvent;
+import com.acnh.api.notification.repository.NotificationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpUser;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 실시간 알림 전송기 테스트
+ * - 방해금지 시간인 사용자는 찜 알림만 실시간 전송에서 제외 (저장된 알림은 인박스에서 확인)
+ */
+class NotificationRealtimeDispatcherTest {
+
+    private static final long MIXED_USER = 1L;
+    private static final long LIKE_ONLY_USER = 2L;
+    private static final long AVAILABLE_USER = 3L;
+
+    private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+    private final SimpUserRegistry simpUserRegistry = mock(SimpUserRegistry.class);
+    private final MemberSummaryCache memberSummaryCache = mock(MemberSummaryCache.class);
+    private final NotificationRepository notificationRepository = mock(NotificationRepository.class);
+    private final NotificationSettingCache notificationSettingCache = mock(NotificationSettingCache.class);
+
+    private final Map<Long, MemberSummary> members = new HashMap<>();
+
+    private NotificationRealtimeDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        for (long userId : List.of(MIXED_USER, LIKE_ONLY_USER, AVAILABLE_USER)) {
+            MemberSummary member = MemberSummary.builder().id(userId).uuid(UUID.randomUUID()).build();
+            members.put(userId, member);
+        }
+        when(memberSummaryCache.getAll(anyCollection())).thenReturn(members);
+        when(simpUserRegistry.getUser(anyString())).thenReturn(mock(SimpUser.class));
+        when(notificationRepository.findUnreadCounts(anyCollection())).thenReturn(List.of());
+
+        LocalTime now = LocalTime.now();
+        when(notificationSettingCache.getAll(anyCollection())).thenReturn(Map.of(
+                MIXED_USER, setting(MIXED_USER, now.minusHours(1), now.plusHours(1)),
+                LIKE_ONLY_USER, setting(LIKE_ONLY_USER, now.minusHours(1), now.plusHours(1)),
+                AVAILABLE_USER, setting(AVAILABLE_USER, null, null)));
+
+        dispatcher = new NotificationRealtimeDispatcher(messagingTemplate, simpUserRegistry, memberSummaryCache,
+                notificationRepository, notificationSettingCache, new SimpleMeterRegistry(), 20);
+    }
+
+    @Test
+    void holdsLikeAlertsDuringQuietHours() {
+        saved(MIXED_USER, 10L, NotificationType.LIKE_PRICE_CHANGED);
+        saved(MIXED_USER, 11L, NotificationType.PRICE_OFFER_RECEIVED);
+        saved(LIKE_ONLY_USER, 20L, NotificationType.LIKE_STATUS_CHANGED);
+        saved(AVAILABLE_USER, 30L, NotificationType.LIKE_PRICE_CHANGED);
+
+        dispatcher.flush();
+
+        Map<String, List<Long>> frames = sentFrames();
+        assertThat(frames).containsOnlyKeys(userName(MIXED_USER), userName(AVAILABLE_USER));
+        assertThat(frames.get(userName(MIXED_USER))).containsExactly(11L);
+        assertThat(frames.get(userName(AVAILABLE_USER))).containsExactly(30L);
+    }
+
+    private void saved(Long userId, Long notificationId, NotificationType type) {
+        dispatcher.onNotificationSaved(new NotificationSavedEvent(userId, NotificationResponse.builder()
+                .id(notificationId)
+                .type(type.name())
+                .isRead(false)
+                .build()));
+    }
+
+    private Map<String, List<Long>> sentFrames() {
+        ArgumentCaptor<String> users = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Object> payloads = ArgumentCaptor.forClass(Object.class);
+        verify(messagingTemplate, atLeast(0)).convertAndSendToUser(users.capture(), eq("/queue/notifications"),
+                payloads.capture());
+
+        Map<String, List<Long>> frames = new HashMap<>();
+        for (int i = 0; i < users.getAllValues().size(); i++) {
+            NotificationRealtimeResponse frame = (NotificationRealtimeResponse) payloads.getAllValues().get(i);
+            frames.put(users.getAllValues().get(i), frame.getNotifications().stream()
+                    .map(NotificationResponse::getId)
+                    .toList());
+        }
+        return frames;
+    }
+
+    private String userName(Long userId) {
+        return members.get(userId).getUuid().toString();
+    }
+
+    private static NotificationSettingResponse setting(Long userId, LocalTime dndStart, LocalTime dndEnd) {
+        return NotificationSettingResponse.builder()
+                .userId(userId)
+                .chatEnabled(true)
+                .likeAlertEnabled(true)
+                .dndStart(dndStart)
+                .dndEnd(dndEnd)
+                .build();
+    }
+}
@@ -0,0 +1,92 @@
+package com.acnh.api.post.repository;
+
+import com.acnh.api.post.util.ItemNameNormalizer;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 아이템명 검색 컬럼 마이그레이션 테스트 (로컬 PostgreSQL)
+ * - 002로 채운 item_name_search를 008이 ItemNameNormalizer와 같은 값으로 보정하는지 확인
+ * - Docker가 없는 환경에서는 건너뜀
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ItemNameSearchMigrationTest {
+
+    private static final List<String> ITEM_NAMES = List.of(
+            "무드 등", "무드\u00A0등", "무드\u3000등", "\uFEFF무드\u200B등", "Cute\tLamp", "무드등_100%");
+
+    @Container
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @BeforeAll
+    static void migrate() throws Exception {
+        try (Connection conn = connect(); Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE TABLE posts (" +
+                    "id BIGSERIAL PRIMARY KEY, " +
+                    "item_name VARCHAR(100) NOT NULL, " +
+                    "deleted_at TIMESTAMP)");
+            try (PreparedStatement insert = conn.prepareStatement("INSERT INTO posts (item_name) VALUES (?)")) {
+                for (String itemName : ITEM_NAMES) {
+                    insert.setString(1, itemName);
+                    insert.executeUpdate();
+                }
+            }
+
+            runMigration(stmt, "/db/002_posts_item_name_search.sql");
+            runMigration(stmt, "/db/008_posts_item_name_search_whitespace.sql");
+        }
+    }
+
+    @Test
+    void searchColumnMatchesJavaNormalization() throws SQLException {
+        try (Connection conn = connect();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT item_name, item_name_search FROM posts ORDER BY id")) {
+            int rows = 0;
+            while (rs.next()) {
+                assertThat(rs.getString(2))
+                        .as("item_name=%s", rs.getString(1))
+                        .isEqualTo(ItemNameNormalizer.normalize(rs.getString(1)));
+                rows++;
+            }
+            assertThat(rows).isEqualTo(ITEM_NAMES.size());
+        }
+    }
+
+    private static void runMigration(Statement stmt, String path) throws IOException, SQLException {
+        String script;
+        try (InputStream in = ItemNameSearchMigrationTest.class.getResourceAsStream(path)) {
+            assertThat(in).as("migration script %s", path).isNotNull();
+            script = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        for (String sql : script.split(";")) {
+            String trimmed = sql.lines()
+                    .filter(line -> !line.trim().startsWith("--"))
+                    .reduce("", (a, b) -> a + "\n" + b)
+                    .trim();
+            if (!trimmed.isBlank()) {
+                stmt.execute(trimmed);
+            }
+        }
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+    }
+}
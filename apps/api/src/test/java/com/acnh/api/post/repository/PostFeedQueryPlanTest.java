@@ -0,0 +1,233 @@
+package com.acnh.api.post.repository;
+
+import com.acnh.api.post.entity.Post;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 피드 쿼리 실행 계획 회귀 테스트
+ * - 로컬 PostgreSQL(Testcontainers)에 게시글 100만 건 적재 후 EXPLAIN 결과 검증
+ * - PostRepositoryCustomImpl이 생성하는 쿼리 형태가 feed_sort_at 부분 인덱스,
+ *   item_name_search 트라이그램 인덱스를 사용하는지 확인
+ * - 커서 페이지는 Hibernate가 생성한 SQL 그대로 검증 (커서 조건이 Index Cond인지 확인)
+ * - Docker가 없는 환경에서는 건너뜀
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class PostFeedQueryPlanTest {
+
+    private static final int SEEDED_POSTS = 1_000_000;
+
+    private static final String[] MIGRATIONS = {
+            "/db/001_posts_feed_sort_at.sql",
+            "/db/002_posts_item_name_search.sql"
+    };
+
+    @Container
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @BeforeAll
+    static void seed() throws Exception {
+        try (Connection conn = connect(); Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE TABLE posts (" +
+                    "id BIGSERIAL PRIMARY KEY, " +
+                    "user_id BIGINT NOT NULL, " +
+                    "post_type VARCHAR(10), " +
+                    "status VARCHAR(20) NOT NULL, " +
+                    "category_id BIGINT NOT NULL, " +
+                    "item_name VARCHAR(100) NOT NULL, " +
+                    "currency_type VARCHAR(20), " +
+                    "price INTEGER, " +
+                    "price_negotiable BOOLEAN NOT NULL, " +
+                    "description TEXT NOT NULL, " +
+                    "like_count INTEGER NOT NULL, " +
+                    "bumped_at TIMESTAMP, " +
+                    "created_at TIMESTAMP NOT NULL, " +
+                    "updated_at TIMESTAMP NOT NULL, " +
+                    "deleted_at TIMESTAMP)");
+
+            // 1년에 걸쳐 분산된 게시글 (10% 끌올, 2% 삭제)
+            stmt.execute("INSERT INTO posts (user_id, post_type, status, category_id, item_name, currency_type, " +
+                    "price, price_negotiable, description, like_count, bumped_at, created_at, updated_at, deleted_at) " +
+                    "SELECT g % 50000, " +
+                    "CASE WHEN g % 2 = 0 THEN 'SELL' ELSE 'BUY' END, " +
+                    "CASE WHEN g % 10 < 7 THEN 'AVAILABLE' WHEN g % 10 < 9 THEN 'RESERVED' ELSE 'COMPLETED' END, " +
+                    "g % 8 + 1, 'item ' || g, " +
+                    "CASE WHEN g % 3 = 0 THEN 'MILE_TICKET' ELSE 'BELL' END, " +
+                    "g % 100000, false, 'description', 0, " +
+                    "CASE WHEN g % 10 = 0 THEN now() - (g % 1000) * interval '1 minute' END, " +
+                    "now() - (" + SEEDED_POSTS + " - g) * interval '30 seconds', now(), " +
+                    "CASE WHEN g % 50 = 0 THEN now() END " +
+                    "FROM generate_series(1, " + SEEDED_POSTS + ") g");
+
+            // 마이그레이션 스크립트 그대로 적용 (컬럼 추가, 백필, 부분 인덱스)
+            for (String migration : MIGRATIONS) {
+                for (String sql : loadMigration(migration).split(";")) {
+                    String trimmed = stripComments(sql);
+                    if (!trimmed.isBlank()) {
+                        stmt.execute(trimmed);
+                    }
+                }
+            }
+
+            stmt.execute("ANALYZE posts");
+        }
+    }
+
+    @Test
+    void unfilteredFeedUsesFeedIndexWithoutSort() throws SQLException {
+        String plan = explain("SELECT * FROM posts p WHERE p.deleted_at IS NULL " +
+                "ORDER BY p.feed_sort_at DESC, p.id DESC OFFSET 0 ROWS FETCH FIRST 20 ROWS ONLY");
+
+        assertThat(plan).contains("idx_posts_feed").doesNotContain("Seq Scan").doesNotContain("Sort");
+    }
+
+    @Test
+    void cursorPageStartsIndexScanAtCursor() throws SQLException {
+        // 피드 중간(50만 번째) 위치의 커서
+        LocalDateTime cursorSortKey;
+        long cursorId;
+        try (Connection conn = connect();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT feed_sort_at, id FROM posts WHERE deleted_at IS NULL " +
+                     "ORDER BY feed_sort_at DESC, id DESC OFFSET 500000 LIMIT 1")) {
+            assertThat(rs.next()).isTrue();
+            cursorSortKey = rs.getObject(1, LocalDateTime.class);
+            cursorId = rs.getLong(2);
+        }
+
+        // Hibernate가 실제로 생성한 SQL을 같은 바인딩 값으로 EXPLAIN
+        String sql = captureFeedByCursorSql(cursorSortKey, cursorId, 21);
+        assertThat(sql.chars().filter(c -> c == '?').count()).as("bind parameters of %s", sql).isEqualTo(4);
+        String plan = explain(sql, cursorSortKey, cursorSortKey, cursorId, 21);
+
+        assertThat(plan).contains("idx_posts_feed").doesNotContain("Seq Scan").doesNotContain("Sort");
+        // 커서 위치가 인덱스 범위 스캔의 시작 키여야 함 (Filter로 처리되면 앞 페이지를 모두 읽음)
+        assertThat(plan.lines().filter(line -> line.contains("Index Cond:")))
+                .anySatisfy(line -> assertThat(line).contains("feed_sort_at <="));
+        assertThat(plan.lines().filter(line -> line.contains("Filter:")))
+                .noneSatisfy(line -> assertThat(line).contains("feed_sort_at"));
+    }
+
+    @Test
+    void categoryFeedUsesCategoryIndexWithoutSort() throws SQLException {
+        String plan = explain("SELECT * FROM posts p WHERE p.deleted_at IS NULL AND p.category_id = 3 " +
+                "ORDER BY p.feed_sort_at DESC, p.id DESC FETCH FIRST 21 ROWS ONLY");
+
+        assertThat(plan).contains("idx_posts_category_feed").doesNotContain("Seq Scan").doesNotContain("Sort");
+    }
+
+    @Test
+    void statusFeedUsesStatusIndexWithoutSort() throws SQLException {
+        String plan = explain("SELECT * FROM posts p WHERE p.deleted_at IS NULL AND p.status = 'COMPLETED' " +
+                "ORDER BY p.feed_sort_at DESC, p.id DESC FETCH FIRST 21 ROWS ONLY");
+
+        assertThat(plan).contains("idx_posts_status_feed").doesNotContain("Seq Scan").doesNotContain("Sort");
+    }
+
+    @Test
+    void keywordSearchUsesTrigramIndex() throws SQLException {
+        String plan = explain("SELECT * FROM posts p WHERE p.deleted_at IS NULL " +
+                "AND p.item_name_search LIKE '%item12345%' ESCAPE '!' " +
+                "ORDER BY p.feed_sort_at DESC, p.id DESC OFFSET 0 ROWS FETCH FIRST 20 ROWS ONLY");
+
+        assertThat(plan).contains("idx_posts_item_name_search_trgm").doesNotContain("Seq Scan");
+    }
+
+    @Test
+    void legacyCoalesceOrderingCannotUseIndex() throws SQLException {
+        // 기존 쿼리 형태: 함수식 정렬 + "(:x IS NULL OR ...)" 조건 -> 전체 정렬 필요
+        String plan = explain("SELECT * FROM posts p WHERE p.deleted_at IS NULL " +
+                "AND (NULL::BIGINT IS NULL OR p.category_id = NULL::BIGINT) " +
+                "ORDER BY COALESCE(p.bumped_at, p.created_at) DESC FETCH FIRST 20 ROWS ONLY");
+
+        assertThat(plan).contains("Sort");
+    }
+
+    private static String explain(String sql, Object... params) throws SQLException {
+        StringBuilder plan = new StringBuilder();
+        try (Connection conn = connect();
+             PreparedStatement stmt = conn.prepareStatement("EXPLAIN " + sql)) {
+            for (int i = 0; i < params.length; i++) {
+                stmt.setObject(i + 1, params[i]);
+            }
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    plan.append(rs.getString(1)).append('\n');
+                }
+            }
+        }
+        return plan.toString();
+    }
+
+    /**
+     * PostRepositoryCustomImpl.findFeedByCursor가 생성하는 SQL 캡처
+     * - Post 엔티티만 등록한 Hibernate SessionFactory + StatementInspector
+     */
+    private static String captureFeedByCursorSql(LocalDateTime cursorSortKey, Long cursorId, int limit) {
+        List<String> captured = new ArrayList<>();
+        Configuration configuration = new Configuration()
+                .addAnnotatedClass(Post.class)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL, postgres.getJdbcUrl())
+                .setProperty(AvailableSettings.JAKARTA_JDBC_USER, postgres.getUsername())
+                .setProperty(AvailableSettings.JAKARTA_JDBC_PASSWORD, postgres.getPassword())
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "none");
+        configuration.setStatementInspector(sql -> {
+            captured.add(sql);
+            return sql;
+        });
+
+        try (SessionFactory sessionFactory = configuration.buildSessionFactory();
+             Session session = sessionFactory.openSession()) {
+            PostRepositoryCustomImpl repository = new PostRepositoryCustomImpl();
+            ReflectionTestUtils.setField(repository, "entityManager", session);
+            repository.findFeedByCursor(null, null, null, null, null, null, cursorSortKey, cursorId, limit);
+        }
+
+        assertThat(captured).hasSize(1);
+        return captured.get(0);
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+    }
+
+    private static String loadMigration(String path) throws IOException {
+        try (InputStream in = PostFeedQueryPlanTest.class.getResourceAsStream(path)) {
+            assertThat(in).as("migration script %s", path).isNotNull();
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static String stripComments(String sql) {
+        StringBuilder sb = new StringBuilder();
+        for (String line : sql.split("\n")) {
+            if (!line.trim().startsWith("--")) {
+                sb.append(line).append('\n');
+            }
+        }
+        return sb.toString().trim();
+    }
+}
@@ -0,0 +1,95 @@
+package com.acnh.api.post.service;
+
+import com.acnh.api.post.event.ItemNameChangedEvent;
+import com.acnh.api.post.repository.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 아이템명 자동완성 인덱스 테스트
+ * - 접두어 범위 전체에서 게시글 수 순위 결정, 초성/입력 중 초성 검색, 증분 갱신 확인
+ */
+class ItemNameSuggestIndexTest {
+
+    private final PostRepository postRepository = mock(PostRepository.class);
+    private final ItemNameSuggestIndex index = new ItemNameSuggestIndex(postRepository);
+
+    private final List<Object[]> rows = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        when(postRepository.countActiveItemNames()).thenReturn(rows);
+    }
+
+    @Test
+    void ranksByCountAcrossWholePrefixRange() {
+        // 사전순으로 앞선 항목 200개(각 1건) 뒤에 가장 많이 등록된 항목
+        for (int i = 0; i < 200; i++) {
+            row(String.format("가구%03d", i), 1);
+        }
+        row("가구힣", 50);
+        row("가구테이블", 7);
+        index.load();
+
+        assertThat(index.suggest("가구", 2)).containsExactly("가구힣", "가구테이블");
+    }
+
+    @Test
+    void breaksTiesByShorterName() {
+        row("무드등", 3);
+        row("무드등스탠드", 3);
+        row("무늬벽지", 1);
+        index.load();
+
+        assertThat(index.suggest("무", 3)).containsExactly("무드등", "무드등스탠드", "무늬벽지");
+    }
+
+    @Test
+    void matchesChoseongQueries() {
+        row("무드등", 2);
+        row("모닥불", 5);
+        row("무지개", 9);
+        index.load();
+
+        assertThat(index.suggest("ㅁㄷ", 5)).containsExactly("모닥불", "무드등");
+        // 마지막 글자만 초성인 입력 중 상태
+        assertThat(index.suggest("무ㄷ", 5)).containsExactly("무드등");
+    }
+
+    @Test
+    void ignoresSpacesAndCaseInQuery() {
+        row("Nook Phone", 1);
+        index.load();
+
+        assertThat(index.suggest("nookp", 5)).containsExactly("Nook Phone");
+        assertThat(index.suggest(" NOOK  ph", 5)).containsExactly("Nook Phone");
+    }
+
+    @Test
+    void appliesCommittedItemNameChanges() {
+        row("무드등", 1);
+        index.load();
+
+        index.onItemNameChanged(ItemNameChangedEvent.created("무드 등"));
+        index.onItemNameChanged(ItemNameChangedEvent.created("무지개"));
+        assertThat(index.suggest("무", 5)).containsExactly("무드 등", "무지개");
+
+        index.onItemNameChanged(ItemNameChangedEvent.updated("무지개", "모닥불"));
+        index.onItemNameChanged(ItemNameChangedEvent.deleted("무드등"));
+        index.onItemNameChanged(ItemNameChangedEvent.deleted("무드 등"));
+
+        assertThat(index.suggest("무", 5)).isEmpty();
+        assertThat(index.suggest("ㅁ", 5)).containsExactly("모닥불");
+    }
+
+    private void row(String itemName, long count) {
+        rows.add(new Object[]{itemName, count});
+    }
+}
@@ -0,0 +1,98 @@
+package com.acnh.api.post.service;
+
+import com.acnh.api.notification.dto.NotificationSettingResponse;
+import com.acnh.api.notification.event.NotificationRequestedEvent;
+import com.acnh.api.notification.service.NotificationSettingCache;
+import com.acnh.api.post.entity.Post;
+import com.acnh.api.post.repository.PostLikeRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 찜한 사용자 알림 발행기 테스트
+ * - 작성자 본인, 찜 알림 off인 사용자 제외 확인
+ * - 방해금지 시간인 사용자도 알림 생성 (실시간 전송만 보류)
+ */
+class PostLikeNotifierTest {
+
+    private static final long POST_ID = 100L;
+    private static final long OWNER_ID = 1L;
+
+    private final PostLikeRepository postLikeRepository = mock(PostLikeRepository.class);
+    private final NotificationSettingCache notificationSettingCache = mock(NotificationSettingCache.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+
+    private final PostLikeNotifier postLikeNotifier =
+            new PostLikeNotifier(postLikeRepository, notificationSettingCache, eventPublisher);
+
+    @Test
+    void skipsOwnerAndLikersWhoOptedOutButKeepsQuietHoursLikers() {
+        LocalTime now = LocalTime.now();
+        when(postLikeRepository.findUserIdsByPostId(POST_ID)).thenReturn(List.of(OWNER_ID, 2L, 3L, 4L));
+        when(notificationSettingCache.getAll(anyCollection())).thenReturn(Map.of(
+                2L, setting(2L, true, null, null),
+                3L, setting(3L, false, null, null),
+                4L, setting(4L, true, now.minusHours(1), now.plusHours(1))));
+
+        postLikeNotifier.notifyStatusChanged(post());
+
+        assertThat(requestedUserIds()).containsExactly(2L, 4L);
+    }
+
+    @Test
+    void notifiesLikersWithoutStoredSettings() {
+        when(postLikeRepository.findUserIdsByPostId(POST_ID)).thenReturn(List.of(2L, 3L));
+        when(notificationSettingCache.getAll(anyCollection())).thenReturn(Map.of(
+                2L, NotificationSettingResponse.defaultOf(2L),
+                3L, NotificationSettingResponse.defaultOf(3L)));
+
+        postLikeNotifier.notifyPriceChanged(post());
+
+        assertThat(requestedUserIds()).containsExactly(2L, 3L);
+    }
+
+    private List<Long> requestedUserIds() {
+        ArgumentCaptor<Object> events = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher, atLeast(0)).publishEvent(events.capture());
+        return events.getAllValues().stream()
+                .map(event -> ((NotificationRequestedEvent) event).getUserId())
+                .toList();
+    }
+
+    private static Post post() {
+        Post post = Post.builder()
+                .userId(OWNER_ID)
+                .categoryId(1L)
+                .itemName("아이템")
+                .currencyType("BELL")
+                .price(1000)
+                .description("설명")
+                .build();
+        ReflectionTestUtils.setField(post, "id", POST_ID);
+        return post;
+    }
+
+    private static NotificationSettingResponse setting(Long userId, boolean likeAlertEnabled,
+                                                       LocalTime dndStart, LocalTime dndEnd) {
+        return NotificationSettingResponse.builder()
+                .userId(userId)
+                .chatEnabled(true)
+                .likeAlertEnabled(likeAlertEnabled)
+                .dndStart(dndStart)
+                .dndEnd(dndEnd)
+                .build();
+    }
+}
@@ -0,0 +1,50 @@
+package com.acnh.api.post.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.text.Normalizer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 한글 초성 유틸리티 테스트
+ */
+class HangulUtilsTest {
+
+    @Test
+    void extractsChoseongFromSyllablesWithAndWithoutJongseong() {
+        assertThat(HangulUtils.choseongOf('가')).isEqualTo('ㄱ');
+        assertThat(HangulUtils.choseongOf('각')).isEqualTo('ㄱ');
+        assertThat(HangulUtils.choseongOf('힣')).isEqualTo('ㅎ');
+        assertThat(HangulUtils.choseongOf('뚫')).isEqualTo('ㄸ');
+        assertThat(HangulUtils.choseongOf('쌍')).isEqualTo('ㅆ');
+    }
+
+    @Test
+    void keepsNonSyllableCharacters() {
+        assertThat(HangulUtils.choseongOf('a')).isEqualTo('a');
+        assertThat(HangulUtils.choseongOf('ㅁ')).isEqualTo('ㅁ');
+        assertThat(HangulUtils.toChoseong("무드등lamp2")).isEqualTo("ㅁㄷㄷlamp2");
+    }
+
+    @Test
+    void choseongOfDecomposedInputAfterNfc() {
+        // iOS 등에서 들어오는 자모 분리형(NFD) 입력은 정규화 후 완성형과 같은 초성
+        String decomposed = Normalizer.normalize("무드등", Normalizer.Form.NFD);
+        assertThat(decomposed).hasSize(7);
+
+        assertThat(HangulUtils.toChoseong(ItemNameNormalizer.normalize(decomposed))).isEqualTo("ㅁㄷㄷ");
+    }
+
+    @Test
+    void detectsChoseongOnlyInput() {
+        assertThat(HangulUtils.isChoseongOnly("ㅁㄷㄷ")).isTrue();
+        assertThat(HangulUtils.isChoseongOnly("ㄲㅆ")).isTrue();
+        assertThat(HangulUtils.isChoseongOnly("무ㄷ")).isFalse();
+        // 겹받침 자모(ㄳ)와 모음(ㅏ)은 초성이 아님
+        assertThat(HangulUtils.isChoseongOnly("ㄳ")).isFalse();
+        assertThat(HangulUtils.isChoseongOnly("ㅏ")).isFalse();
+        assertThat(HangulUtils.isChoseongOnly("")).isFalse();
+        assertThat(HangulUtils.isChoseongOnly(null)).isFalse();
+    }
+}
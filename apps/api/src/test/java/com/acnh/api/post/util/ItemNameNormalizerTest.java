@@ -0,0 +1,40 @@
+package com.acnh.api.post.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 아이템명 검색 정규화 테스트
+ */
+class ItemNameNormalizerTest {
+
+    @Test
+    void removesUnicodeSpacesThatJavaWhitespaceClassMisses() {
+        // NBSP, 전각 공백, 폭 없는 공백, BOM: Java \s로는 제거되지 않는 문자
+        assertThat(ItemNameNormalizer.normalize("무드\u00A0등")).isEqualTo("무드등");
+        assertThat(ItemNameNormalizer.normalize("무드\u3000등")).isEqualTo("무드등");
+        assertThat(ItemNameNormalizer.normalize("\uFEFF무드\u200B등")).isEqualTo("무드등");
+        assertThat(ItemNameNormalizer.normalize(" Cute\tLamp\n")).isEqualTo("cutelamp");
+    }
+
+    @Test
+    void keepsNonSpaceCharacters() {
+        assertThat(ItemNameNormalizer.normalize("무드등_100%")).isEqualTo("무드등_100%");
+        assertThat(ItemNameNormalizer.normalize(null)).isEmpty();
+    }
+
+    @Test
+    void migrationUsesSameWhitespaceClass() throws IOException {
+        try (InputStream in = getClass().getResourceAsStream("/db/008_posts_item_name_search_whitespace.sql")) {
+            assertThat(in).isNotNull();
+            String sql = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+
+            assertThat(sql).contains("'" + ItemNameNormalizer.WHITESPACE_CLASS + "+'");
+        }
+    }
+}